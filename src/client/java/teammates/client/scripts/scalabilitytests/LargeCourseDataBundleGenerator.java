@@ -0,0 +1,325 @@
+package teammates.client.scripts.scalabilitytests;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.gson.Gson;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Generates the test data of a large course, for scalability tests such as {@link LargeCourseScalabilityTest}.
+ *
+ * <p>The course has one instructor and one open session with a question of every {@link FeedbackQuestionType},
+ * all answered by students. The data depends only on the given numbers, hence generating it twice
+ * with the same numbers gives the same data bundle:
+ * <ul>
+ * <li>Students are split into teams of {@code studentsPerTeam}, and teams into sections of {@code teamsPerSection}.</li>
+ * <li>Every student except the last of every ten gives all the responses they can give.</li>
+ * <li>The instructor comments on one in every {@code responsesPerComment} responses.</li>
+ * </ul>
+ */
+public class LargeCourseDataBundleGenerator {
+
+    /** The name of the session in the generated course. */
+    public static final String FEEDBACK_SESSION_NAME = "Scale Session";
+
+    private static final int DEFAULT_STUDENTS_PER_TEAM = 5;
+    private static final int DEFAULT_TEAMS_PER_SECTION = 10;
+    private static final int DEFAULT_RESPONSES_PER_COMMENT = 10;
+
+    private static final String INSTRUCTOR_GOOGLE_ID = "ScaleT.instr";
+    private static final String INSTRUCTOR_EMAIL = "ScaleT.instr@gmail.tmt";
+    private static final String DATA_FOLDER_PATH = "src/client/java/teammates/client/scripts/scalabilitytests/data/";
+
+    private static final Instant CREATED_TIME = Instant.parse("2012-04-01T23:59:00Z");
+    private static final Instant START_TIME = Instant.parse("2012-04-02T23:59:00Z");
+    private static final Instant END_TIME = Instant.parse("2099-04-30T23:59:00Z");
+
+    /** Writes the question and response details in the compact form they are stored in. */
+    private static final Gson GSON = new Gson();
+
+    private static final List<String> OPTIONS = Arrays.asList("Option 1", "Option 2", "Option 3", "Option 4");
+    private static final List<String> RUBRIC_SUB_QUESTIONS = Arrays.asList("Quality of work", "Teamwork");
+    private static final List<String> RUBRIC_CHOICES = Arrays.asList("Good", "Average", "Poor");
+
+    private final int numStudents;
+    private final int studentsPerTeam;
+    private final int teamsPerSection;
+    private final int responsesPerComment;
+    private final String courseId;
+
+    private DataBundle dataBundle;
+    private List<List<StudentAttributes>> teams;
+    private List<FeedbackQuestionAttributes> questions;
+
+    public LargeCourseDataBundleGenerator(int numStudents) {
+        this(numStudents, DEFAULT_STUDENTS_PER_TEAM, DEFAULT_TEAMS_PER_SECTION, DEFAULT_RESPONSES_PER_COMMENT);
+    }
+
+    public LargeCourseDataBundleGenerator(int numStudents, int studentsPerTeam, int teamsPerSection,
+            int responsesPerComment) {
+        this.numStudents = numStudents;
+        this.studentsPerTeam = studentsPerTeam;
+        this.teamsPerSection = teamsPerSection;
+        this.responsesPerComment = responsesPerComment;
+        this.courseId = "ScaleT.course" + numStudents;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getInstructorGoogleId() {
+        return INSTRUCTOR_GOOGLE_ID;
+    }
+
+    public String getInstructorEmail() {
+        return INSTRUCTOR_EMAIL;
+    }
+
+    /**
+     * Generates the data bundle of the course.
+     */
+    public DataBundle generate() {
+        dataBundle = new DataBundle();
+        teams = new ArrayList<>();
+        questions = new ArrayList<>();
+
+        generateCourseAndInstructor();
+        generateStudents();
+        generateSession();
+        generateQuestions();
+        generateResponsesAndComments();
+
+        return dataBundle;
+    }
+
+    private void generateCourseAndInstructor() {
+        dataBundle.accounts.put(INSTRUCTOR_GOOGLE_ID, AccountAttributes.builder()
+                .withGoogleId(INSTRUCTOR_GOOGLE_ID)
+                .withName("Scale Instructor")
+                .withEmail(INSTRUCTOR_EMAIL)
+                .withInstitute("TEAMMATES Test Institute 1")
+                .withIsInstructor(true)
+                .build());
+        dataBundle.courses.put(courseId, CourseAttributes
+                .builder(courseId, "Course with " + numStudents + " students", ZoneId.of("UTC"))
+                .withCreatedAt(CREATED_TIME)
+                .build());
+        dataBundle.instructors.put(INSTRUCTOR_GOOGLE_ID, InstructorAttributes
+                .builder(INSTRUCTOR_GOOGLE_ID, courseId, "Scale Instructor", INSTRUCTOR_EMAIL)
+                .build());
+    }
+
+    private void generateStudents() {
+        for (int i = 0; i < numStudents; i++) {
+            int teamIndex = i / studentsPerTeam;
+            if (teamIndex == teams.size()) {
+                teams.add(new ArrayList<>());
+            }
+
+            StudentAttributes student = StudentAttributes
+                    .builder(courseId, "Student " + i, "ScaleT.student" + i + "@gmail.tmt")
+                    .withTeam("Team " + teamIndex)
+                    .withSection("Section " + teamIndex / teamsPerSection)
+                    .withComments("")
+                    .build();
+            teams.get(teamIndex).add(student);
+            dataBundle.students.put("student" + i, student);
+        }
+    }
+
+    private void generateSession() {
+        dataBundle.feedbackSessions.put(FEEDBACK_SESSION_NAME, FeedbackSessionAttributes
+                .builder(FEEDBACK_SESSION_NAME, courseId, INSTRUCTOR_EMAIL)
+                .withInstructions("Instructions for the scale session")
+                .withCreatedTime(CREATED_TIME)
+                .withSessionVisibleFromTime(START_TIME)
+                .withStartTime(START_TIME)
+                .withEndTime(END_TIME)
+                .withResultsVisibleFromTime(END_TIME)
+                .withTimeZone(ZoneId.of("UTC"))
+                .withGracePeriodMinutes(10)
+                .withSentOpenEmail(true)
+                .withOpeningEmailEnabled(true)
+                .withClosingEmailEnabled(true)
+                .withPublishedEmailEnabled(true)
+                .build());
+    }
+
+    private void generateQuestions() {
+        addQuestion(FeedbackQuestionType.TEXT, FeedbackParticipantType.SELF,
+                "What have you learnt in this course?");
+        addQuestion(FeedbackQuestionType.MCQ, FeedbackParticipantType.SELF,
+                "{\"numOfMcqChoices\":" + OPTIONS.size() + ",\"mcqChoices\":" + GSON.toJson(OPTIONS)
+                + ",\"otherEnabled\":false,\"generateOptionsFor\":\"NONE\",\"questionType\":\"MCQ\","
+                + "\"questionText\":\"Which option do you prefer?\"}");
+        addQuestion(FeedbackQuestionType.MSQ, FeedbackParticipantType.SELF,
+                "{\"msqChoices\":" + GSON.toJson(OPTIONS) + ",\"otherEnabled\":false,"
+                + "\"generateOptionsFor\":\"NONE\",\"questionType\":\"MSQ\","
+                + "\"questionText\":\"Which options do you like?\"}");
+        addQuestion(FeedbackQuestionType.NUMSCALE, FeedbackParticipantType.SELF,
+                "{\"minScale\":1,\"maxScale\":5,\"step\":0.5,\"questionType\":\"NUMSCALE\","
+                + "\"questionText\":\"Rate this course.\"}");
+        addQuestion(FeedbackQuestionType.CONSTSUM, FeedbackParticipantType.SELF,
+                "{\"distributeToRecipients\":false,\"pointsPerOption\":false,\"points\":100,"
+                + "\"numOfConstSumOptions\":" + OPTIONS.size() + ",\"constSumOptions\":" + GSON.toJson(OPTIONS)
+                + ",\"questionType\":\"CONSTSUM\",\"questionText\":\"Distribute points among the options.\"}");
+        addQuestion(FeedbackQuestionType.RANK_OPTIONS, FeedbackParticipantType.SELF,
+                "{\"areDuplicatesAllowed\":false,\"options\":" + GSON.toJson(OPTIONS)
+                + ",\"questionType\":\"RANK_OPTIONS\",\"questionText\":\"Rank the options.\"}");
+        addQuestion(FeedbackQuestionType.CONTRIB, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF,
+                "{\"isNotSureAllowed\":true,\"questionType\":\"CONTRIB\","
+                + "\"questionText\":\"How much has each team member contributed?\"}");
+        addQuestion(FeedbackQuestionType.RUBRIC, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF,
+                "{\"numOfRubricChoices\":" + RUBRIC_CHOICES.size() + ",\"rubricChoices\":"
+                + GSON.toJson(RUBRIC_CHOICES) + ",\"numOfRubricSubQuestions\":" + RUBRIC_SUB_QUESTIONS.size()
+                + ",\"rubricSubQuestions\":" + GSON.toJson(RUBRIC_SUB_QUESTIONS)
+                + ",\"rubricDescriptions\":[[\"\",\"\",\"\"],[\"\",\"\",\"\"]],\"hasAssignedWeights\":false,"
+                + "\"questionType\":\"RUBRIC\",\"questionText\":\"Assess each team member.\"}");
+        addQuestion(FeedbackQuestionType.RANK_RECIPIENTS, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF,
+                "{\"areDuplicatesAllowed\":false,\"questionType\":\"RANK_RECIPIENTS\","
+                + "\"questionText\":\"Rank the team members.\"}");
+    }
+
+    private void addQuestion(FeedbackQuestionType questionType, FeedbackParticipantType recipientType,
+            String questionMetaData) {
+        int questionNumber = questions.size() + 1;
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName(FEEDBACK_SESSION_NAME)
+                .withCourseId(courseId)
+                .withCreatorEmail(INSTRUCTOR_EMAIL)
+                .withQuestionMetaData(questionMetaData)
+                .withQuestionNumber(questionNumber)
+                .withQuestionType(questionType)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(recipientType)
+                .withNumOfEntitiesToGiveFeedbackTo(recipientType == FeedbackParticipantType.SELF
+                        ? 1 : Const.MAX_POSSIBLE_RECIPIENTS)
+                .withShowResponseTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS,
+                        FeedbackParticipantType.RECEIVER))
+                .withShowGiverNameTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS))
+                .withShowRecipientNameTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS,
+                        FeedbackParticipantType.RECEIVER))
+                .build();
+        questions.add(question);
+        dataBundle.feedbackQuestions.put("question" + questionNumber, question);
+    }
+
+    private void generateResponsesAndComments() {
+        int studentIndex = 0;
+        for (List<StudentAttributes> team : teams) {
+            for (StudentAttributes giver : team) {
+                if (studentIndex % 10 != 9) {
+                    for (FeedbackQuestionAttributes question : questions) {
+                        if (question.recipientType == FeedbackParticipantType.SELF) {
+                            addResponseAndComment(question, giver, giver, studentIndex);
+                            continue;
+                        }
+                        for (StudentAttributes recipient : team) {
+                            addResponseAndComment(question, giver, recipient, team.indexOf(recipient));
+                        }
+                    }
+                }
+                studentIndex++;
+            }
+        }
+    }
+
+    private void addResponseAndComment(FeedbackQuestionAttributes question, StudentAttributes giver,
+            StudentAttributes recipient, int answerIndex) {
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes(
+                FEEDBACK_SESSION_NAME, courseId, String.valueOf(question.questionNumber), question.questionType,
+                giver.email, giver.section, recipient.email, recipient.section,
+                makeResponseMetaData(question.questionType, answerIndex));
+        int responseIndex = dataBundle.feedbackResponses.size();
+        dataBundle.feedbackResponses.put("response" + responseIndex, response);
+
+        if (responseIndex % responsesPerComment != 0) {
+            return;
+        }
+        // the question number is in place of the question ID, as in the JSON test data
+        FeedbackResponseCommentAttributes comment = FeedbackResponseCommentAttributes
+                .builder(courseId, FEEDBACK_SESSION_NAME, INSTRUCTOR_EMAIL, "Comment on response " + responseIndex)
+                .withFeedbackQuestionId(response.feedbackQuestionId)
+                .withFeedbackResponseId(response.feedbackQuestionId + "%" + giver.email + "%" + recipient.email)
+                .withGiverSection(giver.section)
+                .withReceiverSection(recipient.section)
+                .withCreatedAt(CREATED_TIME.plusMillis(responseIndex))
+                .build();
+        dataBundle.feedbackResponseComments.put("comment" + responseIndex, comment);
+    }
+
+    private String makeResponseMetaData(FeedbackQuestionType questionType, int answerIndex) {
+        int optionIndex = answerIndex % OPTIONS.size();
+        switch (questionType) {
+        case TEXT:
+            return "Answer " + answerIndex;
+        case MCQ:
+            return "{\"answer\":\"" + OPTIONS.get(optionIndex) + "\",\"otherFieldContent\":\"\","
+                    + "\"questionType\":\"MCQ\"}";
+        case MSQ:
+            return "{\"isOther\":false,\"answers\":" + GSON.toJson(OPTIONS.subList(0, optionIndex + 1))
+                    + ",\"otherFieldContent\":\"\",\"questionType\":\"MSQ\"}";
+        case NUMSCALE:
+            return "{\"answer\":" + (1 + answerIndex % 9 * 0.5) + ",\"questionType\":\"NUMSCALE\"}";
+        case CONSTSUM:
+            return "{\"answers\":[" + (70 - 10 * optionIndex) + ",10,10," + (10 + 10 * optionIndex) + "],"
+                    + "\"questionType\":\"CONSTSUM\"}";
+        case RANK_OPTIONS:
+            int[] ranks = new int[OPTIONS.size()];
+            for (int i = 0; i < ranks.length; i++) {
+                ranks[i] = (i + optionIndex) % OPTIONS.size() + 1;
+            }
+            return "{\"answers\":" + GSON.toJson(ranks) + ",\"questionType\":\"RANK_OPTIONS\"}";
+        case CONTRIB:
+            return "{\"answer\":" + (80 + answerIndex % 5 * 10) + ",\"questionType\":\"CONTRIB\"}";
+        case RUBRIC:
+            return "{\"answer\":[" + answerIndex % RUBRIC_CHOICES.size() + "," + (answerIndex + 1) % RUBRIC_CHOICES.size()
+                    + "],\"questionType\":\"RUBRIC\"}";
+        case RANK_RECIPIENTS:
+            return "{\"answer\":" + (answerIndex + 1) + ",\"questionType\":\"RANK_RECIPIENTS\"}";
+        default:
+            throw new IllegalArgumentException("Unknown question type: " + questionType);
+        }
+    }
+
+    /**
+     * Writes the data bundles of courses with the given numbers of students (100, 1000 and 5000 if none is given)
+     * as JSON files, for loading into a running server.
+     */
+    public static void main(String[] args) throws IOException {
+        int[] studentNums = args.length == 0
+                ? new int[] {100, 1000, 5000}
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        new File(DATA_FOLDER_PATH).mkdir();
+        for (int studentNum : studentNums) {
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    Paths.get(DATA_FOLDER_PATH + "LargeCourse-" + studentNum + "Students.json"))) {
+                writer.write(JsonUtils.toJson(new LargeCourseDataBundleGenerator(studentNum).generate()));
+            }
+        }
+    }
+
+}
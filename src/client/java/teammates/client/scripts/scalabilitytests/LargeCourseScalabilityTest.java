@@ -0,0 +1,178 @@
+package teammates.client.scripts.scalabilitytests;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.client.scripts.util.Stopwatch;
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.logic.api.EmailGenerator;
+import teammates.logic.api.Logic;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.ui.datatransfer.InstructorFeedbackResultsPageViewType;
+import teammates.ui.pagedata.InstructorFeedbackResultsPageData;
+
+/**
+ * SUT: the results page, CSV export, statistics and reminder paths of feedback sessions,
+ * on the large courses generated by {@link LargeCourseDataBundleGenerator}.
+ *
+ * <p>The data is persisted into the simulated Datastore, so no server has to be running.
+ * The timings of each run are written to a JSON file in {@link #RESULTS_FOLDER_PATH},
+ * so that runs can be compared over time.
+ */
+public class LargeCourseScalabilityTest extends BaseComponentTestCase {
+
+    private static final String RESULTS_FOLDER_PATH = "build/scalabilitytests/";
+    private static final int[] STUDENT_LOADS = {100, 1000, 5000};
+    private static final int NUM_ITERATIONS = 3;
+
+    private static final Logger log = Logger.getLogger();
+
+    private final Logic logic = new Logic();
+
+    private final List<Measurement> measurements = new ArrayList<>();
+
+    /**
+     * An operation to be timed.
+     */
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    /**
+     * The timings of an operation on a course.
+     */
+    // Fields are only used for JSON object generation.
+    @SuppressWarnings("unused")
+    private static class Measurement {
+        private final String operation;
+        private final int numStudents;
+        private final int numResponses;
+        private final int numComments;
+        private final List<Double> timesInSeconds = new ArrayList<>();
+
+        Measurement(String operation, DataBundle dataBundle) {
+            this.operation = operation;
+            this.numStudents = dataBundle.students.size();
+            this.numResponses = dataBundle.feedbackResponses.size();
+            this.numComments = dataBundle.feedbackResponseComments.size();
+        }
+    }
+
+    /**
+     * The timings of all the operations in a run.
+     */
+    // Fields are only used for JSON object generation.
+    @SuppressWarnings("unused")
+    private static class ScalabilityTestRun {
+        private final Instant startTime;
+        private final List<Measurement> measurements;
+
+        ScalabilityTestRun(Instant startTime, List<Measurement> measurements) {
+            this.startTime = startTime;
+            this.measurements = measurements;
+        }
+    }
+
+    @Test
+    public void testOperationsWithIncreasingLoad() throws Exception {
+        Instant startTime = Instant.now();
+
+        for (int studentLoad : STUDENT_LOADS) {
+            log.info("Testing with " + studentLoad + " students...");
+            testOperations(new LargeCourseDataBundleGenerator(studentLoad));
+        }
+
+        new File(RESULTS_FOLDER_PATH).mkdirs();
+        String resultsFilePath = RESULTS_FOLDER_PATH + "LargeCourseScalabilityTest-"
+                + startTime.toEpochMilli() + ".json";
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(resultsFilePath))) {
+            writer.write(JsonUtils.toJson(new ScalabilityTestRun(startTime, measurements)));
+        }
+        log.info("Results written to " + resultsFilePath);
+    }
+
+    private void testOperations(LargeCourseDataBundleGenerator generator) throws Exception {
+        DataBundle dataBundle = generator.generate();
+        String courseId = generator.getCourseId();
+        String sessionName = LargeCourseDataBundleGenerator.FEEDBACK_SESSION_NAME;
+        String instructorEmail = generator.getInstructorEmail();
+
+        Measurement persisting = new Measurement("persistDataBundle", dataBundle);
+        Stopwatch stopwatch = new Stopwatch();
+        stopwatch.start();
+        backDoorLogic.persistDataBundle(dataBundle);
+        persisting.timesInSeconds.add(stopwatch.getTimeElapsedInSeconds());
+        measurements.add(persisting);
+
+        AccountAttributes account = logic.getAccount(generator.getInstructorGoogleId());
+        InstructorAttributes instructor = logic.getInstructorForEmail(courseId, instructorEmail);
+        List<FeedbackQuestionAttributes> questions = logic.getFeedbackQuestionsForSession(sessionName, courseId);
+
+        measure("resultsBundle", dataBundle,
+                () -> logic.getFeedbackSessionResultsForInstructor(sessionName, courseId, instructorEmail));
+
+        // large sessions are shown one question at a time, with the statistics of the question
+        measure("resultsPageByQuestion", dataBundle, () -> {
+            for (FeedbackQuestionAttributes question : questions) {
+                InstructorFeedbackResultsPageData data = new InstructorFeedbackResultsPageData(account, "");
+                data.setBundle(logic.getFeedbackSessionResultsForInstructorFromQuestion(
+                        sessionName, courseId, instructorEmail, question.getId()));
+                data.initForViewByQuestion(instructor, "All", "on", "on", true);
+            }
+        });
+
+        measure("csvExport", dataBundle, () -> logic.writeFeedbackSessionResultSummaryInSectionAsCsv(
+                courseId, sessionName, instructorEmail, null, null, true, true, new StringWriter()));
+
+        FeedbackSessionResultsBundle bundle =
+                logic.getFeedbackSessionResultsForInstructor(sessionName, courseId, instructorEmail);
+        measure("questionStatistics", dataBundle, () -> {
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                    : bundle.getQuestionResponseMap().entrySet()) {
+                FeedbackQuestionDetails questionDetails = entry.getKey().getQuestionDetails();
+                questionDetails.getQuestionResultStatisticsHtml(entry.getValue(), entry.getKey(), instructorEmail,
+                        bundle, InstructorFeedbackResultsPageViewType.QUESTION.toString());
+                questionDetails.getQuestionResultStatisticsCsv(entry.getValue(), entry.getKey(), bundle);
+            }
+        });
+
+        measure("sessionDetails", dataBundle, () -> logic.getFeedbackSessionDetails(sessionName, courseId));
+
+        // as done by the worker which sends the reminders, without sending them
+        measure("reminderEmails", dataBundle, () -> new EmailGenerator().generateFeedbackSessionReminderEmails(
+                logic.getFeedbackSession(sessionName, courseId), instructor));
+    }
+
+    /**
+     * Times {@code operation} for {@link #NUM_ITERATIONS} times.
+     */
+    private void measure(String operationName, DataBundle dataBundle, Operation operation) throws Exception {
+        Measurement measurement = new Measurement(operationName, dataBundle);
+        Stopwatch stopwatch = new Stopwatch();
+        for (int i = 0; i < NUM_ITERATIONS; i++) {
+            stopwatch.start();
+            operation.run();
+            measurement.timesInSeconds.add(stopwatch.getTimeElapsedInSeconds());
+        }
+        log.info(operationName + ": " + measurement.timesInSeconds);
+        measurements.add(measurement);
+    }
+
+}
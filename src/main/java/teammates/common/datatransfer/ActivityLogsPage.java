@@ -0,0 +1,35 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.util.ActivityLogEntry;
+
+/**
+ * Represents one page of the activity log entries of a time period, latest first.
+ */
+public class ActivityLogsPage {
+
+    private final List<ActivityLogEntry> entries;
+    private final String nextCursor;
+
+    public ActivityLogsPage(List<ActivityLogEntry> entries, String nextCursor) {
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ActivityLogEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the cursor of the next page, or null if this is the last page of the time period.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isLastPage() {
+        return nextCursor == null;
+    }
+
+}
@@ -0,0 +1,78 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents the progress of permanently deleting a course and all data related to it,
+ * which is done one page of entities at a time.
+ */
+public class CourseDeletionStatus {
+
+    /**
+     * The kinds of data deleted, in the order they are deleted.
+     *
+     * <p>The instructors are deleted last but for the course itself,
+     * so that the course is shown to them until it is almost completely deleted.
+     */
+    public enum Stage {
+        FEEDBACK_RESPONSE_COMMENTS,
+        FEEDBACK_RESPONSES,
+        FEEDBACK_QUESTIONS,
+        FEEDBACK_SESSIONS,
+        STUDENTS,
+        INSTRUCTORS,
+        COURSE
+    }
+
+    private final String courseId;
+    private Stage stage;
+    private String cursor;
+    private long numberOfEntitiesDeleted;
+
+    public CourseDeletionStatus(String courseId) {
+        this(courseId, Stage.values()[0], null, 0);
+    }
+
+    public CourseDeletionStatus(String courseId, Stage stage, String cursor, long numberOfEntitiesDeleted) {
+        this.courseId = courseId;
+        this.stage = stage;
+        this.cursor = cursor;
+        this.numberOfEntitiesDeleted = numberOfEntitiesDeleted;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns the web-safe cursor of the next page of the current stage, or null to start from the first page.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    public long getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    public boolean isDone() {
+        return stage == null;
+    }
+
+    /**
+     * Records the deletion of {@code page}, moving on to the next stage after the last page of the current one.
+     */
+    public void recordPage(DeletionPage page) {
+        numberOfEntitiesDeleted += page.getNumberOfEntitiesDeleted();
+        if (page.isLastPage()) {
+            int nextStage = stage.ordinal() + 1;
+            stage = nextStage < Stage.values().length ? Stage.values()[nextStage] : null;
+            cursor = null;
+        } else {
+            cursor = page.getNextCursor();
+        }
+    }
+
+}
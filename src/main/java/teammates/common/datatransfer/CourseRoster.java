@@ -2,11 +2,14 @@ package teammates.common.datatransfer;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 
 /**
  * Contains a list of students and instructors in a course. Useful for caching
@@ -17,10 +20,13 @@ public class CourseRoster {
 
     Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
     Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    Map<String, List<StudentAttributes>> teamMembersByTeamName = new HashMap<>();
+    Map<String, Set<String>> teamNamesBySectionName = new HashMap<>();
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
         populateStudentListByEmail(students);
         populateInstructorListByEmail(instructors);
+        populateTeamAndSectionTables();
     }
 
     public List<StudentAttributes> getStudents() {
@@ -64,6 +70,37 @@ public class CourseRoster {
         return instructorListByEmail.get(email);
     }
 
+    /**
+     * Returns the students in the team {@code teamName}, or an empty list if there is no such team.
+     */
+    public List<StudentAttributes> getTeamMembers(String teamName) {
+        List<StudentAttributes> teamMembers = teamMembersByTeamName.get(teamName);
+        return teamMembers == null ? new ArrayList<>() : new ArrayList<>(teamMembers);
+    }
+
+    /**
+     * Returns the section of the team {@code teamName}, or {@link Const#DEFAULT_SECTION} if there is no such team.
+     */
+    public String getSectionForTeam(String teamName) {
+        List<StudentAttributes> teamMembers = teamMembersByTeamName.get(teamName);
+        return teamMembers == null ? Const.DEFAULT_SECTION : teamMembers.get(0).section;
+    }
+
+    /**
+     * Returns the names of the sections that have at least one student.
+     */
+    public Set<String> getSectionNames() {
+        return new HashSet<>(teamNamesBySectionName.keySet());
+    }
+
+    /**
+     * Returns the names of the teams in the section {@code sectionName}, or an empty set if there is no such section.
+     */
+    public Set<String> getTeamsInSection(String sectionName) {
+        Set<String> teamNames = teamNamesBySectionName.get(sectionName);
+        return teamNames == null ? new HashSet<>() : new HashSet<>(teamNames);
+    }
+
     /**
      * Returns a map of email mapped to name of instructors and students of the course.
      *
@@ -94,6 +131,13 @@ public class CourseRoster {
         }
     }
 
+    private void populateTeamAndSectionTables() {
+        for (StudentAttributes s : studentListByEmail.values()) {
+            teamMembersByTeamName.computeIfAbsent(s.team, key -> new ArrayList<>()).add(s);
+            teamNamesBySectionName.computeIfAbsent(s.section, key -> new HashSet<>()).add(s.team);
+        }
+    }
+
     private void populateInstructorListByEmail(List<InstructorAttributes> instructors) {
 
         if (instructors == null) {
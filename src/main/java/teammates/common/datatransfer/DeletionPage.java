@@ -0,0 +1,31 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents the result of deleting one page of the entities matching a query.
+ */
+public class DeletionPage {
+
+    private final int numberOfEntitiesDeleted;
+    private final String nextCursor;
+
+    public DeletionPage(int numberOfEntitiesDeleted, String nextCursor) {
+        this.numberOfEntitiesDeleted = numberOfEntitiesDeleted;
+        this.nextCursor = nextCursor;
+    }
+
+    public int getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    /**
+     * Returns the web-safe cursor of the next page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isLastPage() {
+        return nextCursor == null;
+    }
+
+}
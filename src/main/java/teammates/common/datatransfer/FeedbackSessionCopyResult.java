@@ -0,0 +1,45 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+
+/**
+ * Represents the result of copying a feedback session to several courses at once, for each of the courses.
+ */
+public class FeedbackSessionCopyResult {
+
+    private final Map<String, FeedbackSessionAttributes> copiedSessions = new LinkedHashMap<>();
+    private final Map<String, String> failedCourses = new LinkedHashMap<>();
+    private final List<String> remainingCourseIds = new ArrayList<>();
+
+    /**
+     * Gets the copies of the session, by the ID of the course they were made in.
+     */
+    public Map<String, FeedbackSessionAttributes> getCopiedSessions() {
+        return copiedSessions;
+    }
+
+    /**
+     * Gets the reasons the session could not be copied, by the ID of the course it could not be copied to.
+     */
+    public Map<String, String> getFailedCourses() {
+        return failedCourses;
+    }
+
+    /**
+     * Gets the IDs of the courses the session is yet to be copied to,
+     * which were left for a later copy to keep each copy to a bounded number of writes.
+     */
+    public List<String> getRemainingCourseIds() {
+        return remainingCourseIds;
+    }
+
+    public boolean isComplete() {
+        return remainingCourseIds.isEmpty();
+    }
+
+}
@@ -297,21 +297,7 @@ public class FeedbackSessionResultsBundle {
         this.responseStatus = responseStatus;
         this.roster = roster;
         this.responseComments = responseComments;
-        this.actualResponses = new ArrayList<>();
-
-        // We change user email to team name here for display purposes.
-        for (FeedbackResponseAttributes response : responses) {
-            if (questions.get(response.feedbackQuestionId).giverType == FeedbackParticipantType.TEAMS
-                    && roster.isStudentInCourse(response.giver)) {
-                // for TEAMS giver type, for older responses,
-                // the giverEmail is stored as the student giver's email in the database
-                // so we convert it to the team name for use in FeedbackSessionResultsBundle
-                response.giver = emailNameTable.get(response.giver + Const.TEAM_OF_EMAIL_OWNER);
-            }
-            // Copy the data before hiding response recipient and giver.
-            FeedbackResponseAttributes fraCopy = new FeedbackResponseAttributes(response);
-            actualResponses.add(fraCopy);
-        }
+        this.actualResponses = new ArrayList<>(responses.size());
         this.isComplete = isComplete;
 
         hideResponsesGiverRecipient();
@@ -325,21 +311,44 @@ public class FeedbackSessionResultsBundle {
      * Hides response names/emails and teams that are not visible to the current user.
      * Replaces the giver/recipient email in responses to an email with two "@@"s
      * to indicate it is invalid and should not be displayed.
+     *
+     * <p>{@link #actualResponses} is filled in the same pass. A response is copied before it is
+     * modified; responses whose giver and recipient are both visible are shared with {@link #actualResponses}.
      */
     private void hideResponsesGiverRecipient() {
+        // anonymised names only depend on the participant type and name, and are costly to compute
+        Map<FeedbackParticipantType, Map<String, String>> anonNames = new HashMap<>();
+
         for (FeedbackResponseAttributes response : responses) {
-            // Hide recipient details if its not visible to the current user
-            String name = emailNameTable.get(response.recipient);
             FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
-            FeedbackParticipantType participantType = question.recipientType;
-            if (participantType == FeedbackParticipantType.SELF) {
-                // recipient type for self-feedback is the same as the giver type
-                participantType = question.giverType;
+            if (question.giverType == FeedbackParticipantType.TEAMS
+                    && roster.isStudentInCourse(response.giver)) {
+                // for TEAMS giver type, for older responses,
+                // the giverEmail is stored as the student giver's email in the database
+                // so we convert it to the team name for use in FeedbackSessionResultsBundle
+                response.giver = emailNameTable.get(response.giver + Const.TEAM_OF_EMAIL_OWNER);
+            }
+
+            boolean isRecipientHidden = !isRecipientVisible(response);
+            boolean isGiverHidden = !isGiverVisible(response);
+            if (!isRecipientHidden && !isGiverHidden) {
+                actualResponses.add(response);
+                continue;
             }
 
-            if (!isRecipientVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+            // Copy the data before hiding response recipient and giver.
+            actualResponses.add(new FeedbackResponseAttributes(response));
+
+            // Hide recipient details if its not visible to the current user
+            if (isRecipientHidden) {
+                FeedbackParticipantType participantType = question.recipientType;
+                if (participantType == FeedbackParticipantType.SELF) {
+                    // recipient type for self-feedback is the same as the giver type
+                    participantType = question.giverType;
+                }
+
+                String name = getAnonName(anonNames, participantType, emailNameTable.get(response.recipient));
+                String anonEmail = getAnonEmailFromAnonName(name);
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -348,12 +357,11 @@ public class FeedbackSessionResultsBundle {
             }
 
             // Hide giver details if its not visible to the current user
-            name = emailNameTable.get(response.giver);
-            participantType = question.giverType;
+            if (isGiverHidden) {
+                FeedbackParticipantType participantType = question.giverType;
 
-            if (!isGiverVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                String name = getAnonName(anonNames, participantType, emailNameTable.get(response.giver));
+                String anonEmail = getAnonEmailFromAnonName(name);
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -365,6 +373,12 @@ public class FeedbackSessionResultsBundle {
         }
     }
 
+    private static String getAnonName(Map<FeedbackParticipantType, Map<String, String>> anonNames,
+                                      FeedbackParticipantType type, String name) {
+        return anonNames.computeIfAbsent(type, key -> new HashMap<>())
+                .computeIfAbsent(name, key -> getAnonName(type, key));
+    }
+
     /**
      * Checks if the giver/recipient for a response is visible/hidden from the current user.
      */
@@ -403,7 +417,10 @@ public class FeedbackSessionResultsBundle {
     }
 
     public static String getAnonEmail(FeedbackParticipantType type, String name) {
-        String anonName = getAnonName(type, name);
+        return getAnonEmailFromAnonName(getAnonName(type, name));
+    }
+
+    private static String getAnonEmailFromAnonName(String anonName) {
         return anonName + "@@" + anonName + ".com";
     }
 
@@ -3,6 +3,7 @@ package teammates.common.datatransfer.attributes;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -42,6 +43,14 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     protected transient Instant updatedAt;
     private String feedbackQuestionId;
 
+    /**
+     * Decoded form of {@link #questionMetaData}, valid only while {@link #questionMetaData}
+     * and {@link #questionType} still hold the values it was decoded from.
+     */
+    private transient FeedbackQuestionDetails questionDetailsCache;
+    private transient String questionDetailsCacheMetaData;
+    private transient FeedbackQuestionType questionDetailsCacheType;
+
     protected FeedbackQuestionAttributes() {
         //attributes to be built by Builder
     }
@@ -674,14 +683,28 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
      */
     public void setQuestionDetails(FeedbackQuestionDetails questionDetails) {
         questionMetaData = JsonUtils.toJson(questionDetails, getFeedbackQuestionDetailsClass());
+        questionDetailsCache = null;
     }
 
     /**
      * Retrieves the Feedback*QuestionDetails object for this question.
      *
+     * <p>The object is decoded once and reused until the question meta data or type changes.
+     * Callers that modify the returned object should save it back with {@link #setQuestionDetails}.
+     *
      * @return The Feedback*QuestionDetails object representing the question's details
      */
     public FeedbackQuestionDetails getQuestionDetails() {
+        if (questionDetailsCache == null || questionDetailsCacheType != questionType
+                || !Objects.equals(questionDetailsCacheMetaData, questionMetaData)) {
+            questionDetailsCache = decodeQuestionDetails();
+            questionDetailsCacheMetaData = questionMetaData;
+            questionDetailsCacheType = questionType;
+        }
+        return questionDetailsCache;
+    }
+
+    private FeedbackQuestionDetails decodeQuestionDetails() {
         // For old Text questions, the questionText simply contains the question, not a JSON
         if (questionType == FeedbackQuestionType.TEXT && !isValidJsonString(questionMetaData)) {
             return new FeedbackTextQuestionDetails(questionMetaData);
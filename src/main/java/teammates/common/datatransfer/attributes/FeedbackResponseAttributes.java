@@ -42,6 +42,14 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     protected transient Instant updatedAt;
     private String feedbackResponseId;
 
+    /**
+     * Decoded form of {@link #responseMetaData}, valid only while {@link #responseMetaData}
+     * and {@link #feedbackQuestionType} still hold the values it was decoded from.
+     */
+    private transient FeedbackResponseDetails responseDetailsCache;
+    private transient String responseDetailsCacheMetaData;
+    private transient FeedbackQuestionType responseDetailsCacheType;
+
     public FeedbackResponseAttributes() {
         // attributes to be set after construction
     }
@@ -181,10 +189,15 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         } else {
             responseMetaData = JsonUtils.toJson(responseDetails, getFeedbackResponseDetailsClass());
         }
+        responseDetailsCache = null;
     }
 
     /**
      * Retrieves the Feedback*ResponseDetails object for this response.
+     *
+     * <p>The object is decoded once and reused until the response meta data or question type changes.
+     * Callers that modify the returned object should save it back with {@link #setResponseDetails}.
+     *
      * @return The Feedback*ResponseDetails object representing the response's details
      */
     public FeedbackResponseDetails getResponseDetails() {
@@ -193,6 +206,16 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
             return null;
         }
 
+        if (responseDetailsCache == null || responseDetailsCacheType != feedbackQuestionType
+                || !responseMetaData.equals(responseDetailsCacheMetaData)) {
+            responseDetailsCache = decodeResponseDetails();
+            responseDetailsCacheMetaData = responseMetaData;
+            responseDetailsCacheType = feedbackQuestionType;
+        }
+        return responseDetailsCache;
+    }
+
+    private FeedbackResponseDetails decodeResponseDetails() {
         Class<? extends FeedbackResponseDetails> responseDetailsClass = getFeedbackResponseDetailsClass();
 
         if (responseDetailsClass == FeedbackTextResponseDetails.class) {
@@ -176,33 +176,15 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         String currentUserTeam = bundle.emailTeamNameTable.get(studentEmail);
 
-        List<FeedbackResponseAttributes> actualResponses = bundle.getActualResponsesSortedByGqr(question);
-
-        //List of teams with at least one response
-        List<String> teamNames = getTeamsWithAtLeastOneResponse(actualResponses, bundle);
-
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        //Each team's contribution question results, shared with the rendering of the individual responses.
+        Map<String, TeamEvalResult> teamResults = getCachedTeamEvalResults(bundle, question);
 
         TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
         if (currentUserTeamResults == null) {
             return "";
         }
 
-        int currentUserIndex = teamMembersEmail.get(currentUserTeam).indexOf(studentEmail);
+        int currentUserIndex = currentUserTeamResults.studentEmails.indexOf(studentEmail);
         int selfClaim = currentUserTeamResults.claimed[currentUserIndex][currentUserIndex];
         int teamClaim = currentUserTeamResults.denormalizedAveragePerceived[currentUserIndex][currentUserIndex];
 
@@ -235,41 +217,12 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             return "";
         }
 
-        List<FeedbackResponseAttributes> actualResponses = bundle.getActualResponsesSortedByGqr(question);
-
-        //List of teams visible to the instructor and in the selected section
-        List<String> teamNames = getTeamNames(bundle);
-
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-
-        //Each person's results summary
-        Map<String, StudentResultSummary> studentResults = getStudentResults(
-                teamMembersEmail, teamResults);
-
-        //Check visibility of recipient
-        boolean hideRecipient = false;
+        InstructorContributionStatistics statistics = new InstructorContributionStatistics(question, bundle);
+        Map<String, List<String>> teamMembersEmail = statistics.teamMembersEmail;
+        Map<String, TeamEvalResult> teamResults = statistics.teamResults;
+        Map<String, StudentResultSummary> studentResults = statistics.studentResults;
+        boolean hideRecipient = statistics.isRecipientHidden;
         FeedbackParticipantType type = question.recipientType;
-        for (FeedbackResponseAttributes response : actualResponses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
-                    && type != FeedbackParticipantType.SELF
-                    && type != FeedbackParticipantType.NONE) {
-                hideRecipient = true;
-            }
-        }
 
         StringBuilder contribFragments = new StringBuilder();
 
@@ -324,42 +277,12 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             return "";
         }
 
-        List<FeedbackResponseAttributes> actualResponses = bundle.getActualResponsesSortedByGqr(question);
-
-        //List of teams visible to the instructor and in the selected section
-        List<String> teamNames = getTeamNames(bundle);
-
-        //Each team's member(email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
-        //Get each team's submission array. -> int[teamSize][teamSize]
-        //Where int[0][1] refers points from student 0 to student 1
-        //Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
-
-        //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
-
-        //Each person's results summary
-        Map<String, StudentResultSummary> studentResults = getStudentResults(
-                teamMembersEmail, teamResults);
-
-        //Check visibility of recipient
-        boolean hideRecipient = false;
-
+        InstructorContributionStatistics statistics = new InstructorContributionStatistics(question, bundle);
+        Map<String, List<String>> teamMembersEmail = statistics.teamMembersEmail;
+        Map<String, TeamEvalResult> teamResults = statistics.teamResults;
+        Map<String, StudentResultSummary> studentResults = statistics.studentResults;
+        boolean hideRecipient = statistics.isRecipientHidden;
         FeedbackParticipantType type = question.recipientType;
-        for (FeedbackResponseAttributes response : actualResponses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
-                    && type != FeedbackParticipantType.SELF
-                    && type != FeedbackParticipantType.NONE) {
-                hideRecipient = true;
-            }
-        }
 
         StringBuilder contribFragments = new StringBuilder();
 
@@ -478,6 +401,18 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
     }
 
+    /**
+     * Returns the team eval results of the specified question, computing them only
+     * if they are not already cached in the bundle.
+     */
+    static Map<String, TeamEvalResult> getCachedTeamEvalResults(FeedbackSessionResultsBundle bundle,
+            FeedbackQuestionAttributes question) {
+        return bundle.contributionQuestionTeamEvalResults.computeIfAbsent(question.getId(), key -> {
+            FeedbackContributionQuestionDetails fqcd = (FeedbackContributionQuestionDetails) question.getQuestionDetails();
+            return fqcd.getTeamEvalResults(bundle, question);
+        });
+    }
+
     private Map<String, StudentResultSummary> getStudentResults(
             Map<String, List<String>> teamMembersEmail,
             Map<String, TeamEvalResult> teamResults) {
@@ -942,4 +877,58 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     public boolean isFeedbackParticipantCommentsOnResponsesAllowed() {
         return false;
     }
+
+    /**
+     * Contribution statistics of all teams visible to the instructor, computed whenever the
+     * instructor's HTML or CSV statistics of the question are rendered.
+     */
+    private class InstructorContributionStatistics {
+        final Map<String, List<String>> teamMembersEmail;
+        final Map<String, TeamEvalResult> teamResults;
+        final Map<String, StudentResultSummary> studentResults;
+        final boolean isRecipientHidden;
+
+        InstructorContributionStatistics(FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
+            List<FeedbackResponseAttributes> actualResponses = bundle.getActualResponsesSortedByGqr(question);
+
+            //List of teams visible to the instructor and in the selected section
+            List<String> teamNames = getTeamNames(bundle);
+
+            //Each team's member(email) list
+            teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
+
+            //Each team's responses
+            Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
+                    actualResponses, bundle, teamNames);
+
+            //Get each team's submission array. -> int[teamSize][teamSize]
+            //Where int[0][1] refers points from student 0 to student 1
+            //Where student 0 is the 0th student in the list in teamMembersEmail
+            Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
+                    teamNames, teamMembersEmail, teamResponses);
+
+            //Each team's eval results.
+            teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+
+            //Each person's results summary
+            studentResults = getStudentResults(teamMembersEmail, teamResults);
+
+            //Check visibility of recipient
+            isRecipientHidden = isAnyRecipientHidden(actualResponses, question.recipientType, bundle);
+        }
+
+        private boolean isAnyRecipientHidden(List<FeedbackResponseAttributes> actualResponses,
+                FeedbackParticipantType type, FeedbackSessionResultsBundle bundle) {
+            if (type == FeedbackParticipantType.SELF || type == FeedbackParticipantType.NONE) {
+                return false;
+            }
+            for (FeedbackResponseAttributes response : actualResponses) {
+                if (!bundle.visibilityTable.get(response.getId())[1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
 }
@@ -202,14 +202,6 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
 
     public Map<String, TeamEvalResult> getContribQnTeamEvalResult(FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle feedbackSessionResultsBundle) {
-        Map<String, TeamEvalResult> contribQnStats =
-                feedbackSessionResultsBundle.contributionQuestionTeamEvalResults.get(question.getId());
-        if (contribQnStats == null) {
-            FeedbackContributionQuestionDetails fqcd = (FeedbackContributionQuestionDetails) question.getQuestionDetails();
-            contribQnStats = fqcd.getTeamEvalResults(feedbackSessionResultsBundle, question);
-            feedbackSessionResultsBundle.contributionQuestionTeamEvalResults.put(question.getId(), contribQnStats);
-        }
-
-        return contribQnStats;
+        return FeedbackContributionQuestionDetails.getCachedTeamEvalResults(feedbackSessionResultsBundle, question);
     }
 }
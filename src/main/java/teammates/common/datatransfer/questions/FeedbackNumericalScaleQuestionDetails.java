@@ -183,22 +183,12 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     private String getInstructorQuestionResultsStatisticsHtml(
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        RecipientScoreStatistics statistics = new RecipientScoreStatistics(responses);
 
-        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, averageExcludingSelf);
+        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, statistics);
 
         String fragmentTemplateToUse = shouldShowAvgExcludingSelf
                                      ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
@@ -207,13 +197,13 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         DecimalFormat df = getProperDecimalFormat();
         StringBuilder fragmentHtml = new StringBuilder();
 
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.getRecipients()) {
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
 
-            Double userAverageExcludingSelf = averageExcludingSelf.get(recipient);
+            Double userAverageExcludingSelf = statistics.getAverageExcludingSelf(recipient);
             String userAverageExcludingSelfText =
                     getAverageExcludingSelfText(shouldShowAvgExcludingSelf, df, userAverageExcludingSelf);
 
@@ -224,9 +214,9 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
                                     fragmentTemplateToUse,
                                     Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
                                     Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
-                                    Slots.AVERAGE, df.format(average.get(recipient)),
-                                    Slots.MAX, df.format(max.get(recipient)),
-                                    Slots.MIN, df.format(min.get(recipient)),
+                                    Slots.AVERAGE, df.format(statistics.getAverage(recipient)),
+                                    Slots.MAX, df.format(statistics.getMax(recipient)),
+                                    Slots.MIN, df.format(statistics.getMin(recipient)),
                                     Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, userAverageExcludingSelfText));
         }
 
@@ -247,9 +237,9 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     /**
      * Returns the recipient list for the student results page.
      */
-    private List<String> getStudentQuestionResultsRecipientList(Map<String, Integer> numResponses,
+    private List<String> getStudentQuestionResultsRecipientList(RecipientScoreStatistics statistics,
             String currentUserIdentifier) {
-        Set<String> recipientSet = numResponses.keySet();
+        Set<String> recipientSet = statistics.getRecipients();
         List<String> recipientList = new ArrayList<>();
 
         boolean hasCurrentUserReceivedAnyResponse = recipientSet.contains(currentUserIdentifier);
@@ -272,20 +262,10 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             List<FeedbackResponseAttributes> responses, String studentEmail,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        RecipientScoreStatistics statistics = new RecipientScoreStatistics(responses);
 
         boolean isRecipientTypeGeneral = question.recipientType == FeedbackParticipantType.NONE;
         boolean isRecipientTypeTeam = question.recipientType == FeedbackParticipantType.TEAMS
@@ -293,11 +273,11 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         boolean isRecipientTypeStudent = !isRecipientTypeGeneral && !isRecipientTypeTeam;
 
         String currentUserTeam = bundle.getTeamNameForEmail(studentEmail);
-        String currentUserIdentifier = getCurrentUserIdentifier(numResponses,
+        String currentUserIdentifier = getCurrentUserIdentifier(statistics,
                                                                 isRecipientTypeStudent, studentEmail,
                                                                 isRecipientTypeTeam, currentUserTeam);
 
-        List<String> recipientList = getStudentQuestionResultsRecipientList(numResponses, currentUserIdentifier);
+        List<String> recipientList = getStudentQuestionResultsRecipientList(statistics, currentUserIdentifier);
 
         StringBuilder fragmentHtml = new StringBuilder();
         for (String recipient : recipientList) {
@@ -312,16 +292,16 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             boolean isRecipientGeneral = recipient.equalsIgnoreCase(Const.GENERAL_QUESTION);
 
             String recipientName = getDisplayableRecipientName(isHiddenRecipient,
-                            isRecipientCurrentUser, hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
+                            isRecipientCurrentUser, hasAtLeastTwoResponses(statistics, currentUserIdentifier),
                             isRecipientTypeStudent, hasAtLeastTwoResponsesOtherThanCurrentUser(
-                                                            numResponses, currentUserIdentifier, hiddenRecipients),
+                                                            statistics, currentUserIdentifier, hiddenRecipients),
                             isRecipientGeneral, bundle.getNameForEmail(recipient), currentUserTeam);
 
             String recipientTeam = getDisplayableRecipientTeam(isHiddenRecipient,
                                                         isRecipientCurrentUser,
-                                                        hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
+                                                        hasAtLeastTwoResponses(statistics, currentUserIdentifier),
                                                         isRecipientTypeStudent,
-                                                        hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses,
+                                                        hasAtLeastTwoResponsesOtherThanCurrentUser(statistics,
                                                                                                    currentUserIdentifier,
                                                                                                    hiddenRecipients),
                                                         bundle.getTeamNameForEmail(recipient), currentUserTeam);
@@ -332,7 +312,7 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             }
 
             String recipientFragmentHtml = getStudentResultsRecipientFragmentHtml(question, recipient,
-                    recipientName, recipientTeam, min, max, average, averageExcludingSelf);
+                    recipientName, recipientTeam, statistics);
 
             fragmentHtml.append(recipientFragmentHtml);
         }
@@ -341,10 +321,10 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             return "";
         }
 
-        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, averageExcludingSelf);
+        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, statistics);
         String statsTitle = getStatsTitle(
                 isRecipientTypeGeneral, isRecipientTypeTeam,
-                hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses, currentUserIdentifier, hiddenRecipients));
+                hasAtLeastTwoResponsesOtherThanCurrentUser(statistics, currentUserIdentifier, hiddenRecipients));
         String templateToUse = shouldShowAvgExcludingSelf
                              ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
                              : FormTemplates.NUMSCALE_RESULT_STATS;
@@ -354,19 +334,18 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     }
 
     private String getStudentResultsRecipientFragmentHtml(FeedbackQuestionAttributes question,
-            String recipient, String recipientName, String recipientTeam, Map<String, Double> min,
-            Map<String, Double> max, Map<String, Double> average, Map<String, Double> averageExcludingSelf) {
+            String recipient, String recipientName, String recipientTeam, RecipientScoreStatistics statistics) {
 
-        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, averageExcludingSelf);
+        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, statistics);
         String fragmentTemplateToUse = shouldShowAvgExcludingSelf
                 ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
                 : FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT;
         DecimalFormat df = getProperDecimalFormat();
 
-        Double minScore = min.get(recipient);
-        Double maxScore = max.get(recipient);
-        Double averageScore = average.get(recipient);
-        Double averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
+        double minScore = statistics.getMin(recipient);
+        double maxScore = statistics.getMax(recipient);
+        double averageScore = statistics.getAverage(recipient);
+        Double averageScoreExcludingSelf = statistics.getAverageExcludingSelf(recipient);
 
         String averageScoreExcludingSelfText =
                 getAverageExcludingSelfText(shouldShowAvgExcludingSelf, df, averageScoreExcludingSelf);
@@ -415,28 +394,21 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         return null;
     }
 
-    private String getCurrentUserIdentifier(Map<String, Integer> numResponses,
+    private String getCurrentUserIdentifier(RecipientScoreStatistics statistics,
             boolean isRecipientStudent, String currentUserEmail,
             boolean isRecipientTeam, String currentUserTeam) {
 
-        if (isRecipientStudent && numResponses.containsKey(currentUserEmail)
-                && numResponses.get(currentUserEmail) >= 1) {
+        if (isRecipientStudent && statistics.getNumResponses(currentUserEmail) >= 1) {
             return currentUserEmail;
-        } else if (isRecipientTeam && numResponses.containsKey(currentUserTeam)
-                   && numResponses.get(currentUserTeam) >= 1) {
+        } else if (isRecipientTeam && statistics.getNumResponses(currentUserTeam) >= 1) {
             return currentUserTeam;
         } else {
             return "";
         }
     }
 
-    private boolean hasAtLeastTwoResponses(Map<String, Integer> numResponses,
-            String recipient) {
-        if (numResponses == null) {
-            return false;
-        }
-        Integer numOfResponses = numResponses.get(recipient);
-        return numOfResponses != null && numOfResponses >= 2;
+    private boolean hasAtLeastTwoResponses(RecipientScoreStatistics statistics, String recipient) {
+        return statistics.getNumResponses(recipient) >= 2;
     }
 
     private String getAverageExcludingSelfText(boolean showAvgExcludingSelf, DecimalFormat df, Double averageExcludingSelf) {
@@ -456,22 +428,12 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             return "";
         }
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        RecipientScoreStatistics statistics = new RecipientScoreStatistics(responses);
 
-        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, averageExcludingSelf);
+        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, statistics);
 
         DecimalFormat df = getProperDecimalFormat();
         String csvHeader = "Team, Recipient, Average, Minimum, Maximum"
@@ -479,7 +441,7 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
                          + System.lineSeparator();
 
         StringBuilder csvBody = new StringBuilder();
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.getRecipients()) {
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
                 continue;
@@ -488,7 +450,7 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
             boolean isRecipientGeneral = recipient.equals(Const.GENERAL_QUESTION);
 
-            Double averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
+            Double averageScoreExcludingSelf = statistics.getAverageExcludingSelf(recipient);
             String averageScoreExcludingSelfText =
                     getAverageExcludingSelfText(shouldShowAvgExcludingSelf, df, averageScoreExcludingSelf);
 
@@ -497,9 +459,9 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
                                                       ? "General"
                                                       : bundle.getNameForEmail(recipient))
                            + ','
-                           + df.format(average.get(recipient)) + ','
-                           + df.format(min.get(recipient)) + ','
-                           + df.format(max.get(recipient))
+                           + df.format(statistics.getAverage(recipient)) + ','
+                           + df.format(statistics.getMin(recipient)) + ','
+                           + df.format(statistics.getMax(recipient))
                            + (shouldShowAvgExcludingSelf ? ',' + averageScoreExcludingSelfText : "")
                            + System.lineSeparator());
         }
@@ -508,7 +470,7 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     }
 
     private boolean shouldShowAverageExcludingSelf(
-            FeedbackQuestionAttributes question, Map<String, Double> averageExcludingSelf) {
+            FeedbackQuestionAttributes question, RecipientScoreStatistics statistics) {
 
         if (question.recipientType == FeedbackParticipantType.NONE) {
             // General recipient type would not give self response
@@ -516,74 +478,8 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             return false;
         }
 
-        for (Double average : averageExcludingSelf.values()) {
-            // There exists at least one average score exclude self
-            if (average != null) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private void populateSummaryStatisticsFromResponses(
-            List<FeedbackResponseAttributes> responses,
-            Map<String, Double> min, Map<String, Double> max,
-            Map<String, Double> average, Map<String, Double> averageExcludingSelf,
-            Map<String, Double> total, Map<String, Double> totalExcludingSelf,
-            Map<String, Integer> numResponses,
-            Map<String, Integer> numResponsesExcludingSelf) {
-
-        for (FeedbackResponseAttributes response : responses) {
-            FeedbackNumericalScaleResponseDetails responseDetails =
-                    (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
-            double answer = responseDetails.getAnswer();
-            String giverEmail = response.giver;
-            String recipientEmail = response.recipient;
-
-            // Compute number of responses including user's self response
-            int numOfResponses = numResponses.getOrDefault(recipientEmail, 0) + 1;
-            numResponses.put(recipientEmail, numOfResponses);
-
-            // Compute number of responses excluding user's self response
-            boolean isSelfResponse = giverEmail.equalsIgnoreCase(recipientEmail);
-            if (!isSelfResponse) {
-                int numOfResponsesExcludingSelf = numResponsesExcludingSelf.getOrDefault(recipientEmail, 0) + 1;
-                numResponsesExcludingSelf.put(recipientEmail, numOfResponsesExcludingSelf);
-            }
-
-            // Compute minimum score received
-            double minScoreReceived = Math.min(answer, min.getOrDefault(recipientEmail, answer));
-            min.put(recipientEmail, minScoreReceived);
-
-            // Compute maximum score received
-            double maxScoreReceived = Math.max(answer, max.getOrDefault(recipientEmail, answer));
-            max.put(recipientEmail, maxScoreReceived);
-
-            // Compute total score received
-            double totalScore = total.getOrDefault(recipientEmail, 0.0) + answer;
-            total.put(recipientEmail, totalScore);
-
-            // Compute total score received excluding self
-            if (!isSelfResponse) {
-                Double totalScoreExcludingSelf = totalExcludingSelf.getOrDefault(recipientEmail, null);
-
-                // totalScoreExcludingSelf == null when the user has only self response
-                totalExcludingSelf.put(recipientEmail,
-                                       totalScoreExcludingSelf == null ? answer : totalScoreExcludingSelf + answer);
-            }
-
-            // Compute average score received
-            double averageReceived = total.get(recipientEmail) / numResponses.get(recipientEmail);
-            average.put(recipientEmail, averageReceived);
-
-            // Compute average score received excluding self
-            averageExcludingSelf.putIfAbsent(recipientEmail, null);
-            if (!isSelfResponse && totalExcludingSelf.get(recipientEmail) != null) {
-                double averageReceivedExcludingSelf =
-                        totalExcludingSelf.get(recipientEmail) / numResponsesExcludingSelf.get(recipientEmail);
-                averageExcludingSelf.put(recipientEmail, averageReceivedExcludingSelf);
-            }
-        }
+        // There exists at least one average score exclude self
+        return statistics.hasAverageExcludingSelf();
     }
 
     private List<String> getHiddenRecipients(
@@ -632,16 +528,16 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
      * Return false otherwise.
      */
     private boolean hasAtLeastTwoResponsesOtherThanCurrentUser(
-            Map<String, Integer> numResponses, String currentUserIdentifier, List<String> hiddenRecipients) {
+            RecipientScoreStatistics statistics, String currentUserIdentifier, List<String> hiddenRecipients) {
         boolean isAtLeastTwoResponsesOtherThanCurrentUser = false;
 
         // At least 2 responses are given to any recipient other than current user
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.getRecipients()) {
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
 
-            if (hasAtLeastTwoResponses(numResponses, recipient)
+            if (hasAtLeastTwoResponses(statistics, recipient)
                     && !recipient.equals(currentUserIdentifier)) {
 
                 isAtLeastTwoResponsesOtherThanCurrentUser = true;
@@ -773,4 +669,98 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         return step;
     }
 
+    /**
+     * Summary statistics of the scores received by each recipient of a question, computed in one pass
+     * over the given responses. Each rendering of the statistics builds its own instance, as the
+     * responses it is given may be a subset of those of the question.
+     */
+    private static class RecipientScoreStatistics {
+        // the arrays below are indexed by the position of each recipient in this map
+        private final Map<String, Integer> recipientIndexes = new HashMap<>();
+        private final int[] numResponses;
+        private final int[] numResponsesExcludingSelf;
+        private final double[] min;
+        private final double[] max;
+        private final double[] total;
+        private final double[] totalExcludingSelf;
+
+        RecipientScoreStatistics(List<FeedbackResponseAttributes> responses) {
+            // there are at most as many recipients as responses
+            int capacity = responses.size();
+            numResponses = new int[capacity];
+            numResponsesExcludingSelf = new int[capacity];
+            min = new double[capacity];
+            max = new double[capacity];
+            total = new double[capacity];
+            totalExcludingSelf = new double[capacity];
+
+            for (FeedbackResponseAttributes response : responses) {
+                FeedbackNumericalScaleResponseDetails responseDetails =
+                        (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
+                double answer = responseDetails.getAnswer();
+
+                Integer index = recipientIndexes.get(response.recipient);
+                if (index == null) {
+                    index = recipientIndexes.size();
+                    recipientIndexes.put(response.recipient, index);
+                    min[index] = answer;
+                    max[index] = answer;
+                }
+
+                numResponses[index]++;
+                min[index] = Math.min(answer, min[index]);
+                max[index] = Math.max(answer, max[index]);
+                total[index] += answer;
+
+                boolean isSelfResponse = response.giver.equalsIgnoreCase(response.recipient);
+                if (!isSelfResponse) {
+                    numResponsesExcludingSelf[index]++;
+                    totalExcludingSelf[index] += answer;
+                }
+            }
+        }
+
+        Set<String> getRecipients() {
+            return recipientIndexes.keySet();
+        }
+
+        int getNumResponses(String recipient) {
+            Integer index = recipientIndexes.get(recipient);
+            return index == null ? 0 : numResponses[index];
+        }
+
+        double getMin(String recipient) {
+            return min[recipientIndexes.get(recipient)];
+        }
+
+        double getMax(String recipient) {
+            return max[recipientIndexes.get(recipient)];
+        }
+
+        double getAverage(String recipient) {
+            int index = recipientIndexes.get(recipient);
+            return total[index] / numResponses[index];
+        }
+
+        /**
+         * Returns the average score received excluding self response,
+         * or null if the recipient only has a self response.
+         */
+        Double getAverageExcludingSelf(String recipient) {
+            int index = recipientIndexes.get(recipient);
+            return numResponsesExcludingSelf[index] == 0
+                    ? null
+                    : totalExcludingSelf[index] / numResponsesExcludingSelf[index];
+        }
+
+        boolean hasAverageExcludingSelf() {
+            for (int i = 0; i < recipientIndexes.size(); i++) {
+                if (numResponsesExcludingSelf[i] > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
 }
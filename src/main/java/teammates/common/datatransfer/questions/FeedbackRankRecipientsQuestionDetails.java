@@ -259,8 +259,7 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
             return "";
         }
 
-        List<FeedbackResponseAttributes> allResponses = bundle.getActualUnsortedResponses(question);
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(allResponses);
+        RecipientRankStatistics statistics = new RecipientRankStatistics(bundle.getActualUnsortedResponses(question));
 
         boolean isRecipientTypeTeam = question.recipientType == FeedbackParticipantType.TEAMS
                 || question.recipientType == FeedbackParticipantType.OWN_TEAM;
@@ -268,29 +267,18 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         String currentUserTeam = bundle.roster.getStudentForEmail(studentEmail).getTeam();
         String currentUserIdentifier = isRecipientTypeTeam ? currentUserTeam : studentEmail;
 
-        List<Integer> ranksReceived = recipientRanks.get(currentUserIdentifier);
+        List<Integer> ranksReceived = statistics.getRanksReceived().get(currentUserIdentifier);
         // If response recipient is instructor, responses for current student/team will not exist.
         if (ranksReceived == null) {
             return "";
         }
 
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
-
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(allResponses);
-
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
-
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(allResponses);
-
         String ranksReceivedAsString = getListOfRanksReceivedAsString(ranksReceived);
-        String overallRank = Integer.toString(recipientOverallRank.get(currentUserIdentifier));
+        String overallRank = statistics.getOverallRank(currentUserIdentifier);
         String name = bundle.getNameForEmail(currentUserIdentifier);
 
-        String overallRankExceptSelf = recipientOverallRankExceptSelf.containsKey(currentUserIdentifier)
-                ? Integer.toString(recipientOverallRankExceptSelf.get(currentUserIdentifier)) : "-";
-        String selfRank = recipientSelfRanks.containsKey(currentUserIdentifier)
-                ? Integer.toString(recipientSelfRanks.get(currentUserIdentifier)) : "-";
+        String overallRankExceptSelf = statistics.getOverallRankExceptSelf(currentUserIdentifier);
+        String selfRank = statistics.getSelfRank(currentUserIdentifier);
 
         String fragments = Templates.populateTemplate(FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT,
                 Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
@@ -330,30 +318,19 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
             FeedbackSessionResultsBundle bundle) {
         StringBuilder fragments = new StringBuilder();
 
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(responses);
-
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
-
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(responses);
-
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
-
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
+        RecipientRankStatistics statistics = new RecipientRankStatistics(responses);
 
         String fragmentTemplateToUse = FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT;
         String templateToUse = FormTemplates.RANK_RESULT_RECIPIENT_STATS;
 
-        recipientRanks.forEach((participantIdentifier, ranks) -> {
+        statistics.getRanksReceived().forEach((participantIdentifier, ranks) -> {
 
             String ranksReceived = getListOfRanksReceivedAsString(ranks);
-            String overallRank = Integer.toString(recipientOverallRank.get(participantIdentifier));
+            String overallRank = statistics.getOverallRank(participantIdentifier);
             String name = bundle.getNameForEmail(participantIdentifier);
             String teamName = bundle.getTeamNameForEmail(participantIdentifier);
-            String overallRankExceptSelf = recipientOverallRankExceptSelf.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientOverallRankExceptSelf.get(participantIdentifier)) : "-";
-            String selfRank = recipientSelfRanks.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientSelfRanks.get(participantIdentifier)) : "-";
+            String overallRankExceptSelf = statistics.getOverallRankExceptSelf(participantIdentifier);
+            String selfRank = statistics.getSelfRank(participantIdentifier);
 
             fragments.append(Templates.populateTemplate(fragmentTemplateToUse,
                     Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
@@ -383,18 +360,9 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
 
         StringBuilder fragments = new StringBuilder();
 
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(responses);
-
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
-
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(responses);
+        RecipientRankStatistics statistics = new RecipientRankStatistics(responses);
 
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
-
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
-
-        recipientRanks.forEach((participantIdentifier, ranks) -> {
+        statistics.getRanksReceived().forEach((participantIdentifier, ranks) -> {
 
             String teamName = bundle.getTeamNameForEmail(participantIdentifier);
             String recipientName = bundle.getNameForEmail(participantIdentifier);
@@ -402,11 +370,9 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
                             + ","
                             + SanitizationHelper.sanitizeForCsv(recipientName);
 
-            String overallRankExceptSelf = recipientOverallRankExceptSelf.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientOverallRankExceptSelf.get(participantIdentifier)) : "-";
-            String overallRank = Integer.toString(recipientOverallRank.get(participantIdentifier));
-            String selfRank = recipientSelfRanks.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientSelfRanks.get(participantIdentifier)) : "-";
+            String overallRankExceptSelf = statistics.getOverallRankExceptSelf(participantIdentifier);
+            String overallRank = statistics.getOverallRank(participantIdentifier);
+            String selfRank = statistics.getSelfRank(participantIdentifier);
 
             fragments.append(option);
             fragments.append(',').append(selfRank);
@@ -583,4 +549,40 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     public String validateGiverRecipientVisibility(FeedbackQuestionAttributes feedbackQuestionAttributes) {
         return "";
     }
+
+    /**
+     * Rank statistics of each recipient of a question, computed from the given responses once per
+     * rendering of the statistics rather than once per row of the rendered table.
+     */
+    private class RecipientRankStatistics {
+        private final Map<String, List<Integer>> ranksReceived;
+        private final Map<String, Integer> overallRanks;
+        private final Map<String, Integer> overallRanksExceptSelf;
+        private final Map<String, Integer> selfRanks;
+
+        RecipientRankStatistics(List<FeedbackResponseAttributes> responses) {
+            ranksReceived = generateOptionRanksMapping(responses);
+            overallRanks = generateNormalizedOverallRankMapping(ranksReceived);
+            overallRanksExceptSelf = generateNormalizedOverallRankMapping(getRecipientRanksExcludingSelf(responses));
+            selfRanks = generateSelfRankForEachRecipient(responses);
+        }
+
+        Map<String, List<Integer>> getRanksReceived() {
+            return ranksReceived;
+        }
+
+        String getOverallRank(String recipient) {
+            return Integer.toString(overallRanks.get(recipient));
+        }
+
+        String getOverallRankExceptSelf(String recipient) {
+            return overallRanksExceptSelf.containsKey(recipient)
+                    ? Integer.toString(overallRanksExceptSelf.get(recipient)) : "-";
+        }
+
+        String getSelfRank(String recipient) {
+            return selfRanks.containsKey(recipient) ? Integer.toString(selfRanks.get(recipient)) : "-";
+        }
+    }
+
 }
@@ -135,30 +135,39 @@ public final class ActivityLogEntry {
      * be constructed, but with log message: {@link Const.ActivityLog.MESSAGE_ERROR_LOG_MESSAGE_FORMAT}
      */
     public static ActivityLogEntry buildFromAppLog(AppLogLine appLog) {
-        String[] tokens = appLog.getLogMessage().split(Pattern.quote(Const.ActivityLog.FIELD_SEPARATOR), -1);
+        return buildFromLogMessage(appLog.getLogMessage(), appLog.getTimeUsec() / 1000);
+    }
+
+    /**
+     * Builds an {@link ActivityLogEntry} from a log message generated by {@link #generateLogMessage()},
+     * optionally followed by the time taken, which was logged at {@code logTime}.
+     *
+     * <p>If the log message is not in desired format, an instance will still
+     * be constructed, but with log message: {@link Const.ActivityLog.MESSAGE_ERROR_LOG_MESSAGE_FORMAT}
+     */
+    public static ActivityLogEntry buildFromLogMessage(String logMessage, long logTime) {
+        String[] tokens = logMessage.split(Pattern.quote(Const.ActivityLog.FIELD_SEPARATOR), -1);
         if (tokens.length < POSITION_OF_LOG_ID + 1) {
             // the number of fields is not enough, which should be an error
-            return initActivityLogAsFailure(appLog);
+            return initActivityLogAsFailure(logTime);
         }
-        return initActivityLogUsingAppLogMessage(appLog, tokens);
+        return initActivityLogUsingLogMessage(tokens, logTime);
     }
 
-    private static ActivityLogEntry initActivityLogAsFailure(AppLogLine appLog) {
-        Builder builder =
-                new Builder(Const.ActivityLog.UNKNOWN, Const.ActivityLog.UNKNOWN, appLog.getTimeUsec() / 1000);
+    private static ActivityLogEntry initActivityLogAsFailure(long logTime) {
+        Builder builder = new Builder(Const.ActivityLog.UNKNOWN, Const.ActivityLog.UNKNOWN, logTime);
         String logMessage = "<span class=\"text-danger\">"
                             + Const.ActivityLog.MESSAGE_ERROR_LOG_MESSAGE_FORMAT + "</span><br>";
         builder.withLogMessage(logMessage);
         return builder.build();
     }
 
-    private static ActivityLogEntry initActivityLogUsingAppLogMessage(AppLogLine appLog, String[] tokens) {
+    private static ActivityLogEntry initActivityLogUsingLogMessage(String[] tokens, long logTime) {
         // TEAMMATESLOG|||ACTION_NAME|||ACTION_RESPONSE|||TO_SHOW|||ROLE|||NAME|||GOOGLE_ID|||EMAIL
         // |||MESSAGE(IN HTML)|||URL|||TIME_TAKEN
         String actionName = tokens[POSITION_OF_ACTION_NAME];
         String actionUrl = tokens[POSITION_OF_ACTION_URL];
-        long time = appLog.getTimeUsec() / 1000;
-        Builder builder = new Builder(actionName, actionUrl, time);
+        Builder builder = new Builder(actionName, actionUrl, logTime);
 
         builder.withActionResponse(tokens[POSITION_OF_ACTION_RESPONSE])
                 .withLogId(tokens[POSITION_OF_LOG_ID])
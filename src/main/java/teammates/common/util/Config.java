@@ -117,7 +117,10 @@ public final class Config {
         return (isDevServer() ? "http://" : "https://") + hostname;
     }
 
-    private static boolean isDevServer() {
+    /**
+     * Returns true if the app is not running in production, i.e. on the dev server or in tests.
+     */
+    public static boolean isDevServer() {
         return SystemProperty.environment.value() != SystemProperty.Environment.Value.Production;
     }
 
@@ -122,6 +122,9 @@ public final class Const {
          * Must be within the range of int */
         public static final int MAX_PROFILE_PIC_SIZE = 5000000;
 
+        /** The width and height in pixels which profile pictures are resized to fit in for display. */
+        public static final int PROFILE_PICTURE_THUMBNAIL_LENGTH = 150;
+
         /** This is the limit given to Blobstore API, beyond which an ugly error page is shown. */
         public static final long MAX_FILE_LIMIT_FOR_BLOBSTOREAPI = 11000000;
 
@@ -235,6 +238,8 @@ public final class Const {
                 "Delete the course and its corresponding students and sessions";
         public static final String COURSE_DELETE =
                 "Permanently delete the course and its corresponding students and sessions";
+        public static final String COURSE_DELETING =
+                "The course is being permanently deleted, and will be removed from this table once it is done";
         public static final String COURSE_DELETE_ALL =
                 "Permanently delete all courses and their corresponding students and sessions";
         public static final String COURSE_RESTORE =
@@ -649,6 +654,8 @@ public final class Const {
         public static final String COPIED_FEEDBACK_SESSION_NAME = "copiedfsname";
         public static final String COPIED_COURSE_ID = "copiedcourseid";
         public static final String COPIED_COURSES_ID = "copiedcoursesid";
+        public static final String ACTIVITY_LOGS_DELETION_TIME = "activitylogsdeletiontime";
+        public static final String ACTIVITY_LOGS_DELETION_CURSOR = "activitylogsdeletioncursor";
 
         public static final String CSV_TO_HTML_TABLE_NEEDED = "csvtohtmltable";
 
@@ -881,6 +888,7 @@ public final class Const {
         public static final String OPEN_OR_PUBLISHED_EMAIL_SEND_CHECK = "openorpublishedemailsent";
 
         public static final String EMAIL_CONTENT = "content";
+        public static final String EMAIL_SUBSTITUTIONS = "substitutions";
         public static final String EMAIL_SENDER = "sender";
         public static final String EMAIL_SENDERNAME = "sendername";
         public static final String EMAIL_SUBJECT = "subject";
@@ -1097,6 +1105,8 @@ public final class Const {
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS = "/auto/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_ACTIVITY_LOGS_CLEANUP = "/auto/activityLogsCleanup";
+        public static final String AUTOMATED_ACTIVITY_LOGS_WRITE = "/auto/activityLogsWrite";
 
         public static final String ERROR_FEEDBACK_SUBMIT = "/page/errorFeedbackSubmit";
 
@@ -1109,6 +1119,11 @@ public final class Const {
      */
     public static class TaskQueue {
 
+        public static final String ACTIVITY_LOG_QUEUE_NAME = "activity-log-queue";
+
+        public static final String ACTIVITY_LOGS_DELETION_QUEUE_NAME = "activity-logs-deletion-queue";
+        public static final String ACTIVITY_LOGS_DELETION_WORKER_URL = "/worker/activityLogsDeletion";
+
         public static final String ADMIN_PREPARE_EMAIL_ADDRESS_MODE_QUEUE_NAME = "admin-prepare-email-address-mode-queue";
         public static final String ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL = "/worker/adminPrepareEmailAddressMode";
 
@@ -1118,9 +1133,15 @@ public final class Const {
         public static final String ADMIN_SEND_EMAIL_QUEUE_NAME = "admin-send-email-queue";
         public static final String ADMIN_SEND_EMAIL_WORKER_URL = "/worker/adminSendEmail";
 
+        public static final String COURSE_DELETION_QUEUE_NAME = "course-deletion-queue";
+        public static final String COURSE_DELETION_WORKER_URL = "/worker/courseDeletion";
+
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME = "feedback-response-adjustment-queue";
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL = "/worker/feedbackResponseAdjustment";
 
+        public static final String FEEDBACK_SESSION_COPY_QUEUE_NAME = "feedback-session-copy-queue";
+        public static final String FEEDBACK_SESSION_COPY_WORKER_URL = "/worker/feedbackSessionCopy";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -1324,9 +1345,12 @@ public final class Const {
                 "The course %s has been deleted. You can restore it from the deleted courses table below.";
         public static final String COURSE_RESTORED = "The course %s has been restored.";
         public static final String COURSE_ALL_RESTORED = "All courses have been restored.";
+        public static final String COURSE_ALL_RESTORED_EXCEPT_BEING_DELETED =
+                "All courses have been restored, except the following courses which are being "
+                + "permanently deleted: %s";
         public static final String COURSE_DELETED =
-                "The course %s has been permanently deleted.";
-        public static final String COURSE_ALL_DELETED = "All courses have been permanently deleted.";
+                "The course %s is being permanently deleted.";
+        public static final String COURSE_ALL_DELETED = "All courses are being permanently deleted.";
         public static final String COURSE_EMPTY =
                 "You do not seem to have any courses. Use the form above to create a course.";
         public static final String COURSE_EMPTY_IN_INSTRUCTOR_FEEDBACKS =
@@ -1415,6 +1439,11 @@ public final class Const {
                 "You have not selected any course to copy the feedback session to";
         public static final String FEEDBACK_SESSION_COPY_ALREADYEXISTS =
                 "A feedback session with the name \"%s\" already exists in the following course(s): %s.";
+        public static final String FEEDBACK_SESSION_COPY_FAILED =
+                "The feedback session could not be copied to the following course(s): %s";
+        public static final String FEEDBACK_SESSION_COPY_CONTINUED =
+                "The feedback session is still being copied to the following course(s), "
+                + "and will appear in them shortly: %s.";
         public static final String FEEDBACK_SESSION_EDITED = "The feedback session has been updated.";
         public static final String FEEDBACK_SESSION_END_TIME_EARLIER_THAN_START_TIME =
                 "The end time for this feedback session cannot be earlier than the start time.";
@@ -1428,9 +1457,6 @@ public final class Const {
         public static final String FEEDBACK_SESSION_ALL_DELETED = "All sessions have been permanently deleted.";
         public static final String FEEDBACK_SESSION_DELETED_NO_ACCESS =
                 "The feedback session has been permanently deleted and is no longer accessible.";
-        public static final String FEEDBACK_SESSION_DOWNLOAD_FILE_SIZE_EXCEEDED = "This session has more responses than "
-                + "that can be downloaded in one go. Please download responses for one question at a time instead. "
-                + "To download responses for a specific question, click on the corresponding question number.";
         public static final String FEEDBACK_SESSION_PUBLISHED =
                 "The feedback session has been published. "
                 + "Please allow up to 1 hour for all the notification emails to be sent out.";
@@ -1663,6 +1689,9 @@ public final class Const {
     public static class ActivityLog {
         public static final String TEAMMATESLOG = "TEAMMATESLOG";
 
+        /** The number of days the entries of the activity log are kept for. */
+        public static final int RETENTION_PERIOD_IN_DAYS = 30;
+
         public static final String UNKNOWN = "Unknown";
 
         public static final String ROLE_ADMIN = "Admin";
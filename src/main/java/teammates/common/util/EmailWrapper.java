@@ -1,10 +1,20 @@
 package teammates.common.util;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Represents an email message and its important metadata.
+ *
+ * <p>The content may hold placeholders for values that differ between recipients,
+ * e.g. names and unique links, so that emails to several recipients can share one body.
+ * The values for this email's recipient are kept as its substitutions.</p>
  */
 public class EmailWrapper {
 
+    private static final String SUBSTITUTION_PLACEHOLDER_PREFIX = "%recipient.";
+    private static final String SUBSTITUTION_PLACEHOLDER_SUFFIX = "%";
+
     private String senderName;
     private String senderEmail;
     private String replyTo;
@@ -12,6 +22,7 @@ public class EmailWrapper {
     private String bcc;
     private String subject;
     private String content;
+    private Map<String, String> substitutions = new LinkedHashMap<>();
 
     public String getSenderName() {
         return senderName;
@@ -61,7 +72,26 @@ public class EmailWrapper {
         this.subject = subject;
     }
 
+    /**
+     * Gets the content as seen by the recipient, i.e. with the substitutions filled in.
+     */
     public String getContent() {
+        if (content == null || substitutions.isEmpty()) {
+            return content;
+        }
+        String substitutedContent = content;
+        for (Map.Entry<String, String> substitution : substitutions.entrySet()) {
+            substitutedContent = substitutedContent.replace(
+                    getSubstitutionPlaceholder(substitution.getKey()), substitution.getValue());
+        }
+        return substitutedContent;
+    }
+
+    /**
+     * Gets the content with the placeholders of the substitutions left in,
+     * which is shared by the emails that differ only in their recipients and substitutions.
+     */
+    public String getSharedContent() {
         return content;
     }
 
@@ -69,6 +99,29 @@ public class EmailWrapper {
         this.content = content;
     }
 
+    public Map<String, String> getSubstitutions() {
+        return substitutions;
+    }
+
+    public void setSubstitutions(Map<String, String> substitutions) {
+        this.substitutions = new LinkedHashMap<>(substitutions);
+    }
+
+    /**
+     * Sets the value to fill in for the placeholder of {@code key} in the content of this email.
+     */
+    public void addSubstitution(String key, String value) {
+        substitutions.put(key, value);
+    }
+
+    /**
+     * Gets the placeholder in the content for the substitution of {@code key}.
+     * The placeholder follows the format of Mailgun's recipient variables.
+     */
+    public static String getSubstitutionPlaceholder(String key) {
+        return SUBSTITUTION_PLACEHOLDER_PREFIX + key + SUBSTITUTION_PLACEHOLDER_SUFFIX;
+    }
+
     public String getInfoForLogging() {
         return "[Email sent]to=" + getRecipient()
                + "|from=" + getSenderEmail()
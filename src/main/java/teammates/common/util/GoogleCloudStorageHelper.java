@@ -12,6 +12,7 @@ import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.blobstore.BlobstoreInputStream;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 import com.google.appengine.api.blobstore.UploadOptions;
+import com.google.appengine.tools.cloudstorage.GcsFileMetadata;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
 import com.google.appengine.tools.cloudstorage.GcsFilename;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
@@ -24,6 +25,7 @@ import com.google.appengine.tools.cloudstorage.RetryParams;
 public final class GoogleCloudStorageHelper {
 
     private static final int MAX_READING_LENGTH = 900000;
+    private static final String THUMBNAIL_FILE_NAME_SUFFIX = "_thumbnail";
     private static final Logger log = Logger.getLogger();
 
     private GoogleCloudStorageHelper() {
@@ -61,16 +63,50 @@ public final class GoogleCloudStorageHelper {
      * @return the {@link BlobKey} used as the image's identifier in Google Cloud Storage
      */
     public static String writeImageDataToGcs(String googleId, byte[] imageData) throws IOException {
-        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, googleId);
-        try (GcsOutputChannel outputChannel =
-                GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
-                .createOrReplace(gcsFilename, new GcsFileOptions.Builder().mimeType("image/png").build())) {
+        return writePngFileToGcs(googleId, imageData);
+    }
 
-            outputChannel.write(ByteBuffer.wrap(imageData));
-        }
+    /**
+     * Writes a byte array {@code thumbnailData} as the thumbnail of the profile picture of {@code googleId}
+     * to the Google Cloud Storage, next to the picture itself.
+     *
+     * @return the {@link BlobKey} used as the thumbnail's identifier in Google Cloud Storage
+     */
+    public static String writeThumbnailDataToGcs(String googleId, byte[] thumbnailData) throws IOException {
+        return writePngFileToGcs(googleId + THUMBNAIL_FILE_NAME_SUFFIX, thumbnailData);
+    }
 
-        return BlobstoreServiceFactory.getBlobstoreService()
-                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + googleId).getKeyString();
+    /**
+     * Returns the {@link BlobKey} of the thumbnail of the profile picture of {@code googleId},
+     * regardless of whether the thumbnail exists.
+     */
+    public static String getThumbnailKey(String googleId) {
+        return getGsBlobKey(googleId + THUMBNAIL_FILE_NAME_SUFFIX);
+    }
+
+    /**
+     * Deletes the thumbnail of the profile picture of {@code googleId} in the Google Cloud Storage.
+     */
+    public static void deleteThumbnail(String googleId) {
+        deleteFile(new BlobKey(getThumbnailKey(googleId)));
+    }
+
+    /**
+     * Gets the entity tag of the thumbnail of the profile picture of {@code googleId},
+     * which changes whenever the thumbnail is replaced.
+     *
+     * @return null if there is no such thumbnail
+     */
+    public static String getThumbnailETag(String googleId) throws IOException {
+        GcsFileMetadata metadata = GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
+                .getMetadata(new GcsFilename(Config.GCS_BUCKETNAME, googleId + THUMBNAIL_FILE_NAME_SUFFIX));
+        if (metadata == null) {
+            return null;
+        }
+        // the development server does not provide entity tags
+        return metadata.getEtag() == null
+                ? metadata.getLength() + "-" + metadata.getLastModified().getTime()
+                : metadata.getEtag();
     }
 
     /**
@@ -175,6 +211,23 @@ public final class GoogleCloudStorageHelper {
         return listOfList;
     }
 
+    private static String writePngFileToGcs(String fileName, byte[] data) throws IOException {
+        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, fileName);
+        try (GcsOutputChannel outputChannel =
+                GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
+                .createOrReplace(gcsFilename, new GcsFileOptions.Builder().mimeType("image/png").build())) {
+
+            outputChannel.write(ByteBuffer.wrap(data));
+        }
+
+        return getGsBlobKey(fileName);
+    }
+
+    private static String getGsBlobKey(String fileName) {
+        return BlobstoreServiceFactory.getBlobstoreService()
+                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + fileName).getKeyString();
+    }
+
     private static long getFileSize(BlobKey blobKey) {
         BlobInfoFactory blobInfoFactory = new BlobInfoFactory();
         return blobInfoFactory.loadBlobInfo(blobKey).getSize();
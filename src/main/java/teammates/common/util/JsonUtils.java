@@ -21,6 +21,12 @@ import com.google.gson.JsonSerializer;
  */
 public final class JsonUtils {
 
+    /**
+     * Gson is thread-safe and caches the type adapter it builds for each class,
+     * so a single instance is shared instead of rebuilding one on every call.
+     */
+    private static final Gson TEAMMATES_GSON = createTeammatesGson();
+
     private JsonUtils() {
         // utility class
     }
@@ -29,7 +35,7 @@ public final class JsonUtils {
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getTeammatesGson() {
+    private static Gson createTeammatesGson() {
         return new GsonBuilder()
                 .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
                 .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
@@ -39,6 +45,10 @@ public final class JsonUtils {
                 .create();
     }
 
+    private static Gson getTeammatesGson() {
+        return TEAMMATES_GSON;
+    }
+
     /**
      * Serializes the specified object into its equivalent JSON string.
      *
@@ -41,6 +41,17 @@ public final class SanitizationHelper {
                 .toFactory();
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Entities (without the leading '&') produced by {@link #sanitizeForHtml}, which are left as they are
+     * so that sanitizing a string multiple times does not change it further.
+     */
+    private static final String[] SANITIZED_HTML_ENTITIES = {"amp;", "lt;", "gt;", "quot;", "#x2f;", "#39;"};
+
+    /**
+     * Characters replaced by whitespace in {@link #sanitizeForSearch}.
+     */
+    private static final String SEARCH_PUNCTUATION = "`!#$%^&[]{}|;*.?'/=:";
+
     private SanitizationHelper() {
         // utility class
     }
@@ -110,11 +121,10 @@ public final class SanitizationHelper {
         if (str == null) {
             return null;
         }
-        return SanitizationHelper.sanitizeForHtml(
-                str.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("'", "\\'")
-                .replace("#", "\\#"));
+        return SanitizationHelper.sanitizeForHtml(replaceChars(str, (text, index) -> {
+            char c = text.charAt(index);
+            return c == '\\' || c == '"' || c == '\'' || c == '#' ? "\\" + c : null;
+        }));
     }
 
     /**
@@ -136,14 +146,33 @@ public final class SanitizationHelper {
         if (unsanitizedString == null) {
             return null;
         }
-        return unsanitizedString.replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("/", "&#x2f;")
-                .replace("'", "&#39;")
-                //To ensure when apply sanitizeForHtml for multiple times, the string's still fine
-                //Regex meaning: replace '&' with safe encoding, but not the one that is safe already
-                .replaceAll("&(?!(amp;)|(lt;)|(gt;)|(quot;)|(#x2f;)|(#39;))", "&amp;");
+        return replaceChars(unsanitizedString, SanitizationHelper::getHtmlReplacement);
+    }
+
+    private static String getHtmlReplacement(String text, int index) {
+        switch (text.charAt(index)) {
+        case '<':
+            return "&lt;";
+        case '>':
+            return "&gt;";
+        case '"':
+            return "&quot;";
+        case '/':
+            return "&#x2f;";
+        case '\'':
+            return "&#39;";
+        case '&':
+            //To ensure when apply sanitizeForHtml for multiple times, the string's still fine
+            //i.e. replace '&' with safe encoding, but not the one that is safe already
+            for (String entity : SANITIZED_HTML_ENTITIES) {
+                if (text.startsWith(entity, index + 1)) {
+                    return null;
+                }
+            }
+            return "&amp;";
+        default:
+            return null;
+        }
     }
 
     /**
@@ -172,12 +201,41 @@ public final class SanitizationHelper {
             return null;
         }
 
-        return sanitizedString.replace("&lt;", "<")
-                              .replace("&gt;", ">")
-                              .replace("&quot;", "\"")
-                              .replace("&#x2f;", "/")
-                              .replace("&#39;", "'")
-                              .replace("&amp;", "&");
+        int ampersandIndex = sanitizedString.indexOf('&');
+        if (ampersandIndex == -1) {
+            return sanitizedString;
+        }
+
+        StringBuilder desanitized = new StringBuilder(sanitizedString.length());
+        int copiedUntil = 0;
+        while (ampersandIndex != -1) {
+            String original = getOriginalOfHtmlEntity(sanitizedString, ampersandIndex + 1);
+            if (original == null) {
+                ampersandIndex = sanitizedString.indexOf('&', ampersandIndex + 1);
+                continue;
+            }
+            desanitized.append(sanitizedString, copiedUntil, ampersandIndex).append(original);
+            copiedUntil = sanitizedString.indexOf(';', ampersandIndex) + 1;
+            ampersandIndex = sanitizedString.indexOf('&', copiedUntil);
+        }
+        return desanitized.append(sanitizedString, copiedUntil, sanitizedString.length()).toString();
+    }
+
+    private static String getOriginalOfHtmlEntity(String text, int entityIndex) {
+        if (text.startsWith("lt;", entityIndex)) {
+            return "<";
+        } else if (text.startsWith("gt;", entityIndex)) {
+            return ">";
+        } else if (text.startsWith("quot;", entityIndex)) {
+            return "\"";
+        } else if (text.startsWith("#x2f;", entityIndex)) {
+            return "/";
+        } else if (text.startsWith("#39;", entityIndex)) {
+            return "'";
+        } else if (text.startsWith("amp;", entityIndex)) {
+            return "&";
+        }
+        return null;
     }
 
     /**
@@ -204,7 +262,10 @@ public final class SanitizationHelper {
         if (string == null) {
             return null;
         }
-        return string.replace("<", "&lt;").replace(">", "&gt;");
+        return replaceChars(string, (text, index) -> {
+            char c = text.charAt(index);
+            return c == '<' ? "&lt;" : c == '>' ? "&gt;" : null;
+        });
     }
 
     /**
@@ -264,16 +325,14 @@ public final class SanitizationHelper {
         if (str == null) {
             return null;
         }
-        return str
-                //general case for punctuation
-                .replace("`", " ").replace("!", " ").replace("#", " ").replace("$", " ").replace("%", " ").replace("^", " ")
-                .replace("&", " ").replace("[", " ").replace("]", " ").replace("{", " ").replace("}", " ").replace("|", " ")
-                .replace(";", " ").replace("*", " ").replace(".", " ").replace("?", " ").replace("'", " ").replace("/", " ")
-                //to prevent injection
-                .replace("=", " ")
-                .replace(":", " ")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;");
+        return replaceChars(str, (text, index) -> {
+            char c = text.charAt(index);
+            //general case for punctuation, and '=' and ':' to prevent injection
+            if (SEARCH_PUNCTUATION.indexOf(c) != -1) {
+                return " ";
+            }
+            return c == '<' ? "&lt;" : c == '>' ? "&gt;" : null;
+        });
     }
 
     /**
@@ -283,7 +342,7 @@ public final class SanitizationHelper {
      * @see <a href="http://tools.ietf.org/html/rfc4180">http://tools.ietf.org/html/rfc4180</a>
      */
     public static String sanitizeForCsv(String str) {
-        return "\"" + str.replace("\"", "\"\"") + "\"";
+        return "\"" + replaceChars(str, (text, index) -> text.charAt(index) == '"' ? "\"\"" : null) + "\"";
     }
 
     /**
@@ -359,6 +418,39 @@ public final class SanitizationHelper {
         return isSanitizedHtml(string) ? desanitizeFromHtml(string) : string;
     }
 
+    /**
+     * Replaces the characters of {@code str} in a single pass, as decided by {@code replacer}.
+     * Returns {@code str} itself if no character needs to be replaced.
+     */
+    private static String replaceChars(String str, CharReplacer replacer) {
+        StringBuilder replaced = null;
+        int length = str.length();
+        for (int i = 0; i < length; i++) {
+            String replacement = replacer.getReplacement(str, i);
+            if (replacement != null) {
+                if (replaced == null) {
+                    replaced = new StringBuilder(length + 16).append(str, 0, i);
+                }
+                replaced.append(replacement);
+            } else if (replaced != null) {
+                replaced.append(str.charAt(i));
+            }
+        }
+        return replaced == null ? str : replaced.toString();
+    }
+
+    /**
+     * Decides the replacement of a single character for {@link #replaceChars}.
+     */
+    private interface CharReplacer {
+
+        /**
+         * Returns the replacement for the character at {@code index} of {@code text},
+         * or null if the character is to be kept.
+         */
+        String getReplacement(String text, int index);
+    }
+
     /**
      * Sanitizes the log message, only allow br element and span element with class attribute equals to
      * "bold" or "text-danger". Convert other special characters into HTML-safe equivalents.
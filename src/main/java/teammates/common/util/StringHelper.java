@@ -1,12 +1,15 @@
 package teammates.common.util;
 
+import java.security.GeneralSecurityException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -29,6 +32,21 @@ import teammates.common.exception.TeammatesException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * AES ciphers initialised with {@link Config#ENCRYPTION_KEY}, cached per thread
+     * as {@link Cipher} is not thread-safe but is costly to create for every key.
+     */
+    private static final ThreadLocal<Cipher> ENCRYPTION_CIPHER = new ThreadLocal<>();
+    private static final ThreadLocal<Cipher> DECRYPTION_CIPHER = new ThreadLocal<>();
+
+    /**
+     * Compiled patterns of the regexes used in {@link #isMatching}, e.g. the validation regexes of
+     * {@link FieldValidator}, so that each regex is only compiled once.
+     */
+    private static final Map<String, Pattern> COMPILED_PATTERNS = new ConcurrentHashMap<>();
+
     private StringHelper() {
         // utility class
     }
@@ -58,7 +76,8 @@ public final class StringHelper {
     public static boolean isMatching(String input, String regex) {
         // Important to use the CANON_EQ flag to make sure that canonical characters
         // such as é is correctly matched regardless of single/double code point encoding
-        return Pattern.compile(regex, Pattern.CANON_EQ).matcher(input).matches();
+        Pattern pattern = COMPILED_PATTERNS.computeIfAbsent(regex, key -> Pattern.compile(key, Pattern.CANON_EQ));
+        return pattern.matcher(input).matches();
     }
 
     /**
@@ -126,10 +145,7 @@ public final class StringHelper {
 
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes());
+            byte[] encrypted = getCipher(ENCRYPTION_CIPHER, Cipher.ENCRYPT_MODE).doFinal(value.getBytes());
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
@@ -147,12 +163,11 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = getCipher(DECRYPTION_CIPHER, Cipher.DECRYPT_MODE).doFinal(hexStringToByteArray(message));
             return new String(decrypted);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+            // do not reuse a cipher that may have been left mid-operation
+            DECRYPTION_CIPHER.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
@@ -161,6 +176,25 @@ public final class StringHelper {
         }
     }
 
+    /**
+     * Gets the calling thread's cipher for the given mode, creating it on first use.
+     * The cipher resets itself after every {@link Cipher#doFinal} so it can be reused.
+     */
+    private static Cipher getCipher(ThreadLocal<Cipher> cachedCipher, int mode) throws GeneralSecurityException {
+        Cipher cipher = cachedCipher.get();
+        if (cipher == null) {
+            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+            cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            if (mode == Cipher.ENCRYPT_MODE) {
+                cipher.init(mode, sks, cipher.getParameters());
+            } else {
+                cipher.init(mode, sks);
+            }
+            cachedCipher.set(cipher);
+        }
+        return cipher;
+    }
+
     /**
      * Converts and concatenates a list of objects to a single string, separated by line breaks.
      * The conversion is done by using the {@link Object#toString()} method.
@@ -311,24 +345,36 @@ public final class StringHelper {
     }
 
     public static String byteArrayToHexString(byte[] bytes) {
-        StringBuilder sb = new StringBuilder(bytes.length * 2);
-        for (byte b : bytes) {
-            int v = b & 0xff;
-            if (v < 16) {
-                sb.append('0');
-            }
-            sb.append(Integer.toHexString(v));
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            hex[i * 2] = HEX_DIGITS[v >>> 4];
+            hex[i * 2 + 1] = HEX_DIGITS[v & 0x0f];
         }
-        return sb.toString().toUpperCase();
+        return new String(hex);
     }
 
+    /**
+     * Converts a hexadecimal string to the bytes it represents.
+     *
+     * @throws NumberFormatException if the string contains a non-hexadecimal character.
+     */
     public static byte[] hexStringToByteArray(String s) {
         byte[] b = new byte[s.length() / 2];
-        IntStream.range(0, b.length)
-                .forEach(i -> b[i] = (byte) Integer.parseInt(s.substring(i * 2, i * 2 + 2), 16));
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte) (hexDigitToInt(s.charAt(i * 2)) << 4 | hexDigitToInt(s.charAt(i * 2 + 1)));
+        }
         return b;
     }
 
+    private static int hexDigitToInt(char c) {
+        int digit = Character.digit(c, 16);
+        if (digit < 0) {
+            throw new NumberFormatException("Invalid hexadecimal character: " + c);
+        }
+        return digit;
+    }
+
     /**
      * Converts a csv string to a html table string for displaying.
      * @return html table string
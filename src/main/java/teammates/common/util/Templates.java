@@ -4,6 +4,9 @@ public final class Templates {
 
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
 
+    private static final String SLOT_PREFIX = "${";
+    private static final String SLOT_SUFFIX = "}";
+
     private Templates() {
         // utility class
     }
@@ -11,6 +14,9 @@ public final class Templates {
     /**
      * Populates the HTML templates by replacing variables in the template string
      * with the given value strings.
+     *
+     * <p>If every variable is a {@code ${...}} slot, the template is populated in a single pass
+     * instead of being copied once per variable.
      * @param template The template html to be populated
      * @param keyValuePairs Array of a variable, even number of key-value pairs:
      *                   { "key1", "val1", "key2", "val2", ... }
@@ -19,11 +25,72 @@ public final class Templates {
     public static String populateTemplate(String template, String... keyValuePairs) {
         Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
                 keyValuePairs.length % 2 == 0);
-        String populatedTemplate = template;
+        if (!areAllSlots(keyValuePairs)) {
+            String populatedTemplate = template;
+            for (int i = 0; i < keyValuePairs.length; i += 2) {
+                populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+            }
+            return populatedTemplate;
+        }
+
+        // all keys are ${...} slots, so they can be filled in a single scan of the template
+        return populateSlots(template, 0, keyValuePairs);
+    }
+
+    /**
+     * Populates the slots in {@code template} using the key-value pairs from {@code firstPair} onwards.
+     * As with replacing the pairs one after another, a value may itself contain slots of the pairs after it.
+     */
+    private static String populateSlots(String template, int firstPair, String... keyValuePairs) {
+        StringBuilder populatedTemplate = new StringBuilder(template.length());
+        int copiedUpTo = 0;
+        int slotStart = template.indexOf(SLOT_PREFIX);
+        while (slotStart != -1) {
+            int slotEnd = template.indexOf(SLOT_SUFFIX, slotStart + SLOT_PREFIX.length());
+            if (slotEnd == -1) {
+                break;
+            }
+            slotEnd += SLOT_SUFFIX.length();
+            int pair = findPairForSlot(template, slotStart, slotEnd, firstPair, keyValuePairs);
+            if (pair == -1) {
+                slotStart = template.indexOf(SLOT_PREFIX, slotStart + SLOT_PREFIX.length());
+                continue;
+            }
+            String value = keyValuePairs[pair + 1];
+            if (value.contains(SLOT_PREFIX)) {
+                value = populateSlots(value, pair + 2, keyValuePairs);
+            }
+            populatedTemplate.append(template, copiedUpTo, slotStart).append(value);
+            copiedUpTo = slotEnd;
+            slotStart = template.indexOf(SLOT_PREFIX, slotEnd);
+        }
+        return populatedTemplate.append(template, copiedUpTo, template.length()).toString();
+    }
+
+    private static boolean areAllSlots(String... keyValuePairs) {
         for (int i = 0; i < keyValuePairs.length; i += 2) {
-            populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+            String key = keyValuePairs[i];
+            if (!key.startsWith(SLOT_PREFIX) || key.indexOf(SLOT_SUFFIX) != key.length() - SLOT_SUFFIX.length()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first pair from {@code firstPair} onwards whose key is the slot at
+     * {@code template[slotStart, slotEnd)}, or -1 if the slot is not to be populated.
+     */
+    private static int findPairForSlot(String template, int slotStart, int slotEnd, int firstPair,
+            String... keyValuePairs) {
+        int slotLength = slotEnd - slotStart;
+        for (int i = firstPair; i < keyValuePairs.length; i += 2) {
+            String key = keyValuePairs[i];
+            if (key.length() == slotLength && template.startsWith(key, slotStart)) {
+                return i;
+            }
         }
-        return populatedTemplate;
+        return -1;
     }
 
     /**
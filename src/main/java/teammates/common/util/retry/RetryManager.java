@@ -1,5 +1,8 @@
 package teammates.common.util.retry;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
 import teammates.common.util.Assumption;
 import teammates.common.util.Logger;
 import teammates.common.util.ThreadHelper;
@@ -11,13 +14,21 @@ import teammates.common.util.ThreadHelper;
  *     <li>Task is successful (see specific method documentation for definition of success).</li>
  *     <li>Maximum retries are exceeded (as determined by the specified maximum delay).</li>
  *     <li>A {@link Throwable} of type specified in the task is encountered (this is thrown upwards).</li>
+ *     <li>The deadline is tracked and the next wait would leave too little time to retry before it.</li>
  * </ul>
+ * The number of retries and the total time taken are logged for tasks that needed retrying.
  */
 public final class RetryManager {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Minimum time (in milliseconds) that must be left before the deadline after a wait for a retry to be made.
+     */
+    private static final long MIN_TIME_LEFT_AFTER_WAIT_IN_MS = 5000;
+
     private final int maxDelayInS;
+    private final LongSupplier remainingTimeInMsSupplier;
 
     /**
      * Creates a new {@link RetryManager} that contains methods to retry tasks.
@@ -25,7 +36,20 @@ public final class RetryManager {
      * @param maxDelayInS maximum delay (in seconds) to wait before final retry.
      */
     public RetryManager(int maxDelayInS) {
+        this(maxDelayInS, null);
+    }
+
+    /**
+     * Creates a new {@link RetryManager} that contains methods to retry tasks within a deadline,
+     * e.g. that of the current request. The waits between retries are jittered, and retrying stops early
+     * once the next wait would leave too little time before the deadline.
+     *
+     * @param maxDelayInS maximum delay (in seconds) to wait before final retry.
+     * @param remainingTimeInMsSupplier supplies the time (in milliseconds) left before the deadline.
+     */
+    public RetryManager(int maxDelayInS, LongSupplier remainingTimeInMsSupplier) {
         this.maxDelayInS = maxDelayInS;
+        this.remainingTimeInMsSupplier = remainingTimeInMsSupplier;
     }
 
     private enum SuccessCondition {
@@ -100,16 +124,21 @@ public final class RetryManager {
 
     private <T, E extends Throwable> T doRetry(Retryable<T, E> task, SuccessCondition condition)
             throws E, MaximumRetriesExceededException {
+        long startTime = System.currentTimeMillis();
+        int numRetries = 0;
         T result = task.runExec();
-        for (int delay = 1; !condition.isSuccessful(task) && delay <= maxDelayInS; delay *= 2) {
-            logFailure(task, delay);
-            ThreadHelper.waitFor(delay * 1000);
+        boolean isSuccessful = condition.isSuccessful(task);
+        for (int delay = 1; !isSuccessful && delay <= maxDelayInS && waitBeforeRetry(task, delay); delay *= 2) {
             task.beforeRetry();
             result = task.runExec();
+            isSuccessful = condition.isSuccessful(task);
+            numRetries++;
         }
-        if (!condition.isSuccessful(task)) {
+        if (!isSuccessful) {
+            logOutcome(task, false, numRetries, startTime);
             throw new MaximumRetriesExceededException(task);
         }
+        logOutcome(task, true, numRetries, startTime);
         return result;
     }
 
@@ -118,27 +147,51 @@ public final class RetryManager {
     private final <T, E extends Throwable> T doRetry(
             Retryable<T, E> task, Class<? extends Throwable>... recognizedExceptionTypes)
             throws E, MaximumRetriesExceededException {
-        for (int delay = 1; delay <= maxDelayInS; delay *= 2) {
+        long startTime = System.currentTimeMillis();
+        int numRetries = 0;
+        for (int delay = 1;; delay *= 2) {
             try {
-                return task.runExec();
+                T result = task.runExec();
+                logOutcome(task, true, numRetries, startTime);
+                return result;
             } catch (Throwable e) {
                 if (!isThrowableTypeIn(e, recognizedExceptionTypes)) {
                     throw e;
                 }
+                if (delay > maxDelayInS || !waitBeforeRetry(task, delay)) {
+                    logOutcome(task, false, numRetries, startTime);
+                    throw new MaximumRetriesExceededException(task, e);
+                }
                 // continue retry process
             }
-            logFailure(task, delay);
-            ThreadHelper.waitFor(delay * 1000);
             task.beforeRetry();
+            numRetries++;
         }
-        try {
-            return task.runExec();
-        } catch (Throwable e) {
-            if (!isThrowableTypeIn(e, recognizedExceptionTypes)) {
-                throw e;
+    }
+
+    /**
+     * Waits before the next retry of {@code task} for {@code delayInS} seconds, or for a random duration
+     * between half of it and all of it if the deadline is tracked.
+     *
+     * @return false without waiting if the deadline is tracked and there would not be enough time left
+     *         after the wait to retry, true otherwise.
+     */
+    private <T, E extends Throwable> boolean waitBeforeRetry(Retryable<T, E> task, int delayInS) {
+        long waitInMs = delayInS * 1000L;
+        if (remainingTimeInMsSupplier != null) {
+            // spreads out the retries of concurrent requests that failed at the same time
+            waitInMs = waitInMs / 2 + ThreadLocalRandom.current().nextLong(waitInMs / 2 + 1);
+
+            long remainingTimeInMs = remainingTimeInMsSupplier.getAsLong();
+            if (remainingTimeInMs - waitInMs < MIN_TIME_LEFT_AFTER_WAIT_IN_MS) {
+                log.info(task.getName() + " failed; not retrying as only " + remainingTimeInMs
+                        + "ms is left before the deadline");
+                return false;
             }
-            throw new MaximumRetriesExceededException(task, e);
         }
+        log.info(task.getName() + " failed; waiting " + waitInMs + "ms before retry");
+        ThreadHelper.waitFor((int) waitInMs);
+        return true;
     }
 
     @SafeVarargs
@@ -151,7 +204,12 @@ public final class RetryManager {
         return false;
     }
 
-    private static <T, E extends Throwable> void logFailure(Retryable<T, E> task, int delay) {
-        log.info(task.getName() + " failed; waiting " + delay + "s before retry");
+    private static <T, E extends Throwable> void logOutcome(Retryable<T, E> task, boolean isSuccessful, int numRetries,
+            long startTime) {
+        if (isSuccessful && numRetries == 0) {
+            return;
+        }
+        log.info(task.getName() + (isSuccessful ? " succeeded" : " failed") + " after " + numRetries + " retries in "
+                + (System.currentTimeMillis() - startTime) + "ms");
     }
 }
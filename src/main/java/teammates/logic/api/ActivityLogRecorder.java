@@ -0,0 +1,39 @@
+package teammates.logic.api;
+
+import java.util.Map;
+
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.HttpRequestHelper;
+import teammates.common.util.Logger;
+
+/**
+ * Records the activities of the requests served for the admin activity log.
+ */
+public class ActivityLogRecorder {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Records the activity described by {@code activityLogMessage} of the request with the given parameters.
+     * Failing to do so does not fail the request.
+     *
+     * <p>In production, the activity is queued to be written by a cron job, so that the request does not wait
+     * for the write. The dev server does not run cron jobs, so the activity is written immediately there.
+     */
+    public void recordActivity(String activityLogMessage, Map<String, String[]> params) {
+        try {
+            String courseId = HttpRequestHelper.getValueFromParamMap(params, Const.ParamsNames.COURSE_ID);
+            long logTime = System.currentTimeMillis();
+            if (Config.isDevServer()) {
+                new Logic().createActivityLog(activityLogMessage, courseId, logTime);
+            } else {
+                new Logic().queueActivityLog(activityLogMessage, courseId, logTime);
+            }
+        } catch (Exception e) {
+            log.warning("Error while recording activity log: " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package teammates.logic.api;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import com.google.appengine.api.log.AppLogLine;
 
@@ -49,6 +50,12 @@ public class EmailGenerator {
     private static final String HTML_NO_ACTION_REQUIRED =
             "<p>No action is required if you have already submitted.</p>" + System.lineSeparator();
 
+    // keys of the values that differ between the recipients of the same session email,
+    // which are left as placeholders in the shared content of the emails
+    private static final String SUBSTITUTION_USER_NAME = "userName";
+    private static final String SUBSTITUTION_SUBMIT_URL = "submitUrl";
+    private static final String SUBSTITUTION_REPORT_URL = "reportUrl";
+
     private static final Logger log = Logger.getLogger();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
@@ -60,7 +67,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionOpeningEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPENING);
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
@@ -71,12 +78,20 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<StudentAttributes>();
 
-        List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                                                                      EmailType.FEEDBACK_OPENING.getSubject());
-        for (EmailWrapper email : emails) {
-            email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
+                                                 EmailType.FEEDBACK_OPENING.getSubject());
+    }
+
+    /**
+     * Generates the feedback session reminder emails for the given {@code session} for the students and
+     * instructors who have not completed the session. In addition, the emails will also be forwarded
+     * to {@code instructorToNotify}.
+     */
+    public List<EmailWrapper> generateFeedbackSessionReminderEmails(
+            FeedbackSessionAttributes session, InstructorAttributes instructorToNotify) {
+        return generateFeedbackSessionReminderEmails(session,
+                fsLogic.getStudentsWhoHaveNotCompletedSession(session),
+                fsLogic.getInstructorsWhoHaveNotCompletedSession(session), instructorToNotify);
     }
 
     /**
@@ -264,7 +279,7 @@ public class EmailGenerator {
                                  .toAbsoluteString();
 
         String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
+                "${userName}", EmailWrapper.getSubstitutionPlaceholder(SUBSTITUTION_USER_NAME),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
@@ -279,6 +294,7 @@ public class EmailGenerator {
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
         email.setContent(emailBody);
+        email.addSubstitution(SUBSTITUTION_USER_NAME, SanitizationHelper.sanitizeForHtml(instructor.name));
         return email;
     }
 
@@ -292,19 +308,11 @@ public class EmailGenerator {
 
         if (isEmailNeeded) {
             List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
+            Set<String> studentsToRemind = fsLogic.getStudentsWhoHaveNotFullyCompletedSession(session);
 
             for (StudentAttributes student : studentsForCourse) {
-                try {
-                    if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
-                        students.add(student);
-                    }
-                } catch (EntityDoesNotExistException e) {
-                    log.severe("Course " + session.getCourseId() + " does not exist or "
-                               + "session " + session.getFeedbackSessionName() + " does not exist");
-                    // Course or session cannot be found for one student => it will be the case for all students
-                    // Do not waste time looping through all students
-                    break;
+                if (studentsToRemind.contains(student.email)) {
+                    students.add(student);
                 }
             }
         }
@@ -441,21 +449,24 @@ public class EmailGenerator {
                                  .toAbsoluteString();
 
         String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
+                "${userName}", EmailWrapper.getSubstitutionPlaceholder(SUBSTITUTION_USER_NAME),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
                 "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
                 "${instructorFragment}", "",
                 "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
+                "${submitUrl}", EmailWrapper.getSubstitutionPlaceholder(SUBSTITUTION_SUBMIT_URL),
+                "${reportUrl}", EmailWrapper.getSubstitutionPlaceholder(SUBSTITUTION_REPORT_URL),
                 "${feedbackAction}", feedbackAction,
                 "${additionalContactInformation}", additionalContactInformation);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
         email.setContent(emailBody);
+        email.addSubstitution(SUBSTITUTION_USER_NAME, SanitizationHelper.sanitizeForHtml(student.name));
+        email.addSubstitution(SUBSTITUTION_SUBMIT_URL, submitUrl);
+        email.addSubstitution(SUBSTITUTION_REPORT_URL, reportUrl);
         return email;
     }
 
@@ -481,7 +492,7 @@ public class EmailGenerator {
         String instructorFragment = generateInstructorPreamble(course.getId(), course.getName());
 
         String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
+                "${userName}", EmailWrapper.getSubstitutionPlaceholder(SUBSTITUTION_USER_NAME),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
@@ -496,6 +507,7 @@ public class EmailGenerator {
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
         email.setContent(emailBody);
+        email.addSubstitution(SUBSTITUTION_USER_NAME, SanitizationHelper.sanitizeForHtml(instructor.name));
         return email;
     }
 
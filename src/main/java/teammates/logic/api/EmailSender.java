@@ -46,6 +46,23 @@ public class EmailSender {
         log.info(emailLogInfo);
     }
 
+    /**
+     * Sends the given batch of {@code messages} and generates a log report for each message sent.
+     *
+     * @return the messages that failed to be sent
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> messages) {
+        List<EmailWrapper> failedMessages = service.sendEmails(messages);
+
+        for (EmailWrapper message : messages) {
+            if (!failedMessages.contains(message)) {
+                EmailLogEntry newEntry = new EmailLogEntry(message);
+                log.info(newEntry.generateLogMessage());
+            }
+        }
+        return failedMessages;
+    }
+
     /**
      * Sends the given {@code message} with Javamail service regardless of configuration.
      */
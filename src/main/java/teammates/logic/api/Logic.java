@@ -1,16 +1,24 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import com.google.appengine.api.blobstore.BlobKey;
 
+import teammates.common.datatransfer.ActivityLogsPage;
+import teammates.common.datatransfer.CourseDeletionStatus;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.FeedbackSessionCopyResult;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
@@ -40,6 +48,7 @@ import teammates.common.exception.JoinCourseException;
 import teammates.common.util.Assumption;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.ActivityLogsLogic;
 import teammates.logic.core.AdminEmailsLogic;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
@@ -68,6 +77,7 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final ActivityLogsLogic activityLogsLogic = ActivityLogsLogic.inst();
 
     /**
      * Preconditions: <br>
@@ -79,6 +89,18 @@ public class Logic {
         return accountsLogic.getAccount(googleId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null and no Google ID is empty.
+     *
+     * @see AccountsLogic#getAccounts(Collection)
+     */
+    public Map<String, AccountAttributes> getAccounts(Collection<String> googleIds) {
+        Assumption.assertNotNull(googleIds);
+
+        return accountsLogic.getAccounts(googleIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -338,6 +360,20 @@ public class Logic {
         return instructorsLogic.getInstructorsForCourse(courseId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see InstructorsLogic#getInstructorsForCoursesAsync(Collection)
+     */
+    public Supplier<Map<String, List<InstructorAttributes>>> getInstructorsForCoursesAsync(
+            Collection<String> courseIds) {
+
+        Assumption.assertNotNull(courseIds);
+
+        return instructorsLogic.getInstructorsForCoursesAsync(courseIds);
+    }
+
     /**
      * Get the encrypted registration key for the instructor.
      * Preconditions: <br>
@@ -499,6 +535,18 @@ public class Logic {
         return coursesLogic.getCourse(courseId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the courses that exist among the given course IDs.
+     */
+    public List<CourseAttributes> getCourses(List<String> courseIds) {
+
+        Assumption.assertNotNull(courseIds);
+
+        return coursesLogic.getCourses(courseIds);
+    }
+
     /**
      * Returns a detailed version of course data. <br>
      * Preconditions: <br>
@@ -520,6 +568,19 @@ public class Logic {
         return coursesLogic.getCourseSummaryWithFeedbackSessionsForInstructor(instructor);
     }
 
+    /**
+     * Returns the course data, including feedback sessions, of the courses of the instructors passed in.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see CoursesLogic#getCourseSummariesWithFeedbackSessionsForInstructor(List)
+     */
+    public Map<String, CourseSummaryBundle> getCourseSummariesWithFeedbackSessions(
+            List<InstructorAttributes> instructorList) {
+        Assumption.assertNotNull(instructorList);
+        return coursesLogic.getCourseSummariesWithFeedbackSessionsForInstructor(instructorList);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -677,6 +738,46 @@ public class Logic {
         coursesLogic.deleteAllCoursesCascade(instructorList);
     }
 
+    /**
+     * Starts the permanent deletion of a course in Recycle Bin and all data related to the course,
+     * which is carried out by {@link #continueCourseDeletion(String, Instant)} until it is done. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return false if the deletion of the course has already been started
+     * @see CoursesLogic#startCourseDeletion(String, Runnable)
+     */
+    public boolean startCourseDeletion(String courseId, Runnable scheduleDeletion) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(scheduleDeletion);
+        return coursesLogic.startCourseDeletion(courseId, scheduleDeletion);
+    }
+
+    /**
+     * Continues the permanent deletion of a course until it is done or {@code stopTime} is passed. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return true if the deletion is done
+     */
+    public boolean continueCourseDeletion(String courseId, Instant stopTime) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(stopTime);
+        return coursesLogic.continueCourseDeletion(courseId, stopTime);
+    }
+
+    /**
+     * Gets the progress of the permanent deletion of those of the given courses which are being deleted. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return a map of course ID to the progress, which has no entries for the courses not being deleted
+     */
+    public Map<String, CourseDeletionStatus> getCourseDeletionStatuses(List<String> courseIds) {
+        Assumption.assertNotNull(courseIds);
+        return coursesLogic.getCourseDeletionStatuses(courseIds);
+    }
+
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      * All data related will not be deleted.
@@ -697,12 +798,15 @@ public class Logic {
     }
 
     /**
-     * Restores all courses and all data related to these courses from Recycle Bin.
+     * Restores all courses and all data related to these courses from Recycle Bin,
+     * except those whose permanent deletion has been started.
+     *
+     * @return the IDs of the courses which are not restored as they are being permanently deleted
      */
-    public void restoreAllCoursesFromRecycleBin(List<InstructorAttributes> instructorList)
+    public List<String> restoreAllCoursesFromRecycleBin(List<InstructorAttributes> instructorList)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(instructorList);
-        coursesLogic.restoreAllCoursesFromRecycleBin(instructorList);
+        return coursesLogic.restoreAllCoursesFromRecycleBin(instructorList);
     }
 
     /**
@@ -1084,6 +1188,29 @@ public class Logic {
                 feedbackSessionName, courseId, instructorEmail);
     }
 
+    /**
+     * Copies a feedback session and its questions to as many of the given courses as one batched write allows.
+     * The copy is to be continued with the courses in {@link FeedbackSessionCopyResult#getRemainingCourseIds()}.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#copyFeedbackSessionToCourses(String, List, String, String, String)
+     */
+    public FeedbackSessionCopyResult copyFeedbackSessionToCourses(String newFeedbackSessionName,
+            List<String> newCourseIds, String feedbackSessionName, String courseId, String instructorEmail)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        Assumption.assertNotNull(newFeedbackSessionName);
+        Assumption.assertNotNull(newCourseIds);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(instructorEmail);
+
+        return feedbackSessionsLogic.copyFeedbackSessionToCourses(newFeedbackSessionName, newCourseIds,
+                feedbackSessionName, courseId, instructorEmail);
+    }
+
     /**
      * Gets a feedback session from the data storage.
      *
@@ -1100,6 +1227,21 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the IDs of those of the given courses which have a session named {@code feedbackSessionName},
+     * including a session in the Recycle Bin.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     */
+    public Set<String> getCourseIdsWithFeedbackSession(String feedbackSessionName, Collection<String> courseIds) {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseIds);
+
+        return feedbackSessionsLogic.getCourseIdsWithFeedbackSession(feedbackSessionName, courseIds);
+    }
+
     /**
      * Gets a feedback session from the recycle bin.
      *
@@ -1124,6 +1266,18 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#getFeedbackSessionsForCoursesAsync(Collection)
+     */
+    public Supplier<Map<String, List<FeedbackSessionAttributes>>> getFeedbackSessionsForCoursesAsync(
+            Collection<String> courseIds) {
+        Assumption.assertNotNull(courseIds);
+        return feedbackSessionsLogic.getFeedbackSessionsForCoursesAsync(courseIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1281,6 +1435,28 @@ public class Logic {
                 questionId, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments), optionally within a section, in CSV format
+     * to {@code writer} one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters(except section and questionId) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String,
+     *      String, String, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryInSectionAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail,
+            String section, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer) throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section,
+                questionId, isMissingResponsesShown, isStatsShown, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1817,6 +1993,21 @@ public class Logic {
         feedbackResponsesLogic.updateFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Updates the given responses with batched reads and writes.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null and all responses have IDs.
+     *
+     * @see FeedbackResponsesLogic#updateFeedbackResponses(List)
+     */
+    public void updateFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.updateFeedbackResponses(feedbackResponses);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1826,6 +2017,17 @@ public class Logic {
         feedbackResponsesLogic.deleteFeedbackResponseAndCascade(feedbackResponse);
     }
 
+    /**
+     * Deletes the given responses and their comments with batched deletes.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void deleteFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses) {
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.deleteFeedbackResponsesAndCascade(feedbackResponses);
+    }
+
     /**
      * Create a feedback response comment, and return the created comment
      * Preconditions: <br>
@@ -2035,6 +2237,71 @@ public class Logic {
         adminEmailsLogic.deleteAdminEmailUploadedFile(key);
     }
 
+    /**
+     * Records the activity described by the given activity log message. <br>
+     * Preconditions: <br>
+     * * {@code logMessage} is non-null.
+     *
+     * @see ActivityLogsLogic#createActivityLog(String, String, long)
+     */
+    public void createActivityLog(String logMessage, String courseId, long logTime) {
+        Assumption.assertNotNull(logMessage);
+        activityLogsLogic.createActivityLog(logMessage, courseId, logTime);
+    }
+
+    /**
+     * Queues the activity described by the given activity log message to be recorded later. <br>
+     * Preconditions: <br>
+     * * {@code logMessage} is non-null.
+     *
+     * @see ActivityLogsLogic#queueActivityLog(String, String, long)
+     */
+    public void queueActivityLog(String logMessage, String courseId, long logTime) {
+        Assumption.assertNotNull(logMessage);
+        activityLogsLogic.queueActivityLog(logMessage, courseId, logTime);
+    }
+
+    /**
+     * Records the queued activities, starting no batch of them after {@code stopTime}. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the number of activities recorded
+     * @see ActivityLogsLogic#writeQueuedActivityLogs(Instant)
+     */
+    public int writeQueuedActivityLogs(Instant stopTime) {
+        Assumption.assertNotNull(stopTime);
+        return activityLogsLogic.writeQueuedActivityLogs(stopTime);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * {@code versions} is non-null.
+     *
+     * @see ActivityLogsLogic#getActivityLogs(long, long, String, List, List, List, String, String, boolean, int)
+     */
+    public ActivityLogsPage getActivityLogs(long startTime, long endTime, String cursor, List<String> versions,
+            List<String> actionNames, List<String> userRoles, String userIdentifier, String courseId,
+            boolean isTestingDataIncluded, int limit) {
+        Assumption.assertNotNull(versions);
+        return activityLogsLogic.getActivityLogs(startTime, endTime, cursor, versions, actionNames, userRoles,
+                userIdentifier, courseId, isTestingDataIncluded, limit);
+    }
+
+    /**
+     * Continues deleting the activity log entries logged in the hours before the hour of {@code time}. <br>
+     * Preconditions: <br>
+     * * {@code time} and {@code stopTime} are non-null.
+     *
+     * @return the cursor to continue the deletion from, or null if the deletion is done
+     * @see ActivityLogsLogic#continueActivityLogsDeletion(Instant, String, Instant)
+     */
+    public String continueActivityLogsDeletion(Instant time, String cursor, Instant stopTime) {
+        Assumption.assertNotNull(time);
+        Assumption.assertNotNull(stopTime);
+        return activityLogsLogic.continueActivityLogsDeletion(time, cursor, stopTime);
+    }
+
     /**
      * Deletes uploaded file.
      * @param key the GCS blobkey used to fetch the file in Google Cloud Storage
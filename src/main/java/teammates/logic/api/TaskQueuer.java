@@ -1,5 +1,8 @@
 package teammates.logic.api;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +13,7 @@ import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.SanitizationHelper;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.core.TaskQueuesLogic;
 
@@ -20,6 +24,14 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_EMAILS_PER_TASK = 20;
+
+    /**
+     * Maximum total size of the URL-encoded parameters of the emails carried by a task,
+     * leaving 10 KB of the push task size limit for the worker URL and the headers of the task.
+     */
+    private static final int MAX_EMAIL_PARAMS_SIZE_PER_TASK = TaskQueuesLogic.getMaxPushTaskSizeBytes() - 10 * 1024;
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -44,6 +56,12 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
+    protected void addDeferredTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap,
+                                                long countdownTime) {
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);
+        new TaskQueuesLogic().addDeferredTask(task, countdownTime);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -281,6 +299,56 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for the activity log entries logged in the hours before the hour of {@code time} to be deleted.
+     *
+     * @param cursor the cursor to continue the deletion from, or null to start the deletion
+     */
+    public void scheduleActivityLogsDeletion(Instant time, String cursor) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.ACTIVITY_LOGS_DELETION_TIME, String.valueOf(time.toEpochMilli()));
+        if (cursor != null) {
+            paramMap.put(ParamsNames.ACTIVITY_LOGS_DELETION_CURSOR, cursor);
+        }
+
+        addTask(TaskQueue.ACTIVITY_LOGS_DELETION_QUEUE_NAME, TaskQueue.ACTIVITY_LOGS_DELETION_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules for the permanent deletion of a course to be continued from its last checkpoint.
+     *
+     * @param courseId the ID of the course being deleted
+     */
+    public void scheduleCourseDeletion(String courseId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+
+        addTask(TaskQueue.COURSE_DELETION_QUEUE_NAME, TaskQueue.COURSE_DELETION_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules for a feedback session to be copied to the given courses,
+     * after its copy to the other courses selected by the instructor.
+     *
+     * @param newFeedbackSessionName the name of the copies
+     * @param newCourseIds the IDs of the courses to copy the session to
+     * @param feedbackSessionName the name of the session to copy
+     * @param courseId the course ID of the session to copy
+     * @param instructorEmail the email of the instructor making the copies, in the course of the session to copy
+     */
+    public void scheduleFeedbackSessionCopy(String newFeedbackSessionName, List<String> newCourseIds,
+            String feedbackSessionName, String courseId, String instructorEmail) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COPIED_FEEDBACK_SESSION_NAME, new String[] { newFeedbackSessionName });
+        paramMap.put(ParamsNames.COPIED_COURSES_ID, newCourseIds.toArray(new String[0]));
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, new String[] { feedbackSessionName });
+        paramMap.put(ParamsNames.COURSE_ID, new String[] { courseId });
+        paramMap.put(ParamsNames.INSTRUCTOR_EMAIL, new String[] { instructorEmail });
+
+        addTaskMultisetParam(TaskQueue.FEEDBACK_SESSION_COPY_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_COPY_WORKER_URL, paramMap);
+    }
+
     public void scheduleUpdateRespondentForSession(
             String courseId, String feedbackSessionName, String email, boolean isInstructor, boolean isToBeRemoved) {
         Map<String, String> paramMap = new HashMap<>();
@@ -297,6 +365,9 @@ public class TaskQueuer {
     /**
      * Schedules for the given list of emails to be sent.
      *
+     * <p>The emails are grouped into batches, each of which is sent by a single task,
+     * so that sending to a large course does not need a task per recipient.</p>
+     *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
@@ -304,45 +375,123 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
+        List<List<EmailWrapper>> batches = splitIntoBatches(emails);
+
+        // Equally spread out the batches to be sent over 1 hour
         // Sets interval to a maximum of 5 seconds if the interval is too large
         int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        int batchIntervalMillis = Math.min(5000, oneHourInMillis / batches.size());
+
+        int numberOfBatchesSent = 0;
+        for (List<EmailWrapper> batch : batches) {
+            long batchDelayTimer = numberOfBatchesSent * batchIntervalMillis;
+            scheduleEmailBatchForSending(batch, batchDelayTimer);
+            numberOfBatchesSent++;
+        }
+    }
 
-        int numberOfEmailsSent = 0;
+    /**
+     * Schedules for each of the given emails to be sent by a task of its own,
+     * e.g. when retrying the emails of a batch that failed to be sent.
+     *
+     * @param emails the list of emails to be sent
+     */
+    public void scheduleEmailsForIndividualSending(List<EmailWrapper> emails) {
         for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+            scheduleEmailBatchForSending(Collections.singletonList(email), 0);
         }
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
-        try {
-            Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
+    /**
+     * Splits the emails into batches of at most {@link #MAX_EMAILS_PER_TASK} emails
+     * whose parameters take at most {@link #MAX_EMAIL_PARAMS_SIZE_PER_TASK} bytes once URL-encoded.
+     */
+    private static List<List<EmailWrapper>> splitIntoBatches(List<EmailWrapper> emails) {
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        List<EmailWrapper> currentBatch = new ArrayList<>();
+        int currentBatchParamsSize = 0;
+        for (EmailWrapper email : emails) {
+            int paramsSize = getEncodedParamsSize(email);
+            if (!currentBatch.isEmpty() && (currentBatch.size() == MAX_EMAILS_PER_TASK
+                    || currentBatchParamsSize + paramsSize > MAX_EMAIL_PARAMS_SIZE_PER_TASK)) {
+                batches.add(currentBatch);
+                currentBatch = new ArrayList<>();
+                currentBatchParamsSize = 0;
             }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
+            currentBatch.add(email);
+            currentBatchParamsSize += paramsSize;
+        }
+        batches.add(currentBatch);
+        return batches;
+    }
+
+    /**
+     * Gets the size in bytes of the parameters of an email in a task, which are URL-encoded
+     * as {@code name=value&} into the payload of the task.
+     */
+    private static int getEncodedParamsSize(EmailWrapper email) {
+        return getEncodedParamSize(ParamsNames.EMAIL_SUBJECT, email.getSubject())
+                + getEncodedParamSize(ParamsNames.EMAIL_CONTENT, email.getSharedContent())
+                + getEncodedParamSize(ParamsNames.EMAIL_SUBSTITUTIONS, JsonUtils.toJson(email.getSubstitutions()))
+                + getEncodedParamSize(ParamsNames.EMAIL_SENDER, email.getSenderEmail())
+                + getEncodedParamSize(ParamsNames.EMAIL_SENDERNAME, email.getSenderName())
+                + getEncodedParamSize(ParamsNames.EMAIL_RECEIVER, email.getRecipient())
+                + getEncodedParamSize(ParamsNames.EMAIL_REPLY_TO_ADDRESS, email.getReplyTo());
+    }
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
+    private static int getEncodedParamSize(String name, String value) {
+        int encodedValueSize = value == null ? 0 : SanitizationHelper.sanitizeForUri(value).length();
+        return SanitizationHelper.sanitizeForUri(name).length() + encodedValueSize + 2;
+    }
+
+    private void scheduleEmailBatchForSending(List<EmailWrapper> batch, long batchDelayTimer) {
+        int batchSize = batch.size();
+        String[] emailSubjects = new String[batchSize];
+        String[] emailContents = new String[batchSize];
+        String[] emailSubstitutions = new String[batchSize];
+        String[] emailSenders = new String[batchSize];
+        String[] emailSenderNames = new String[batchSize];
+        String[] emailReceivers = new String[batchSize];
+        String[] emailReplyToAddresses = new String[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            EmailWrapper email = batch.get(i);
+            emailSubjects[i] = email.getSubject();
+            emailContents[i] = email.getSharedContent();
+            emailSubstitutions[i] = JsonUtils.toJson(email.getSubstitutions());
+            emailSenders[i] = email.getSenderEmail();
+            // sender name is optional, but every email must have a value to keep the parameters aligned
+            emailSenderNames[i] = email.getSenderName() == null ? "" : email.getSenderName();
+            emailReceivers[i] = email.getRecipient();
+            emailReplyToAddresses[i] = email.getReplyTo();
+        }
+
+        try {
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubjects);
+            paramMap.put(ParamsNames.EMAIL_CONTENT, emailContents);
+            paramMap.put(ParamsNames.EMAIL_SUBSTITUTIONS, emailSubstitutions);
+            paramMap.put(ParamsNames.EMAIL_SENDER, emailSenders);
+            paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderNames);
+            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceivers);
+            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddresses);
+
+            addDeferredTaskMultisetParam(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                                         paramMap, batchDelayTimer);
         } catch (Exception e) {
+            if (batchSize > 1) {
+                log.warning("Error when adding batch of " + batchSize + " emails to task queue: " + e.getMessage()
+                            + "\nScheduling the emails individually instead.");
+                for (int i = 0; i < batchSize; i++) {
+                    scheduleEmailBatchForSending(Collections.singletonList(batch.get(i)), batchDelayTimer);
+                }
+                return;
+            }
             log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+                       + "Email sender: " + emailSenders[0] + "\n"
+                       + "Email sender name: " + emailSenderNames[0] + "\n"
+                       + "Email receiver: " + emailReceivers[0] + "\n"
+                       + "Email subject: " + emailSubjects[0] + "\n"
+                       + "Email reply-to address: " + emailReplyToAddresses[0]);
         }
     }
 
@@ -165,11 +165,12 @@ public class BackDoorLogic extends Logic {
         }
 
         Map<String, FeedbackResponseCommentAttributes> responseComments = dataBundle.feedbackResponseComments;
+        List<FeedbackResponseCommentAttributes> responseCommentsInDb = new ArrayList<>();
         for (FeedbackResponseCommentAttributes responseComment : responseComments.values()) {
-            FeedbackResponseCommentAttributes fcInDb = fcDb.getFeedbackResponseComment(
-                    responseComment.courseId, responseComment.createdAt, responseComment.commentGiver);
-            fcDb.putDocument(fcInDb);
+            responseCommentsInDb.add(fcDb.getFeedbackResponseComment(
+                    responseComment.courseId, responseComment.createdAt, responseComment.commentGiver));
         }
+        fcDb.putDocuments(responseCommentsInDb);
 
         return Const.StatusCodes.BACKDOOR_STATUS_SUCCESS;
     }
@@ -597,6 +598,8 @@ public class BackDoorLogic extends Logic {
     public void uploadAndUpdateStudentProfilePicture(String googleId,
             byte[] pictureData) throws EntityDoesNotExistException, IOException {
         String pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(googleId, pictureData);
+        // the picture itself is served in place of the thumbnail, which would be outdated
+        GoogleCloudStorageHelper.deleteThumbnail(googleId);
         updateStudentProfilePicture(googleId, pictureKey);
     }
 
@@ -1,6 +1,8 @@
 package teammates.logic.core;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -60,6 +62,15 @@ public final class AccountsLogic {
         return accountsDb.getAccount(googleId);
     }
 
+    /**
+     * Returns the accounts of the given Google IDs, fetched in a single batched lookup.
+     *
+     * @return a map of Google ID to account, excluding the Google IDs without an account
+     */
+    public Map<String, AccountAttributes> getAccounts(Collection<String> googleIds) {
+        return accountsDb.getAccounts(googleIds);
+    }
+
     public boolean isAccountPresent(String googleId) {
         return accountsDb.getAccount(googleId) != null;
     }
@@ -0,0 +1,210 @@
+package teammates.logic.core;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import com.google.appengine.api.taskqueue.TaskHandle;
+
+import teammates.common.datatransfer.ActivityLogsPage;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.GaeVersionApi;
+import teammates.common.util.JsonUtils;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.storage.api.EntitiesDb;
+
+/**
+ * Handles operations related to the entries of the admin activity log.
+ *
+ * @see ActivityLogEntry
+ * @see ActivityLogsDb
+ */
+public final class ActivityLogsLogic {
+
+    private static ActivityLogsLogic instance = new ActivityLogsLogic();
+
+    /**
+     * The maximum number of queued activities recorded with one batched write,
+     * within the limit of entities the Datastore allows to be written at once.
+     */
+    private static final int MAX_ACTIVITY_LOGS_PER_WRITE = 500;
+
+    /**
+     * The time for which queued activities are leased to be recorded, after which they are recorded by
+     * a later write if they are still queued.
+     */
+    private static final Duration QUEUED_ACTIVITY_LOG_LEASE_PERIOD = Duration.ofMinutes(2);
+
+    private static final int DELETION_PAGE_SIZE = 500;
+
+    private static final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    private static final TaskQueuesLogic taskQueuesLogic = new TaskQueuesLogic();
+
+    private ActivityLogsLogic() {
+        // prevent initialization
+    }
+
+    public static ActivityLogsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Records the activity described by {@code logMessage}, logged at {@code logTime} by the current app version.
+     *
+     * <p>The log message is in the form generated by {@link ActivityLogEntry#generateLogMessage()},
+     * optionally followed by the time taken. Messages not in this form and the activities of viewing or
+     * writing the activity log itself are not recorded.
+     *
+     * @param courseId the ID of the course the request was for, or null if it was not for a course
+     */
+    public void createActivityLog(String logMessage, String courseId, long logTime) {
+        Assumption.assertNotNull(logMessage);
+
+        ActivityLogEntry entry = buildRecordedEntry(logMessage, logTime);
+        if (entry == null) {
+            return;
+        }
+
+        String version = new GaeVersionApi().getCurrentVersion().toStringWithDashes();
+        activityLogsDb.createActivityLog(entry, courseId, version);
+    }
+
+    /**
+     * Queues the activity described by {@code logMessage}, logged at {@code logTime} by the current app version,
+     * to be recorded in a batch by {@link #writeQueuedActivityLogs(Instant)}. The activity is queued without waiting
+     * for the task queue, so that the request it is logged for is not delayed by it.
+     *
+     * <p>The activities which are recorded are the same as {@link #createActivityLog(String, String, long)}.
+     *
+     * @param courseId the ID of the course the request was for, or null if it was not for a course
+     */
+    public void queueActivityLog(String logMessage, String courseId, long logTime) {
+        Assumption.assertNotNull(logMessage);
+
+        if (buildRecordedEntry(logMessage, logTime) == null) {
+            return;
+        }
+
+        String version = new GaeVersionApi().getCurrentVersion().toStringWithDashes();
+        String payload = JsonUtils.toJson(new QueuedActivityLog(logMessage, courseId, logTime, version));
+        taskQueuesLogic.addPullTaskAsync(TaskQueue.ACTIVITY_LOG_QUEUE_NAME, payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Records the activities queued by {@link #queueActivityLog(String, String, long)},
+     * up to {@link #MAX_ACTIVITY_LOGS_PER_WRITE} entries with each batched write.
+     * No batch is started after {@code stopTime}.
+     *
+     * <p>The activities are removed from the queue only after they are recorded, so that the activities of
+     * a write which fails are recorded by a later one.
+     *
+     * @return the number of entries recorded
+     */
+    public int writeQueuedActivityLogs(Instant stopTime) {
+        Assumption.assertNotNull(stopTime);
+
+        int numberOfEntriesWritten = 0;
+        List<TaskHandle> tasks;
+        do {
+            tasks = taskQueuesLogic.leasePullTasks(TaskQueue.ACTIVITY_LOG_QUEUE_NAME, QUEUED_ACTIVITY_LOG_LEASE_PERIOD,
+                                                   MAX_ACTIVITY_LOGS_PER_WRITE);
+            if (tasks.isEmpty()) {
+                break;
+            }
+            for (TaskHandle task : tasks) {
+                QueuedActivityLog queuedLog = JsonUtils.fromJson(
+                        new String(task.getPayload(), StandardCharsets.UTF_8), QueuedActivityLog.class);
+                ActivityLogEntry entry = ActivityLogEntry.buildFromLogMessage(queuedLog.logMessage, queuedLog.logTime);
+                activityLogsDb.createActivityLogDeferred(entry, queuedLog.courseId, queuedLog.version);
+            }
+            EntitiesDb.flush();
+            taskQueuesLogic.deletePullTasks(TaskQueue.ACTIVITY_LOG_QUEUE_NAME, tasks);
+            numberOfEntriesWritten += tasks.size();
+        } while (tasks.size() == MAX_ACTIVITY_LOGS_PER_WRITE && Instant.now().isBefore(stopTime));
+
+        return numberOfEntriesWritten;
+    }
+
+    /**
+     * Gets the page of at most {@code limit} of the latest activity log entries logged within the given time period,
+     * latest first.
+     *
+     * @see ActivityLogsDb#getActivityLogs(long, long, String, List, List, List, String, String, boolean, int)
+     */
+    public ActivityLogsPage getActivityLogs(long startTime, long endTime, String cursor, List<String> versions,
+            List<String> actionNames, List<String> userRoles, String userIdentifier, String courseId,
+            boolean isTestingDataIncluded, int limit) {
+        Assumption.assertNotNull(versions);
+
+        return activityLogsDb.getActivityLogs(startTime, endTime, cursor, versions, actionNames, userRoles,
+                userIdentifier, courseId, isTestingDataIncluded, limit);
+    }
+
+    /**
+     * Deletes the activity log entries logged in the hours before the hour of {@code time}.
+     */
+    public void deleteActivityLogsBefore(Instant time) {
+        Assumption.assertNotNull(time);
+
+        activityLogsDb.deleteActivityLogsBefore(time);
+    }
+
+    /**
+     * Continues deleting the activity log entries logged in the hours before the hour of {@code time}
+     * from {@code cursor}, one page at a time. At least one page is deleted, and no page is started
+     * after {@code stopTime}.
+     *
+     * @param cursor the cursor to continue from as returned by the previous call, or null to start the deletion
+     * @return the cursor to continue the deletion from, or null if the deletion is done
+     */
+    public String continueActivityLogsDeletion(Instant time, String cursor, Instant stopTime) {
+        Assumption.assertNotNull(time);
+        Assumption.assertNotNull(stopTime);
+
+        String nextCursor = cursor;
+        do {
+            nextCursor = activityLogsDb.deleteActivityLogsPageBefore(time, nextCursor, DELETION_PAGE_SIZE).getNextCursor();
+        } while (nextCursor != null && Instant.now().isBefore(stopTime));
+
+        return nextCursor;
+    }
+
+    /**
+     * Builds the entry of the activity described by {@code logMessage}, or returns null if it is not recorded.
+     */
+    private ActivityLogEntry buildRecordedEntry(String logMessage, long logTime) {
+        if (!logMessage.startsWith(Const.ActivityLog.TEAMMATESLOG)) {
+            return null;
+        }
+
+        ActivityLogEntry entry = ActivityLogEntry.buildFromLogMessage(logMessage, logTime);
+        boolean isRecorded = !Const.ActionURIs.ADMIN_ACTIVITY_LOG_PAGE.endsWith("/" + entry.getActionName())
+                && !Const.ActionURIs.AUTOMATED_ACTIVITY_LOGS_WRITE.endsWith("/" + entry.getActionName());
+        return isRecorded ? entry : null;
+    }
+
+    /**
+     * The activity carried by a task of the activity log queue.
+     */
+    private static class QueuedActivityLog {
+
+        private final String logMessage;
+        private final String courseId;
+        private final long logTime;
+        private final String version;
+
+        QueuedActivityLog(String logMessage, String courseId, long logTime, String version) {
+            this.logMessage = logMessage;
+            this.courseId = courseId;
+            this.logTime = logTime;
+            this.version = version;
+        }
+
+    }
+
+}
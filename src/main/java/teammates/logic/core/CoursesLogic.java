@@ -5,13 +5,16 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CourseDeletionStatus;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseSummaryBundle;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.SectionDetailsBundle;
@@ -31,6 +34,7 @@ import teammates.common.util.FieldValidator;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.CourseDeletionsDb;
 import teammates.storage.api.CoursesDb;
 
 /**
@@ -54,8 +58,21 @@ public final class CoursesLogic {
      */
 
     private static final CoursesDb coursesDb = new CoursesDb();
+    private static final CourseDeletionsDb courseDeletionsDb = new CourseDeletionsDb();
+
+    /**
+     * The maximum number of entities deleted with each page of the permanent deletion of a course.
+     */
+    private static final int DELETION_PAGE_SIZE = 500;
+
+    private static final String ERROR_RESTORE_COURSE_BEING_DELETED =
+            "The course %s is being permanently deleted, and cannot be restored.";
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private static final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic =
+            FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -118,6 +135,14 @@ public final class CoursesLogic {
         return coursesDb.getCourse(courseId);
     }
 
+    /**
+     * Gets the courses with the specified IDs with a single batched lookup.
+     * Courses that do not exist are omitted.
+     */
+    public List<CourseAttributes> getCourses(List<String> courseIds) {
+        return coursesDb.getCourses(courseIds);
+    }
+
     /**
      * Returns true if the course with ID courseId is present.
      */
@@ -237,63 +262,7 @@ public final class CoursesLogic {
     public List<SectionDetailsBundle> getSectionsForCourse(CourseAttributes course, CourseDetailsBundle cdd) {
         Assumption.assertNotNull("Course is null", course);
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(course.getId());
-        StudentAttributes.sortBySectionName(students);
-
-        List<SectionDetailsBundle> sections = new ArrayList<>();
-
-        SectionDetailsBundle section = null;
-        int teamIndexWithinSection = 0;
-
-        for (int i = 0; i < students.size(); i++) {
-
-            StudentAttributes s = students.get(i);
-            cdd.stats.studentsTotal++;
-            if (!s.isRegistered()) {
-                cdd.stats.unregisteredTotal++;
-            }
-
-            if (section == null) { // First student of first section
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                cdd.stats.teamsTotal++;
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            } else if (s.section.equals(section.name)) {
-                if (s.team.equals(section.teams.get(teamIndexWithinSection).name)) {
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                } else {
-                    teamIndexWithinSection++;
-                    section.teams.add(new TeamDetailsBundle());
-                    cdd.stats.teamsTotal++;
-                    section.teams.get(teamIndexWithinSection).name = s.team;
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                }
-            } else { // first student of subsequent section
-                sections.add(section);
-                if (!section.name.equals(Const.DEFAULT_SECTION)) {
-                    cdd.stats.sectionsTotal++;
-                }
-                teamIndexWithinSection = 0;
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                cdd.stats.teamsTotal++;
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            }
-
-            boolean isLastStudent = i == students.size() - 1;
-            if (isLastStudent) {
-                sections.add(section);
-                if (!section.name.equals(Const.DEFAULT_SECTION)) {
-                    cdd.stats.sectionsTotal++;
-                }
-            }
-        }
-
-        return sections;
+        return buildSections(studentsLogic.getStudentsForCourse(course.getId()), cdd);
     }
 
     /**
@@ -304,45 +273,48 @@ public final class CoursesLogic {
 
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
+        return buildSections(studentsLogic.getStudentsForCourse(courseId), null);
+    }
+
+    /**
+     * Groups the students of a course into sections and teams in a single pass over the students
+     * sorted by section and team.
+     *
+     * @param cdd if not null, its stats are updated with the totals of the course
+     */
+    private List<SectionDetailsBundle> buildSections(List<StudentAttributes> students, CourseDetailsBundle cdd) {
         StudentAttributes.sortBySectionName(students);
 
         List<SectionDetailsBundle> sections = new ArrayList<>();
-
         SectionDetailsBundle section = null;
-        int teamIndexWithinSection = 0;
-
-        for (int i = 0; i < students.size(); i++) {
-            StudentAttributes s = students.get(i);
+        TeamDetailsBundle team = null;
 
-            if (section == null) { // First student of first section
+        for (StudentAttributes s : students) {
+            if (section == null || !s.section.equals(section.name)) {
                 section = new SectionDetailsBundle();
                 section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            } else if (s.section.equals(section.name)) {
-                if (s.team.equals(section.teams.get(teamIndexWithinSection).name)) {
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                } else {
-                    teamIndexWithinSection++;
-                    section.teams.add(new TeamDetailsBundle());
-                    section.teams.get(teamIndexWithinSection).name = s.team;
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                }
-            } else { // first student of subsequent section
                 sections.add(section);
-                teamIndexWithinSection = 0;
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
+                team = null;
+                if (cdd != null && !section.name.equals(Const.DEFAULT_SECTION)) {
+                    cdd.stats.sectionsTotal++;
+                }
             }
 
-            boolean isLastStudent = i == students.size() - 1;
-            if (isLastStudent) {
-                sections.add(section);
+            if (team == null || !s.team.equals(team.name)) {
+                team = new TeamDetailsBundle();
+                team.name = s.team;
+                section.teams.add(team);
+                if (cdd != null) {
+                    cdd.stats.teamsTotal++;
+                }
+            }
+
+            team.students.add(s);
+            if (cdd != null) {
+                cdd.stats.studentsTotal++;
+                if (!s.isRegistered()) {
+                    cdd.stats.unregisteredTotal++;
+                }
             }
         }
 
@@ -402,8 +374,12 @@ public final class CoursesLogic {
     public CourseDetailsBundle getCourseSummary(CourseAttributes cd) {
         Assumption.assertNotNull("Supplied parameter was null", cd);
 
+        return getCourseSummary(cd, studentsLogic.getStudentsForCourse(cd.getId()));
+    }
+
+    private CourseDetailsBundle getCourseSummary(CourseAttributes cd, List<StudentAttributes> students) {
         CourseDetailsBundle cdd = new CourseDetailsBundle(cd);
-        cdd.sections = (ArrayList<SectionDetailsBundle>) getSectionsForCourse(cd, cdd);
+        cdd.sections = (ArrayList<SectionDetailsBundle>) buildSections(students, cdd);
 
         return cdd;
     }
@@ -433,6 +409,43 @@ public final class CoursesLogic {
         return courseSummary;
     }
 
+    /**
+     * Returns the {@link CourseSummaryBundle course summaries}, including their feedback sessions,
+     * of the courses of the given instructors, except for courses in Recycle Bin.
+     *
+     * <p>The courses are read in one batch and the sessions of all courses are queried together.
+     *
+     * @return Map with courseId as key, in the order of the given instructors
+     */
+    public Map<String, CourseSummaryBundle> getCourseSummariesWithFeedbackSessionsForInstructor(
+            List<InstructorAttributes> instructorList) {
+        Assumption.assertNotNull("Supplied parameter was null", instructorList);
+
+        List<String> courseIdList = instructorList.stream()
+                .map(InstructorAttributes::getCourseId)
+                .collect(Collectors.toList());
+
+        Map<String, CourseAttributes> courses = new HashMap<>();
+        for (CourseAttributes course : coursesDb.getCourses(courseIdList)) {
+            if (!course.isCourseDeleted()) {
+                courses.put(course.getId(), course);
+            }
+        }
+        courseIdList.retainAll(courses.keySet());
+
+        Map<String, List<FeedbackSessionAttributes>> sessionsByCourse =
+                feedbackSessionsLogic.getFeedbackSessionsForCourses(courseIdList);
+
+        Map<String, CourseSummaryBundle> courseSummaries = new LinkedHashMap<>();
+        for (String courseId : courseIdList) {
+            CourseSummaryBundle courseSummary = getCourseSummaryWithoutStats(courses.get(courseId));
+            courseSummary.feedbackSessions.addAll(sessionsByCourse.get(courseId));
+            courseSummaries.put(courseId, courseSummary);
+        }
+
+        return courseSummaries;
+    }
+
     /**
      * Returns the {@link CourseSummaryBundle course summary} using the {@link CourseAttributes}.
      */
@@ -604,8 +617,10 @@ public final class CoursesLogic {
                         + courseIdList.toString());
         }
 
+        Map<String, List<StudentAttributes>> studentsByCourse = studentsLogic.getStudentsForCourses(
+                courseList.stream().map(CourseAttributes::getId).collect(Collectors.toList()));
         for (CourseAttributes ca : courseList) {
-            courseSummaryList.put(ca.getId(), getCourseSummary(ca));
+            courseSummaryList.put(ca.getId(), getCourseSummary(ca, studentsByCourse.get(ca.getId())));
         }
 
         return courseSummaryList;
@@ -674,6 +689,99 @@ public final class CoursesLogic {
         }
     }
 
+    /**
+     * Starts the permanent deletion of a course in Recycle Bin, which is carried out by
+     * {@link #continueCourseDeletion(String, Instant)} until it is done.
+     *
+     * @param scheduleDeletion schedules the task which continues the deletion; it is run in the same
+     *                         transaction as the creation of the checkpoint, only if the deletion is started
+     * @return false if the deletion of the course has already been started
+     */
+    public boolean startCourseDeletion(String courseId, Runnable scheduleDeletion) {
+        Assumption.assertNotNull("Supplied parameter was null", courseId);
+        Assumption.assertNotNull("Supplied parameter was null", scheduleDeletion);
+
+        return courseDeletionsDb.createCourseDeletionStatus(new CourseDeletionStatus(courseId), scheduleDeletion);
+    }
+
+    /**
+     * Continues the permanent deletion of a course from its last checkpoint, deleting the data related to
+     * the course one page at a time. At least one page is deleted, and no page is started after {@code stopTime}.
+     *
+     * <p>The checkpoint is saved after every page, so that a deletion which is interrupted
+     * repeats at most one page when it is continued.
+     *
+     * @return true if the deletion is done, or if the deletion of the course has not been started
+     */
+    public boolean continueCourseDeletion(String courseId, Instant stopTime) {
+        return continueCourseDeletion(courseId, stopTime, DELETION_PAGE_SIZE);
+    }
+
+    /**
+     * Continues the permanent deletion of a course in the same way as {@link #continueCourseDeletion(String, Instant)},
+     * deleting at most {@code pageSize} entities with each page.
+     */
+    public boolean continueCourseDeletion(String courseId, Instant stopTime, int pageSize) {
+        Assumption.assertNotNull("Supplied parameter was null", courseId);
+        Assumption.assertNotNull("Supplied parameter was null", stopTime);
+
+        CourseDeletionStatus status = courseDeletionsDb.getCourseDeletionStatus(courseId);
+        if (status == null) {
+            return true;
+        }
+
+        do {
+            status.recordPage(deleteNextPage(status, pageSize));
+            if (status.isDone()) {
+                courseDeletionsDb.deleteCourseDeletionStatus(courseId);
+                log.info("Permanently deleted course " + courseId + " with "
+                         + status.getNumberOfEntitiesDeleted() + " entities");
+                return true;
+            }
+            courseDeletionsDb.putCourseDeletionStatus(status);
+        } while (Instant.now().isBefore(stopTime));
+
+        return false;
+    }
+
+    /**
+     * Gets the progress of the permanent deletion of those of the given courses which are being deleted.
+     *
+     * @return a map of course ID to the progress, which has no entries for the courses not being deleted
+     */
+    public Map<String, CourseDeletionStatus> getCourseDeletionStatuses(List<String> courseIds) {
+        Assumption.assertNotNull("Supplied parameter was null", courseIds);
+
+        return courseDeletionsDb.getCourseDeletionStatuses(courseIds);
+    }
+
+    private DeletionPage deleteNextPage(CourseDeletionStatus status, int pageSize) {
+        String courseId = status.getCourseId();
+        String cursor = status.getCursor();
+
+        switch (status.getStage()) {
+        case FEEDBACK_RESPONSE_COMMENTS:
+            return feedbackResponseCommentsLogic.deleteFeedbackResponseCommentsPageForCourse(
+                    courseId, cursor, pageSize);
+        case FEEDBACK_RESPONSES:
+            return feedbackResponsesLogic.deleteFeedbackResponsesPageForCourse(courseId, cursor, pageSize);
+        case FEEDBACK_QUESTIONS:
+            return feedbackQuestionsLogic.deleteFeedbackQuestionsPageForCourse(courseId, cursor, pageSize);
+        case FEEDBACK_SESSIONS:
+            return feedbackSessionsLogic.deleteFeedbackSessionsPageForCourse(courseId, cursor, pageSize);
+        case STUDENTS:
+            return studentsLogic.deleteStudentsPageForCourse(courseId, cursor, pageSize);
+        case INSTRUCTORS:
+            return instructorsLogic.deleteInstructorsPageForCourse(courseId, cursor, pageSize);
+        case COURSE:
+            coursesDb.deleteCourse(courseId);
+            return new DeletionPage(1, null);
+        default:
+            Assumption.fail("Unknown stage of course deletion: " + status.getStage());
+            return null;
+        }
+    }
+
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      * @return Soft-deletion time of the course.
@@ -689,18 +797,30 @@ public final class CoursesLogic {
 
     /**
      * Restores a course from Recycle Bin by its given corresponding ID.
+     *
+     * <p>The course is restored in the same transaction as the check that its permanent deletion has not been started,
+     * so that the deletion cannot be started in between.
+     *
+     * @throws InvalidParametersException if the permanent deletion of the course has been started
      */
     public void restoreCourseFromRecycleBin(String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
-        CourseAttributes course = coursesDb.getCourse(courseId);
-        course.resetDeletedAt();
-        coursesDb.updateCourse(course);
+        if (coursesDb.getCourse(courseId) == null) {
+            throw new EntityDoesNotExistException("The course does not exist: " + courseId);
+        }
+        boolean isRestored = courseDeletionsDb.runUnlessCourseDeletionStarted(courseId,
+                () -> coursesDb.restoreCourse(courseId));
+        if (!isRestored) {
+            throw new InvalidParametersException(String.format(ERROR_RESTORE_COURSE_BEING_DELETED, courseId));
+        }
     }
 
     /**
-     * Restores all courses from Recycle Bin.
+     * Restores all courses from Recycle Bin, except those whose permanent deletion has been started.
+     *
+     * @return the IDs of the courses which are not restored as they are being permanently deleted
      */
-    public void restoreAllCoursesFromRecycleBin(List<InstructorAttributes> instructorList)
+    public List<String> restoreAllCoursesFromRecycleBin(List<InstructorAttributes> instructorList)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull("Supplied parameter was null", instructorList);
 
@@ -708,10 +828,18 @@ public final class CoursesLogic {
                 .filter(instructor -> coursesDb.getCourse(instructor.courseId).isCourseDeleted())
                 .map(InstructorAttributes::getCourseId)
                 .collect(Collectors.toList());
+        Map<String, CourseDeletionStatus> deletionStatuses =
+                courseDeletionsDb.getCourseDeletionStatuses(softDeletedCourseIdList);
 
+        List<String> courseIdsBeingDeleted = new ArrayList<>();
         for (String courseId : softDeletedCourseIdList) {
-            restoreCourseFromRecycleBin(courseId);
+            if (deletionStatuses.containsKey(courseId)) {
+                courseIdsBeingDeleted.add(courseId);
+            } else {
+                restoreCourseFromRecycleBin(courseId);
+            }
         }
+        return courseIdsBeingDeleted;
     }
 
     private Map<String, CourseSummaryBundle> getCourseSummaryWithoutStatsForInstructor(
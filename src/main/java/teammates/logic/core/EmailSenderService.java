@@ -1,13 +1,26 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import teammates.common.exception.EmailSendingException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
 
 /**
  * An email sender interface used by services for sending emails.
  */
 public abstract class EmailSenderService {
 
+    private static final Logger log = Logger.getLogger();
+
     /**
      * Parses the {@code wrapper} email object to specific implementations of email object
      * used by the service.
@@ -27,6 +40,85 @@ public abstract class EmailSenderService {
         }
     }
 
+    /**
+     * Sends the batch of emails packaged as {@code wrappers}.
+     * A failure in sending one email does not prevent the rest of the batch from being sent.
+     *
+     * <p>Emails that differ only in their recipients and substitutions are sent with one request
+     * to services that support it. Other services are sent one request per email.</p>
+     *
+     * @return the emails that failed to be sent
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (List<EmailWrapper> group : groupForBatchSending(wrappers, getMaxRecipientsPerRequest())) {
+            try {
+                if (group.size() == 1) {
+                    sendEmailWithService(group.get(0));
+                } else {
+                    sendEmailBatchWithService(group);
+                }
+            } catch (Exception e) {
+                log.warning("Error while sending email to " + group.size() + " recipient(s) starting with "
+                            + group.get(0).getRecipient() + ": " + TeammatesException.toStringWithStackTrace(e));
+                failedEmails.addAll(group);
+            }
+        }
+        return failedEmails;
+    }
+
+    /**
+     * Groups the emails that can be sent with one request, i.e. those that have the same sender, reply-to address,
+     * subject and shared content, but different recipients. Emails with a BCC recipient are kept on their own.
+     */
+    public static List<List<EmailWrapper>> groupForBatchSending(List<EmailWrapper> wrappers, int maxRecipientsPerRequest) {
+        List<List<EmailWrapper>> groups = new ArrayList<>();
+        Map<List<String>, List<EmailWrapper>> openGroups = new HashMap<>();
+        Map<List<String>, Set<String>> openGroupRecipients = new HashMap<>();
+        for (EmailWrapper wrapper : wrappers) {
+            if (maxRecipientsPerRequest <= 1 || (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty())) {
+                groups.add(Collections.singletonList(wrapper));
+                continue;
+            }
+            List<String> sharedFields = Arrays.asList(wrapper.getSenderEmail(), wrapper.getSenderName(),
+                    wrapper.getReplyTo(), wrapper.getSubject(), wrapper.getSharedContent());
+            List<EmailWrapper> group = openGroups.get(sharedFields);
+            Set<String> recipients = openGroupRecipients.get(sharedFields);
+            // a recipient can only be given one set of substitutions in a request
+            if (group == null || group.size() == maxRecipientsPerRequest || recipients.contains(wrapper.getRecipient())) {
+                group = new ArrayList<>();
+                recipients = new HashSet<>();
+                groups.add(group);
+                openGroups.put(sharedFields, group);
+                openGroupRecipients.put(sharedFields, recipients);
+            }
+            group.add(wrapper);
+            recipients.add(wrapper.getRecipient());
+        }
+        return groups;
+    }
+
+    /**
+     * Gets the maximum number of recipients the service can be sent an email for in one request.
+     * Services that do not support sending to several recipients with different substitutions return 1.
+     */
+    protected int getMaxRecipientsPerRequest() {
+        return 1;
+    }
+
+    /**
+     * Sends the {@code wrappers}, which differ only in their recipients and substitutions, with one request.
+     * Services whose {@link #getMaxRecipientsPerRequest()} is more than 1 override this;
+     * by default, the emails are sent one request each.
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    protected void sendEmailBatchWithService(List<EmailWrapper> wrappers) throws Exception {
+        for (EmailWrapper wrapper : wrappers) {
+            sendEmailWithService(wrapper);
+        }
+    }
+
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     // accounts for the many different Exceptions from different email services
     protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
@@ -2,7 +2,9 @@ package teammates.logic.core;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -11,8 +13,9 @@ import java.util.Set;
 
 import com.google.gson.reflect.TypeToken;
 
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -45,7 +48,6 @@ public final class FeedbackQuestionsLogic {
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
-    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
     private FeedbackQuestionsLogic() {
         // prevent initialization
@@ -83,6 +85,32 @@ public final class FeedbackQuestionsLogic {
         return fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
     }
 
+    /**
+     * Used for creating initial questions of sessions only, with one batched write.
+     * Does not check if the feedback sessions exist or if the question numbers are valid.
+     * Also writes any previously deferred operations.
+     */
+    public List<FeedbackQuestionAttributes> createFeedbackQuestionsNoIntegrityCheck(
+            List<FeedbackQuestionAttributes> questions) throws InvalidParametersException {
+        for (FeedbackQuestionAttributes question : questions) {
+            question.removeIrrelevantVisibilityOptions();
+        }
+        return fqDb.createFeedbackQuestionsWithoutExistenceCheck(questions);
+    }
+
+    /**
+     * Queues the creation of initial questions of sessions, in the same way as
+     * {@link #createFeedbackQuestionsNoIntegrityCheck(List)}. The questions are written
+     * with the next write of deferred operations, and none of them is queued if any is invalid.
+     */
+    public void createFeedbackQuestionsNoIntegrityCheckDeferred(List<FeedbackQuestionAttributes> questions)
+            throws InvalidParametersException {
+        for (FeedbackQuestionAttributes question : questions) {
+            question.removeIrrelevantVisibilityOptions();
+        }
+        fqDb.createEntitiesDeferred(questions);
+    }
+
     public FeedbackQuestionAttributes copyFeedbackQuestion(
             String feedbackQuestionId, String feedbackSessionName, String courseId, String instructorEmail)
             throws InvalidParametersException {
@@ -137,6 +165,13 @@ public final class FeedbackQuestionsLogic {
         return questions;
     }
 
+    /**
+     * Gets a {@link List} of every FeedbackQuestion in the given course, in no particular order.
+     */
+    public List<FeedbackQuestionAttributes> getFeedbackQuestionsForCourse(String courseId) {
+        return fqDb.getFeedbackQuestionsForCourse(courseId);
+    }
+
     // TODO can be removed once we are sure that question numbers will be consistent
     private boolean areQuestionNumbersConsistent(List<FeedbackQuestionAttributes> questions) {
         Set<Integer> questionNumbersInSession = new HashSet<>();
@@ -323,27 +358,32 @@ public final class FeedbackQuestionsLogic {
         return questions;
     }
 
-    public Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String giver)
-            throws EntityDoesNotExistException {
-
-        InstructorAttributes instructorGiver = instructorsLogic.getInstructorForEmail(question.courseId, giver);
-        StudentAttributes studentGiver = studentsLogic.getStudentForEmail(question.courseId, giver);
-
-        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver);
+    /**
+     * Gets the recipients of {@code question} for {@code giver}, reading the students,
+     * instructors and teams of the course from {@code roster}.
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver, CourseRoster roster) {
+        return getRecipientsForQuestion(question, giver,
+                roster.getInstructorForEmail(giver), roster.getStudentForEmail(giver), roster);
     }
 
+    /**
+     * Gets the recipients of {@code question} for {@code giver}, who gives feedback as
+     * {@code instructorGiver} or {@code studentGiver}, reading the students, instructors
+     * and teams of the course from {@code roster}.
+     *
+     * <p>The giver is taken to be in the team of {@code studentGiver} if it is not null.
+     */
     public Map<String, String> getRecipientsForQuestion(
             FeedbackQuestionAttributes question, String giver,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-                    throws EntityDoesNotExistException {
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster) {
 
         Map<String, String> recipients = new HashMap<>();
 
-        FeedbackParticipantType recipientType = question.recipientType;
-
         String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
 
-        switch (recipientType) {
+        switch (question.recipientType) {
         case SELF:
             if (question.giverType == FeedbackParticipantType.TEAMS) {
                 recipients.put(studentGiver.team, studentGiver.team);
@@ -352,30 +392,23 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
-                // Ensure student does not evaluate himself
+            for (StudentAttributes student : roster.getStudents()) {
                 if (!giver.equals(student.email)) {
                     recipients.put(student.email, student.name);
                 }
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
-                // Ensure instructor does not evaluate himself
+            for (InstructorAttributes instr : roster.getInstructors()) {
                 if (!giver.equals(instr.email)) {
                     recipients.put(instr.email, instr.name);
                 }
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
-                // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
-                    // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+            for (StudentAttributes student : roster.getStudents()) {
+                if (!giverTeam.equals(student.team)) {
+                    recipients.put(student.team, student.team);
                 }
             }
             break;
@@ -383,17 +416,14 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
+            for (StudentAttributes student : roster.getTeamMembers(giverTeam)) {
                 if (!student.email.equals(giver)) {
                     recipients.put(student.email, student.name);
                 }
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
-                // accepts self feedback too
+            for (StudentAttributes student : roster.getTeamMembers(giverTeam)) {
                 recipients.put(student.email, student.name);
             }
             break;
@@ -406,6 +436,51 @@ public final class FeedbackQuestionsLogic {
         return recipients;
     }
 
+    /**
+     * Gets the recipients of each of {@code questions} for {@code giver}, reading the students,
+     * instructors and teams of the course from {@code roster}.
+     *
+     * <p>Questions with the same recipient type share one unmodifiable map of recipients,
+     * so the recipients of each recipient type are worked out only once for the giver.
+     *
+     * @return a map of question ID to the unmodifiable recipients of the question
+     */
+    public Map<String, Map<String, String>> getRecipientsForQuestions(
+            List<FeedbackQuestionAttributes> questions, String giver, CourseRoster roster) {
+        return getRecipientsForQuestions(questions, giver,
+                roster.getInstructorForEmail(giver), roster.getStudentForEmail(giver), roster);
+    }
+
+    /**
+     * Gets the recipients of each of {@code questions} for {@code giver}, who gives feedback as
+     * {@code instructorGiver} or {@code studentGiver}, in the same way as
+     * {@link #getRecipientsForQuestions(List, String, CourseRoster)}.
+     */
+    public Map<String, Map<String, String>> getRecipientsForQuestions(
+            List<FeedbackQuestionAttributes> questions, String giver,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster) {
+
+        Map<String, Map<String, String>> recipientsForQuestions = new HashMap<>();
+        Map<FeedbackParticipantType, Map<String, String>> recipientsForRecipientTypes =
+                new EnumMap<>(FeedbackParticipantType.class);
+
+        for (FeedbackQuestionAttributes question : questions) {
+            Map<String, String> recipients;
+            if (question.recipientType == FeedbackParticipantType.SELF) {
+                // the recipient of a SELF question also depends on the giver type of the question
+                recipients = Collections.unmodifiableMap(
+                        getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster));
+            } else {
+                recipients = recipientsForRecipientTypes.computeIfAbsent(question.recipientType,
+                        recipientType -> Collections.unmodifiableMap(
+                                getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster)));
+            }
+            recipientsForQuestions.put(question.getId(), recipients);
+        }
+
+        return recipientsForQuestions;
+    }
+
     private String getGiverTeam(String defaultTeam, InstructorAttributes instructorGiver,
             StudentAttributes studentGiver) {
         String giverTeam = defaultTeam;
@@ -424,8 +499,14 @@ public final class FeedbackQuestionsLogic {
                        .isEmpty();
     }
 
-    public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email)
-            throws EntityDoesNotExistException {
+    /**
+     * Checks whether {@code email} has given all the responses needed for {@code question},
+     * taking the recipients of the question for the user from {@code recipients}.
+     *
+     * @param recipients only used if the question has no fixed number of recipients, and can be null otherwise
+     */
+    public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email,
+            Map<String, String> recipients) {
 
         int numberOfResponsesGiven =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
@@ -433,7 +514,7 @@ public final class FeedbackQuestionsLogic {
                 question.numberOfEntitiesToGiveFeedbackTo;
 
         if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
-            numberOfResponsesNeeded = getRecipientsForQuestion(question, email).size();
+            numberOfResponsesNeeded = recipients.size();
         }
 
         return numberOfResponsesGiven >= numberOfResponsesNeeded;
@@ -594,6 +675,15 @@ public final class FeedbackQuestionsLogic {
         fqDb.deleteFeedbackQuestionsForCourse(courseId);
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} feedback questions of the course, starting at {@code cursor}.
+     *
+     * @see FeedbackQuestionsDb#deleteFeedbackQuestionsPageForCourse(String, String, int)
+     */
+    public DeletionPage deleteFeedbackQuestionsPageForCourse(String courseId, String cursor, int pageSize) {
+        return fqDb.deleteFeedbackQuestionsPageForCourse(courseId, cursor, pageSize);
+    }
+
     /**
      * Deletes a question.
      *
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
@@ -173,10 +174,24 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseCommentsForCourse(courseId);
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} feedback response comments of the course, starting at {@code cursor},
+     * together with their search documents.
+     *
+     * @see FeedbackResponseCommentsDb#deleteFeedbackResponseCommentsPageForCourse(String, String, int)
+     */
+    public DeletionPage deleteFeedbackResponseCommentsPageForCourse(String courseId, String cursor, int pageSize) {
+        return frcDb.deleteFeedbackResponseCommentsPageForCourse(courseId, cursor, pageSize);
+    }
+
     public void deleteFeedbackResponseCommentsForResponse(String responseId) {
         frcDb.deleteFeedbackResponseCommentsForResponse(responseId);
     }
 
+    public void deleteFeedbackResponseCommentsForResponses(List<String> responseIds) {
+        frcDb.deleteFeedbackResponseCommentsForResponses(responseIds);
+    }
+
     public void deleteFeedbackResponseCommentById(Long commentId) {
         frcDb.deleteCommentById(commentId);
     }
@@ -3,10 +3,12 @@ package teammates.logic.core;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.UserRole;
@@ -428,6 +430,60 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Updates the given responses, each identified by its {@code id}, in the same way as
+     * {@link #updateFeedbackResponse(FeedbackResponseAttributes)}.
+     * The existing responses are read in one batch, and the responses whose giver and recipient
+     * are unchanged are written in one batch.
+     * Invalid responses are not saved; their errors are reported together after the other responses are saved.
+     */
+    public void updateFeedbackResponses(List<FeedbackResponseAttributes> responsesToUpdate)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            Assumption.assertNotNull(response.getId());
+            responseIds.add(response.getId());
+        }
+        Map<String, FeedbackResponse> oldResponseEntities = frDb.getFeedbackResponseEntities(responseIds);
+
+        List<FeedbackResponseAttributes> responsesToSave = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToRecreate = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        for (FeedbackResponseAttributes responseToUpdate : responsesToUpdate) {
+            FeedbackResponse oldResponseEntity = oldResponseEntities.get(responseToUpdate.getId());
+            if (oldResponseEntity == null) {
+                throw new EntityDoesNotExistException(
+                        "Trying to update a feedback response that does not exist.");
+            }
+
+            FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(responseToUpdate);
+            FeedbackResponseAttributes oldResponse = new FeedbackResponseAttributes(oldResponseEntity);
+            copyFixedValuesFromOldToNew(newResponse, oldResponse);
+
+            if (!newResponse.isValid()) {
+                errors.addAll(newResponse.getInvalidityInfo());
+            } else if (newResponse.recipient.equals(oldResponse.recipient)
+                    && newResponse.giver.equals(oldResponse.giver)) {
+                responsesToSave.add(newResponse);
+            } else {
+                responsesToRecreate.add(newResponse);
+            }
+        }
+
+        frDb.updateFeedbackResponsesOptimized(responsesToSave, oldResponseEntities);
+
+        for (FeedbackResponseAttributes newResponse : responsesToRecreate) {
+            // Recreate response to prevent possible future id conflict.
+            recreateResponse(newResponse, new FeedbackResponseAttributes(oldResponseEntities.get(newResponse.getId())));
+        }
+
+        if (!errors.isEmpty()) {
+            throw new InvalidParametersException(errors);
+        }
+    }
+
     /**
      * Copies values that cannot be changed to defensively avoid invalid parameters.
      * @param newResponse  values are copied from oldResponse
@@ -667,6 +723,18 @@ public final class FeedbackResponsesLogic {
         frDb.deleteEntity(responseToDelete);
     }
 
+    /**
+     * Deletes the given responses and their comments, with one batched delete for each.
+     */
+    public void deleteFeedbackResponsesAndCascade(List<FeedbackResponseAttributes> responsesToDelete) {
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            responseIds.add(response.getId());
+        }
+        frcLogic.deleteFeedbackResponseCommentsForResponses(responseIds);
+        frDb.deleteEntities(responsesToDelete);
+    }
+
     public void deleteFeedbackResponsesForQuestionAndCascade(
             String feedbackQuestionId, boolean hasResponseRateUpdate) {
         List<FeedbackResponseAttributes> responsesForQuestion =
@@ -741,6 +809,15 @@ public final class FeedbackResponsesLogic {
         frDb.deleteFeedbackResponsesForCourse(courseId);
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} feedback responses of the course, starting at {@code cursor}.
+     *
+     * @see FeedbackResponsesDb#deleteFeedbackResponsesPageForCourse(String, String, int)
+     */
+    public DeletionPage deleteFeedbackResponsesPageForCourse(String courseId, String cursor, int pageSize) {
+        return frDb.deleteFeedbackResponsesPageForCourse(courseId, cursor, pageSize);
+    }
+
     /**
      * Adds {@link FeedbackResponseAttributes} in {@code newResponses} that are
      * not already in to {@code existingResponses} to {@code existingResponses}.
@@ -1,24 +1,34 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CourseDeletionStatus;
 import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionCopyResult;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -70,11 +80,20 @@ public final class FeedbackSessionsLogic {
     private static final String ERROR_NON_EXISTENT_FS_UPDATE = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "update");
     private static final String ERROR_NON_EXISTENT_FS_CHECK = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "check");
     private static final String ERROR_NON_EXISTENT_FS_VIEW = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "view");
+    private static final String ERROR_NON_EXISTENT_FS_COPY = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "copy");
+    private static final String ERROR_FS_COPY_NON_EXISTENT_COURSE = "The course does not exist.";
+    private static final String ERROR_FS_COPY_COURSE_BEING_DELETED = "The course is being permanently deleted.";
+    private static final String ERROR_FS_COPY_ALREADY_EXISTS = "A feedback session with the same name already exists.";
     private static final String ERROR_FS_ALREADY_PUBLISH = "Error publishing feedback session: "
                                                            + "Session has already been published.";
     private static final String ERROR_FS_ALREADY_UNPUBLISH = "Error unpublishing feedback session: "
                                                              + "Session has already been unpublished.";
 
+    /**
+     * The maximum number of sessions and questions written by one copy of a session to several courses.
+     */
+    private static final int MAX_ENTITIES_PER_SESSION_COPY = 500;
+
     private static FeedbackSessionsLogic instance = new FeedbackSessionsLogic();
 
     private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
@@ -115,6 +134,14 @@ public final class FeedbackSessionsLogic {
         return fsDb.getFeedbackSession(courseId, feedbackSessionName);
     }
 
+    /**
+     * Gets the IDs of those of the given courses which have a session named {@code feedbackSessionName},
+     * including a session in the Recycle Bin.
+     */
+    public Set<String> getCourseIdsWithFeedbackSession(String feedbackSessionName, Collection<String> courseIds) {
+        return fsDb.getCourseIdsWithFeedbackSession(feedbackSessionName, courseIds);
+    }
+
     /**
      * Gets a feedback session from the recycle bin.
      *
@@ -132,28 +159,129 @@ public final class FeedbackSessionsLogic {
     public FeedbackSessionAttributes copyFeedbackSession(String newFeedbackSessionName, String newCourseId,
             ZoneId newTimeZone, String feedbackSessionName, String courseId, String instructorEmail)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
-        FeedbackSessionAttributes copiedFeedbackSession = getFeedbackSession(feedbackSessionName, courseId);
-        copiedFeedbackSession.setCreatorEmail(instructorEmail);
-        copiedFeedbackSession.setFeedbackSessionName(newFeedbackSessionName);
-        copiedFeedbackSession.setCourseId(newCourseId);
-        copiedFeedbackSession.setTimeZone(newTimeZone);
-        copiedFeedbackSession.setCreatedTime(Instant.now());
-        copiedFeedbackSession.setRespondingInstructorList(new HashSet<String>());
-        copiedFeedbackSession.setRespondingStudentList(new HashSet<String>());
+        FeedbackSessionAttributes copiedFeedbackSession = makeFeedbackSessionCopy(
+                getFeedbackSession(feedbackSessionName, courseId), newFeedbackSessionName, newCourseId, newTimeZone,
+                instructorEmail);
         fsDb.createEntity(copiedFeedbackSession);
 
-        List<FeedbackQuestionAttributes> feedbackQuestions =
-                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
-        for (FeedbackQuestionAttributes question : feedbackQuestions) {
-            question.courseId = newCourseId;
-            question.feedbackSessionName = newFeedbackSessionName;
-            question.creatorEmail = instructorEmail;
-            fqLogic.createFeedbackQuestionNoIntegrityCheck(question, question.questionNumber);
+        List<FeedbackQuestionAttributes> copiedQuestions = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            copiedQuestions.add(makeFeedbackQuestionCopy(question, newFeedbackSessionName, newCourseId, instructorEmail));
         }
+        fqLogic.createFeedbackQuestionsNoIntegrityCheck(copiedQuestions);
 
         return copiedFeedbackSession;
     }
 
+    /**
+     * Copies a feedback session and its questions to each of the given courses, keeping the question numbers.
+     *
+     * <p>The session and its questions are read once, and the copies are written with one batched write.
+     * To bound the size of the write, the session is copied to only as many of the courses as
+     * {@link #MAX_ENTITIES_PER_SESSION_COPY} entities allow, and to at least one.
+     * The rest of the courses are returned in {@link FeedbackSessionCopyResult#getRemainingCourseIds()},
+     * for the copy to be continued with them.
+     *
+     * <p>A course which does not exist, which is being permanently deleted, or which already has a session
+     * with the new name, including in its Recycle Bin, is reported as failed without affecting the other courses.
+     *
+     * @throws InvalidParametersException if the copies are not valid
+     * @throws EntityDoesNotExistException if the session to copy does not exist
+     */
+    public FeedbackSessionCopyResult copyFeedbackSessionToCourses(String newFeedbackSessionName,
+            List<String> newCourseIds, String feedbackSessionName, String courseId, String instructorEmail)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        FeedbackSessionAttributes session = getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_COPY + courseId + "/" + feedbackSessionName);
+        }
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+
+        int numberOfCoursesToCopyTo =
+                Math.min(newCourseIds.size(), Math.max(1, MAX_ENTITIES_PER_SESSION_COPY / (questions.size() + 1)));
+        List<String> courseIdsToCopyTo = newCourseIds.subList(0, numberOfCoursesToCopyTo);
+
+        FeedbackSessionCopyResult result = new FeedbackSessionCopyResult();
+        result.getRemainingCourseIds().addAll(newCourseIds.subList(numberOfCoursesToCopyTo, newCourseIds.size()));
+
+        Map<String, CourseAttributes> coursesToCopyTo = coursesLogic.getCourses(courseIdsToCopyTo).stream()
+                .collect(Collectors.toMap(CourseAttributes::getId, course -> course));
+        Map<String, CourseDeletionStatus> courseDeletionStatuses = coursesLogic.getCourseDeletionStatuses(courseIdsToCopyTo);
+        Set<String> courseIdsWithSession = fsDb.getCourseIdsWithFeedbackSession(newFeedbackSessionName, courseIdsToCopyTo);
+
+        List<FeedbackSessionAttributes> copiedSessions = new ArrayList<>();
+        List<FeedbackQuestionAttributes> copiedQuestions = new ArrayList<>();
+        for (String newCourseId : courseIdsToCopyTo) {
+            CourseAttributes course = coursesToCopyTo.get(newCourseId);
+            if (course == null) {
+                result.getFailedCourses().put(newCourseId, ERROR_FS_COPY_NON_EXISTENT_COURSE);
+                continue;
+            }
+            if (courseDeletionStatuses.containsKey(newCourseId)) {
+                result.getFailedCourses().put(newCourseId, ERROR_FS_COPY_COURSE_BEING_DELETED);
+                continue;
+            }
+            if (courseIdsWithSession.contains(newCourseId)) {
+                result.getFailedCourses().put(newCourseId, ERROR_FS_COPY_ALREADY_EXISTS);
+                continue;
+            }
+
+            FeedbackSessionAttributes copiedSession = makeFeedbackSessionCopy(
+                    session, newFeedbackSessionName, newCourseId, course.getTimeZone(), instructorEmail);
+            copiedSessions.add(copiedSession);
+            for (FeedbackQuestionAttributes question : questions) {
+                copiedQuestions.add(makeFeedbackQuestionCopy(question, newFeedbackSessionName, newCourseId,
+                        instructorEmail));
+            }
+            result.getCopiedSessions().put(newCourseId, copiedSession);
+        }
+
+        // All the copies are validated before any is queued, so that no session is written without its questions
+        for (FeedbackSessionAttributes copiedSession : copiedSessions) {
+            copiedSession.sanitizeForSaving();
+            if (!copiedSession.isValid()) {
+                throw new InvalidParametersException(copiedSession.getInvalidityInfo());
+            }
+        }
+        fqLogic.createFeedbackQuestionsNoIntegrityCheckDeferred(copiedQuestions);
+        // This also writes the deferred questions
+        fsDb.createEntitiesWithoutExistenceCheck(copiedSessions);
+
+        return result;
+    }
+
+    private FeedbackSessionAttributes makeFeedbackSessionCopy(FeedbackSessionAttributes session,
+            String newFeedbackSessionName, String newCourseId, ZoneId newTimeZone, String instructorEmail) {
+        FeedbackSessionAttributes copiedSession = session.getCopy();
+        copiedSession.setCreatorEmail(instructorEmail);
+        copiedSession.setFeedbackSessionName(newFeedbackSessionName);
+        copiedSession.setCourseId(newCourseId);
+        copiedSession.setTimeZone(newTimeZone);
+        copiedSession.setCreatedTime(Instant.now());
+        copiedSession.setRespondingInstructorList(new HashSet<String>());
+        copiedSession.setRespondingStudentList(new HashSet<String>());
+        return copiedSession;
+    }
+
+    private FeedbackQuestionAttributes makeFeedbackQuestionCopy(FeedbackQuestionAttributes question,
+            String newFeedbackSessionName, String newCourseId, String instructorEmail) {
+        return FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName(newFeedbackSessionName)
+                .withCourseId(newCourseId)
+                .withCreatorEmail(instructorEmail)
+                .withQuestionMetaData(question.getQuestionMetaData())
+                .withQuestionDescription(question.getQuestionDescription())
+                .withQuestionNumber(question.questionNumber)
+                .withQuestionType(question.questionType)
+                .withGiverType(question.giverType)
+                .withRecipientType(question.recipientType)
+                .withNumOfEntitiesToGiveFeedbackTo(question.numberOfEntitiesToGiveFeedbackTo)
+                .withShowResponseTo(question.showResponsesTo)
+                .withShowGiverNameTo(question.showGiverNameTo)
+                .withShowRecipientNameTo(question.showRecipientNameTo)
+                .build();
+    }
+
     /**
      * Checks if the specified course exists, then gets the feedback sessions for
      * the specified user in the course if it does exist.
@@ -268,15 +396,38 @@ public final class FeedbackSessionsLogic {
                 .filter(instructor -> !coursesLogic.getCourse(instructor.courseId).isCourseDeleted())
                 .collect(Collectors.toList());
 
+        List<String> courseIds = courseNotDeletedInstructorList.stream()
+                .map(InstructorAttributes::getCourseId)
+                .collect(Collectors.toList());
+
         List<FeedbackSessionAttributes> fsList = new ArrayList<>();
 
-        for (InstructorAttributes instructor : courseNotDeletedInstructorList) {
-            fsList.addAll(getFeedbackSessionsListForCourse(instructor.courseId));
+        for (List<FeedbackSessionAttributes> sessions : getFeedbackSessionsForCourses(courseIds).values()) {
+            fsList.addAll(sessions);
         }
 
         return fsList;
     }
 
+    /**
+     * Returns the sessions of each of the given courses, except those in the Recycle Bin.
+     *
+     * @return a map of course ID to the sessions of the course, in the order of the given course IDs
+     */
+    public Map<String, List<FeedbackSessionAttributes>> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        return fsDb.getFeedbackSessionsForCourses(courseIds);
+    }
+
+    /**
+     * Issues the queries of {@link #getFeedbackSessionsForCourses} without waiting for their results.
+     *
+     * @return a supplier of the result of {@link #getFeedbackSessionsForCourses}
+     */
+    public Supplier<Map<String, List<FeedbackSessionAttributes>>> getFeedbackSessionsForCoursesAsync(
+            Collection<String> courseIds) {
+        return fsDb.getFeedbackSessionsForCoursesAsync(courseIds);
+    }
+
     /**
      * Returns a {@code List} of feedback sessions in the Recycle Bin for a specific instructor.
      * <br>
@@ -348,14 +499,16 @@ public final class FeedbackSessionsLogic {
                         courseId, userEmail);
 
         Map<String, List<FeedbackResponseCommentAttributes>> commentsForResponses = new HashMap<>();
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
+        // the instructor gives feedback as an instructor, even if the email is also of a student of the course
+        Map<String, Map<String, String>> recipientsForQuestions =
+                fqLogic.getRecipientsForQuestions(questions, userEmail, instructor, null, roster);
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
+            updateBundleAndRecipientListWithResponsesForInstructor(roster,
                     userEmail, fsa, instructor, bundle, recipientList,
-                    question, instructor, null);
+                    question, recipientsForQuestions.get(question.getId()));
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
         }
 
@@ -363,32 +516,32 @@ public final class FeedbackSessionsLogic {
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
+            CourseRoster roster,
             String userEmail,
             FeedbackSessionAttributes fsa,
             InstructorAttributes instructor,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
+            Map<String, String> questionRecipients) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(
                         question.getId(), userEmail);
-        Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
+        Map<String, String> recipients = questionRecipients;
         // instructor can only see students in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
+            recipients = new HashMap<>(questionRecipients);
             recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
+                StudentAttributes student = roster.getStudentForEmail(studentEntry.getKey());
                 return !instructor.isAllowedForPrivilege(student.section,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
         }
         // instructor can only see teams in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
+            recipients = new HashMap<>(questionRecipients);
             recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
+                String teamSection = roster.getSectionForTeam(teamEntry.getKey());
                 return !instructor.isAllowedForPrivilege(teamSection,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -428,20 +581,22 @@ public final class FeedbackSessionsLogic {
         Set<String> hiddenInstructorEmails = null;
         Map<String, List<FeedbackResponseCommentAttributes>> commentsForResponses =
                 new HashMap<>();
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
 
         for (FeedbackQuestionAttributes question : questions) {
             if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-                hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
+                hiddenInstructorEmails = getHiddenInstructorEmails(roster);
                 break;
             }
         }
 
+        Map<String, Map<String, String>> recipientsForQuestions =
+                fqLogic.getRecipientsForQuestions(questions, userEmail, null, student, roster);
+
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                    bundle, recipientList, question, hiddenInstructorEmails);
+            updateBundleAndRecipientListWithResponsesForStudent(student, bundle, recipientList, question,
+                    recipientsForQuestions.get(question.getId()), hiddenInstructorEmails);
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
 
         }
@@ -459,20 +614,17 @@ public final class FeedbackSessionsLogic {
     }
 
     private void updateBundleAndRecipientListWithResponsesForStudent(
-            String userEmail,
             StudentAttributes student,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            Set<String> hiddenInstructorEmails)
-            throws EntityDoesNotExistException {
+            Map<String, String> questionRecipients,
+            Set<String> hiddenInstructorEmails) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(
                         question, student);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, null, student);
-
-        removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
+                removeHiddenInstructors(question, responses, questionRecipients, hiddenInstructorEmails);
 
         normalizeMaximumResponseEntities(question, recipients);
 
@@ -481,8 +633,8 @@ public final class FeedbackSessionsLogic {
     }
 
     /**
-     * Removes instructors who are not displayed to students from
-     * {@code recipients}. Responses to the hidden instructors are also removed
+     * Returns {@code recipients} without the instructors who are not displayed
+     * to students. Responses to the hidden instructors are also removed
      * from {@code responses}.
      *
      * @param question
@@ -495,43 +647,43 @@ public final class FeedbackSessionsLogic {
      * @param hiddenInstructorEmails
      *            a {@link Set} of emails of the instructors who are not
      *            displayed to students
+     * @return {@code recipients} itself if no instructor is hidden, otherwise a copy of it
+     *         without the hidden instructors
      */
-    private void removeHiddenInstructors(FeedbackQuestionAttributes question,
-                                         List<FeedbackResponseAttributes> responses,
-                                         Map<String, String> recipients,
-                                         Set<String> hiddenInstructorEmails) {
+    private Map<String, String> removeHiddenInstructors(FeedbackQuestionAttributes question,
+                                                        List<FeedbackResponseAttributes> responses,
+                                                        Map<String, String> recipients,
+                                                        Set<String> hiddenInstructorEmails) {
 
         boolean isNoChangeRequired = hiddenInstructorEmails == null
                                    || hiddenInstructorEmails.isEmpty()
                                    || question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS;
 
         if (isNoChangeRequired) {
-            return;
+            return recipients;
         }
 
+        Map<String, String> visibleRecipients = new HashMap<>(recipients);
         for (String instructorEmail : hiddenInstructorEmails) {
 
-            if (recipients.containsKey(instructorEmail)) {
-                recipients.remove(instructorEmail);
+            if (visibleRecipients.containsKey(instructorEmail)) {
+                visibleRecipients.remove(instructorEmail);
             }
 
             // Remove responses to the hidden instructors if they have been stored already
             responses.removeIf(response -> response.recipient.equals(instructorEmail));
         }
+        return visibleRecipients;
     }
 
     /**
      * Returns a {@link Set} of emails of the instructors who are not displayed
-     * to students in the course specified by {@code courseId}.
-     *
-     * @param courseId
-     *            the ID of the course
+     * to students in the course of {@code roster}.
      */
-    private Set<String> getHiddenInstructorEmails(String courseId) {
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+    private Set<String> getHiddenInstructorEmails(CourseRoster roster) {
         Set<String> hiddenInstructorEmails = new HashSet<>();
 
-        for (InstructorAttributes instructor : instructors) {
+        for (InstructorAttributes instructor : roster.getInstructors()) {
             if (!instructor.isDisplayedToStudents()) {
                 hiddenInstructorEmails.add(instructor.email);
             }
@@ -556,8 +708,7 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName,
                         courseId);
 
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                                               instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
         return getFeedbackSessionResponseStatus(session, roster, allQuestions);
     }
 
@@ -572,9 +723,7 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -596,9 +745,7 @@ public final class FeedbackSessionsLogic {
                                                 String questionId, String selectedSection)
                                         throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "true");
@@ -629,9 +776,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range, String viewType)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -654,9 +799,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -677,9 +820,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -711,9 +852,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "true");
@@ -771,13 +910,99 @@ public final class FeedbackSessionsLogic {
         // sort responses by giver > recipient > qnNumber
         results.responses.sort(results.compareByGiverRecipientQuestion);
 
+        StringBuilder exportBuilder = getFeedbackSessionResultsHeaderInCsvFormat(results.feedbackSession, section);
+
+        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                results.getQuestionResponseMap().entrySet();
+
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                    results, entry, isMissingResponsesShown, isStatsShown, section));
+        }
+
+        return exportBuilder.toString();
+    }
+
+    /**
+     * Writes the results of a feedback session in CSV format to {@code writer}, in the same format as
+     * {@link #getFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String, String, String, boolean, boolean)}.
+     *
+     * <p>Responses are loaded, formatted and flushed one question at a time so that the whole session
+     * never has to be held in memory, hence there is no limit on the number of responses.
+     * The roster, instructor and response comments are loaded only once for the whole export.
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail,
+            String section, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer) throws EntityDoesNotExistException, IOException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        List<FeedbackQuestionAttributes> questions;
+        if (questionId == null) {
+            questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        } else {
+            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(questionId);
+            questions = question == null ? new ArrayList<>() : Collections.singletonList(question);
+        }
+
+        CourseRoster roster = getCourseRoster(courseId);
+        InstructorAttributes instructor = getInstructor(userEmail, UserRole.INSTRUCTOR, roster);
+
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsForQuestions = new HashMap<>();
+        for (FeedbackResponseCommentAttributes frc
+                : frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section)) {
+            commentsForQuestions.computeIfAbsent(frc.feedbackQuestionId, key -> new ArrayList<>()).add(frc);
+        }
+
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, userEmail, UserRole.INSTRUCTOR,
+                feedbackSessionName, section);
+
+        writer.write(getFeedbackSessionResultsHeaderInCsvFormat(session, section).toString());
+
+        for (FeedbackQuestionAttributes question : questions) {
+            // the whole session export selects responses given from the section,
+            // while a single question export selects responses given from or to the section
+            Map<String, FeedbackResponseAttributes> responsesForQuestion = new LinkedHashMap<>();
+            for (FeedbackResponseAttributes response
+                    : frLogic.getFeedbackResponsesForQuestionInSection(question.getId(), section)) {
+                boolean isInSelectedSection =
+                        questionId != null || section == null || section.equals(response.giverSection);
+                if (isInSelectedSection) {
+                    responsesForQuestion.putIfAbsent(response.getId(), response);
+                }
+            }
+
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsForQuestionForCsv(
+                    session, question, responsesForQuestion.values(),
+                    commentsForQuestions.getOrDefault(question.getId(), new ArrayList<>()),
+                    userEmail, roster, instructor, sectionTeamNameTable);
+            // sort responses by giver > recipient > qnNumber
+            results.responses.sort(results.compareByGiverRecipientQuestion);
+
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                    : results.getQuestionResponseMap().entrySet()) {
+                writer.write(getFeedbackSessionResultsForQuestionInCsvFormat(
+                        results, entry, isMissingResponsesShown, isStatsShown, section).toString());
+            }
+            writer.flush();
+        }
+    }
+
+    private StringBuilder getFeedbackSessionResultsHeaderInCsvFormat(
+            FeedbackSessionAttributes session, String section) {
         StringBuilder exportBuilder = new StringBuilder(100);
 
         exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
                      .append(System.lineSeparator())
                      .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
                      .append(System.lineSeparator());
 
         if (section != null) {
@@ -786,16 +1011,7 @@ public final class FeedbackSessionsLogic {
         }
 
         exportBuilder.append(System.lineSeparator()).append(System.lineSeparator());
-
-        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
-                results.getQuestionResponseMap().entrySet();
-
-        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
-            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
-                    results, entry, isMissingResponsesShown, isStatsShown, section));
-        }
-
-        return exportBuilder.toString();
+        return exportBuilder;
     }
 
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
@@ -1129,17 +1345,23 @@ public final class FeedbackSessionsLogic {
         }
     }
 
+    /**
+     * Recomputes the respondents of a feedback session from all of its responses.
+     *
+     * <p>Respondents are normally kept up to date one at a time as responses are saved or deleted,
+     * so this full rescan is only needed to repair them.
+     */
     public void updateRespondentsForSession(String feedbackSessionName, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        clearInstructorRespondents(feedbackSessionName, courseId);
-        clearStudentRespondents(feedbackSessionName, courseId);
-
         FeedbackSessionAttributes fsa = getFeedbackSession(feedbackSessionName, courseId);
+        if (fsa == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
+        }
         List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
         List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
 
-        Map<String, List<String>> instructorQuestionsMap = new HashMap<>();
+        Map<String, Set<String>> instructorQuestionsMap = new HashMap<>();
 
         for (InstructorAttributes instructor : instructors) {
             List<FeedbackQuestionAttributes> instructorQns = fqLogic
@@ -1147,7 +1369,7 @@ public final class FeedbackSessionsLogic {
                             fsa.isCreator(instructor.email));
 
             if (!instructorQns.isEmpty()) {
-                List<String> questionIds = new ArrayList<>();
+                Set<String> questionIds = new HashSet<>();
                 for (FeedbackQuestionAttributes question : instructorQns) {
                     questionIds.add(question.getId());
                 }
@@ -1159,7 +1381,7 @@ public final class FeedbackSessionsLogic {
         Set<String> respondingInstructorList = new HashSet<>();
         List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
         for (FeedbackResponseAttributes response : responses) {
-            List<String> instructorQuestions = instructorQuestionsMap.get(response.giver);
+            Set<String> instructorQuestions = instructorQuestionsMap.get(response.giver);
             if (instructorQuestions != null && instructorQuestions.contains(response.feedbackQuestionId)) {
                 respondingInstructorList.add(response.giver);
             } else {
@@ -1167,8 +1389,7 @@ public final class FeedbackSessionsLogic {
             }
         }
 
-        addInstructorRespondents(new ArrayList<>(respondingInstructorList), feedbackSessionName, courseId);
-        addStudentRespondents(new ArrayList<>(respondingStudentList), feedbackSessionName, courseId);
+        fsDb.updateRespondents(fsa, respondingInstructorList, respondingStudentList);
     }
 
     public void deleteInstructorFromRespondentsList(InstructorAttributes instructor) {
@@ -1233,20 +1454,6 @@ public final class FeedbackSessionsLogic {
         fsDb.addInstructorRespondents(emails, sessionToUpdate);
     }
 
-    public void clearInstructorRespondents(String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-
-        FeedbackSessionAttributes sessionToUpdate = getFeedbackSession(feedbackSessionName, courseId);
-        if (sessionToUpdate == null) {
-            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
-        }
-
-        fsDb.clearInstructorRespondents(sessionToUpdate);
-    }
-
     public void addStudentRespondent(String email, String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException, InvalidParametersException {
 
@@ -1277,20 +1484,6 @@ public final class FeedbackSessionsLogic {
         fsDb.addStudentRespondents(emails, sessionToUpdate);
     }
 
-    public void clearStudentRespondents(String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
-
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
-        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
-
-        FeedbackSessionAttributes sessionToUpdate = getFeedbackSession(feedbackSessionName, courseId);
-        if (sessionToUpdate == null) {
-            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
-        }
-
-        fsDb.clearStudentRespondents(sessionToUpdate);
-    }
-
     public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException, InvalidParametersException {
 
@@ -1405,6 +1598,15 @@ public final class FeedbackSessionsLogic {
         fsDb.deleteFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} feedback sessions of the course, starting at {@code cursor}.
+     *
+     * @see FeedbackSessionsDb#deleteFeedbackSessionsPageForCourse(String, String, int)
+     */
+    public DeletionPage deleteFeedbackSessionsPageForCourse(String courseId, String cursor, int pageSize) {
+        return fsDb.deleteFeedbackSessionsPageForCourse(courseId, cursor, pageSize);
+    }
+
     /**
      * Permanently deletes a specific feedback session in Recycle Bin, and all its questions and responses.
      */
@@ -1469,31 +1671,50 @@ public final class FeedbackSessionsLogic {
         }
     }
 
+    /**
+     * Gets the session bundled with its response statistics.
+     * The students and instructors of the course are counted with keys-only queries instead of being loaded.
+     */
     public FeedbackSessionDetailsBundle getFeedbackSessionDetails(
             FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
 
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
+
+        return getFeedbackSessionDetails(fsa, questions,
+                studentsLogic.getNumberOfStudentsForCourse(fsa.getCourseId()),
+                instructorsLogic.getNumberOfInstructorsForCourse(fsa.getCourseId()));
+    }
+
+    private FeedbackSessionDetailsBundle getFeedbackSessionDetails(FeedbackSessionAttributes fsa,
+            List<FeedbackQuestionAttributes> questions, int numOfStudents, int numOfInstructors) {
+
         FeedbackSessionDetailsBundle details =
                 new FeedbackSessionDetailsBundle(fsa);
 
         details.stats.expectedTotal = 0;
         details.stats.submittedTotal = 0;
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
-        List<FeedbackQuestionAttributes> questions =
-                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
-        List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
+        boolean hasQuestionsForStudents = false;
+        boolean hasQuestionsForInstructors = false;
+        boolean hasQuestionsForCreator = false;
+        for (FeedbackQuestionAttributes question : questions) {
+            hasQuestionsForStudents |= question.giverType == FeedbackParticipantType.STUDENTS
+                                       || question.giverType == FeedbackParticipantType.TEAMS;
+            hasQuestionsForInstructors |= question.giverType == FeedbackParticipantType.INSTRUCTORS;
+            hasQuestionsForCreator |= question.giverType == FeedbackParticipantType.SELF;
+        }
 
-        if (!studentQns.isEmpty()) {
-            details.stats.expectedTotal += students.size();
+        if (hasQuestionsForStudents) {
+            details.stats.expectedTotal += numOfStudents;
         }
 
-        for (InstructorAttributes instructor : instructors) {
-            List<FeedbackQuestionAttributes> instructorQns =
-                    fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email));
-            if (!instructorQns.isEmpty()) {
-                details.stats.expectedTotal += 1;
-            }
+        if (hasQuestionsForInstructors) {
+            details.stats.expectedTotal += numOfInstructors;
+        } else if (hasQuestionsForCreator
+                && instructorsLogic.getInstructorForEmail(fsa.getCourseId(), fsa.getCreatorEmail()) != null) {
+            // only the creator has questions to answer
+            details.stats.expectedTotal += 1;
         }
 
         details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
@@ -1509,9 +1730,7 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
 
         return getFeedbackSessionResultsForUserInSectionByQuestions(
                 feedbackSessionName, courseId, userEmail, role, section, roster);
@@ -1558,28 +1777,16 @@ public final class FeedbackSessionsLogic {
                 responses.addAll(responsesForThisQn);
                 for (FeedbackResponseAttributes response : responsesForThisQn) {
                     relevantResponse.put(response.getId(), response);
-                    addEmailNamePairsToTable(emailNameTable, response,
-                            question, roster);
-                    addEmailLastNamePairsToTable(emailLastNameTable, response,
-                            question, roster);
-                    addEmailTeamNamePairsToTable(emailTeamNameTable, response,
-                            question, roster);
+                    addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                            response, question, roster);
                     addVisibilityToTable(visibilityTable, question, response,
                             userEmail, role, roster);
                 }
             }
         }
 
-        StudentAttributes student = null;
-        Set<String> studentsEmailInTeam = new HashSet<>();
-        if (isStudent(role)) {
-            student = studentsLogic.getStudentForEmail(courseId, userEmail);
-            List<StudentAttributes> studentsInTeam = studentsLogic
-                    .getStudentsForTeam(student.team, courseId);
-            for (StudentAttributes teammates : studentsInTeam) {
-                studentsEmailInTeam.add(teammates.email);
-            }
-        }
+        StudentAttributes student = getStudent(userEmail, role, roster);
+        Set<String> studentsEmailInTeam = getTeammateEmails(student, roster);
 
         List<FeedbackResponseCommentAttributes> allResponseComments =
                 frcLogic.getFeedbackResponseCommentForSession(courseId,
@@ -1607,7 +1814,7 @@ public final class FeedbackSessionsLogic {
             sortByCreatedDate(responseCommentList);
         }
 
-        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, userEmail, role, feedbackSessionName, section);
 
         return new FeedbackSessionResultsBundle(
                         session, responses, relevantQuestions, emailNameTable,
@@ -1665,10 +1872,10 @@ public final class FeedbackSessionsLogic {
                                                      ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
                                                      : null;
 
-        StudentAttributes student = getStudent(courseId, userEmail, role);
-        Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
+        StudentAttributes student = getStudent(userEmail, role, roster);
+        Set<String> studentsEmailInTeam = getTeammateEmails(student, roster);
 
-        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        InstructorAttributes instructor = getInstructor(userEmail, role, roster);
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackResponseAttributes response : allResponses) {
@@ -1680,9 +1887,8 @@ public final class FeedbackSessionsLogic {
                     responses.add(response);
                     relevantResponse.put(response.getId(), response);
                     relevantQuestions.put(relatedQuestion.getId(), relatedQuestion);
-                    addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
-                    addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
-                    addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
+                    addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                            response, relatedQuestion, roster);
                     addVisibilityToTable(visibilityTable, relatedQuestion, response, userEmail, role, roster);
                 }
             }
@@ -1691,7 +1897,7 @@ public final class FeedbackSessionsLogic {
                 feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
                 studentsEmailInTeam, relevantResponse);
 
-        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, userEmail, role, feedbackSessionName, section);
 
         return new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
@@ -1704,9 +1910,18 @@ public final class FeedbackSessionsLogic {
             Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
-        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         List<FeedbackResponseCommentAttributes> allResponseComments =
                 frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
+        return getVisibleResponseComments(allResponseComments, userEmail, role, roster, relevantQuestions,
+                student, studentsEmailInTeam, relevantResponse);
+    }
+
+    private Map<String, List<FeedbackResponseCommentAttributes>> getVisibleResponseComments(
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
+            Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1740,9 +1955,19 @@ public final class FeedbackSessionsLogic {
         }
     }
 
-    private InstructorAttributes getInstructor(String courseId, String userEmail, UserRole role) {
+    /**
+     * Loads the students and instructors of a course once, so that callee methods can look them up
+     * from the roster rather than reading them from the datastore many times.
+     */
+    private CourseRoster getCourseRoster(String courseId) {
+        return new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+    }
+
+    private InstructorAttributes getInstructor(String userEmail, UserRole role, CourseRoster roster) {
         if (isInstructor(role)) {
-            return instructorsLogic.getInstructorForEmail(courseId, userEmail);
+            return roster.getInstructorForEmail(userEmail);
         }
         return null;
     }
@@ -1750,20 +1975,19 @@ public final class FeedbackSessionsLogic {
     /*
     * Gets emails of student's teammates if student is not null, else returns an empty Set<String>
     */
-    private Set<String> getTeammateEmails(String courseId, StudentAttributes student) {
+    private Set<String> getTeammateEmails(StudentAttributes student, CourseRoster roster) {
         Set<String> studentsEmailInTeam = new HashSet<>();
         if (student != null) {
-            List<StudentAttributes> studentsInTeam = studentsLogic.getStudentsForTeam(student.team, courseId);
-            for (StudentAttributes teammates : studentsInTeam) {
+            for (StudentAttributes teammates : roster.getTeamMembers(student.team)) {
                 studentsEmailInTeam.add(teammates.email);
             }
         }
         return studentsEmailInTeam;
     }
 
-    private StudentAttributes getStudent(String courseId, String userEmail, UserRole role) {
+    private StudentAttributes getStudent(String userEmail, UserRole role, CourseRoster roster) {
         if (isStudent(role)) {
-            return studentsLogic.getStudentForEmail(courseId, userEmail);
+            return roster.getStudentForEmail(userEmail);
         }
         return null;
     }
@@ -1796,22 +2020,21 @@ public final class FeedbackSessionsLogic {
 
                 responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
                                                 question, userEmail, UserRole.INSTRUCTOR, section);
-                StudentAttributes student = getStudent(courseId, userEmail, role);
-                Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
+                StudentAttributes student = getStudent(userEmail, role, roster);
+                Set<String> studentsEmailInTeam = getTeammateEmails(student, roster);
                 boolean hasResponses = !responsesForThisQn.isEmpty();
                 if (hasResponses) {
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+                    InstructorAttributes instructor = getInstructor(userEmail, role, roster);
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
                         boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
                                                                              question, instructor);
                         if (isVisibleResponse) {
                             relevantResponse.put(response.getId(), response);
                             relevantQuestions.put(question.getId(), question);
                             responses.add(response);
-                            addEmailNamePairsToTable(emailNameTable, response, question, roster);
-                            addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
-                            addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
+                            addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                                    response, question, roster);
                             addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
                         }
                     }
@@ -1822,7 +2045,7 @@ public final class FeedbackSessionsLogic {
             }
         }
         addSectionTeamNamesToTable(
-                sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+                sectionTeamNameTable, roster, userEmail, role, feedbackSessionName, section);
 
         return new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
@@ -1830,6 +2053,47 @@ public final class FeedbackSessionsLogic {
                 visibilityTable, responseStatus, roster, responseComments, true);
     }
 
+    /**
+     * Builds the results of a single question as viewed by an instructor, from responses and
+     * comments that have already been loaded by the caller.
+     */
+    private FeedbackSessionResultsBundle getFeedbackSessionResultsForQuestionForCsv(
+            FeedbackSessionAttributes session, FeedbackQuestionAttributes question,
+            Collection<FeedbackResponseAttributes> responsesForQuestion,
+            List<FeedbackResponseCommentAttributes> commentsForQuestion, String userEmail, CourseRoster roster,
+            InstructorAttributes instructor, Map<String, Set<String>> sectionTeamNameTable) {
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+        relevantQuestions.put(question.getId(), question);
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+
+        for (FeedbackResponseAttributes response : responsesForQuestion) {
+            boolean isVisibleResponse = isResponseVisibleForUser(
+                    userEmail, UserRole.INSTRUCTOR, null, null, response, question, instructor);
+            if (isVisibleResponse) {
+                responses.add(response);
+                relevantResponse.put(response.getId(), response);
+                addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                        response, question, roster);
+                addVisibilityToTable(visibilityTable, question, response, userEmail, UserRole.INSTRUCTOR, roster);
+            }
+        }
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getVisibleResponseComments(
+                commentsForQuestion, userEmail, UserRole.INSTRUCTOR, roster, relevantQuestions,
+                null, new HashSet<>(), relevantResponse);
+
+        return new FeedbackSessionResultsBundle(
+                session, responses, relevantQuestions, emailNameTable,
+                emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                visibilityTable, null, roster, responseComments, true);
+    }
+
     private Map<String, FeedbackQuestionAttributes> getAllQuestions(
             UserRole role, Map<String, String> params, List<FeedbackQuestionAttributes> allQuestions) {
         Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
@@ -1883,26 +2147,23 @@ public final class FeedbackSessionsLogic {
     }
 
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
-                                    CourseRoster roster, String courseId, String userEmail, UserRole role,
+                                    CourseRoster roster, String userEmail, UserRole role,
                                     String feedbackSessionName, String sectionToView) {
-        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        InstructorAttributes instructor = getInstructor(userEmail, role, roster);
         if (instructor != null) {
-            for (StudentAttributes student : roster.getStudents()) {
+            boolean isViewingAllSections = sectionToView == null;
+            Set<String> sections = isViewingAllSections ? roster.getSectionNames() : Collections.singleton(sectionToView);
+            for (String section : sections) {
                 boolean isVisibleResponse =
                         instructor.isAllowedForPrivilege(
-                                           student.section,
+                                           section,
                                            feedbackSessionName,
                                            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-                boolean isStudentInSelectedSection = student.section.equals(sectionToView);
-                boolean isViewingAllSections = sectionToView == null;
-
-                if (isVisibleResponse && (isViewingAllSections
-                                          || isStudentInSelectedSection)) {
-                    String section = student.section;
+                Set<String> teamsInSection = roster.getTeamsInSection(section);
 
+                if (isVisibleResponse && !teamsInSection.isEmpty()) {
                     sectionTeamNameTable.computeIfAbsent(section, key -> new HashSet<>())
-                                        .add(student.team);
-
+                                        .addAll(teamsInSection);
                 }
             }
         }
@@ -1976,53 +2237,29 @@ public final class FeedbackSessionsLogic {
         visibilityTable.put(response.getId(), visibility);
     }
 
-    private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        // keys of emailNameTable are participantIdentifiers,
+    /**
+     * Adds the name, last name and team name of the giver and recipient of the response
+     * to the respective tables, looking up each participant only once.
+     */
+    private void addEmailNamePairsToTables(Map<String, String> emailNameTable,
+            Map<String, String> emailLastNameTable, Map<String, String> emailTeamNameTable,
+            FeedbackResponseAttributes response, FeedbackQuestionAttributes question, CourseRoster roster) {
+        // keys of the tables are participantIdentifiers,
         // which consists of students' email, instructors' email, team names, or %GENERAL%.
         // participants identifiers of anonymous responses are not anonymised in the tables
-        addEmailNamePairsToTable(emailNameTable, response, question, roster,
-                EMAIL_NAME_PAIR);
-    }
-
-    private void addEmailLastNamePairsToTable(Map<String, String> emailLastNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        addEmailNamePairsToTable(emailLastNameTable, response, question, roster,
-                EMAIL_LASTNAME_PAIR);
-    }
-
-    private void addEmailTeamNamePairsToTable(
-            Map<String, String> emailTeamNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        addEmailNamePairsToTable(emailTeamNameTable, response, question,
-                roster, EMAIL_TEAMNAME_PAIR);
-    }
-
-    private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster,
-            int pairType) {
         if (question.giverType == FeedbackParticipantType.TEAMS
                 && roster.isStudentInCourse(response.giver)) {
-            emailNameTable.putIfAbsent(
-                        response.giver + Const.TEAM_OF_EMAIL_OWNER,
-                        getNameTeamNamePairForEmail(question.giverType,
-                                response.giver, roster)[pairType]);
+            addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                    response.giver + Const.TEAM_OF_EMAIL_OWNER, response.giver, question.giverType, roster);
 
             StudentAttributes studentGiver = roster.getStudentForEmail(response.giver);
             if (studentGiver != null) {
-                emailNameTable.putIfAbsent(studentGiver.team, getNameTeamNamePairForEmail(
-                        question.giverType,
-                        response.giver, roster)[pairType]);
+                addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                        studentGiver.team, response.giver, question.giverType, roster);
             }
         } else {
-            emailNameTable.putIfAbsent(
-                    response.giver,
-                    getNameTeamNamePairForEmail(question.giverType,
-                            response.giver, roster)[pairType]);
+            addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                    response.giver, response.giver, question.giverType, roster);
         }
 
         FeedbackParticipantType recipientType = null;
@@ -2032,10 +2269,21 @@ public final class FeedbackSessionsLogic {
             recipientType = question.recipientType;
         }
 
-        emailNameTable.putIfAbsent(
-                    response.recipient,
-                    getNameTeamNamePairForEmail(recipientType,
-                                                response.recipient, roster)[pairType]);
+        addEmailNamePairsToTables(emailNameTable, emailLastNameTable, emailTeamNameTable,
+                response.recipient, response.recipient, recipientType, roster);
+    }
+
+    private void addEmailNamePairsToTables(Map<String, String> emailNameTable,
+            Map<String, String> emailLastNameTable, Map<String, String> emailTeamNameTable,
+            String participantIdentifier, String email, FeedbackParticipantType type, CourseRoster roster) {
+        // the three tables are always filled together, so an identifier in one table is in all of them
+        if (emailNameTable.containsKey(participantIdentifier)) {
+            return;
+        }
+        String[] nameTeamNamePair = getNameTeamNamePairForEmail(type, email, roster);
+        emailNameTable.put(participantIdentifier, nameTeamNamePair[EMAIL_NAME_PAIR]);
+        emailLastNameTable.putIfAbsent(participantIdentifier, nameTeamNamePair[EMAIL_LASTNAME_PAIR]);
+        emailTeamNameTable.putIfAbsent(participantIdentifier, nameTeamNamePair[EMAIL_TEAMNAME_PAIR]);
     }
 
     private List<FeedbackSessionDetailsBundle> getFeedbackSessionDetailsForCourse(String courseId)
@@ -2043,9 +2291,21 @@ public final class FeedbackSessionsLogic {
         List<FeedbackSessionDetailsBundle> fsDetails = new ArrayList<>();
         List<FeedbackSessionAttributes> fsInCourse =
                 fsDb.getFeedbackSessionsForCourse(courseId);
+        if (fsInCourse.isEmpty()) {
+            return fsDetails;
+        }
+
+        Map<String, List<FeedbackQuestionAttributes>> questionsBySession = new HashMap<>();
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForCourse(courseId)) {
+            questionsBySession.computeIfAbsent(question.feedbackSessionName, name -> new ArrayList<>()).add(question);
+        }
+        int numOfStudents = studentsLogic.getNumberOfStudentsForCourse(courseId);
+        int numOfInstructors = instructorsLogic.getNumberOfInstructorsForCourse(courseId);
 
         for (FeedbackSessionAttributes fsa : fsInCourse) {
-            fsDetails.add(getFeedbackSessionDetails(fsa));
+            List<FeedbackQuestionAttributes> questions =
+                    questionsBySession.getOrDefault(fsa.getFeedbackSessionName(), new ArrayList<>());
+            fsDetails.add(getFeedbackSessionDetails(fsa, questions, numOfStudents, numOfInstructors));
         }
 
         return fsDetails;
@@ -2174,8 +2434,15 @@ public final class FeedbackSessionsLogic {
                 fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName,
                         courseId);
 
+        boolean hasQuestionWithoutFixedRecipients = allQuestions.stream()
+                .anyMatch(question -> question.numberOfEntitiesToGiveFeedbackTo == Const.MAX_POSSIBLE_RECIPIENTS);
+        Map<String, Map<String, String>> recipientsForQuestions = hasQuestionWithoutFixedRecipients
+                ? fqLogic.getRecipientsForQuestions(allQuestions, userEmail, getCourseRoster(courseId))
+                : new HashMap<>();
+
         for (FeedbackQuestionAttributes question : allQuestions) {
-            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail)) {
+            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail,
+                    recipientsForQuestions.get(question.getId()))) {
                 // If any question is not completely answered, session is not
                 // completed
                 return false;
@@ -2184,6 +2451,90 @@ public final class FeedbackSessionsLogic {
         return true;
     }
 
+    /**
+     * Gets the emails of the students of the course who have not fully completed the session, i.e. the students
+     * for whom {@link #isFeedbackSessionFullyCompletedByStudent(String, String, String)} is false.
+     * The questions, responses and roster are read once for the whole course.
+     */
+    public Set<String> getStudentsWhoHaveNotFullyCompletedSession(FeedbackSessionAttributes session) {
+        Set<String> studentEmails = new HashSet<>();
+
+        List<FeedbackQuestionAttributes> studentQuestions =
+                fqLogic.getFeedbackQuestionsForStudents(session.getFeedbackSessionName(), session.getCourseId());
+        if (studentQuestions.isEmpty()) {
+            return studentEmails;
+        }
+
+        Map<String, Map<String, Integer>> numResponsesByGiverForQuestion = new HashMap<>();
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), session.getCourseId())) {
+            numResponsesByGiverForQuestion.computeIfAbsent(response.feedbackQuestionId, id -> new HashMap<>())
+                    .merge(response.giver, 1, Integer::sum);
+        }
+
+        CourseRoster roster = getCourseRoster(session.getCourseId());
+        for (StudentAttributes student : roster.getStudents()) {
+            for (FeedbackQuestionAttributes question : studentQuestions) {
+                Map<String, Integer> numResponsesByGiver = numResponsesByGiverForQuestion.get(question.getId());
+                int numResponsesGiven = numResponsesByGiver == null
+                                        ? 0
+                                        : numResponsesByGiver.getOrDefault(student.email, 0);
+                int numResponsesNeeded = question.numberOfEntitiesToGiveFeedbackTo;
+                if (numResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
+                    numResponsesNeeded = fqLogic.getRecipientsForQuestion(question, student.email, roster).size();
+                }
+                if (numResponsesGiven < numResponsesNeeded) {
+                    studentEmails.add(student.email);
+                    break;
+                }
+            }
+        }
+        return studentEmails;
+    }
+
+    /**
+     * Gets the students of the course who have not completed the session, i.e. the students
+     * for whom {@link #isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes, String)} is false.
+     */
+    public List<StudentAttributes> getStudentsWhoHaveNotCompletedSession(FeedbackSessionAttributes session) {
+        List<StudentAttributes> students = new ArrayList<>();
+
+        List<FeedbackQuestionAttributes> studentQuestions =
+                fqLogic.getFeedbackQuestionsForStudents(session.getFeedbackSessionName(), session.getCourseId());
+        if (studentQuestions.isEmpty()) {
+            return students;
+        }
+
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(session.getCourseId())) {
+            if (!session.getRespondingStudentList().contains(student.email)) {
+                students.add(student);
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Gets the instructors of the course who have not completed the session, i.e. the instructors
+     * for whom {@link #isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes, String)} is false.
+     *
+     * <p>Only the responses given as an instructor count, even if the instructor is also a student of the course.
+     */
+    public List<InstructorAttributes> getInstructorsWhoHaveNotCompletedSession(FeedbackSessionAttributes session) {
+        List<InstructorAttributes> instructors = new ArrayList<>();
+
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+
+        for (InstructorAttributes instructor : instructorsLogic.getInstructorsForCourse(session.getCourseId())) {
+            if (!session.getRespondingInstructorList().contains(instructor.email)
+                    && !fqLogic.getFeedbackQuestionsForInstructor(questions, session.isCreator(instructor.email))
+                            .isEmpty()) {
+                instructors.add(instructor);
+            }
+        }
+        return instructors;
+    }
+
     /**
      * Checks whether the feedback session is viewable to the specified user.
      */
@@ -1,8 +1,12 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -113,6 +117,27 @@ public final class InstructorsLogic {
         return instructorReturnList;
     }
 
+    /**
+     * Issues the queries for the instructors of each of the given courses without waiting for their results.
+     *
+     * @return a supplier of a map of course ID to the instructors of the course, sorted by name
+     *         as in {@link #getInstructorsForCourse}, in the order of the given course IDs
+     */
+    public Supplier<Map<String, List<InstructorAttributes>>> getInstructorsForCoursesAsync(
+            Collection<String> courseIds) {
+        Supplier<Map<String, List<InstructorAttributes>>> instructorsByCourseSupplier =
+                instructorsDb.getInstructorsForCoursesAsync(courseIds);
+        return () -> {
+            Map<String, List<InstructorAttributes>> instructorsByCourse = instructorsByCourseSupplier.get();
+            instructorsByCourse.values().forEach(instructors -> instructors.sort(InstructorAttributes.COMPARE_BY_NAME));
+            return instructorsByCourse;
+        };
+    }
+
+    public int getNumberOfInstructorsForCourse(String courseId) {
+        return instructorsDb.getNumberOfInstructorsForCourse(courseId);
+    }
+
     public List<InstructorAttributes> getInstructorsForGoogleId(String googleId) {
 
         return getInstructorsForGoogleId(googleId, false);
@@ -276,6 +301,16 @@ public final class InstructorsLogic {
         instructorsDb.deleteInstructorsForCourse(courseId);
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} instructors of the course, starting at {@code cursor},
+     * together with their search documents.
+     *
+     * @see InstructorsDb#deleteInstructorsPageForCourse(String, String, int)
+     */
+    public DeletionPage deleteInstructorsPageForCourse(String courseId, String cursor, int pageSize) {
+        return instructorsDb.deleteInstructorsPageForCourse(courseId, cursor, pageSize);
+    }
+
     public List<InstructorAttributes> getCoOwnersForCourse(String courseId) {
         List<InstructorAttributes> instructors = getInstructorsForCourse(courseId);
         List<InstructorAttributes> instructorsWithCoOwnerPrivileges = new ArrayList<>();
@@ -1,6 +1,9 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.ws.rs.core.MediaType;
 
@@ -10,9 +13,11 @@ import com.sun.jersey.api.client.WebResource;
 import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 
 /**
@@ -25,6 +30,11 @@ public class MailgunService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of recipients of a batch email allowed by Mailgun.
+     */
+    private static final int MAX_RECIPIENTS_PER_REQUEST = 1000;
+
     /**
      * {@inheritDoc}
      */
@@ -50,23 +60,73 @@ public class MailgunService extends EmailSenderService {
         return formData;
     }
 
+    /**
+     * Parses the {@code wrappers}, which differ only in their recipients and substitutions,
+     * to one batch email whose recipient variables fill in the placeholders of the shared content.
+     */
+    public FormDataMultiPart parseToBatchEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper first = wrappers.get(0);
+        FormDataMultiPart formData = new FormDataMultiPart();
+
+        String sender = first.getSenderName() == null || first.getSenderName().isEmpty()
+                        ? first.getSenderEmail()
+                        : first.getSenderName() + " <" + first.getSenderEmail() + ">";
+        formData.field("from", sender);
+
+        // the recipient variables also keep each recipient from seeing the others
+        Map<String, Map<String, String>> recipientVariables = new LinkedHashMap<>();
+        for (EmailWrapper wrapper : wrappers) {
+            formData.field("to", wrapper.getRecipient());
+            recipientVariables.put(wrapper.getRecipient(), wrapper.getSubstitutions());
+        }
+        formData.field("recipient-variables", JsonUtils.toJson(recipientVariables));
+
+        formData.field("h:Reply-To", first.getReplyTo());
+        formData.field("subject", first.getSubject());
+        formData.field("html", first.getSharedContent());
+
+        return formData;
+    }
+
     @Override
-    protected void sendEmailWithService(EmailWrapper wrapper) {
+    protected void sendEmailWithService(EmailWrapper wrapper) throws EmailSendingException {
         try (FormDataMultiPart email = parseToEmail(wrapper)) {
-            Client client = Client.create();
-            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
-            WebResource webResource =
-                    client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+            ClientResponse response = postMessage(email);
 
-            ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
-                    .post(ClientResponse.class, email);
+            if (isNotSuccessStatus(response.getStatus())) {
+                throw new EmailSendingException("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
+            }
+        } catch (IOException e) {
+            log.warning("Could not clean up resources after sending email: " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+    @Override
+    protected int getMaxRecipientsPerRequest() {
+        return MAX_RECIPIENTS_PER_REQUEST;
+    }
+
+    @Override
+    protected void sendEmailBatchWithService(List<EmailWrapper> wrappers) throws EmailSendingException {
+        try (FormDataMultiPart email = parseToBatchEmail(wrappers)) {
+            ClientResponse response = postMessage(email);
 
             if (isNotSuccessStatus(response.getStatus())) {
-                log.severe("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
+                throw new EmailSendingException("Batch email failed to send: "
+                                                + response.getStatusInfo().getReasonPhrase());
             }
         } catch (IOException e) {
             log.warning("Could not clean up resources after sending email: " + TeammatesException.toStringWithStackTrace(e));
         }
     }
 
+    private ClientResponse postMessage(FormDataMultiPart email) {
+        Client client = Client.create();
+        client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+        WebResource webResource =
+                client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+
+        return webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE).post(ClientResponse.class, email);
+    }
+
 }
@@ -11,9 +11,9 @@ import com.mailjet.client.errors.MailjetException;
 import com.mailjet.client.errors.MailjetSocketTimeoutException;
 import com.mailjet.client.resource.Email;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.Logger;
 
 /**
  * Email sender service provided by Mailjet.
@@ -25,8 +25,6 @@ import teammates.common.util.Logger;
  */
 public class MailjetService extends EmailSenderService {
 
-    private static final Logger log = Logger.getLogger();
-
     /**
      * {@inheritDoc}
      */
@@ -51,12 +49,13 @@ public class MailjetService extends EmailSenderService {
     }
 
     @Override
-    protected void sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
+    protected void sendEmailWithService(EmailWrapper wrapper)
+            throws MailjetException, MailjetSocketTimeoutException, EmailSendingException {
         MailjetRequest email = parseToEmail(wrapper);
         MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
         MailjetResponse response = mailjet.post(email);
         if (isNotSuccessStatus(response.getStatus())) {
-            log.severe("Email failed to send: " + response.getData().toString());
+            throw new EmailSendingException("Email failed to send: " + response.getData().toString());
         }
     }
 
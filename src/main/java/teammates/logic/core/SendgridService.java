@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.jsoup.Jsoup;
 
@@ -13,9 +14,9 @@ import com.sendgrid.Request;
 import com.sendgrid.Response;
 import com.sendgrid.SendGrid;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.Logger;
 
 /**
  * Email sender service provided by SendGrid.
@@ -25,7 +26,10 @@ import teammates.common.util.Logger;
  */
 public class SendgridService extends EmailSenderService {
 
-    private static final Logger log = Logger.getLogger();
+    /**
+     * Maximum number of personalizations of an email allowed by SendGrid.
+     */
+    private static final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
 
     /**
      * {@inheritDoc}
@@ -53,18 +57,62 @@ public class SendgridService extends EmailSenderService {
         return email;
     }
 
+    /**
+     * Parses the {@code wrappers}, which differ only in their recipients and substitutions,
+     * to one email with a personalization per recipient that fills in the placeholders of the shared content.
+     */
+    public Mail parseToBatchEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper first = wrappers.get(0);
+        Mail email = new Mail();
+        Email sender;
+        if (first.getSenderName() == null || first.getSenderName().isEmpty()) {
+            sender = new Email(first.getSenderEmail());
+        } else {
+            sender = new Email(first.getSenderEmail(), first.getSenderName());
+        }
+        email.setFrom(sender);
+        email.setReplyTo(new Email(first.getReplyTo()));
+        for (EmailWrapper wrapper : wrappers) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(wrapper.getRecipient()));
+            wrapper.getSubstitutions().forEach((key, value) ->
+                    personalization.addSubstitution(EmailWrapper.getSubstitutionPlaceholder(key), value));
+            email.addPersonalization(personalization);
+        }
+        email.setSubject(first.getSubject());
+        email.addContent(new Content("text/plain", Jsoup.parse(first.getSharedContent()).text()));
+        email.addContent(new Content("text/html", first.getSharedContent()));
+        return email;
+    }
+
     @Override
-    protected void sendEmailWithService(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
+    protected void sendEmailWithService(EmailWrapper wrapper) throws IOException, EmailSendingException {
+        Response response = postMail(parseToEmail(wrapper));
+        if (isNotSuccessStatus(response.getStatusCode())) {
+            throw new EmailSendingException("Email failed to send: " + response.getBody());
+        }
+    }
+
+    @Override
+    protected int getMaxRecipientsPerRequest() {
+        return MAX_PERSONALIZATIONS_PER_REQUEST;
+    }
+
+    @Override
+    protected void sendEmailBatchWithService(List<EmailWrapper> wrappers) throws IOException, EmailSendingException {
+        Response response = postMail(parseToBatchEmail(wrappers));
+        if (isNotSuccessStatus(response.getStatusCode())) {
+            throw new EmailSendingException("Batch email failed to send: " + response.getBody());
+        }
+    }
+
+    private Response postMail(Mail email) throws IOException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
         request.setBody(email.build());
-        Response response = sendgrid.api(request);
-        if (isNotSuccessStatus(response.getStatusCode())) {
-            log.severe("Email failed to send: " + response.getBody());
-        }
+        return sendgrid.api(request);
     }
 
 }
@@ -1,9 +1,15 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.StudentAttributesFactory;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
@@ -91,6 +97,14 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId);
     }
 
+    public Map<String, List<StudentAttributes>> getStudentsForCourses(Collection<String> courseIds) {
+        return studentsDb.getStudentsForCourses(courseIds);
+    }
+
+    public int getNumberOfStudentsForCourse(String courseId) {
+        return studentsDb.getNumberOfStudentsForCourse(courseId);
+    }
+
     public List<StudentAttributes> getStudentsForTeam(String teamName, String courseId) {
         return studentsDb.getStudentsForTeam(teamName, courseId);
     }
@@ -276,31 +290,18 @@ public final class StudentsLogic {
         }
 
         List<StudentAttributes> studentList = createStudents(enrollLines, courseId);
-        ArrayList<StudentAttributes> returnList = new ArrayList<>();
-        ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
 
         verifyIsWithinSizeLimitPerEnrollment(studentList);
-        validateSectionsAndTeams(studentList, courseId);
-
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
-        for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
-
-            enrollmentDetails = enrollStudent(student, hasDocument);
-            student.updateStatus = enrollmentDetails.updateStatus;
+        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        validateSectionsAndTeams(getMergedList(studentList, studentsInCourse));
 
-            enrollmentList.add(enrollmentDetails);
-            returnList.add(student);
-        }
+        List<StudentEnrollDetails> enrollmentList = enrollStudents(studentList, studentsInCourse, hasDocument);
+        List<StudentAttributes> returnList = new ArrayList<>(studentList);
 
         // add to return list students not included in the enroll list.
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
-        for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, returnList)) {
-                student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
-                returnList.add(student);
-            }
+        for (StudentAttributes student : getStudentsNotInEnrollList(studentList, studentsInCourse)) {
+            student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
+            returnList.add(student);
         }
 
         return new CourseEnrollmentResult(returnList, enrollmentList);
@@ -316,8 +317,10 @@ public final class StudentsLogic {
      * Validates sections for any limit violations and teams for any team name violations.
      */
     public void validateSectionsAndTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
+        validateSectionsAndTeams(getMergedList(studentList, getStudentsForCourse(courseId)));
+    }
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+    private void validateSectionsAndTeams(List<StudentAttributes> mergedList) throws EnrollException {
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -336,7 +339,7 @@ public final class StudentsLogic {
      */
     public void validateTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+        List<StudentAttributes> mergedList = getMergedList(studentList, getStudentsForCourse(courseId));
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -350,21 +353,32 @@ public final class StudentsLogic {
 
     }
 
-    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
+    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList,
+            List<StudentAttributes> studentsInCourse) {
 
-        List<StudentAttributes> mergedList = new ArrayList<>();
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        List<StudentAttributes> mergedList = new ArrayList<>(studentList);
+        mergedList.addAll(getStudentsNotInEnrollList(studentList, studentsInCourse));
+        return mergedList;
+    }
 
+    /**
+     * Returns the students in {@code studentsInCourse} whose emails, ignoring case,
+     * are not in {@code studentList}.
+     */
+    private List<StudentAttributes> getStudentsNotInEnrollList(List<StudentAttributes> studentList,
+            List<StudentAttributes> studentsInCourse) {
+        Set<String> listedEmails = new HashSet<>();
         for (StudentAttributes student : studentList) {
-            mergedList.add(student);
+            listedEmails.add(student.email.toLowerCase());
         }
 
+        List<StudentAttributes> studentsNotInEnrollList = new ArrayList<>();
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
-                mergedList.add(student);
+            if (listedEmails.add(student.email.toLowerCase())) {
+                studentsNotInEnrollList.add(student);
             }
         }
-        return mergedList;
+        return studentsNotInEnrollList;
     }
 
     public String getSectionForTeam(String courseId, String teamName) {
@@ -490,6 +504,16 @@ public final class StudentsLogic {
         studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} students of the course, starting at {@code cursor},
+     * together with their search documents.
+     *
+     * @see StudentsDb#deleteStudentsPageForCourse(String, String, int)
+     */
+    public DeletionPage deleteStudentsPageForCourse(String courseId, String cursor, int pageSize) {
+        return studentsDb.deleteStudentsPageForCourse(courseId, cursor, pageSize);
+    }
+
     public void adjustFeedbackResponseForEnrollments(
             List<StudentEnrollDetails> enrollmentList,
             FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
@@ -516,37 +540,58 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
-
-        StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
-        enrollmentDetails.course = validStudentAttributes.course;
-        enrollmentDetails.email = validStudentAttributes.email;
-        enrollmentDetails.newTeam = validStudentAttributes.team;
-        enrollmentDetails.newSection = validStudentAttributes.section;
+    /**
+     * Enrolls the valid {@code students} into the course with {@code studentsInCourse}. New students are
+     * created and modified students are updated with one batched write; unmodified ones are left as they are.
+     * The update status of each student is set accordingly.
+     *
+     * @return the enrollment details of the {@code students}, in the same order.
+     */
+    private List<StudentEnrollDetails> enrollStudents(List<StudentAttributes> students,
+            List<StudentAttributes> studentsInCourse, Boolean hasDocument)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Map<String, StudentAttributes> originalStudents = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            originalStudents.put(student.email, student);
+        }
 
-        boolean isModifyingExistingStudent = originalStudentAttributes != null;
-        if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
-            enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
-        } else if (isModifyingExistingStudent) {
-            updateStudentCascadeWithSubmissionAdjustmentScheduled(originalStudentAttributes.email,
-                                                                  validStudentAttributes, true);
-            enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
+        List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
+        List<StudentAttributes> newStudents = new ArrayList<>();
+        List<StudentAttributes> modifiedStudents = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            StudentAttributes originalStudent = originalStudents.get(student.email);
+
+            StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
+            enrollmentDetails.course = student.course;
+            enrollmentDetails.email = student.email;
+            enrollmentDetails.newTeam = student.team;
+            enrollmentDetails.newSection = student.section;
+
+            if (student.isEnrollInfoSameAs(originalStudent)) {
+                enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
+            } else if (originalStudent == null) {
+                newStudents.add(student);
+                enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
+            } else {
+                student.updateWithExistingRecord(originalStudent);
+                modifiedStudents.add(student);
+                enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
 
-            if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
-                enrollmentDetails.oldTeam = originalStudentAttributes.team;
-            }
-            if (!originalStudentAttributes.section.equals(validStudentAttributes.section)) {
-                enrollmentDetails.oldSection = originalStudentAttributes.section;
+                if (!originalStudent.team.equals(student.team)) {
+                    enrollmentDetails.oldTeam = originalStudent.team;
+                }
+                if (!originalStudent.section.equals(student.section)) {
+                    enrollmentDetails.oldSection = originalStudent.section;
+                }
             }
-        } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
-            enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
+
+            student.updateStatus = enrollmentDetails.updateStatus;
+            enrollmentList.add(enrollmentDetails);
         }
 
-        return enrollmentDetails;
+        studentsDb.putStudents(newStudents, modifiedStudents, hasDocument);
+
+        return enrollmentList;
     }
 
     /**
@@ -637,16 +682,6 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, errorMessage);
     }
 
-    private boolean isInEnrollList(StudentAttributes student,
-            List<StudentAttributes> studentInfoList) {
-        for (StudentAttributes studentInfo : studentInfoList) {
-            if (studentInfo.email.equalsIgnoreCase(student.email)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean isTeamChanged(String originalTeam, String newTeam) {
         return newTeam != null && originalTeam != null
                 && !originalTeam.equals(newTeam);
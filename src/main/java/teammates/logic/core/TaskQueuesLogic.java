@@ -1,9 +1,14 @@
 package teammates.logic.core;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.google.appengine.api.taskqueue.Queue;
+import com.google.appengine.api.taskqueue.QueueConstants;
 import com.google.appengine.api.taskqueue.QueueFactory;
+import com.google.appengine.api.taskqueue.TaskHandle;
 import com.google.appengine.api.taskqueue.TaskOptions;
 
 import teammates.common.util.TaskWrapper;
@@ -13,6 +18,13 @@ import teammates.common.util.TaskWrapper;
  */
 public class TaskQueuesLogic {
 
+    /**
+     * Gets the maximum size in bytes of a task added to a push queue.
+     */
+    public static int getMaxPushTaskSizeBytes() {
+        return QueueConstants.maxPushTaskSizeBytes();
+    }
+
     /**
      * Adds the given task to the specified queue.
      *
@@ -47,4 +59,31 @@ public class TaskQueuesLogic {
         requiredQueue.add(taskToBeAdded);
     }
 
+    /**
+     * Adds a task carrying {@code payload} to the specified pull queue, without waiting for the task to be added.
+     *
+     * <p>Only the errors found before the task is sent to the queue, e.g. an oversized payload, are thrown.
+     */
+    public void addPullTaskAsync(String queueName, byte[] payload) {
+        Queue requiredQueue = QueueFactory.getQueue(queueName);
+        requiredQueue.addAsync(TaskOptions.Builder.withMethod(TaskOptions.Method.PULL).payload(payload));
+    }
+
+    /**
+     * Leases at most {@code countLimit} of the tasks in the specified pull queue for {@code leasePeriod}.
+     * The tasks are leased again when the lease expires before they are deleted.
+     */
+    public List<TaskHandle> leasePullTasks(String queueName, Duration leasePeriod, int countLimit) {
+        Queue requiredQueue = QueueFactory.getQueue(queueName);
+        return requiredQueue.leaseTasks(leasePeriod.toMillis(), TimeUnit.MILLISECONDS, countLimit);
+    }
+
+    /**
+     * Deletes the given leased tasks from the specified pull queue.
+     */
+    public void deletePullTasks(String queueName, List<TaskHandle> tasks) {
+        Queue requiredQueue = QueueFactory.getQueue(queueName);
+        requiredQueue.deleteTask(tasks);
+    }
+
 }
@@ -3,7 +3,9 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -60,6 +62,25 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return googleId.isEmpty() ? null : makeAttributesOrNull(getAccountEntity(googleId));
     }
 
+    /**
+     * Gets the accounts of the given Google IDs with a single batched lookup.
+     *
+     * <br/> Preconditions: <br/>
+     * * All parameters are non-null and no Google ID is empty.
+     *
+     * @return a map of Google ID to account, excluding the Google IDs without an account
+     */
+    public Map<String, AccountAttributes> getAccounts(Collection<String> googleIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleIds);
+
+        Map<String, AccountAttributes> accounts = new HashMap<>();
+        if (googleIds.isEmpty()) {
+            return accounts;
+        }
+        load().ids(googleIds).forEach((googleId, entity) -> accounts.put(googleId, makeAttributes(entity)));
+        return accounts;
+    }
+
     /**
      * Returns {@link AccountAttributes} objects for all accounts with instructor privileges.
      *         Returns an empty list if no such accounts are found.
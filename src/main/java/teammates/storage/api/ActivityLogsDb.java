@@ -0,0 +1,225 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.ActivityLogsPage;
+import teammates.common.datatransfer.DeletionPage;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.ActivityLog;
+
+/**
+ * Handles operations related to the entries of the admin activity log.
+ *
+ * <p>The entries are never updated once recorded and have no attributes class of their own,
+ * hence this class does not extend {@link EntitiesDb}.
+ *
+ * @see ActivityLog
+ * @see ActivityLogEntry
+ */
+public class ActivityLogsDb {
+
+    /**
+     * The number of entries deleted with each page by {@link #deleteActivityLogsBefore(Instant)}.
+     */
+    private static final int DELETION_PAGE_SIZE = 500;
+
+    private static final String CURSOR_SEPARATOR = "-";
+
+    /**
+     * Records the given activity log entry, which was served by the app version {@code version}.
+     *
+     * <p>The entry is written immediately, so that a failure to write it is thrown to the caller
+     * instead of failing the writes deferred to the end of the request.
+     *
+     * @param courseId the ID of the course the request was for, or null if it was not for a course
+     */
+    public void createActivityLog(ActivityLogEntry entry, String courseId, String version) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entry);
+
+        ofy().save().entity(new ActivityLog(entry, courseId, version)).now();
+    }
+
+    /**
+     * Queues the recording of the given activity log entry, which was served by the app version {@code version}.
+     * No actual writes are done until {@link EntitiesDb#flush()} is called, so that many entries
+     * can be recorded with one batched write.
+     *
+     * @param courseId the ID of the course the request was for, or null if it was not for a course
+     */
+    public void createActivityLogDeferred(ActivityLogEntry entry, String courseId, String version) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entry);
+
+        ofy().defer().save().entity(new ActivityLog(entry, courseId, version));
+    }
+
+    /**
+     * Gets the page of at most {@code limit} of the latest activity log entries logged within the given time period,
+     * latest first.
+     *
+     * <p>The query filters only by version, testing data and either the user or the course, the combinations
+     * served by the composite indexes declared in datastore-indexes.xml. The other filters are applied
+     * to the entries read, reading further pages of the query as needed.
+     *
+     * <p>The pages of the query, and the pages returned, continue from the log time of the earliest entry read,
+     * skipping the entries of that time which are read already. Thus no entries are missed even when several
+     * are logged at the same time. The Datastore does not allow query cursors with {@code IN} filters.
+     *
+     * @param cursor the cursor of the page as given by the previous page, which continues from where that page
+     *               ended instead of from {@code endTime}, or null for the first page
+     * @param versions the app versions to get the entries of
+     * @param actionNames if not null, only the entries of these actions (in lower case) are returned
+     * @param userRoles if not null, only the entries of these user roles (in lower case) are returned
+     * @param userIdentifier if not null, only the entries of the user with this Google ID or email are returned,
+     *                       ignoring case
+     * @param courseId if not null, only the entries of the requests for this course are returned
+     * @param isTestingDataIncluded whether the entries related to testing data are returned
+     */
+    public ActivityLogsPage getActivityLogs(long startTime, long endTime, String cursor, List<String> versions,
+            List<String> actionNames, List<String> userRoles, String userIdentifier, String courseId,
+            boolean isTestingDataIncluded, int limit) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, versions);
+
+        // no entries would match filters with no values, which are not allowed in IN filters either
+        if (versions.isEmpty() || (actionNames != null && actionNames.isEmpty())
+                || (userRoles != null && userRoles.isEmpty())) {
+            return new ActivityLogsPage(new ArrayList<>(), null);
+        }
+
+        Query<ActivityLog> query = load()
+                .filter("logTime >=", Instant.ofEpochMilli(startTime))
+                .order("-logTime");
+        if (!isTestingDataIncluded) {
+            query = query.filter("isTestingData =", false);
+        }
+        String courseIdNotFiltered = courseId;
+        if (userIdentifier != null) {
+            query = query.filter("userIdentifiersInLowerCase =", userIdentifier.toLowerCase());
+        } else if (courseId != null) {
+            query = query.filter("courseId =", courseId);
+            courseIdNotFiltered = null;
+        }
+        query = query.filter("version in", versions);
+
+        // the log time the next page starts from, and the IDs of the entries of that time which are read already
+        long pageEndTime = endTime;
+        Set<Long> idsReadAtPageEndTime = new HashSet<>();
+        if (cursor != null) {
+            String[] cursorParts = cursor.split(CURSOR_SEPARATOR, -1);
+            pageEndTime = Long.parseLong(cursorParts[0]);
+            for (int i = 1; i < cursorParts.length; i++) {
+                idsReadAtPageEndTime.add(Long.parseLong(cursorParts[i]));
+            }
+        }
+
+        List<ActivityLogEntry> entries = new ArrayList<>();
+        while (true) {
+            // the entries read already are read again, so that at least a page of unread entries is read
+            int pageSize = limit + idsReadAtPageEndTime.size();
+            List<ActivityLog> entities = query.filter("logTime <=", Instant.ofEpochMilli(pageEndTime))
+                    .limit(pageSize)
+                    .list();
+            for (ActivityLog entity : entities) {
+                long logTime = entity.getLogTime().toEpochMilli();
+                if (logTime == pageEndTime && idsReadAtPageEndTime.contains(entity.getActivityLogId())) {
+                    continue;
+                }
+                if (logTime != pageEndTime) {
+                    pageEndTime = logTime;
+                    idsReadAtPageEndTime.clear();
+                }
+                idsReadAtPageEndTime.add(entity.getActivityLogId());
+
+                boolean isMatching = (actionNames == null || actionNames.contains(entity.getActionNameInLowerCase()))
+                        && (userRoles == null || userRoles.contains(entity.getUserRoleInLowerCase()))
+                        && (courseIdNotFiltered == null || courseIdNotFiltered.equals(entity.getCourseId()));
+                if (isMatching) {
+                    entries.add(makeActivityLogEntry(entity));
+                    if (entries.size() == limit) {
+                        return new ActivityLogsPage(entries, makeCursor(pageEndTime, idsReadAtPageEndTime));
+                    }
+                }
+            }
+            if (entities.size() < pageSize) {
+                return new ActivityLogsPage(entries, null);
+            }
+        }
+    }
+
+    /**
+     * Deletes the activity log entries logged in the hours before the hour of {@code time}, one page at a time.
+     */
+    public void deleteActivityLogsBefore(Instant time) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, time);
+
+        String cursor = null;
+        do {
+            cursor = deleteActivityLogsPageBefore(time, cursor, DELETION_PAGE_SIZE).getNextCursor();
+        } while (cursor != null);
+    }
+
+    /**
+     * Deletes the page of at most {@code pageSize} of the activity log entries logged in the hours before
+     * the hour of {@code time} which starts at {@code cursor}, loading only the keys of the entries.
+     *
+     * @param cursor the cursor of the page as given by the previous page, or null for the first page
+     */
+    public DeletionPage deleteActivityLogsPageBefore(Instant time, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, time);
+
+        Query<ActivityLog> query = load().filter("timeBucket <", ActivityLog.getTimeBucket(time.toEpochMilli()));
+        if (cursor != null) {
+            query = query.startAt(Cursor.fromWebSafeString(cursor));
+        }
+        QueryResultIterator<Key<ActivityLog>> iterator = query.limit(pageSize).keys().iterator();
+        List<Key<ActivityLog>> keys = new ArrayList<>();
+        iterator.forEachRemaining(keys::add);
+
+        ofy().delete().keys(keys).now();
+
+        Cursor nextCursor = iterator.getCursor();
+        boolean isLastPage = keys.size() < pageSize || nextCursor == null;
+        return new DeletionPage(keys.size(), isLastPage ? null : nextCursor.toWebSafeString());
+    }
+
+    private String makeCursor(long pageEndTime, Set<Long> idsReadAtPageEndTime) {
+        StringBuilder cursor = new StringBuilder(Long.toString(pageEndTime));
+        for (Long id : idsReadAtPageEndTime) {
+            cursor.append(CURSOR_SEPARATOR).append(id);
+        }
+        return cursor.toString();
+    }
+
+    private ActivityLogEntry makeActivityLogEntry(ActivityLog entity) {
+        return new ActivityLogEntry.Builder(entity.getActionName(), entity.getActionUrl(),
+                                            entity.getLogTime().toEpochMilli())
+                .withActionResponse(entity.getActionResponse())
+                .withActionTimeTaken(entity.getActionTimeTaken())
+                .withLogId(entity.getLogId())
+                .withLogMessage(entity.getLogMessage())
+                .withMasqueradeUserRole(entity.isMasqueradeUserRole())
+                .withUserEmail(entity.getUserEmail())
+                .withUserGoogleId(entity.getUserGoogleId())
+                .withUserName(entity.getUserName())
+                .withUserRole(entity.getUserRole())
+                .build();
+    }
+
+    private LoadType<ActivityLog> load() {
+        return ofy().load().type(ActivityLog.class);
+    }
+
+}
@@ -0,0 +1,139 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.googlecode.objectify.Work;
+
+import teammates.common.datatransfer.CourseDeletionStatus;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.CourseDeletion;
+
+/**
+ * Handles operations related to the checkpoints of the permanent deletion of courses.
+ *
+ * <p>The checkpoints have no attributes class of their own, hence this class does not extend {@link EntitiesDb}.
+ *
+ * @see CourseDeletion
+ * @see CourseDeletionStatus
+ */
+public class CourseDeletionsDb {
+
+    /**
+     * Creates the checkpoint of the deletion of the course of {@code status}, unless there is one already.
+     * The check and the creation are done in one transaction, so that concurrent requests cannot both create it.
+     *
+     * <p>{@code onCreation} is run in the same transaction once the checkpoint is saved. A task added to
+     * a task queue by it is added only if the transaction commits, so that the deletion is continued
+     * if and only if its checkpoint is created.
+     *
+     * @return false if there is a checkpoint of the deletion of the course already
+     */
+    public boolean createCourseDeletionStatus(CourseDeletionStatus status, Runnable onCreation) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, status);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, onCreation);
+        Assumption.assertFalse("The deletion is done", status.isDone());
+
+        return ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                if (ofy().load().type(CourseDeletion.class).id(status.getCourseId()).now() != null) {
+                    return false;
+                }
+                ofy().save().entity(new CourseDeletion(status)).now();
+                onCreation.run();
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Runs {@code onNoDeletion} unless the deletion of the course has been started.
+     * The check and {@code onNoDeletion} are run in one transaction on the checkpoint, so that a deletion started
+     * concurrently makes the transaction retry and find the checkpoint, instead of the deletion being missed.
+     *
+     * <p>{@code onNoDeletion} may be run more than once if the transaction is retried.
+     *
+     * @return false if the deletion of the course has been started, in which case {@code onNoDeletion} is not run
+     */
+    public boolean runUnlessCourseDeletionStarted(String courseId, Runnable onNoDeletion) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, onNoDeletion);
+
+        return ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                if (ofy().load().type(CourseDeletion.class).id(courseId).now() != null) {
+                    return false;
+                }
+                onNoDeletion.run();
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Creates or updates the checkpoint of the deletion of the course of {@code status}.
+     */
+    public void putCourseDeletionStatus(CourseDeletionStatus status) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, status);
+        Assumption.assertFalse("The deletion is done", status.isDone());
+
+        ofy().save().entity(new CourseDeletion(status)).now();
+    }
+
+    /**
+     * Gets the checkpoint of the deletion of the course.
+     *
+     * @return null if the course is not being deleted
+     */
+    public CourseDeletionStatus getCourseDeletionStatus(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeCourseDeletionStatus(ofy().load().type(CourseDeletion.class).id(courseId).now());
+    }
+
+    /**
+     * Gets the checkpoints of the deletion of those of the given courses which are being deleted,
+     * with one batched lookup.
+     *
+     * @return a map of course ID to the checkpoint, in the order of the given course IDs
+     */
+    public Map<String, CourseDeletionStatus> getCourseDeletionStatuses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        Map<String, CourseDeletion> entities = ofy().load().type(CourseDeletion.class).ids(courseIds);
+
+        Map<String, CourseDeletionStatus> statuses = new LinkedHashMap<>();
+        for (String courseId : courseIds) {
+            if (entities.containsKey(courseId)) {
+                statuses.put(courseId, makeCourseDeletionStatus(entities.get(courseId)));
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Deletes the checkpoint of the deletion of the course.
+     *
+     * <p>Fails silently if there is no such checkpoint.
+     */
+    public void deleteCourseDeletionStatus(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().delete().type(CourseDeletion.class).id(courseId).now();
+    }
+
+    private CourseDeletionStatus makeCourseDeletionStatus(CourseDeletion entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new CourseDeletionStatus(entity.getCourseId(), CourseDeletionStatus.Stage.valueOf(entity.getStage()),
+                entity.getCursor(), entity.getNumberOfEntitiesDeleted());
+    }
+
+}
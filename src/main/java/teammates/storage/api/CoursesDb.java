@@ -103,6 +103,23 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         saveEntity(courseEntityToUpdate, courseToUpdate);
     }
 
+    /**
+     * Restores the course from Recycle Bin, reading the course afresh so that this can be run in a transaction.
+     *
+     * <p>Fails silently if there is no such course.
+     */
+    public void restoreCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Course courseEntityToRestore = getCourseEntity(courseId);
+        if (courseEntityToRestore == null) {
+            return;
+        }
+        courseEntityToRestore.setDeletedAt(null);
+
+        saveEntity(courseEntityToRestore, makeAttributes(courseEntityToRestore));
+    }
+
     /**
      * Permanently deletes the course from the Datastore.
      *
@@ -4,20 +4,30 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
@@ -233,6 +243,53 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         ofy().delete().entities(entitiesToDelete).now();
     }
 
+    /**
+     * Deletes the page of at most {@code pageSize} entities matched by {@code query} which starts at {@code cursor},
+     * loading only the keys of the entities.
+     *
+     * @param cursor the cursor of the page as given by the previous page, or null for the first page
+     * @param beforeDeletion given the keys of the entities before they are deleted
+     */
+    protected DeletionPage deleteEntitiesPage(Query<E> query, String cursor, int pageSize,
+            Consumer<List<Key<E>>> beforeDeletion) {
+        QueryResultIterator<Key<E>> iterator = startAt(query, cursor).limit(pageSize).keys().iterator();
+        List<Key<E>> keys = new ArrayList<>();
+        iterator.forEachRemaining(keys::add);
+
+        beforeDeletion.accept(keys);
+        ofy().delete().keys(keys).now();
+
+        return makeDeletionPage(keys.size(), pageSize, iterator.getCursor());
+    }
+
+    /**
+     * Deletes the page of at most {@code pageSize} entities matched by {@code query} which starts at {@code cursor},
+     * loading the entities for the deletion of the data related to them.
+     *
+     * @param cursor the cursor of the page as given by the previous page, or null for the first page
+     * @param beforeDeletion given the entities before they are deleted
+     */
+    protected DeletionPage deleteLoadedEntitiesPage(Query<E> query, String cursor, int pageSize,
+            Consumer<List<E>> beforeDeletion) {
+        QueryResultIterator<E> iterator = startAt(query, cursor).limit(pageSize).iterator();
+        List<E> entities = new ArrayList<>();
+        iterator.forEachRemaining(entities::add);
+
+        beforeDeletion.accept(entities);
+        ofy().delete().entities(entities).now();
+
+        return makeDeletionPage(entities.size(), pageSize, iterator.getCursor());
+    }
+
+    private Query<E> startAt(Query<E> query, String cursor) {
+        return cursor == null ? query : query.startAt(Cursor.fromWebSafeString(cursor));
+    }
+
+    private DeletionPage makeDeletionPage(int numberOfEntitiesDeleted, int pageSize, Cursor nextCursor) {
+        boolean isLastPage = numberOfEntitiesDeleted < pageSize || nextCursor == null;
+        return new DeletionPage(numberOfEntitiesDeleted, isLastPage ? null : nextCursor.toWebSafeString());
+    }
+
     protected abstract LoadType<E> load();
 
     /**
@@ -279,6 +336,40 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return attributes;
     }
 
+    /**
+     * Gets the attributes of the entities of each of the given courses, as returned by
+     * {@code getEntitiesForCourse}.
+     *
+     * <p>The queries for all courses are issued before any result is read so that they run concurrently.
+     *
+     * @return a map of course ID to the attributes of the entities of the course, in the order of the given course IDs
+     */
+    protected Map<String, List<A>> makeAttributesForCourses(Collection<String> courseIds,
+            Function<String, List<E>> getEntitiesForCourse) {
+        return makeAttributesForCoursesAsync(courseIds, getEntitiesForCourse).get();
+    }
+
+    /**
+     * Issues the queries of {@link #makeAttributesForCourses} without reading their results,
+     * so that other queries can be issued to run concurrently with them.
+     *
+     * @return a supplier which reads the results of the queries when called
+     */
+    protected Supplier<Map<String, List<A>>> makeAttributesForCoursesAsync(Collection<String> courseIds,
+            Function<String, List<E>> getEntitiesForCourse) {
+        Map<String, List<E>> entitiesByCourse = new LinkedHashMap<>();
+        for (String courseId : courseIds) {
+            entitiesByCourse.put(courseId, getEntitiesForCourse.apply(courseId));
+        }
+
+        return () -> {
+            Map<String, List<A>> attributesByCourse = new LinkedHashMap<>();
+            entitiesByCourse.forEach((courseId, entities) ->
+                    attributesByCourse.put(courseId, makeAttributes(entities)));
+            return attributesByCourse;
+        };
+    }
+
     protected Key<E> makeKeyOrNullFromWebSafeString(String webSafeString) {
         if (webSafeString == null) {
             return null;
@@ -331,4 +422,13 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
     }
 
+    protected void deleteDocuments(String indexName, List<String> documentIds) {
+        try {
+            SearchManager.deleteDocuments(indexName, documentIds);
+        } catch (Exception e) {
+            log.warning("Unable to batch delete documents in the index: " + indexName + " with document ids "
+                    + documentIds + ": " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
 }
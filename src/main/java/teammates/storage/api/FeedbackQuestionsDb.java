@@ -4,13 +4,16 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -53,6 +56,32 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
                 "Trying to get non-existent Question: " + feedbackQuestionId);
     }
 
+    /**
+     * Gets the questions with the given IDs in one batch, keyed by ID.
+     * Questions that do not exist are left out.
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestions(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        Map<String, Key<FeedbackQuestion>> keys = new HashMap<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            Key<FeedbackQuestion> key = makeKeyOrNullFromWebSafeString(feedbackQuestionId);
+            if (key != null) {
+                keys.put(feedbackQuestionId, key);
+            }
+        }
+        Map<Key<FeedbackQuestion>, FeedbackQuestion> entities = ofy().load().keys(keys.values());
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (Map.Entry<String, Key<FeedbackQuestion>> key : keys.entrySet()) {
+            FeedbackQuestion entity = entities.get(key.getValue());
+            if (entity != null) {
+                questions.put(key.getKey(), makeAttributes(entity));
+            }
+        }
+        return questions;
+    }
+
     public FeedbackQuestionAttributes createFeedbackQuestionWithoutExistenceCheck(
             FeedbackQuestionAttributes entityToAdd) throws InvalidParametersException {
         return makeAttributes(createEntityWithoutExistenceCheck(entityToAdd));
@@ -88,6 +117,17 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return makeAttributes(getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId));
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such questions are found.
+     */
+    public List<FeedbackQuestionAttributes> getFeedbackQuestionsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(load().filter("courseId =", courseId).list());
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -165,6 +205,17 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         deleteFeedbackQuestionsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes a page of the questions of the course.
+     *
+     * @see EntitiesDb#deleteEntitiesPage
+     */
+    public DeletionPage deleteFeedbackQuestionsPageForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize, keys -> { });
+    }
+
     public void deleteFeedbackQuestionsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
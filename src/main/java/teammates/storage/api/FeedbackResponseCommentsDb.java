@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -17,6 +18,7 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -29,7 +31,6 @@ import teammates.common.util.Logger;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
 import teammates.storage.search.FeedbackResponseCommentSearchQuery;
-import teammates.storage.search.SearchDocument;
 
 /**
  * Handles CRUD operations for feedback response comments.
@@ -41,6 +42,11 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * The maximum number of values the Datastore allows in an {@code IN} filter.
+     */
+    private static final int MAX_VALUES_PER_IN_FILTER = 30;
+
     /**
      * Preconditions:
      * <br> * {@code entityToAdd} is not null and has valid data.
@@ -136,6 +142,30 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         ofy().delete().keys(getFeedbackResponseCommentsForResponseQuery(responseId).keys()).now();
     }
 
+    /**
+     * Removes the response comments of all the responses with the given IDs in one batched delete.
+     *
+     * <p>The comments are found with one {@code IN} query per {@value #MAX_VALUES_PER_IN_FILTER} responses,
+     * and all the queries are issued before any of their results are read.
+     */
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        List<String> responseIdList = new ArrayList<>(responseIds);
+        List<List<Key<FeedbackResponseComment>>> keysByQuery = new ArrayList<>();
+        for (int i = 0; i < responseIdList.size(); i += MAX_VALUES_PER_IN_FILTER) {
+            List<String> responseIdsOfQuery =
+                    responseIdList.subList(i, Math.min(i + MAX_VALUES_PER_IN_FILTER, responseIdList.size()));
+            keysByQuery.add(load().filter("feedbackResponseId in", responseIdsOfQuery).keys().list());
+        }
+
+        List<Key<FeedbackResponseComment>> keysToDelete = new ArrayList<>();
+        for (List<Key<FeedbackResponseComment>> keys : keysByQuery) {
+            keysToDelete.addAll(keys);
+        }
+        ofy().delete().keys(keysToDelete).now();
+    }
+
     /*
      * Remove response comments for the course Ids
      */
@@ -151,6 +181,20 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteFeedbackResponseCommentsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes a page of the comments of the course, along with their search documents.
+     *
+     * @see EntitiesDb#deleteEntitiesPage
+     */
+    public DeletionPage deleteFeedbackResponseCommentsPageForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize,
+                keys -> deleteDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, keys.stream()
+                        .map(key -> String.valueOf(key.getId()))
+                        .collect(Collectors.toList())));
+    }
+
     private Query<FeedbackResponseComment> getFeedbackResponseCommentsForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -276,11 +320,8 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      * Batch creates or updates search documents for the given comments
      */
     public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
-        List<SearchDocument> frcSearchDocuments = new ArrayList<>();
-        for (FeedbackResponseCommentAttributes comment : comments) {
-            frcSearchDocuments.add(new FeedbackResponseCommentSearchDocument(comment));
-        }
-        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frcSearchDocuments);
+        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                FeedbackResponseCommentSearchDocument.makeDocuments(comments));
     }
 
     /**
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +15,7 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -55,6 +57,30 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributesOrNull(getFeedbackResponseEntityWithCheck(feedbackResponseId));
     }
 
+    /**
+     * Gets the responses with the given IDs in one batch, keyed by ID.
+     * Responses that do not exist are left out.
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponses(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+        for (FeedbackResponse response : getFeedbackResponseEntities(feedbackResponseIds).values()) {
+            responses.put(response.getId(), makeAttributes(response));
+        }
+        return responses;
+    }
+
+    /**
+     * Gets the response entities with the given IDs in one batch, keyed by ID.
+     * Responses that do not exist are left out.
+     */
+    public Map<String, FeedbackResponse> getFeedbackResponseEntities(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        return load().ids(feedbackResponseIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -417,11 +443,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + newAttributes.toString());
         }
 
-        fr.keepUpdateTimestamp = keepUpdateTimestamp;
-        fr.setAnswer(newAttributes.responseMetaData);
-        fr.setRecipientEmail(newAttributes.recipient);
-        fr.setGiverSection(newAttributes.giverSection);
-        fr.setRecipientSection(newAttributes.recipientSection);
+        copyUpdatableFields(newAttributes, fr, keepUpdateTimestamp);
 
         saveEntity(fr, newAttributes);
     }
@@ -431,12 +453,61 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         updateFeedbackResponseOptimized(newAttributes, fr, false);
     }
 
+    /**
+     * Updates each response in {@code responseEntities} with the attributes in {@code newAttributes}
+     * that have its ID, in the same way as {@link #updateFeedbackResponseOptimized}, and saves them in one batch.
+     * Nothing is saved if any of the attributes is invalid or does not have a matching entity.
+     */
+    public void updateFeedbackResponsesOptimized(Collection<FeedbackResponseAttributes> newAttributes,
+            Map<String, FeedbackResponse> responseEntities)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newAttributes);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseEntities);
+
+        List<FeedbackResponse> responsesToSave = new ArrayList<>();
+        for (FeedbackResponseAttributes attributes : newAttributes) {
+            if (!attributes.isValid()) {
+                throw new InvalidParametersException(attributes.getInvalidityInfo());
+            }
+
+            FeedbackResponse fr = responseEntities.get(attributes.getId());
+            if (fr == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + attributes.toString());
+            }
+
+            copyUpdatableFields(attributes, fr, false);
+            responsesToSave.add(fr);
+        }
+
+        saveEntities(responsesToSave, newAttributes);
+    }
+
+    private void copyUpdatableFields(FeedbackResponseAttributes newAttributes, FeedbackResponse fr,
+            boolean keepUpdateTimestamp) {
+        fr.keepUpdateTimestamp = keepUpdateTimestamp;
+        fr.setAnswer(newAttributes.responseMetaData);
+        fr.setRecipientEmail(newAttributes.recipient);
+        fr.setGiverSection(newAttributes.giverSection);
+        fr.setRecipientSection(newAttributes.recipientSection);
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
         deleteFeedbackResponsesForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes a page of the responses of the course.
+     *
+     * @see EntitiesDb#deleteEntitiesPage
+     */
+    public DeletionPage deleteFeedbackResponsesPageForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize, keys -> { });
+    }
+
     public void deleteFeedbackResponsesForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
@@ -472,28 +543,16 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .first().now();
     }
 
-    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
+    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
                 String feedbackQuestionId, String section) {
-        List<FeedbackResponse> feedbackResponses = new ArrayList<>();
-
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .list());
-
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", "None")
-                .list());
-
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", "None")
-                .filter("receiverSection =", section)
-                .list());
-
-        return feedbackResponses;
+        return getMergedFeedbackResponseEntities(-1,
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("giverSection =", "None")
+                        .filter("receiverSection =", section));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
@@ -521,19 +580,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesForSessionInSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSection(
@@ -548,37 +595,39 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getMergedFeedbackResponseEntities(range + 1,
+                getFeedbackResponseEntitiesForSessionFromSectionQuery(feedbackSessionName, courseId, section, range),
+                getFeedbackResponseEntitiesForSessionToSectionQuery(feedbackSessionName, courseId, section, range));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
+        return getFeedbackResponseEntitiesForSessionFromSectionQuery(feedbackSessionName, courseId, section, range)
+                .list();
+    }
+
+    private Query<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSectionQuery(
+            String feedbackSessionName, String courseId, String section, int range) {
         return load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("giverSection =", section)
-                .limit(range + 1).list();
+                .limit(range + 1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionToSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
+        return getFeedbackResponseEntitiesForSessionToSectionQuery(feedbackSessionName, courseId, section, range)
+                .list();
+    }
+
+    private Query<FeedbackResponse> getFeedbackResponseEntitiesForSessionToSectionQuery(
+            String feedbackSessionName, String courseId, String section, int range) {
         return load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("receiverSection =", section)
-                .limit(range + 1).list();
+                .limit(range + 1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestion(
@@ -591,29 +640,15 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
             String feedbackQuestionId, String receiver, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
+        return getMergedFeedbackResponseEntities(-1,
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("receiver =", receiver)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("receiver =", receiver)
+                        .filter("receiverSection =", section));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
@@ -626,28 +661,43 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
             String feedbackQuestionId, String giverEmail, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("giverSection =", section)
-                .list();
+        return getMergedFeedbackResponseEntities(-1,
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("giverEmail =", giverEmail)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("giverEmail =", giverEmail)
+                        .filter("receiverSection =", section));
+    }
 
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
+    /**
+     * Runs all {@code queries} and merges their results by response id, in the order of the queries.
+     *
+     * <p>All queries are dispatched before any of their results is read, so that their datastore
+     * round trips overlap instead of running one after another.
+     *
+     * @param limit the maximum number of distinct responses to return, or a non-positive number for no limit
+     */
+    @SafeVarargs
+    private final Collection<FeedbackResponse> getMergedFeedbackResponseEntities(
+            int limit, Query<FeedbackResponse>... queries) {
+        List<List<FeedbackResponse>> pendingResults = new ArrayList<>();
+        for (Query<FeedbackResponse> query : queries) {
+            // Objectify fetches the results of list() asynchronously until they are first accessed
+            pendingResults.add(query.list());
         }
 
-        List<FeedbackResponse> secondQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
+        Map<String, FeedbackResponse> feedbackResponses = new LinkedHashMap<>();
+        for (List<FeedbackResponse> results : pendingResults) {
+            for (FeedbackResponse response : results) {
+                if (limit > 0 && feedbackResponses.size() >= limit) {
+                    return feedbackResponses.values();
+                }
+                feedbackResponses.putIfAbsent(response.getId(), response);
+            }
         }
-
         return feedbackResponses.values();
     }
 
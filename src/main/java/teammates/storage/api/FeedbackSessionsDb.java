@@ -6,7 +6,13 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
@@ -14,6 +20,7 @@ import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -113,6 +120,53 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the sessions of each of the given courses, except those in the Recycle Bin,
+     * querying all the courses concurrently.
+     *
+     * @return a map of course ID to the sessions of the course, in the order of the given course IDs
+     */
+    public Map<String, List<FeedbackSessionAttributes>> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        return getFeedbackSessionsForCoursesAsync(courseIds).get();
+    }
+
+    /**
+     * Issues the queries of {@link #getFeedbackSessionsForCourses} without waiting for their results.
+     *
+     * @return a supplier of the result of {@link #getFeedbackSessionsForCourses}
+     */
+    public Supplier<Map<String, List<FeedbackSessionAttributes>>> getFeedbackSessionsForCoursesAsync(
+            Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        Supplier<Map<String, List<FeedbackSessionAttributes>>> sessionsByCourseSupplier =
+                makeAttributesForCoursesAsync(courseIds, this::getFeedbackSessionEntitiesForCourse);
+        return () -> {
+            Map<String, List<FeedbackSessionAttributes>> sessionsByCourse = sessionsByCourseSupplier.get();
+            sessionsByCourse.replaceAll((courseId, sessions) -> sessions.stream()
+                    .filter(session -> !session.isSessionDeleted())
+                    .collect(Collectors.toList()));
+            return sessionsByCourse;
+        };
+    }
+
+    /**
+     * Gets the IDs of those of the given courses which have a session named {@code feedbackSessionName},
+     * including a session in the Recycle Bin, with one batched lookup.
+     */
+    public Set<String> getCourseIdsWithFeedbackSession(String feedbackSessionName, Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        List<String> sessionIds = courseIds.stream()
+                .map(courseId -> feedbackSessionName + "%" + courseId)
+                .collect(Collectors.toList());
+
+        return load().ids(sessionIds).values().stream()
+                .map(FeedbackSession::getCourseId)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -248,40 +302,12 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         addInstructorRespondents(emails, feedbackSession);
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
     public void addInstructorRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
-
-                    fs.getRespondingInstructorList().addAll(emails);
-
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
-        }
+        updateRespondentsIfChanged(feedbackSession, fs -> fs.getRespondingInstructorList().addAll(emails));
     }
 
     public void updateInstructorRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
@@ -309,40 +335,38 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         saveEntity(fs, feedbackSession);
     }
 
-    public void clearInstructorRespondents(FeedbackSessionAttributes feedbackSession)
+    /**
+     * Replaces the respondents of a feedback session in a single write.
+     * The session is not saved if its respondents are unchanged.
+     */
+    public void updateRespondents(FeedbackSessionAttributes feedbackSession,
+            Set<String> respondingInstructors, Set<String> respondingStudents)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, respondingInstructors);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, respondingStudents);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
-
-        fs.getRespondingInstructorList().clear();
-
-        saveEntity(fs, feedbackSession);
-    }
-
-    public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        List<String> emails = new ArrayList<>();
-        emails.add(email);
-        addStudentRespondents(emails, feedbackSession);
+        updateRespondentsIfChanged(feedbackSession, fs -> {
+            if (respondingInstructors.equals(fs.getRespondingInstructorList())
+                    && respondingStudents.equals(fs.getRespondingStudentList())) {
+                return false;
+            }
+            fs.setRespondingInstructorList(new HashSet<>(respondingInstructors));
+            fs.setRespondingStudentList(new HashSet<>(respondingStudents));
+            return true;
+        });
     }
 
+    /**
+     * Applies {@code updateRespondents} to the stored session in a transaction.
+     * As the whole session entity is rewritten, the session is saved only if
+     * {@code updateRespondents} returns true, i.e. it changed the respondents.
+     */
     // The objectify library does not support throwing checked exceptions inside transactions
     @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
+    private void updateRespondentsIfChanged(FeedbackSessionAttributes feedbackSession,
+            Predicate<FeedbackSession> updateRespondents)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
         feedbackSession.sanitizeForSaving();
 
         if (!feedbackSession.isValid()) {
@@ -359,9 +383,9 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                                 ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
                     }
 
-                    fs.getRespondingInstructorList().remove(email);
-
-                    saveEntity(fs, feedbackSession);
+                    if (updateRespondents.test(fs)) {
+                        saveEntity(fs, feedbackSession);
+                    }
                 }
             });
         } catch (RuntimeException e) {
@@ -372,40 +396,27 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
+    public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        List<String> emails = new ArrayList<>();
+        emails.add(email);
+        addStudentRespondents(emails, feedbackSession);
+    }
+
+    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
+        updateRespondentsIfChanged(feedbackSession, fs -> fs.getRespondingInstructorList().remove(email));
+    }
 
-                    fs.getRespondingStudentList().addAll(emails);
+    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
-        }
+        updateRespondentsIfChanged(feedbackSession, fs -> fs.getRespondingStudentList().addAll(emails));
     }
 
     public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
@@ -433,60 +444,12 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         saveEntity(fs, feedbackSession);
     }
 
-    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
-
-        fs.getRespondingStudentList().clear();
-
-        saveEntity(fs, feedbackSession);
-    }
-
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
     public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
             throws EntityDoesNotExistException, InvalidParametersException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
-
-                    fs.getRespondingStudentList().remove(email);
-
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
-        }
+        updateRespondentsIfChanged(feedbackSession, fs -> fs.getRespondingStudentList().remove(email));
     }
 
     public void deleteFeedbackSessionsForCourse(String courseId) {
@@ -495,6 +458,17 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         deleteFeedbackSessionsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes a page of the sessions, including those in the Recycle Bin, of the course.
+     *
+     * @see EntitiesDb#deleteEntitiesPage
+     */
+    public DeletionPage deleteFeedbackSessionsPageForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize, keys -> { });
+    }
+
     public void deleteFeedbackSessionsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
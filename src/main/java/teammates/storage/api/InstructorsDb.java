@@ -3,13 +3,19 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -176,6 +182,28 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return makeAttributes(getInstructorEntitiesForCourse(courseId));
     }
 
+    /**
+     * Issues the queries for the instructors of each of the given courses, querying all the courses concurrently,
+     * without waiting for their results.
+     *
+     * @return a supplier of a map of course ID to the instructors of the course, in the order of the given course IDs
+     */
+    public Supplier<Map<String, List<InstructorAttributes>>> getInstructorsForCoursesAsync(
+            Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        return makeAttributesForCoursesAsync(courseIds, this::getInstructorEntitiesForCourse);
+    }
+
+    /**
+     * Counts the instructors of the course with a keys-only query, without loading the instructors.
+     */
+    public int getNumberOfInstructorsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getInstructorsForCourseQuery(courseId).count();
+    }
+
     /**
      * Updates the instructor. Cannot modify Course ID or google id.
      */
@@ -295,6 +323,20 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteInstructors(getInstructorEntitiesForCourse(courseId));
     }
 
+    /**
+     * Deletes a page of the instructors of the course, along with their search documents.
+     *
+     * @see EntitiesDb#deleteLoadedEntitiesPage
+     */
+    public DeletionPage deleteInstructorsPageForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteLoadedEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize,
+                instructors -> deleteDocuments(Const.SearchIndex.INSTRUCTOR, instructors.stream()
+                        .map(instructor -> StringHelper.encrypt(instructor.getRegistrationKey()))
+                        .collect(Collectors.toList())));
+    }
+
     private void deleteInstructors(List<Instructor> instructors) {
         for (Instructor instructor : instructors) {
             deleteDocumentByEncryptedInstructorKey(StringHelper.encrypt(instructor.getRegistrationKey()));
@@ -346,8 +388,12 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return getInstructorEntitiesForGoogleId(googleId);
     }
 
+    private Query<Instructor> getInstructorsForCourseQuery(String courseId) {
+        return load().filter("courseId =", courseId);
+    }
+
     private List<Instructor> getInstructorEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
+        return getInstructorsForCourseQuery(courseId).list();
     }
 
     @Override
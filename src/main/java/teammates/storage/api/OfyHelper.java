@@ -6,9 +6,11 @@ import javax.servlet.ServletContextListener;
 import com.googlecode.objectify.ObjectifyService;
 
 import teammates.storage.entity.Account;
+import teammates.storage.entity.ActivityLog;
 import teammates.storage.entity.AdminEmail;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseDeletion;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
@@ -27,8 +29,10 @@ public class OfyHelper implements ServletContextListener {
      */
     public static void registerEntityClasses() {
         ObjectifyService.register(Account.class);
+        ObjectifyService.register(ActivityLog.class);
         ObjectifyService.register(AdminEmail.class);
         ObjectifyService.register(Course.class);
+        ObjectifyService.register(CourseDeletion.class);
         ObjectifyService.register(CourseStudent.class);
         ObjectifyService.register(FeedbackQuestion.class);
         ObjectifyService.register(FeedbackResponse.class);
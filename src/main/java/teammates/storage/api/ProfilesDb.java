@@ -104,6 +104,7 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
         }
         if (!sp.getPictureKey().equals(new BlobKey(""))) {
             deletePicture(sp.getPictureKey());
+            GoogleCloudStorageHelper.deleteThumbnail(googleId);
         }
         deleteEntityDirect(sp);
     }
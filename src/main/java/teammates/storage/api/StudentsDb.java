@@ -3,9 +3,11 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -13,6 +15,7 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -125,6 +128,58 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
     }
 
+    /**
+     * Creates the {@code newStudents} and updates the details of the existing {@code modifiedStudents}
+     * with one batched write, and puts the search documents of all of them in one batch if {@code hasDocument}.
+     * Modified students keep their registration keys.
+     *
+     * @throws EntityDoesNotExistException if any of the {@code modifiedStudents} does not exist.
+     */
+    public void putStudents(List<StudentAttributes> newStudents, List<StudentAttributes> modifiedStudents,
+            boolean hasDocument) throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newStudents);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, modifiedStudents);
+
+        List<CourseStudent> studentsToSave = new ArrayList<>();
+        for (StudentAttributes student : newStudents) {
+            validateStudentForSaving(student);
+            studentsToSave.add(student.toEntity());
+        }
+
+        List<String> modifiedStudentIds = new ArrayList<>();
+        for (StudentAttributes student : modifiedStudents) {
+            modifiedStudentIds.add(student.email + '%' + student.course);
+        }
+        Map<String, CourseStudent> existingStudents = load().ids(modifiedStudentIds);
+        for (StudentAttributes student : modifiedStudents) {
+            validateStudentForSaving(student);
+            CourseStudent courseStudent = existingStudents.get(student.email + '%' + student.course);
+            if (courseStudent == null) {
+                throw new EntityDoesNotExistException(
+                        ERROR_UPDATE_NON_EXISTENT_STUDENT + student.course + "/" + student.email);
+            }
+            courseStudent.setName(student.name);
+            courseStudent.setComments(student.comments);
+            courseStudent.setGoogleId(student.googleId);
+            courseStudent.setTeamName(student.team);
+            courseStudent.setSectionName(student.section);
+            studentsToSave.add(courseStudent);
+        }
+
+        List<StudentAttributes> studentsSaved = makeAttributes(studentsToSave);
+        saveEntities(studentsToSave, studentsSaved);
+        if (hasDocument) {
+            putDocuments(studentsSaved);
+        }
+    }
+
+    private void validateStudentForSaving(StudentAttributes student) throws InvalidParametersException {
+        student.sanitizeForSaving();
+        if (!student.isValid()) {
+            throw new InvalidParametersException(student.getInvalidityInfo());
+        }
+    }
+
     /**
      * Preconditions:
      * <br> * All parameters are non-null.
@@ -189,6 +244,26 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributes(getCourseStudentEntitiesForCourse(courseId));
     }
 
+    /**
+     * Gets the students of each of the given courses, querying all the courses concurrently.
+     *
+     * @return a map of course ID to the students of the course, in the order of the given course IDs
+     */
+    public Map<String, List<StudentAttributes>> getStudentsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        return makeAttributesForCourses(courseIds, this::getCourseStudentEntitiesForCourse);
+    }
+
+    /**
+     * Counts the students in the course with a keys-only query, without loading the students.
+     */
+    public int getNumberOfStudentsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getCourseStudentsForCourseQuery(courseId).count();
+    }
+
     /**
      * Preconditions: <br>
      *  * All parameters are non-null.
@@ -463,6 +538,20 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Deletes a page of the students of the course, along with their search documents.
+     *
+     * @see EntitiesDb#deleteLoadedEntitiesPage
+     */
+    public DeletionPage deleteStudentsPageForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteLoadedEntitiesPage(getCourseStudentsForCourseQuery(courseId), cursor, pageSize,
+                students -> deleteDocuments(Const.SearchIndex.STUDENT, students.stream()
+                        .map(CourseStudent::getRegistrationKey)
+                        .collect(Collectors.toList())));
+    }
+
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
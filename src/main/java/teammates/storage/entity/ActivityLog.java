@@ -0,0 +1,205 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.ActivityLogEntry;
+
+/**
+ * Represents an entry of the admin activity log, recorded when the request is served.
+ *
+ * <p>Only the properties used for filtering are indexed. The entries are queried latest first by
+ * {@link #version}, optionally with {@link #isTestingData} and one of {@link #userIdentifiersInLowerCase}
+ * and {@link #courseId}, each combination of which has a composite index with {@link #logTime} in descending order.
+ * The entries are deleted by {@link #timeBucket}, which groups them by the hour.
+ */
+@Entity
+@Unindex
+public class ActivityLog extends BaseEntity {
+
+    /**
+     * The length of time covered by a time bucket.
+     */
+    public static final long TIME_BUCKET_LENGTH_IN_MILLIS = 60 * 60 * 1000;
+
+    @Id
+    private transient Long activityLogId;
+
+    @Index
+    private long timeBucket;
+
+    @Index
+    @Translate(InstantTranslatorFactory.class)
+    private Instant logTime;
+
+    /** The app version which served the request, in the form used by GAE e.g. "6-0-0". */
+    @Index
+    private String version;
+
+    private String logId;
+
+    private String actionName;
+
+    /** The action name in lower case, as the filters on it are case-insensitive. */
+    private String actionNameInLowerCase;
+
+    private String actionResponse;
+
+    private String actionUrl;
+
+    private long actionTimeTaken;
+
+    private String userRole;
+
+    /** The user role in lower case, as the filters on it are case-insensitive. */
+    private String userRoleInLowerCase;
+
+    private boolean isMasqueradeUserRole;
+
+    private String userName;
+
+    private String userGoogleId;
+
+    private String userEmail;
+
+    /**
+     * The Google ID and email of the user in lower case, so that an entry can be found by either of them.
+     */
+    @Index
+    private List<String> userIdentifiersInLowerCase;
+
+    /** The ID of the course the request was for, if any. */
+    @Index
+    private String courseId;
+
+    @Index
+    private boolean isTestingData;
+
+    private Text logMessage;
+
+    @SuppressWarnings("unused")
+    private ActivityLog() {
+        // required by Objectify
+    }
+
+    public ActivityLog(ActivityLogEntry entry, String courseId, String version) {
+        this.activityLogId = null;
+        this.timeBucket = getTimeBucket(entry.getLogTime());
+        this.logTime = Instant.ofEpochMilli(entry.getLogTime());
+        this.version = version;
+        this.logId = entry.getLogId();
+        this.actionName = entry.getActionName();
+        this.actionNameInLowerCase = entry.getActionName().toLowerCase();
+        this.actionResponse = entry.getActionResponse();
+        this.actionUrl = entry.getActionUrl();
+        this.actionTimeTaken = entry.getActionTimeTaken();
+        this.userRole = entry.getUserRole();
+        this.userRoleInLowerCase = entry.getUserRole().toLowerCase();
+        this.isMasqueradeUserRole = entry.isMasqueradeUserRole();
+        this.userName = entry.getUserName();
+        this.userGoogleId = entry.getUserGoogleId();
+        this.userEmail = entry.getUserEmail();
+        this.userIdentifiersInLowerCase = new ArrayList<>();
+        this.userIdentifiersInLowerCase.add(entry.getUserGoogleId().toLowerCase());
+        this.userIdentifiersInLowerCase.add(entry.getUserEmail().toLowerCase());
+        this.courseId = courseId;
+        this.isTestingData = entry.isTestingData();
+        this.logMessage = new Text(entry.getLogMessage());
+    }
+
+    /**
+     * Returns the time bucket which an entry logged at {@code timeMillis} belongs to.
+     */
+    public static long getTimeBucket(long timeMillis) {
+        return Math.floorDiv(timeMillis, TIME_BUCKET_LENGTH_IN_MILLIS);
+    }
+
+    public Long getActivityLogId() {
+        return activityLogId;
+    }
+
+    public long getTimeBucket() {
+        return timeBucket;
+    }
+
+    public Instant getLogTime() {
+        return logTime;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getLogId() {
+        return logId;
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public String getActionNameInLowerCase() {
+        return actionNameInLowerCase;
+    }
+
+    public String getActionResponse() {
+        return actionResponse;
+    }
+
+    public String getActionUrl() {
+        return actionUrl;
+    }
+
+    public long getActionTimeTaken() {
+        return actionTimeTaken;
+    }
+
+    public String getUserRole() {
+        return userRole;
+    }
+
+    public String getUserRoleInLowerCase() {
+        return userRoleInLowerCase;
+    }
+
+    public boolean isMasqueradeUserRole() {
+        return isMasqueradeUserRole;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getUserGoogleId() {
+        return userGoogleId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public List<String> getUserIdentifiersInLowerCase() {
+        return userIdentifiersInLowerCase;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public boolean isTestingData() {
+        return isTestingData;
+    }
+
+    public String getLogMessage() {
+        return logMessage == null ? null : logMessage.getValue();
+    }
+
+}
@@ -0,0 +1,67 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.datatransfer.CourseDeletionStatus;
+
+/**
+ * Represents the checkpoint of the permanent deletion of a course, which exists until the deletion is done.
+ *
+ * <p>The checkpoint is only looked up by the ID of the course, hence none of its properties are indexed.
+ */
+@Entity
+@Unindex
+public class CourseDeletion extends BaseEntity {
+
+    @Id
+    private String courseId;
+
+    /** The name of the {@link CourseDeletionStatus.Stage} being deleted. */
+    private String stage;
+
+    private String cursor;
+
+    private long numberOfEntitiesDeleted;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private CourseDeletion() {
+        // required by Objectify
+    }
+
+    public CourseDeletion(CourseDeletionStatus status) {
+        this.courseId = status.getCourseId();
+        this.stage = status.getStage().name();
+        this.cursor = status.getCursor();
+        this.numberOfEntitiesDeleted = status.getNumberOfEntitiesDeleted();
+        this.updatedAt = Instant.now();
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public long getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+}
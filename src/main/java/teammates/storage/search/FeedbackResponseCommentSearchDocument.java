@@ -1,7 +1,9 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +13,7 @@ import com.google.appengine.api.search.Field;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -31,6 +34,12 @@ import teammates.common.util.StringHelper;
  */
 public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
+    /**
+     * The minimum number of comments of a course for {@link #makeDocuments(List)} to read the roster
+     * of the course in bulk.
+     */
+    private static final int MIN_COMMENTS_FOR_BULK_READ = 10;
+
     private FeedbackResponseCommentAttributes comment;
     private FeedbackResponseAttributes relatedResponse;
     private String responseGiverName;
@@ -43,20 +52,96 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private List<InstructorAttributes> relatedInstructors;
     private List<StudentAttributes> relatedStudents;
 
+    /**
+     * The roster of the course, or {@code null} if the related data of the comment
+     * has not been preloaded and is to be read when the document is built.
+     */
+    private CourseRoster roster;
+
     public FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment) {
         this.comment = comment;
     }
 
+    private FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment, CourseAttributes course,
+            FeedbackSessionAttributes relatedSession, FeedbackQuestionAttributes relatedQuestion,
+            FeedbackResponseAttributes relatedResponse, CourseRoster roster) {
+        this.comment = comment;
+        this.course = course;
+        this.relatedSession = relatedSession;
+        this.relatedQuestion = relatedQuestion;
+        this.relatedResponse = relatedResponse;
+        this.roster = roster;
+    }
+
+    /**
+     * Creates the search documents for the given comments.
+     *
+     * <p>For courses with at least {@link #MIN_COMMENTS_FOR_BULK_READ} of the comments, the roster of the course
+     * and each session of the comments are read once, and the questions and responses of the comments in batches.
+     * The documents for the comments of other courses read their related data one comment at a time,
+     * which is cheaper than reading the whole roster of a course for a few comments.
+     */
+    public static List<SearchDocument> makeDocuments(List<FeedbackResponseCommentAttributes> comments) {
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByCourse = new LinkedHashMap<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            commentsByCourse.computeIfAbsent(comment.courseId, courseId -> new ArrayList<>()).add(comment);
+        }
+
+        Set<String> responseIds = new HashSet<>();
+        Set<String> questionIds = new HashSet<>();
+        for (List<FeedbackResponseCommentAttributes> courseComments : commentsByCourse.values()) {
+            if (courseComments.size() >= MIN_COMMENTS_FOR_BULK_READ) {
+                for (FeedbackResponseCommentAttributes comment : courseComments) {
+                    responseIds.add(comment.feedbackResponseId);
+                    questionIds.add(comment.feedbackQuestionId);
+                }
+            }
+        }
+        Map<String, FeedbackResponseAttributes> responses =
+                responseIds.isEmpty() ? new HashMap<>() : frDb.getFeedbackResponses(responseIds);
+        Map<String, FeedbackQuestionAttributes> questions =
+                questionIds.isEmpty() ? new HashMap<>() : fqDb.getFeedbackQuestions(questionIds);
+
+        List<SearchDocument> documents = new ArrayList<>();
+        for (Map.Entry<String, List<FeedbackResponseCommentAttributes>> courseComments : commentsByCourse.entrySet()) {
+            if (courseComments.getValue().size() < MIN_COMMENTS_FOR_BULK_READ) {
+                for (FeedbackResponseCommentAttributes comment : courseComments.getValue()) {
+                    documents.add(new FeedbackResponseCommentSearchDocument(comment));
+                }
+                continue;
+            }
+
+            String courseId = courseComments.getKey();
+            CourseAttributes course = coursesDb.getCourse(courseId);
+            CourseRoster roster = new CourseRoster(studentsDb.getStudentsForCourse(courseId),
+                                                   instructorsDb.getInstructorsForCourse(courseId));
+            Map<String, FeedbackSessionAttributes> sessions = new HashMap<>();
+
+            for (FeedbackResponseCommentAttributes comment : courseComments.getValue()) {
+                if (!sessions.containsKey(comment.feedbackSessionName)) {
+                    sessions.put(comment.feedbackSessionName,
+                            fsDb.getFeedbackSession(courseId, comment.feedbackSessionName));
+                }
+                documents.add(new FeedbackResponseCommentSearchDocument(comment, course,
+                        sessions.get(comment.feedbackSessionName), questions.get(comment.feedbackQuestionId),
+                        responses.get(comment.feedbackResponseId), roster));
+            }
+        }
+        return documents;
+    }
+
     @Override
     protected void prepareData() {
         if (comment == null) {
             return;
         }
 
-        relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
-        relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
-        relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
-        course = coursesDb.getCourse(comment.courseId);
+        if (roster == null) {
+            relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
+            relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
+            relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
+            course = coursesDb.getCourse(comment.courseId);
+        }
         relatedInstructors = new ArrayList<>();
         relatedStudents = new ArrayList<>();
         setCommentGiverNameAndDisplayedName();
@@ -65,7 +150,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> addedEmailSet = new HashSet<>();
         if (relatedQuestion.giverType == FeedbackParticipantType.INSTRUCTORS
                 || relatedQuestion.giverType == FeedbackParticipantType.SELF) {
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.giver);
+            InstructorAttributes ins = getInstructor(relatedResponse.giver);
             if (ins == null || addedEmailSet.contains(ins.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -76,7 +161,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS) {
             responseGiverName = relatedResponse.giver;
         } else {
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.giver);
+            StudentAttributes stu = getStudent(relatedResponse.giver);
             if (stu == null || addedEmailSet.contains(stu.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -88,7 +173,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         switch (relatedQuestion.recipientType) {
         case INSTRUCTORS:
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.recipient);
+            InstructorAttributes ins = getInstructor(relatedResponse.recipient);
             if (ins != null && !addedEmailSet.contains(ins.email)) {
                 relatedInstructors.add(ins);
                 addedEmailSet.add(ins.email);
@@ -105,7 +190,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             responseRecipientName = relatedResponse.recipient;
             break;
         default:
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.recipient);
+            StudentAttributes stu = getStudent(relatedResponse.recipient);
 
             if (stu != null && !addedEmailSet.contains(stu.email)) {
                 relatedStudents.add(stu);
@@ -113,7 +198,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 responseRecipientName = stu.name + " (" + stu.team + ")";
             }
 
-            List<StudentAttributes> team = studentsDb.getStudentsForTeam(relatedResponse.recipient, comment.courseId);
+            List<StudentAttributes> team = getStudentsForTeam(relatedResponse.recipient);
             if (team != null) {
                 responseRecipientName = relatedResponse.recipient; // it's actually a team name here
                 for (StudentAttributes studentInTeam : team) {
@@ -316,11 +401,28 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 ? name : Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT;
     }
 
+    private InstructorAttributes getInstructor(String email) {
+        return roster == null
+                ? instructorsDb.getInstructorForEmail(comment.courseId, email)
+                : roster.getInstructorForEmail(email);
+    }
+
+    private StudentAttributes getStudent(String email) {
+        return roster == null
+                ? studentsDb.getStudentForEmail(comment.courseId, email)
+                : roster.getStudentForEmail(email);
+    }
+
+    private List<StudentAttributes> getStudentsForTeam(String teamName) {
+        return roster == null
+                ? studentsDb.getStudentsForTeam(teamName, comment.courseId)
+                : roster.getTeamMembers(teamName);
+    }
+
     private void setCommentGiverNameAndDisplayedName() {
         switch (comment.commentGiverType) {
         case INSTRUCTORS:
-            InstructorAttributes instructor =
-                    instructorsDb.getInstructorForEmail(comment.courseId, comment.commentGiver);
+            InstructorAttributes instructor = getInstructor(comment.commentGiver);
             if (instructor == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -330,7 +432,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             commentGiverName = instructor.name;
             break;
         case STUDENTS:
-            StudentAttributes student = studentsDb.getStudentForEmail(comment.courseId, comment.commentGiver);
+            StudentAttributes student = getStudent(comment.commentGiver);
             if (student == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
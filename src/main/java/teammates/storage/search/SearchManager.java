@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Index;
@@ -16,6 +18,7 @@ import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchServiceFactory;
 import com.google.appengine.api.search.StatusCode;
+import com.google.apphosting.api.ApiProxy;
 
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Logger;
@@ -37,7 +40,10 @@ public final class SearchManager {
     private static final Logger log = Logger.getLogger();
     private static final ThreadLocal<Map<String, Index>> PER_THREAD_INDICES_TABLE = new ThreadLocal<>();
 
-    private static final RetryManager RM = new RetryManager(8);
+    private static final RetryManager RM = new RetryManager(8, SearchManager::getRemainingRequestTimeInMs);
+
+    /** The maximum number of documents the Search API accepts in one put or delete. */
+    private static final int MAX_DOCUMENTS_PER_PUT = 200;
 
     private SearchManager() {
         // utility class
@@ -112,17 +118,21 @@ public final class SearchManager {
 
     /**
      * Batch creates or updates the search documents for the given documents and index.
+     * The documents are put in batches of at most {@value #MAX_DOCUMENTS_PER_PUT}.
      */
     public static void putDocuments(String indexName, List<Document> documents) {
-        try {
-            putDocumentsWithRetry(indexName, documents);
-        } catch (PutException e) {
-            log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, documents, indexName)
-                    + TeammatesException.toStringWithStackTrace(e));
-        } catch (MaximumRetriesExceededException e) {
-            Object failedDocuments = e.finalData;
-            log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
-                    + TeammatesException.toStringWithStackTrace(e));
+        for (int i = 0; i < documents.size(); i += MAX_DOCUMENTS_PER_PUT) {
+            List<Document> batch = documents.subList(i, Math.min(i + MAX_DOCUMENTS_PER_PUT, documents.size()));
+            try {
+                putDocumentsWithRetry(indexName, batch);
+            } catch (PutException e) {
+                log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, batch, indexName)
+                        + TeammatesException.toStringWithStackTrace(e));
+            } catch (MaximumRetriesExceededException e) {
+                Object failedDocuments = e.finalData;
+                log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
+                        + TeammatesException.toStringWithStackTrace(e));
+            }
         }
     }
 
@@ -213,6 +223,26 @@ public final class SearchManager {
         getIndex(indexName).deleteAsync(documentId);
     }
 
+    /**
+     * Batch deletes documents by their documentIds.
+     * The documents are deleted in concurrent batches of at most {@value #MAX_DOCUMENTS_PER_PUT},
+     * and this returns only when all the batches are deleted.
+     *
+     * @throws ExecutionException if the deletion of any batch fails
+     */
+    public static void deleteDocuments(String indexName, List<String> documentIds)
+            throws InterruptedException, ExecutionException {
+        Index index = getIndex(indexName);
+        List<Future<Void>> deletions = new ArrayList<>();
+        for (int i = 0; i < documentIds.size(); i += MAX_DOCUMENTS_PER_PUT) {
+            deletions.add(index.deleteAsync(
+                    documentIds.subList(i, Math.min(i + MAX_DOCUMENTS_PER_PUT, documentIds.size()))));
+        }
+        for (Future<Void> deletion : deletions) {
+            deletion.get();
+        }
+    }
+
     private static Index getIndex(String indexName) {
         Map<String, Index> indicesTable = getIndicesTable();
         Index index = indicesTable.get(indexName);
@@ -224,6 +254,15 @@ public final class SearchManager {
         return index;
     }
 
+    /**
+     * Returns the time left before the deadline of the current request, so that retrying a transient failure
+     * does not make the request itself fail with a deadline error.
+     */
+    private static long getRemainingRequestTimeInMs() {
+        ApiProxy.Environment environment = ApiProxy.getCurrentEnvironment();
+        return environment == null ? Long.MAX_VALUE : environment.getRemainingMillis();
+    }
+
     private static Map<String, Index> getIndicesTable() {
         Map<String, Index> indicesTable = PER_THREAD_INDICES_TABLE.get();
         if (indicesTable == null) {
@@ -0,0 +1,30 @@
+package teammates.ui.automated;
+
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Cron job: schedules the deletion of the entries of the admin activity log which are older than
+ * {@link Const.ActivityLog#RETENTION_PERIOD_IN_DAYS}.
+ *
+ * @see ActivityLogsDeletionWorkerAction
+ */
+public class ActivityLogsCleanupAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "clean up activity logs";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Deleting activity logs older than " + Const.ActivityLog.RETENTION_PERIOD_IN_DAYS + " days";
+    }
+
+    @Override
+    public void execute() {
+        taskQueuer.scheduleActivityLogsDeletion(
+                TimeHelper.getInstantDaysOffsetFromNow(-Const.ActivityLog.RETENTION_PERIOD_IN_DAYS), null);
+    }
+
+}
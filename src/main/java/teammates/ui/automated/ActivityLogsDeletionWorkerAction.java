@@ -0,0 +1,56 @@
+package teammates.ui.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: continues the deletion of the activity log entries logged before a given time.
+ *
+ * <p>Each task deletes for at most {@link #TIME_BUDGET} and then schedules another task
+ * to continue from where it stopped, so that no single task runs into its deadline
+ * no matter how many entries there are.
+ */
+public class ActivityLogsDeletionWorkerAction extends AutomatedAction {
+
+    /**
+     * The time after which no more pages are deleted by a task, well within the deadline of task queue requests.
+     */
+    private static final Duration TIME_BUDGET = Duration.ofMinutes(5);
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String timeString = getRequestParamValue(ParamsNames.ACTIVITY_LOGS_DELETION_TIME);
+        Assumption.assertPostParamNotNull(ParamsNames.ACTIVITY_LOGS_DELETION_TIME, timeString);
+        Instant time = Instant.ofEpochMilli(Long.parseLong(timeString));
+        String cursor = getRequestParamValue(ParamsNames.ACTIVITY_LOGS_DELETION_CURSOR);
+
+        try {
+            String nextCursor = logic.continueActivityLogsDeletion(time, cursor, Instant.now().plus(TIME_BUDGET));
+            if (nextCursor != null) {
+                taskQueuer.scheduleActivityLogsDeletion(time, nextCursor);
+            }
+        } catch (Exception e) {
+            log.severe("Unexpected error while deleting activity logs before " + time + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+            setForRetry();
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package teammates.ui.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Cron job: writes the entries of the admin activity log queued by the requests served since the last run.
+ *
+ * <p>The entries are written for at most {@link #TIME_BUDGET}, after which the rest are written by the next run.
+ */
+public class ActivityLogsWriteAction extends AutomatedAction {
+
+    /**
+     * The time after which no more batches of entries are written, well within the deadline of cron requests.
+     */
+    private static final Duration TIME_BUDGET = Duration.ofMinutes(5);
+
+    @Override
+    protected String getActionDescription() {
+        return "write activity logs";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Writing the queued activity logs";
+    }
+
+    @Override
+    public void execute() {
+        logic.writeQueuedActivityLogs(Instant.now().plus(TIME_BUDGET));
+    }
+
+}
@@ -26,12 +26,17 @@ public class AutomatedActionFactory {
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
+        map(ActionURIs.AUTOMATED_ACTIVITY_LOGS_CLEANUP, ActivityLogsCleanupAction.class);
+        map(ActionURIs.AUTOMATED_ACTIVITY_LOGS_WRITE, ActivityLogsWriteAction.class);
 
         // Task queue workers
+        map(TaskQueue.ACTIVITY_LOGS_DELETION_WORKER_URL, ActivityLogsDeletionWorkerAction.class);
         map(TaskQueue.ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL, AdminPrepareEmailAddressModeWorkerAction.class);
         map(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, AdminPrepareEmailGroupModeWorkerAction.class);
         map(TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, AdminSendEmailWorkerAction.class);
+        map(TaskQueue.COURSE_DELETION_WORKER_URL, CourseDeletionWorkerAction.class);
         map(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, FeedbackResponseAdjustmentWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_COPY_WORKER_URL, FeedbackSessionCopyWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL,
                 FeedbackSessionResendPublishedEmailWorkerAction.class);
@@ -10,6 +10,7 @@ import teammates.common.exception.TeammatesException;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
+import teammates.logic.api.ActivityLogRecorder;
 
 /**
  * Receives automated requests from the App Engine server and executes the matching automated action.
@@ -40,7 +41,10 @@ public class AutomatedServlet extends HttpServlet {
                 Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
                 // no logged-in user for automated servlet
                 LogMessageGenerator logGenerator = new LogMessageGenerator();
-                log.info(logGenerator.generateBasicActivityLogMessage(url, params, action.getActionMessage(), null));
+                String activityLogMessage =
+                        logGenerator.generateBasicActivityLogMessage(url, params, action.getActionMessage(), null);
+                log.info(activityLogMessage);
+                new ActivityLogRecorder().recordActivity(activityLogMessage, params);
             }
 
             action.execute();
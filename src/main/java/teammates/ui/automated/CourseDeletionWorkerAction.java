@@ -0,0 +1,54 @@
+package teammates.ui.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: continues the permanent deletion of a course.
+ *
+ * <p>Each task deletes for at most {@link #TIME_BUDGET} and then schedules another task
+ * to continue from where it stopped, so that no single task runs into its deadline
+ * no matter how large the course is.
+ */
+public class CourseDeletionWorkerAction extends AutomatedAction {
+
+    /**
+     * The time after which no more pages are deleted by a task, well within the deadline of task queue requests.
+     */
+    private static final Duration TIME_BUDGET = Duration.ofMinutes(5);
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
+
+        try {
+            boolean isDone = logic.continueCourseDeletion(courseId, Instant.now().plus(TIME_BUDGET));
+            if (!isDone) {
+                taskQueuer.scheduleCourseDeletion(courseId);
+            }
+        } catch (Exception e) {
+            log.severe("Unexpected error while deleting course " + courseId + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+            setForRetry();
+        }
+    }
+
+}
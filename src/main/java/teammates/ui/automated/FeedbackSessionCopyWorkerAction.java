@@ -0,0 +1,71 @@
+package teammates.ui.automated;
+
+import java.util.Arrays;
+
+import teammates.common.datatransfer.FeedbackSessionCopyResult;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: copies a feedback session to courses, continuing a copy to many courses.
+ *
+ * <p>Each task copies the session to as many of the courses as one batched write allows,
+ * and schedules another task to copy it to the rest.
+ */
+public class FeedbackSessionCopyWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String newFeedbackSessionName = getRequestParamValue(ParamsNames.COPIED_FEEDBACK_SESSION_NAME);
+        Assumption.assertPostParamNotNull(ParamsNames.COPIED_FEEDBACK_SESSION_NAME, newFeedbackSessionName);
+
+        String[] newCourseIds = getRequestParamValues(ParamsNames.COPIED_COURSES_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COPIED_COURSES_ID, newCourseIds);
+
+        String feedbackSessionName = getRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        Assumption.assertPostParamNotNull(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
+
+        String instructorEmail = getRequestParamValue(ParamsNames.INSTRUCTOR_EMAIL);
+        Assumption.assertPostParamNotNull(ParamsNames.INSTRUCTOR_EMAIL, instructorEmail);
+
+        FeedbackSessionCopyResult result;
+        try {
+            result = logic.copyFeedbackSessionToCourses(newFeedbackSessionName, Arrays.asList(newCourseIds),
+                    feedbackSessionName, courseId, instructorEmail);
+        } catch (EntityDoesNotExistException | InvalidParametersException e) {
+            // retrying cannot make the copy succeed
+            log.severe("Could not copy feedback session " + courseId + "/" + feedbackSessionName + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+            return;
+        }
+
+        result.getFailedCourses().forEach((failedCourseId, reason) ->
+                log.warning("Could not copy feedback session " + courseId + "/" + feedbackSessionName
+                        + " to course " + failedCourseId + ": " + reason));
+
+        if (!result.isComplete()) {
+            taskQueuer.scheduleFeedbackSessionCopy(newFeedbackSessionName, result.getRemainingCourseIds(),
+                    feedbackSessionName, courseId, instructorEmail);
+        }
+    }
+
+}
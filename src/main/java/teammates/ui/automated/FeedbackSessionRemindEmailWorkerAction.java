@@ -1,11 +1,9 @@
 package teammates.ui.automated;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
@@ -43,28 +41,11 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
 
         try {
             FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
-            List<StudentAttributes> studentList = logic.getStudentsForCourse(courseId);
-            List<InstructorAttributes> instructorList = logic.getInstructorsForCourse(courseId);
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
-            List<StudentAttributes> studentsToRemindList = new ArrayList<>();
-            for (StudentAttributes student : studentList) {
-                if (!logic.isFeedbackSessionCompletedByStudent(session, student.email)) {
-                    studentsToRemindList.add(student);
-                }
-            }
-
-            // Filter out instructors who have submitted the feedback session
-            List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
-            for (InstructorAttributes instructor : instructorList) {
-                if (!logic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
-                    instructorsToRemindList.add(instructor);
-                }
-            }
-
-            List<EmailWrapper> emails = new EmailGenerator().generateFeedbackSessionReminderEmails(
-                    session, studentsToRemindList, instructorsToRemindList, instructorToNotify);
+            List<EmailWrapper> emails =
+                    new EmailGenerator().generateFeedbackSessionReminderEmails(session, instructorToNotify);
             taskQueuer.scheduleEmailsForSending(emails);
         } catch (Exception e) {
             log.severe("Unexpected error while sending emails: " + TeammatesException.toStringWithStackTrace(e));
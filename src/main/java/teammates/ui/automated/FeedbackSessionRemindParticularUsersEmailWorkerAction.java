@@ -3,6 +3,7 @@ package teammates.ui.automated;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -43,13 +44,16 @@ public class FeedbackSessionRemindParticularUsersEmailWorkerAction extends Autom
             InstructorAttributes instructorToNotify =
                     logic.getInstructorForGoogleId(courseId, googleIdOfInstructorToNotify);
 
+            CourseRoster roster = new CourseRoster(
+                    logic.getStudentsForCourse(courseId), logic.getInstructorsForCourse(courseId));
+
             for (String userEmail : usersToRemind) {
-                StudentAttributes student = logic.getStudentForEmail(courseId, userEmail);
+                StudentAttributes student = roster.getStudentForEmail(userEmail);
                 if (student != null) {
                     studentsToRemindList.add(student);
                 }
 
-                InstructorAttributes instructor = logic.getInstructorForEmail(courseId, userEmail);
+                InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
                 if (instructor != null) {
                     instructorsToRemindList.add(instructor);
                 }
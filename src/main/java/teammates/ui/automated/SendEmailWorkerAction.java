@@ -1,13 +1,19 @@
 package teammates.ui.automated;
 
-import teammates.common.exception.TeammatesException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 
 /**
- * Task queue worker action: sends queued email.
+ * Task queue worker action: sends a queued batch of emails.
  */
 public class SendEmailWorkerAction extends AutomatedAction {
 
@@ -25,39 +31,57 @@ public class SendEmailWorkerAction extends AutomatedAction {
 
     @Override
     public void execute() {
-        String emailSubject = getRequestParamValue(ParamsNames.EMAIL_SUBJECT);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_SUBJECT, emailSubject);
-
-        String emailContent = getRequestParamValue(ParamsNames.EMAIL_CONTENT);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_CONTENT, emailContent);
-
-        String emailSenderEmail = getRequestParamValue(ParamsNames.EMAIL_SENDER);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_SENDER, emailSenderEmail);
+        String[] emailSubjects = getNonNullRequestParamValues(ParamsNames.EMAIL_SUBJECT);
+        String[] emailContents = getNonNullRequestParamValues(ParamsNames.EMAIL_CONTENT);
+        String[] emailSenderEmails = getNonNullRequestParamValues(ParamsNames.EMAIL_SENDER);
+        // sender name is optional, and may be absent altogether in tasks holding a single email
+        String[] emailSenderNames = getRequestParamValues(ParamsNames.EMAIL_SENDERNAME);
+        String[] emailReceivers = getNonNullRequestParamValues(ParamsNames.EMAIL_RECEIVER);
+        String[] emailReplies = getNonNullRequestParamValues(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
+        // substitutions are absent in tasks queued before they were carried, whose contents are already substituted
+        String[] emailSubstitutions = getRequestParamValues(ParamsNames.EMAIL_SUBSTITUTIONS);
 
-        String emailSenderName = getRequestParamValue(ParamsNames.EMAIL_SENDERNAME);
+        int batchSize = emailReceivers.length;
+        Assumption.assertTrue(emailSubjects.length == batchSize && emailContents.length == batchSize
+                && emailSenderEmails.length == batchSize && emailReplies.length == batchSize
+                && (emailSenderNames == null || emailSenderNames.length == batchSize)
+                && (emailSubstitutions == null || emailSubstitutions.length == batchSize));
 
-        String emailReceiver = getRequestParamValue(ParamsNames.EMAIL_RECEIVER);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-
-        String emailReply = getRequestParamValue(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReply);
+        List<EmailWrapper> messages = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            EmailWrapper message = new EmailWrapper();
+            message.setRecipient(emailReceivers[i]);
+            message.setSenderEmail(emailSenderEmails[i]);
+            if (emailSenderNames != null && !emailSenderNames[i].isEmpty()) {
+                message.setSenderName(emailSenderNames[i]);
+            }
+            message.setContent(emailContents[i]);
+            message.setSubject(emailSubjects[i]);
+            message.setReplyTo(emailReplies[i]);
+            if (emailSubstitutions != null) {
+                Map<String, String> substitutions = JsonUtils.fromJson(emailSubstitutions[i],
+                        new TypeToken<Map<String, String>>(){}.getType());
+                message.setSubstitutions(substitutions);
+            }
+            messages.add(message);
+        }
 
-        EmailWrapper message = new EmailWrapper();
-        message.setRecipient(emailReceiver);
-        message.setSenderEmail(emailSenderEmail);
-        if (emailSenderName != null) {
-            message.setSenderName(emailSenderName);
+        List<EmailWrapper> failedMessages = emailSender.sendEmails(messages);
+        if (failedMessages.isEmpty()) {
+            return;
         }
-        message.setContent(emailContent);
-        message.setSubject(emailSubject);
-        message.setReplyTo(emailReply);
-
-        try {
-            emailSender.sendEmail(message);
-        } catch (Exception e) {
-            log.severe("Error while sending email via servlet: " + TeammatesException.toStringWithStackTrace(e));
+
+        if (failedMessages.size() == batchSize) {
+            log.severe("Error while sending all " + batchSize + " emails via servlet");
             setForRetry();
+            return;
         }
+
+        // retrying the whole task would send the successful emails again,
+        // so the failed emails are retried one at a time instead
+        log.severe("Error while sending " + failedMessages.size() + " of " + batchSize
+                   + " emails via servlet, scheduling them to be sent individually");
+        taskQueuer.scheduleEmailsForIndividualSending(failedMessages);
     }
 
 }
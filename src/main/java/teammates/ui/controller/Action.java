@@ -649,6 +649,17 @@ public abstract class Action {
                                       fileContent);
     }
 
+    /**
+     * Generates a {@link FileDownloadResult} whose content is written directly into the response.
+     */
+    public FileDownloadResult createFileDownloadResult(String fileName, FileDownloadResult.ContentWriter contentWriter) {
+        return new FileDownloadResult("filedownload",
+                                      account,
+                                      statusToUser,
+                                      fileName,
+                                      contentWriter);
+    }
+
     protected ActionResult createPleaseJoinCourseResponse(String courseId) {
         String errorMessage = "You are not registered in the course " + SanitizationHelper.sanitizeForHtml(courseId);
         statusToUser.add(new StatusMessage(errorMessage, StatusMessageColor.DANGER));
@@ -664,6 +675,18 @@ public abstract class Action {
                                statusToUser);
     }
 
+    /**
+     * Generates a {@link ImageResult} for an image which can be cached by the client,
+     * with the entity tag {@code eTag}.
+     */
+    protected ActionResult createImageResult(String blobKey, String eTag) {
+        return new ImageResult("imagedisplay",
+                               blobKey,
+                               eTag,
+                               account,
+                               statusToUser);
+    }
+
     /**
      * Status messages to be shown to the user and the admin will be set based
      * on the error message in the exception {@code e}.<br>
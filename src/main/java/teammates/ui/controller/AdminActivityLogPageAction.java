@@ -6,15 +6,12 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
-import com.google.appengine.api.log.AppLogLine;
-
+import teammates.common.datatransfer.ActivityLogsPage;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.ActivityLogEntry;
-import teammates.common.util.AdminLogQuery;
 import teammates.common.util.Const;
-import teammates.common.util.GaeLogApi;
 import teammates.common.util.GaeVersionApi;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
@@ -25,21 +22,18 @@ import teammates.ui.pagedata.AdminActivityLogPageData;
 public class AdminActivityLogPageAction extends Action {
     private static final int RELEVANT_LOGS_PER_PAGE = 50;
     /**
-     * The maximum time period to retrieve logs with time increment.
+     * The maximum time period to retrieve logs from when the start of the period is not specified.
      */
     private static final int MAX_SEARCH_PERIOD = 24 * 60 * 60 * 1000; // 24 hrs in milliseconds
-    private static final int SEARCH_TIME_INCREMENT = 2 * 60 * 60 * 1000; // two hours in milliseconds
-    /*
-     * The maximum number of times to retrieve logs with time increment.
-     */
-    private static final int MAX_SEARCH_TIMES = MAX_SEARCH_PERIOD / SEARCH_TIME_INCREMENT;
     /**
      * Maximum number of versions to query.
      */
     private static final int MAX_VERSIONS_TO_QUERY = 1 + 5; //the current version and its 5 preceding versions
 
     private int totalLogsSearched;
-    private Long nextEndTimeToSearch;
+    private long earliestTimeSearched;
+    private long nextEndTimeToSearch;
+    private String nextCursorToSearch;
 
     @Override
     protected ActionResult execute() {
@@ -89,19 +83,23 @@ public class AdminActivityLogPageAction extends Action {
         //This is used to parse the filterQuery. If the query is not parsed, the filter function would ignore the query
         data.generateQueryParameters(filterQuery);
 
-        boolean isContinueFromPreviousSearch = !data.isFromDateSpecifiedInQuery() && !searchTimeOffset.isEmpty();
+        boolean isContinueFromPreviousSearch = !searchTimeOffset.isEmpty();
         if (isContinueFromPreviousSearch) {
             data.setToDate(Long.parseLong(searchTimeOffset));
         }
 
         List<String> versionToQuery = getVersionsForQuery(data.getVersions());
-        AdminLogQuery query = new AdminLogQuery(versionToQuery, data.getFromDate(), data.getToDate());
 
-        List<ActivityLogEntry> logs = null;
-        if (data.isFromDateSpecifiedInQuery()) {
-            logs = searchLogsWithExactTimePeriod(query, data);
-        } else {
-            logs = searchLogsWithTimeIncrement(query, data);
+        long startTime = data.isFromDateSpecifiedInQuery()
+                         ? data.getFromDate()
+                         : data.getToDate() - MAX_SEARCH_PERIOD;
+        String searchCursor = getRequestParamValue("searchCursor");
+        if (searchCursor != null && searchCursor.isEmpty()) {
+            searchCursor = null;
+        }
+        List<ActivityLogEntry> logs = searchLogs(startTime, data.getToDate(), searchCursor, versionToQuery, data);
+        if (!data.isFromDateSpecifiedInQuery()) {
+            data.setFromDate(earliestTimeSearched);
         }
 
         String courseIdFromSearchPage = getRequestParamValue("courseId");
@@ -194,9 +192,10 @@ public class AdminActivityLogPageAction extends Action {
             }
         }
 
-        // the "Search More" button to continue searching from the previous fromDate
+        // the "Search More" button to continue searching from where this search ended
         status.append("<button class=\"btn-link\" id=\"button_older\" data-next-end-time-to-search=\""
                       + nextEndTimeToSearch
+                      + "\" data-next-search-cursor=\"" + nextCursorToSearch
                       + "\">Search More</button><input id=\"ifShowAll\" type=\"hidden\" value=\""
                       + data.getShouldShowAllLogs()
                       + "\"/><input id=\"ifShowTestData\" type=\"hidden\" value=\""
@@ -208,67 +207,54 @@ public class AdminActivityLogPageAction extends Action {
     }
 
     /**
-     * Retrieves enough logs within MAX_SEARCH_PERIOD hours.
+     * Retrieves the latest logs within the time period until a page of relevant logs is found.
+     *
+     * <p>The logs are read a page at a time, each page continuing from where the previous one ended,
+     * so that only the logs up to the last page of relevant logs are read.
+     *
+     * @param cursor the cursor to continue a previous search from, or null to search from {@code endTime}
      */
-    private List<ActivityLogEntry> searchLogsWithTimeIncrement(AdminLogQuery query, AdminActivityLogPageData data) {
+    private List<ActivityLogEntry> searchLogs(long startTime, long endTime, String cursor, List<String> versions,
+                                              AdminActivityLogPageData data) {
         List<ActivityLogEntry> appLogs = new LinkedList<>();
-
         totalLogsSearched = 0;
-        GaeLogApi logApi = new GaeLogApi();
 
-        long startTime = query.getEndTime() - SEARCH_TIME_INCREMENT;
-        query.setTimePeriod(startTime, query.getEndTime());
-
-        for (int i = 0; i < MAX_SEARCH_TIMES; i++) {
-            if (appLogs.size() >= RELEVANT_LOGS_PER_PAGE) {
-                break;
-            }
-            List<AppLogLine> searchResult = logApi.fetchLogs(query);
-            List<ActivityLogEntry> filteredLogs = filterLogsForActivityLogPage(searchResult, data);
-            appLogs.addAll(filteredLogs);
-            totalLogsSearched += searchResult.size();
-            query.moveTimePeriodBackward(SEARCH_TIME_INCREMENT);
+        ActivityLogsPage searchResult;
+        String nextCursor = cursor;
+        do {
+            searchResult = logic.getActivityLogs(startTime, endTime, nextCursor, versions,
+                    data.getRequestsInQuery(), data.getRolesInQuery(), data.getPersonSpecified(),
+                    data.getCourseInQuery(), data.getShouldShowTestData(), RELEVANT_LOGS_PER_PAGE);
+            appLogs.addAll(filterLogsForActivityLogPage(searchResult.getEntries(), data));
+            totalLogsSearched += searchResult.getEntries().size();
+            nextCursor = searchResult.getNextCursor();
+        } while (appLogs.size() < RELEVANT_LOGS_PER_PAGE && nextCursor != null);
+
+        if (searchResult.isLastPage()) {
+            // no more logs in the time period
+            earliestTimeSearched = startTime;
+            nextEndTimeToSearch = startTime - 1;
+            nextCursorToSearch = "";
+        } else {
+            // a page which is not the last is full
+            List<ActivityLogEntry> entries = searchResult.getEntries();
+            earliestTimeSearched = entries.get(entries.size() - 1).getLogTime();
+            nextEndTimeToSearch = earliestTimeSearched;
+            nextCursorToSearch = nextCursor;
         }
-        data.setFromDate(query.getStartTime() + SEARCH_TIME_INCREMENT);
-        nextEndTimeToSearch = query.getEndTime();
         return appLogs;
     }
 
-    /**
-     * Retrieves all logs in the time period specified in the query.
-     */
-    private List<ActivityLogEntry> searchLogsWithExactTimePeriod(AdminLogQuery query, AdminActivityLogPageData data) {
-        GaeLogApi logApi = new GaeLogApi();
-        List<AppLogLine> searchResult = logApi.fetchLogs(query);
-
-        nextEndTimeToSearch = data.getFromDate() - 1;
-        totalLogsSearched = searchResult.size();
-        return filterLogsForActivityLogPage(searchResult, data);
-    }
-
     /**
      * Filters logs that should be shown on Admin Activity Log Page.
      */
-    private List<ActivityLogEntry> filterLogsForActivityLogPage(List<AppLogLine> appLogLines,
+    private List<ActivityLogEntry> filterLogsForActivityLogPage(List<ActivityLogEntry> logs,
                                                                 AdminActivityLogPageData data) {
         List<ActivityLogEntry> appLogs = new LinkedList<>();
-        for (AppLogLine appLog : appLogLines) {
-            String logMsg = appLog.getLogMessage();
-            boolean isNotTeammatesLog = !logMsg.contains("TEAMMATESLOG");
-            boolean isLogFromAdminActivityLogPage = logMsg.contains("adminActivityLogPage");
-            if (isNotTeammatesLog || isLogFromAdminActivityLogPage) {
-                continue;
+        for (ActivityLogEntry activityLogEntry : logs) {
+            if (data.filterLog(activityLogEntry)) {
+                appLogs.add(activityLogEntry);
             }
-
-            ActivityLogEntry activityLogEntry = ActivityLogEntry.buildFromAppLog(appLog);
-            boolean isToShow = data.filterLog(activityLogEntry)
-                    && (!activityLogEntry.isTestingData() || data.getShouldShowTestData());
-
-            if (!isToShow) {
-                continue;
-            }
-
-            appLogs.add(activityLogEntry);
         }
         return appLogs;
     }
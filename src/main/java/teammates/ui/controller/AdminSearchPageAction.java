@@ -2,8 +2,12 @@ package teammates.ui.controller;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -23,8 +27,10 @@ public class AdminSearchPageAction extends Action {
 
     private static final String OPEN_CLOSE_DATES_SESSION_TEMPLATE = "[%s - %s]";
 
-    private Map<String, String> tempCourseIdToInstituteMap = new HashMap<>();
-    private Map<String, String> tempCourseIdToInstructorGoogleIdMap = new HashMap<>();
+    private Map<String, CourseAttributes> courseIdToCourseMap = new HashMap<>();
+    private Map<String, List<FeedbackSessionAttributes>> courseIdToFeedbackSessionsMap = new HashMap<>();
+    private Map<String, String> courseIdToInstructorGoogleIdMap = new HashMap<>();
+    private Map<String, String> courseIdToInstituteMap = new HashMap<>();
 
     @Override
     protected ActionResult execute() {
@@ -51,13 +57,15 @@ public class AdminSearchPageAction extends Action {
         data.searchKey = SanitizationHelper.sanitizeForHtml(searchKey);
 
         data.studentResultBundle = logic.searchStudentsInWholeSystem(searchKey);
+        data.instructorResultBundle = logic.searchInstructorsInWholeSystem(searchKey);
+
+        loadSearchResultDetails(data.studentResultBundle.studentList, data.instructorResultBundle.instructorList);
 
         data = putFeedbackSessionLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentHomePageLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentRecordsPageLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentInstituteIntoMap(data.studentResultBundle.studentList, data);
 
-        data.instructorResultBundle = logic.searchInstructorsInWholeSystem(searchKey);
         data = putInstructorInstituteIntoMap(data.instructorResultBundle.instructorList, data);
         data = putInstructorHomePageLinkIntoMap(data.instructorResultBundle.instructorList, data);
         data = putInstructorCourseJoinLinkIntoMap(data.instructorResultBundle.instructorList, data);
@@ -88,7 +96,7 @@ public class AdminSearchPageAction extends Action {
                                                      AdminSearchPageData data) {
         for (StudentAttributes student : students) {
             if (student.course != null && !data.courseIdToCourseNameMap.containsKey(student.course)) {
-                CourseAttributes course = logic.getCourse(student.course);
+                CourseAttributes course = courseIdToCourseMap.get(student.course);
                 if (course != null) {
                     //TODO: [CourseAttribute] remove desanitization after data migration
                     data.courseIdToCourseNameMap.put(
@@ -99,7 +107,7 @@ public class AdminSearchPageAction extends Action {
 
         for (InstructorAttributes instructor : instructors) {
             if (instructor.courseId != null && !data.courseIdToCourseNameMap.containsKey(instructor.courseId)) {
-                CourseAttributes course = logic.getCourse(instructor.courseId);
+                CourseAttributes course = courseIdToCourseMap.get(instructor.courseId);
                 if (course != null) {
                     //TODO: [CourseAttribute] remove desanitization after data migration
                     data.courseIdToCourseNameMap.put(
@@ -134,24 +142,10 @@ public class AdminSearchPageAction extends Action {
     private AdminSearchPageData putInstructorInstituteIntoMap(List<InstructorAttributes> instructors,
                                                               AdminSearchPageData data) {
         for (InstructorAttributes instructor : instructors) {
-
-            if (tempCourseIdToInstituteMap.get(instructor.courseId) != null) {
-                data.instructorInstituteMap.put(instructor.getIdentificationString(),
-                                                tempCourseIdToInstituteMap.get(instructor.courseId));
-                continue;
+            String institute = courseIdToInstituteMap.get(instructor.courseId);
+            if (institute != null) {
+                data.instructorInstituteMap.put(instructor.getIdentificationString(), institute);
             }
-
-            String googleId = findAvailableInstructorGoogleIdForCourse(instructor.courseId);
-
-            AccountAttributes account = logic.getAccount(googleId);
-            if (account == null) {
-                continue;
-            }
-
-            String institute = account.institute.trim().isEmpty() ? "None" : account.institute;
-
-            tempCourseIdToInstituteMap.put(instructor.courseId, institute);
-            data.instructorInstituteMap.put(instructor.getIdentificationString(), institute);
         }
 
         return data;
@@ -178,25 +172,10 @@ public class AdminSearchPageAction extends Action {
 
     private AdminSearchPageData putStudentInstituteIntoMap(List<StudentAttributes> students, AdminSearchPageData data) {
         for (StudentAttributes student : students) {
-
-            if (tempCourseIdToInstituteMap.get(student.course) != null) {
-                data.studentInstituteMap.put(student.getIdentificationString(),
-                                             tempCourseIdToInstituteMap.get(student.course));
-                continue;
-            }
-
-            String instructorForCourseGoogleId = findAvailableInstructorGoogleIdForCourse(student.course);
-
-            AccountAttributes account = logic.getAccount(instructorForCourseGoogleId);
-            if (account == null) {
-                continue;
+            String institute = courseIdToInstituteMap.get(student.course);
+            if (institute != null) {
+                data.studentInstituteMap.put(student.getIdentificationString(), institute);
             }
-
-            String institute = account.institute.trim().isEmpty() ? "None" : account.institute;
-
-            tempCourseIdToInstituteMap.put(student.course, institute);
-
-            data.studentInstituteMap.put(student.getIdentificationString(), institute);
         }
 
         return data;
@@ -244,32 +223,64 @@ public class AdminSearchPageAction extends Action {
         return data;
     }
 
+    /**
+     * Fetches the courses, instructors, institutes and feedback sessions needed to decorate the search results.
+     * Each distinct course and account is read only once, with batched lookups, and the instructor and
+     * feedback session queries of all courses are issued together so that they run concurrently.
+     */
+    private void loadSearchResultDetails(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
+        Set<String> studentCourseIds = new LinkedHashSet<>();
+        for (StudentAttributes student : students) {
+            if (student.course != null) {
+                studentCourseIds.add(student.course);
+            }
+        }
+        Set<String> courseIds = new LinkedHashSet<>(studentCourseIds);
+        for (InstructorAttributes instructor : instructors) {
+            if (instructor.courseId != null) {
+                courseIds.add(instructor.courseId);
+            }
+        }
+
+        for (CourseAttributes course : logic.getCourses(new ArrayList<>(courseIds))) {
+            courseIdToCourseMap.put(course.getId(), course);
+        }
+
+        Supplier<Map<String, List<FeedbackSessionAttributes>>> sessionsByCourseSupplier =
+                logic.getFeedbackSessionsForCoursesAsync(studentCourseIds);
+        Supplier<Map<String, List<InstructorAttributes>>> instructorsByCourseSupplier =
+                logic.getInstructorsForCoursesAsync(courseIds);
+
+        courseIdToFeedbackSessionsMap = sessionsByCourseSupplier.get();
+        instructorsByCourseSupplier.get().forEach((courseId, instructorsOfCourse) ->
+                courseIdToInstructorGoogleIdMap.put(courseId, findAvailableInstructorGoogleId(instructorsOfCourse)));
+
+        Set<String> instructorGoogleIds = new HashSet<>(courseIdToInstructorGoogleIdMap.values());
+        instructorGoogleIds.remove("");
+        Map<String, AccountAttributes> accounts = logic.getAccounts(instructorGoogleIds);
+        courseIdToInstructorGoogleIdMap.forEach((courseId, googleId) -> {
+            AccountAttributes account = accounts.get(googleId);
+            if (account != null) {
+                courseIdToInstituteMap.put(courseId, account.institute.trim().isEmpty() ? "None" : account.institute);
+            }
+        });
+    }
+
     /**
      * Finds the googleId of a registered instructor with co-owner privileges.
      * If there is no such instructor, finds the googleId of a registered
      * instructor with the privilege to modify instructors.
      *
-     * @param courseId
-     *            the ID of the course
+     * @param instructorList
+     *            the instructors of the course
      * @return the googleId of a suitable instructor if found, otherwise an
      *         empty string
      */
-    private String findAvailableInstructorGoogleIdForCourse(String courseId) {
-
-        if (tempCourseIdToInstructorGoogleIdMap.get(courseId) != null) {
-            return tempCourseIdToInstructorGoogleIdMap.get(courseId);
-        }
-
-        List<InstructorAttributes> instructorList = logic.getInstructorsForCourse(courseId);
-
-        if (instructorList.isEmpty()) {
-            return "";
-        }
+    private String findAvailableInstructorGoogleId(List<InstructorAttributes> instructorList) {
 
         for (InstructorAttributes instructor : instructorList) {
 
             if (instructor.isRegistered() && instructor.hasCoownerPrivileges()) {
-                tempCourseIdToInstructorGoogleIdMap.put(courseId, instructor.googleId);
                 return instructor.googleId;
             }
         }
@@ -279,7 +290,6 @@ public class AdminSearchPageAction extends Action {
             if (instructor.isRegistered()
                     && instructor.isAllowedForPrivilege(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR)) {
 
-                tempCourseIdToInstructorGoogleIdMap.put(courseId, instructor.googleId);
                 return instructor.googleId;
             }
         }
@@ -287,13 +297,17 @@ public class AdminSearchPageAction extends Action {
         return "";
     }
 
+    private String findAvailableInstructorGoogleIdForCourse(String courseId) {
+        return courseIdToInstructorGoogleIdMap.getOrDefault(courseId, "");
+    }
+
     private AdminSearchPageData putFeedbackSessionLinkIntoMap(List<StudentAttributes> students,
                                                               AdminSearchPageData rawData) {
 
         AdminSearchPageData processedData = rawData;
 
         for (StudentAttributes student : students) {
-            List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(student.course);
+            List<FeedbackSessionAttributes> feedbackSessions = courseIdToFeedbackSessionsMap.get(student.course);
 
             for (FeedbackSessionAttributes fsa : feedbackSessions) {
                 processedData = extractDataFromFeedbackSession(fsa, processedData, student);
@@ -28,6 +28,7 @@ import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.Url;
+import teammates.logic.api.ActivityLogRecorder;
 import teammates.logic.api.GateKeeper;
 
 /**
@@ -81,36 +82,32 @@ public class ControllerServlet extends HttpServlet {
 
             long timeTaken = System.currentTimeMillis() - startTime;
             // This is the log message that is used to generate the 'activity log' for the admin.
-
-            log.info(c.getLogMessage() + "|||" + timeTaken);
+            String activityLogMessage = c.getLogMessage() + "|||" + timeTaken;
+            log.info(activityLogMessage);
+            new ActivityLogRecorder().recordActivity(activityLogMessage, params);
 
         } catch (PageNotFoundException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ACTION_NOT_FOUND_PAGE, params, url));
         } catch (EntityNotFoundException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ENTITY_NOT_FOUND_PAGE, params, url));
 
         } catch (FeedbackSessionNotVisibleException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             req.getSession().setAttribute(Const.ParamsNames.FEEDBACK_SESSION_NOT_VISIBLE, e.getStartTimeString());
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.FEEDBACK_SESSION_NOT_VISIBLE, params, url));
 
         } catch (InvalidOriginException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.INVALID_ORIGIN, params, url));
 
         } catch (UnauthorizedAccessException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.UNAUTHORIZED, params, url));
 
@@ -157,6 +154,15 @@ public class ControllerServlet extends HttpServlet {
 
     }
 
+    private void logActionFailure(String url, Map<String, String[]> params, Exception e, UserType userType) {
+        String failureLogMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, userType);
+        log.warning(failureLogMessage);
+        // failures of requests without a logged-in user, e.g. from crawlers, are left out of the activity log
+        if (userType != null) {
+            new ActivityLogRecorder().recordActivity(failureLogMessage, params);
+        }
+    }
+
     private void cleanUpStatusMessageInSession(HttpServletRequest req) {
         req.getSession().removeAttribute(Const.ParamsNames.STATUS_MESSAGES_LIST);
     }
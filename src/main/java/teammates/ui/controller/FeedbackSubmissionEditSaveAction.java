@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -49,6 +50,8 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
     protected List<FeedbackResponseCommentAttributes> commentsToSave = new ArrayList<>();
     protected List<FeedbackResponseCommentAttributes> commentsToUpdate = new ArrayList<>();
 
+    private CourseRoster roster;
+
     @Override
     protected ActionResult execute() throws EntityDoesNotExistException {
         courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
@@ -196,8 +199,12 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         deleteResponses(responsesToDelete);
         updateResponses(responsesToUpdate);
 
-        saveNewCommentsByFeedbackParticipant(commentsToSave);
-        updateFeedbackParticipantComments(commentsToUpdate);
+        List<FeedbackResponseCommentAttributes> commentsToIndex = new ArrayList<>();
+        saveNewCommentsByFeedbackParticipant(commentsToSave, commentsToIndex);
+        updateFeedbackParticipantComments(commentsToUpdate, commentsToIndex);
+        if (!commentsToIndex.isEmpty()) {
+            logic.putFeedbackResponseCommentDocuments(commentsToIndex);
+        }
 
         if (!isError) {
             statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_RESPONSES_SAVED, StatusMessageColor.SUCCESS));
@@ -301,12 +308,12 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         }
     }
 
-    private void saveNewCommentsByFeedbackParticipant(List<FeedbackResponseCommentAttributes> commentsToSave)
-            throws EntityDoesNotExistException {
+    private void saveNewCommentsByFeedbackParticipant(List<FeedbackResponseCommentAttributes> commentsToSave,
+            List<FeedbackResponseCommentAttributes> commentsToIndex) throws EntityDoesNotExistException {
         for (FeedbackResponseCommentAttributes frc : commentsToSave) {
             try {
                 frc = logic.createFeedbackResponseComment(frc);
-                logic.putDocument(frc);
+                commentsToIndex.add(frc);
                 statusToAdmin += this.getClass().getName() + ":<br>"
                         + "Adding comment to response: " + frc.feedbackResponseId + "<br>"
                         + "in course/feedback session: " + frc.courseId + "/"
@@ -321,30 +328,32 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
     }
 
     private void deleteResponses(List<FeedbackResponseAttributes> responsesToDelete) {
-        for (FeedbackResponseAttributes response : responsesToDelete) {
-            logic.deleteFeedbackResponse(response);
+        if (responsesToDelete.isEmpty()) {
+            return;
         }
+        logic.deleteFeedbackResponses(responsesToDelete);
     }
 
     private void updateResponses(List<FeedbackResponseAttributes> responsesToUpdate)
             throws EntityDoesNotExistException {
-        for (FeedbackResponseAttributes response : responsesToUpdate) {
-            try {
-                logic.updateFeedbackResponse(response);
-                hasValidResponse = true;
-            } catch (EntityAlreadyExistsException | InvalidParametersException e) {
-                setStatusForException(e);
-            }
+        if (responsesToUpdate.isEmpty()) {
+            return;
+        }
+        try {
+            logic.updateFeedbackResponses(responsesToUpdate);
+            hasValidResponse = true;
+        } catch (EntityAlreadyExistsException | InvalidParametersException e) {
+            setStatusForException(e);
         }
     }
 
-    private void updateFeedbackParticipantComments(List<FeedbackResponseCommentAttributes> commentsToUpdate)
-            throws EntityDoesNotExistException {
+    private void updateFeedbackParticipantComments(List<FeedbackResponseCommentAttributes> commentsToUpdate,
+            List<FeedbackResponseCommentAttributes> commentsToIndex) throws EntityDoesNotExistException {
         for (FeedbackResponseCommentAttributes feedbackResponseComment : commentsToUpdate) {
             try {
                 FeedbackResponseCommentAttributes updatedComment =
                         logic.updateFeedbackResponseComment(feedbackResponseComment);
-                logic.putDocument(updatedComment);
+                commentsToIndex.add(updatedComment);
                 statusToAdmin += this.getClass().getName() + ":<br>"
                         + "Editing feedback response comment: " + feedbackResponseComment.getId() + "<br>"
                         + "in course/feedback session: " + feedbackResponseComment.courseId + "/"
@@ -396,9 +405,9 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         if (recipientType == FeedbackParticipantType.INSTRUCTORS || recipientType == FeedbackParticipantType.NONE) {
             response.recipientSection = Const.DEFAULT_SECTION;
         } else if (recipientType == FeedbackParticipantType.TEAMS) {
-            response.recipientSection = logic.getSectionForTeam(courseId, response.recipient);
+            response.recipientSection = getRoster().getSectionForTeam(response.recipient);
         } else if (recipientType == FeedbackParticipantType.STUDENTS) {
-            StudentAttributes student = logic.getStudentForEmail(courseId, response.recipient);
+            StudentAttributes student = getRoster().getStudentForEmail(response.recipient);
             response.recipientSection = student == null ? Const.DEFAULT_SECTION : student.section;
         } else {
             response.recipientSection = getUserSectionForCourse();
@@ -421,6 +430,16 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         return response;
     }
 
+    /**
+     * Returns the roster of the course, which is loaded once on first use to look up the sections of recipients.
+     */
+    private CourseRoster getRoster() {
+        if (roster == null) {
+            roster = new CourseRoster(logic.getStudentsForCourse(courseId), logic.getInstructorsForCourse(courseId));
+        }
+        return roster;
+    }
+
     private void extractFeedbackParticipantCommentsData(FeedbackQuestionAttributes questionAttributes,
             int questionIndex, FeedbackResponseAttributes response, int responseIndex) {
         if (!questionAttributes.getQuestionDetails().isFeedbackParticipantCommentsOnResponsesAllowed()) {
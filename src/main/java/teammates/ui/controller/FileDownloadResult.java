@@ -2,20 +2,48 @@ package teammates.ui.controller;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StringHelper;
 
 public class FileDownloadResult extends ActionResult {
 
+    /**
+     * The row appended to a streamed file which could not be written to the end,
+     * so that it is not mistaken for a complete file.
+     */
+    private static final String INCOMPLETE_FILE_MARKER =
+            "\"Error: the download failed before the end of the file. Please download the file again.\"";
+
+    private static final Logger log = Logger.getLogger();
+
     private String fileContent = "";
     private String fileName = "";
+    private ContentWriter contentWriter;
+
+    /**
+     * Generates the content of a file directly into the response, so that large files
+     * do not have to be built in memory before being sent.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        /**
+         * Writes the content of the file to {@code writer}.
+         */
+        void writeTo(Writer writer) throws IOException;
+    }
 
     public FileDownloadResult(String destination, AccountAttributes account,
             List<StatusMessage> status) {
@@ -31,6 +59,15 @@ public class FileDownloadResult extends ActionResult {
         this.fileContent = fileContent;
     }
 
+    public FileDownloadResult(
+            String destination, AccountAttributes account,
+            List<StatusMessage> status,
+            String fileName, ContentWriter contentWriter) {
+        super(destination, account, status);
+        this.fileName = fileName;
+        this.contentWriter = contentWriter;
+    }
+
     @Override
     public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         /*
@@ -43,7 +80,24 @@ public class FileDownloadResult extends ActionResult {
         resp.setHeader("Content-Disposition", getContentDispositionHeader());
         PrintWriter writer = resp.getWriter();
         writer.write("\uFEFF");
-        writer.append(fileContent);
+        if (contentWriter == null) {
+            writer.append(fileContent);
+            return;
+        }
+
+        try {
+            contentWriter.writeTo(writer);
+        } catch (IOException | RuntimeException e) {
+            if (!resp.isCommitted()) {
+                // nothing has been sent yet, so the error page can be shown instead of the file
+                resp.reset();
+                throw e;
+            }
+            // the status and part of the file are sent already, so the file is marked as incomplete
+            log.severe("Failed to send the file " + fileName + " in full: " + TeammatesException.toStringWithStackTrace(e));
+            writer.write(System.lineSeparator() + INCOMPLETE_FILE_MARKER + System.lineSeparator());
+            writer.flush();
+        }
     }
 
     /**
@@ -67,8 +121,20 @@ public class FileDownloadResult extends ActionResult {
         return this.fileName;
     }
 
+    /**
+     * Returns the content of the file. If the content is streamed, it is generated in memory first.
+     */
     public String getFileContent() {
-        return this.fileContent;
+        if (contentWriter == null) {
+            return this.fileContent;
+        }
+        StringWriter writer = new StringWriter();
+        try {
+            contentWriter.writeTo(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
     }
 
 }
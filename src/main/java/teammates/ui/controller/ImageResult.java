@@ -16,13 +16,28 @@ import teammates.common.util.StatusMessage;
 
 public class ImageResult extends ActionResult {
 
+    /**
+     * The length of time in seconds for which a cached image is used without checking that it is unchanged.
+     * The image is checked afterwards as it can be replaced under the same URL.
+     */
+    private static final int MAX_AGE_IN_SECONDS = 24 * 60 * 60;
+
     /** The Google Cloud Storage blob key for the image. */
     public String blobKey;
 
+    /** The entity tag of the image, which changes whenever the image changes; null if it is not to be cached. */
+    public String eTag;
+
     public ImageResult(String destination, String blobKey, AccountAttributes account,
             List<StatusMessage> status) {
+        this(destination, blobKey, null, account, status);
+    }
+
+    public ImageResult(String destination, String blobKey, String eTag, AccountAttributes account,
+            List<StatusMessage> status) {
         super(destination, account, status);
         this.blobKey = blobKey;
+        this.eTag = eTag;
     }
 
     @Override
@@ -31,10 +46,45 @@ public class ImageResult extends ActionResult {
         if (blobKey.isEmpty()) {
             resp.sendRedirect(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
         } else {
+            if (eTag != null
+                    && respondNotModifiedIfCached(req, resp, eTag, "private, max-age=" + MAX_AGE_IN_SECONDS)) {
+                return;
+            }
             resp.setContentType("image/png");
             BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
             blobstoreService.serve(new BlobKey(blobKey), resp);
         }
     }
 
+    /**
+     * Sets the headers for caching an image with the entity tag {@code eTag}.
+     * If the image cached by the client has the same entity tag, the response is completed
+     * with the status 304 (Not Modified) instead of the image.
+     *
+     * @return true if the response is completed
+     */
+    static boolean respondNotModifiedIfCached(HttpServletRequest req, HttpServletResponse resp, String eTag,
+            String cacheControl) {
+        String quotedETag = "\"" + eTag + "\"";
+        resp.setHeader("ETag", quotedETag);
+        resp.setHeader("Cache-Control", cacheControl);
+
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String cachedETag : ifNoneMatch.split(",")) {
+            String trimmedETag = cachedETag.trim();
+            // weak comparison is used for If-None-Match
+            if (trimmedETag.startsWith("W/")) {
+                trimmedETag = trimmedETag.substring(2);
+            }
+            if ("*".equals(trimmedETag) || quotedETag.equals(trimmedETag)) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -1,5 +1,6 @@
 package teammates.ui.controller;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -20,18 +21,22 @@ public class InstructorCourseDeleteAllSoftDeletedCoursesAction extends Action {
         InstructorCoursesPageData data = new InstructorCoursesPageData(account, sessionToken);
         List<InstructorAttributes> instructorList = logic.getInstructorsForGoogleId(data.account.googleId);
 
+        List<String> idsOfCoursesToDelete = new ArrayList<>();
         for (InstructorAttributes instructor : instructorList) {
             CourseAttributes course = logic.getSoftDeletedCourseForInstructor(instructor);
             if (course != null) {
                 gateKeeper.verifyAccessible(instructor,
                         course,
                         Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
+                idsOfCoursesToDelete.add(course.getId());
             }
         }
 
         try {
-            /* Permanently delete all courses and setup status to be shown to user and admin */
-            logic.deleteAllCourses(instructorList);
+            /* Start permanently deleting all courses and setup status to be shown to user and admin */
+            for (String courseId : idsOfCoursesToDelete) {
+                logic.startCourseDeletion(courseId, () -> taskQueuer.scheduleCourseDeletion(courseId));
+            }
             String statusMessage = Const.StatusMessages.COURSE_ALL_DELETED;
             statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.SUCCESS));
             statusToAdmin = "All courses deleted";
@@ -21,8 +21,9 @@ public class InstructorCourseDeleteSoftDeletedCourseAction extends Action {
                 Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
 
         try {
-            /* Permanently delete the course and setup status to be shown to user and admin */
-            logic.deleteCourse(idOfCourseToDelete);
+            /* Start permanently deleting the course and setup status to be shown to user and admin */
+            logic.startCourseDeletion(idOfCourseToDelete,
+                    () -> taskQueuer.scheduleCourseDeletion(idOfCourseToDelete));
             String statusMessage = String.format(Const.StatusMessages.COURSE_DELETED, idOfCourseToDelete);
             statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.SUCCESS));
             statusToAdmin = "Course deleted: " + idOfCourseToDelete;
@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.List;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -97,12 +98,15 @@ public class InstructorCourseEnrollSaveAction extends Action {
         CourseEnrollmentResult enrollResult = logic.enrollStudents(studentsInfo, courseId);
         List<StudentAttributes> students = enrollResult.studentList;
 
-        // Adjust submissions for all feedback responses within the course
-        List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            // Schedule adjustment of submissions for feedback session in course
-            taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
-                    courseId, session.getFeedbackSessionName(), enrollResult.enrollmentList);
+        // Adjust submissions for all feedback responses within the course,
+        // which is only needed if some existing students were modified
+        if (hasModifiedStudents(enrollResult.enrollmentList)) {
+            List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
+            for (FeedbackSessionAttributes session : feedbackSessions) {
+                // Schedule adjustment of submissions for feedback session in course
+                taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
+                        courseId, session.getFeedbackSessionName(), enrollResult.enrollmentList);
+            }
         }
 
         students.sort(Comparator.comparing(obj -> obj.updateStatus.numericRepresentation));
@@ -110,6 +114,15 @@ public class InstructorCourseEnrollSaveAction extends Action {
         return separateStudents(students);
     }
 
+    private boolean hasModifiedStudents(List<StudentEnrollDetails> enrollmentList) {
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Separate the StudentData objects in the list into different categories based
      * on their updateStatus. Each category is put into a separate list.<br>
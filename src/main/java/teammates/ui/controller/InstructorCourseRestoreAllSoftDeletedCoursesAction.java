@@ -31,9 +31,15 @@ public class InstructorCourseRestoreAllSoftDeletedCoursesAction extends Action {
 
         try {
             /* Restore all courses and setup status to be shown to user and admin */
-            logic.restoreAllCoursesFromRecycleBin(instructorList);
-            String statusMessage = Const.StatusMessages.COURSE_ALL_RESTORED;
-            statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.SUCCESS));
+            List<String> courseIdsBeingDeleted = logic.restoreAllCoursesFromRecycleBin(instructorList);
+            if (courseIdsBeingDeleted.isEmpty()) {
+                String statusMessage = Const.StatusMessages.COURSE_ALL_RESTORED;
+                statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.SUCCESS));
+            } else {
+                String statusMessage = String.format(Const.StatusMessages.COURSE_ALL_RESTORED_EXCEPT_BEING_DELETED,
+                        String.join(", ", courseIdsBeingDeleted));
+                statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.WARNING));
+            }
             statusToAdmin = "All courses restored";
         } catch (Exception e) {
             setStatusForException(e);
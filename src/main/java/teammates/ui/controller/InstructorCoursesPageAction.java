@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CourseDeletionStatus;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
@@ -40,6 +42,7 @@ public class InstructorCoursesPageAction extends Action {
         List<CourseAttributes> activeCourses = new ArrayList<>();
         List<CourseAttributes> archivedCourses = new ArrayList<>();
         List<CourseAttributes> softDeletedCourses = new ArrayList<>();
+        Map<String, CourseDeletionStatus> courseDeletionStatuses = new HashMap<>();
 
         if (data.isUsingAjax()) {
             // Get list of InstructorAttributes that belong to the user.
@@ -65,9 +68,14 @@ public class InstructorCoursesPageAction extends Action {
             CourseAttributes.sortById(activeCourses);
             CourseAttributes.sortById(archivedCourses);
             CourseAttributes.sortById(softDeletedCourses);
+
+            // Get the progress of the soft-deleted courses which are being permanently deleted.
+            courseDeletionStatuses = logic.getCourseDeletionStatuses(softDeletedCourses.stream()
+                    .map(CourseAttributes::getId)
+                    .collect(Collectors.toList()));
         }
 
-        data.init(activeCourses, archivedCourses, softDeletedCourses, instructorsForCourses);
+        data.init(activeCourses, archivedCourses, softDeletedCourses, instructorsForCourses, courseDeletionStatuses);
 
         /* Explanation: Set any status messages that should be shown to the user.*/
         if (data.isUsingAjax() && allCourses.isEmpty()) {
@@ -2,12 +2,16 @@ package teammates.ui.controller;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.FeedbackSessionCopyResult;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
@@ -48,7 +52,7 @@ public class InstructorFeedbackEditCopyAction extends Action {
         gateKeeper.verifyAccessible(instructor, fsa, false);
 
         try {
-            // Check if there are no conflicting feedback sessions in all the courses
+            // Check if there are no conflicting feedback sessions in all the courses, including in Recycle Bin
             List<String> conflictCourses =
                     filterConflictsInCourses(newFeedbackSessionName, coursesIdToCopyTo);
 
@@ -61,33 +65,62 @@ public class InstructorFeedbackEditCopyAction extends Action {
                 return createAjaxResultWithErrorMessage(errorToUser);
             }
 
-            FeedbackSessionAttributes fs = null;
-            // Copy the feedback sessions
-            // TODO: consider doing this as a batch insert
+            List<String> courses = Arrays.asList(coursesIdToCopyTo);
+
+            // Check if the instructor can modify sessions in all the courses, reading them in batches
+            Map<String, InstructorAttributes> instructorsForCourses = new HashMap<>();
+            for (InstructorAttributes instructorForCourse : logic.getInstructorsForGoogleId(account.googleId)) {
+                instructorsForCourses.put(instructorForCourse.courseId, instructorForCourse);
+            }
+            Map<String, CourseAttributes> coursesToCopyTo = new HashMap<>();
+            for (CourseAttributes courseToCopyTo : logic.getCourses(courses)) {
+                coursesToCopyTo.put(courseToCopyTo.getId(), courseToCopyTo);
+            }
             for (String courseIdToCopyTo : coursesIdToCopyTo) {
-                InstructorAttributes instructorForCourse =
-                        logic.getInstructorForGoogleId(courseIdToCopyTo, account.googleId);
-                CourseAttributes courseToCopyTo = logic.getCourse(courseIdToCopyTo);
-                gateKeeper.verifyAccessible(instructorForCourse, courseToCopyTo,
+                gateKeeper.verifyAccessible(instructorsForCourses.get(courseIdToCopyTo),
+                                            coursesToCopyTo.get(courseIdToCopyTo),
                                             Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION);
+            }
+
+            // Copy the feedback sessions, leaving the courses beyond one batched write to the task queue
+            FeedbackSessionCopyResult result = logic.copyFeedbackSessionToCourses(newFeedbackSessionName, courses,
+                    originalFeedbackSessionName, originalCourseId, instructor.email);
 
-                fs = logic.copyFeedbackSession(newFeedbackSessionName, courseIdToCopyTo, courseToCopyTo.getTimeZone(),
+            // The copies already written are kept even if some of the courses failed,
+            // so the copy is continued with the rest of the courses regardless
+            if (!result.isComplete()) {
+                taskQueuer.scheduleFeedbackSessionCopy(newFeedbackSessionName, result.getRemainingCourseIds(),
                         originalFeedbackSessionName, originalCourseId, instructor.email);
             }
 
-            List<String> courses = Arrays.asList(coursesIdToCopyTo);
+            // If conflicts are checked above, failures will only occur via race condition
+            String errorForFailedCourses = String.format(Const.StatusMessages.FEEDBACK_SESSION_COPY_FAILED,
+                    StringHelper.toString(new ArrayList<>(result.getFailedCourses().keySet()), ","));
+            if (result.getCopiedSessions().isEmpty() && result.isComplete()) {
+                return createAjaxResultWithErrorMessage(errorForFailedCourses);
+            }
+
             String commaSeparatedListOfCourses = StringHelper.toString(courses, ",");
 
             statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_COPIED, StatusMessageColor.SUCCESS));
+            if (!result.getFailedCourses().isEmpty()) {
+                statusToUser.add(new StatusMessage(errorForFailedCourses, StatusMessageColor.DANGER));
+            }
+            if (!result.isComplete()) {
+                statusToUser.add(new StatusMessage(
+                        String.format(Const.StatusMessages.FEEDBACK_SESSION_COPY_CONTINUED,
+                                      StringHelper.toString(result.getRemainingCourseIds(), ",")),
+                        StatusMessageColor.INFO));
+            }
             statusToAdmin =
                     "Copying to multiple feedback sessions.<br>"
-                    + "New Feedback Session <span class=\"bold\">(" + fs.getFeedbackSessionName() + ")</span> "
+                    + "New Feedback Session <span class=\"bold\">(" + newFeedbackSessionName + ")</span> "
                     + "for Courses: <br>" + commaSeparatedListOfCourses + "<br>"
-                    + "<span class=\"bold\">From:</span> " + fs.getStartTime()
-                    + "<span class=\"bold\"> to</span> " + fs.getEndTime() + "<br>"
-                    + "<span class=\"bold\">Session visible from:</span> " + fs.getSessionVisibleFromTime() + "<br>"
-                    + "<span class=\"bold\">Results visible from:</span> " + fs.getResultsVisibleFromTime() + "<br><br>"
-                    + "<span class=\"bold\">Instructions:</span> " + fs.getInstructions() + "<br>"
+                    + "<span class=\"bold\">From:</span> " + fsa.getStartTime()
+                    + "<span class=\"bold\"> to</span> " + fsa.getEndTime() + "<br>"
+                    + "<span class=\"bold\">Session visible from:</span> " + fsa.getSessionVisibleFromTime() + "<br>"
+                    + "<span class=\"bold\">Results visible from:</span> " + fsa.getResultsVisibleFromTime() + "<br><br>"
+                    + "<span class=\"bold\">Instructions:</span> " + fsa.getInstructions() + "<br>"
                     + "Copied from <span class=\"bold\">(" + originalFeedbackSessionName + ")</span> for Course "
                     + "<span class=\"bold\">[" + originalCourseId + "]</span> created.<br>";
 
@@ -102,10 +135,6 @@ public class InstructorFeedbackEditCopyAction extends Action {
                                                                            account.googleId)
                                                           ));
 
-        } catch (EntityAlreadyExistsException e) {
-            // If conflicts are checked above, this will only occur via race condition
-            setStatusForException(e, Const.StatusMessages.FEEDBACK_SESSION_EXISTS);
-            return createAjaxResultWithErrorMessage(Const.StatusMessages.FEEDBACK_SESSION_EXISTS);
         } catch (InvalidParametersException e) {
             setStatusForException(e);
             return createAjaxResultWithErrorMessage(e.getMessage());
@@ -118,19 +147,12 @@ public class InstructorFeedbackEditCopyAction extends Action {
      * an existing feedback session with a name conflicting with feedbackSessionName.
      */
     private List<String> filterConflictsInCourses(String feedbackSessionName, String[] coursesIdToCopyTo) {
-        List<String> courses = new ArrayList<>();
-
-        for (String courseIdToCopy : coursesIdToCopyTo) {
-            FeedbackSessionAttributes existingFs =
-                    logic.getFeedbackSession(feedbackSessionName, courseIdToCopy);
-            boolean hasExistingFs = existingFs != null;
-
-            if (hasExistingFs) {
-                courses.add(existingFs.getCourseId());
-            }
-        }
+        Set<String> courseIdsWithSession =
+                logic.getCourseIdsWithFeedbackSession(feedbackSessionName, Arrays.asList(coursesIdToCopyTo));
 
-        return courses;
+        return Arrays.stream(coursesIdToCopyTo)
+                .filter(courseIdsWithSession::contains)
+                .collect(Collectors.toList());
     }
 
     private AjaxResult createAjaxResultWithErrorMessage(String errorToUser) {
@@ -1,6 +1,7 @@
 package teammates.ui.controller;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,22 +29,43 @@ public class InstructorHomePageAction extends Action {
 
         gateKeeper.verifyInstructorPrivileges(account);
 
-        String courseToLoad = getRequestParamValue(Const.ParamsNames.COURSE_TO_LOAD);
-        return courseToLoad == null ? loadPage() : loadCourse(courseToLoad);
+        String[] coursesToLoad = getRequestParamValues(Const.ParamsNames.COURSE_TO_LOAD);
+        return coursesToLoad == null ? loadPage() : loadCourses(coursesToLoad);
     }
 
-    private ActionResult loadCourse(String courseToLoad) throws EntityDoesNotExistException {
-        int index = Integer.parseInt(getRequestParamValue("index"));
+    /**
+     * Loads the course panels of the given courses in one request.
+     * The {@code index} parameters give the positions of the panels on the page, in the same order.
+     */
+    private ActionResult loadCourses(String[] coursesToLoad) {
+        String[] indexes = getRequestParamValues("index");
+        Assumption.assertEquals("Each course to load needs a panel index", coursesToLoad.length, indexes.length);
+
+        Map<String, InstructorAttributes> instructors = new HashMap<>();
+        for (InstructorAttributes instructor : logic.getInstructorsForGoogleId(account.googleId)) {
+            instructors.put(instructor.courseId, instructor);
+        }
 
-        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseToLoad, account.googleId);
+        List<InstructorAttributes> instructorList = new ArrayList<>();
+        for (String courseToLoad : coursesToLoad) {
+            InstructorAttributes instructor = instructors.get(courseToLoad);
+            Assumption.assertNotNull("Instructor is not in course " + courseToLoad, instructor);
+            instructorList.add(instructor);
+        }
 
-        CourseSummaryBundle course = logic.getCourseSummaryWithFeedbackSessions(instructor);
-        FeedbackSessionAttributes.sortFeedbackSessionsByCreationTimeDescending(course.feedbackSessions);
+        Map<String, CourseSummaryBundle> courses = logic.getCourseSummariesWithFeedbackSessions(instructorList);
 
         InstructorHomeCourseAjaxPageData data = new InstructorHomeCourseAjaxPageData(account, sessionToken);
-        data.init(index, course, instructor);
+        for (int i = 0; i < coursesToLoad.length; i++) {
+            CourseSummaryBundle course = courses.get(coursesToLoad[i]);
+            if (course == null) {
+                continue;
+            }
+            FeedbackSessionAttributes.sortFeedbackSessionsByCreationTimeDescending(course.feedbackSessions);
+            data.addCourseTable(Integer.parseInt(indexes[i]), course, instructors.get(coursesToLoad[i]));
+        }
 
-        statusToAdmin = "instructorHome Course Load:<br>" + courseToLoad;
+        statusToAdmin = "instructorHome Course Load:<br>" + String.join(", ", coursesToLoad);
 
         return createShowPageResult(Const.ViewURIs.INSTRUCTOR_HOME_AJAX_COURSE_TABLE, data);
     }
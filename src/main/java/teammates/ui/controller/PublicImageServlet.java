@@ -27,6 +27,12 @@ import teammates.logic.api.GateKeeper;
 @SuppressWarnings("serial")
 public class PublicImageServlet extends HttpServlet {
 
+    /**
+     * Public images are never replaced once uploaded, so they can be cached for as long as a year
+     * without checking that they are unchanged.
+     */
+    private static final String CACHE_CONTROL = "public, max-age=" + 365 * 24 * 60 * 60;
+
     private static final Logger log = Logger.getLogger();
 
     @Override
@@ -51,9 +57,12 @@ public class PublicImageServlet extends HttpServlet {
                 log.info(new LogMessageGenerator().generateBasicActivityLogMessage(url, params, message, userType));
                 resp.sendError(1, "No image found");
             } else {
-                resp.setContentType("image/png");
-                BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
-                blobstoreService.serve(new BlobKey(blobKey), resp);
+                // the blob key identifies the content of the image, hence it serves as the entity tag
+                if (!ImageResult.respondNotModifiedIfCached(req, resp, blobKey, CACHE_CONTROL)) {
+                    resp.setContentType("image/png");
+                    BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
+                    blobstoreService.serve(new BlobKey(blobKey), resp);
+                }
                 // TODO : restrict image request to those "public" files only
 
                 String message = "Public image request with URL: <br>"
@@ -1,11 +1,14 @@
 package teammates.ui.controller;
 
+import java.io.IOException;
+
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
 
@@ -61,7 +64,30 @@ public class StudentProfilePictureAction extends Action {
         StudentAttributes student = getStudentForGivenParameters(courseId, email);
         gateKeeper.verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(account, courseId, student.section, email);
 
-        return createImageResult(getPictureKeyForStudent(student));
+        return createThumbnailResult(student.googleId, getPictureKeyForStudent(student));
+    }
+
+    /**
+     * Creates the result serving the thumbnail of the picture, which can be cached by the client.
+     * The picture itself is served if it has no thumbnail.
+     */
+    private ActionResult createThumbnailResult(String googleId, String pictureKey) {
+        if (pictureKey.isEmpty()) {
+            return createImageResult(pictureKey);
+        }
+
+        String thumbnailETag;
+        try {
+            thumbnailETag = GoogleCloudStorageHelper.getThumbnailETag(googleId);
+        } catch (IOException e) {
+            log.warning("Failed to get the thumbnail of the profile picture of " + googleId + ": " + e.getMessage());
+            thumbnailETag = null;
+        }
+
+        if (thumbnailETag == null) {
+            return createImageResult(pictureKey);
+        }
+        return createImageResult(GoogleCloudStorageHelper.getThumbnailKey(googleId), thumbnailETag);
     }
 
     private StudentAttributes getStudentForGivenParameters(String courseId, String email)
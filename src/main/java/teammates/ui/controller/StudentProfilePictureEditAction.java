@@ -44,6 +44,8 @@ public class StudentProfilePictureEditAction extends Action {
             if (!isError) {
                 // this branch is covered in UiTests (look at todo in transformImage())
                 GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, transformedImage);
+                // the edited picture is already of the size of a thumbnail
+                GoogleCloudStorageHelper.writeThumbnailDataToGcs(account.googleId, transformedImage);
             }
         } catch (IOException e) {
             // Happens when GCS Service is down
@@ -109,7 +111,8 @@ public class StudentProfilePictureEditAction extends Action {
     }
 
     private CompositeTransform getCompositeTransformToApply() {
-        Transform standardCompress = ImagesServiceFactory.makeResize(150, 150);
+        Transform standardCompress = ImagesServiceFactory.makeResize(Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_LENGTH,
+                                                                     Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_LENGTH);
         return ImagesServiceFactory.makeCompositeTransform()
                 .concatenate(getScaleTransform())
                 .concatenate(getRotateTransform())
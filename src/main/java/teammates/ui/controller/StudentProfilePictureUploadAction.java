@@ -10,11 +10,17 @@ import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.blobstore.BlobstoreFailureException;
 import com.google.appengine.api.blobstore.BlobstoreInputStream;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
+import com.google.appengine.api.images.Image;
+import com.google.appengine.api.images.ImagesService;
+import com.google.appengine.api.images.ImagesServiceFactory;
+import com.google.appengine.api.images.OutputSettings;
+import com.google.appengine.api.images.Transform;
 
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.Logger;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 
@@ -23,6 +29,9 @@ import teammates.common.util.StatusMessageColor;
  *         that was just uploaded.
  */
 public class StudentProfilePictureUploadAction extends Action {
+
+    private static final Logger log = Logger.getLogger();
+
     /*
      * This class is not tested in ActionTests as it is difficult to
      * reproduce the upload action done by Google Blobstore API
@@ -74,7 +83,31 @@ public class StudentProfilePictureUploadAction extends Action {
         }
 
         deletePicture(blobKey);
-        return GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, imageData);
+        String pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, imageData);
+        writeThumbnailToGcs(imageData);
+        return pictureKey;
+    }
+
+    /**
+     * Writes the thumbnail of the picture, which is served in place of the picture when it is displayed.
+     */
+    private void writeThumbnailToGcs(byte[] imageData) throws IOException {
+        byte[] thumbnailData;
+        try {
+            Image image = ImagesServiceFactory.makeImage(imageData);
+            Transform resize = ImagesServiceFactory.makeResize(Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_LENGTH,
+                                                               Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_LENGTH);
+            OutputSettings settings = new OutputSettings(ImagesService.OutputEncoding.PNG);
+            thumbnailData = ImagesServiceFactory.getImagesService().applyTransform(resize, image, settings)
+                                                                   .getImageData();
+        } catch (RuntimeException re) {
+            // the picture itself is served in place of the thumbnail, which would be outdated
+            log.warning("Creating the thumbnail of the profile picture failed: " + re.getMessage());
+            GoogleCloudStorageHelper.deleteThumbnail(account.googleId);
+            return;
+        }
+
+        GoogleCloudStorageHelper.writeThumbnailDataToGcs(account.googleId, thumbnailData);
     }
 
     private BlobInfo extractProfilePictureKey() {
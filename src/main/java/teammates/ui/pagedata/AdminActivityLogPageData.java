@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -158,6 +159,27 @@ public class AdminActivityLogPageData extends PageData {
         }
     }
 
+    /**
+     * Returns the requests (in lower case) the logs are filtered to, or null if the logs are not filtered by request.
+     */
+    public List<String> getRequestsInQuery() {
+        return q == null || !q.isRequestInQuery ? null : Arrays.asList(q.requestValues);
+    }
+
+    /**
+     * Returns the roles (in lower case) the logs are filtered to, or null if the logs are not filtered by role.
+     */
+    public List<String> getRolesInQuery() {
+        return q == null || !q.isRoleInQuery ? null : Arrays.asList(q.roleValues);
+    }
+
+    /**
+     * Returns the ID of the course the logs are filtered to, or null if the logs are not filtered by course.
+     */
+    public String getCourseInQuery() {
+        return q == null || !q.isCourseInQuery ? null : q.courseValue;
+    }
+
     /**
      * Returns true if the current log entry should be included.
      */
@@ -199,9 +221,8 @@ public class AdminActivityLogPageData extends PageData {
             return false;
         }
         if (q.isPersonInQuery
-                && !logEntry.getUserName().toLowerCase().contains(q.personValue.toLowerCase())
-                && !logEntry.getUserGoogleId().toLowerCase().contains(q.personValue.toLowerCase())
-                && !logEntry.getUserEmail().toLowerCase().contains(q.personValue.toLowerCase())) {
+                && !logEntry.getUserGoogleId().equalsIgnoreCase(q.personValue)
+                && !logEntry.getUserEmail().equalsIgnoreCase(q.personValue)) {
             return false;
         }
         if (q.isRoleInQuery && !arrayContains(q.roleValues, logEntry.getUserRole())) {
@@ -252,8 +273,8 @@ public class AdminActivityLogPageData extends PageData {
             String[] values = pair[1].split(",", -1);
             values = StringHelper.trim(values);
 
-            // GoogleID is case-sensitive and hence not converted to lower case
-            if (!("person".equals(label))) {
+            // GoogleID and course ID are case-sensitive and hence not converted to lower case
+            if (!"person".equals(label) && !"course".equals(label)) {
                 values = StringHelper.toLowerCase(values);
             }
 
@@ -396,6 +417,9 @@ public class AdminActivityLogPageData extends PageData {
         public boolean isPersonInQuery;
         public String personValue;
 
+        public boolean isCourseInQuery;
+        public String courseValue;
+
         public boolean isRoleInQuery;
         public String[] roleValues;
 
@@ -412,6 +436,7 @@ public class AdminActivityLogPageData extends PageData {
             isRequestInQuery = false;
             isResponseInQuery = false;
             isPersonInQuery = false;
+            isCourseInQuery = false;
             isRoleInQuery = false;
             isCutoffInQuery = false;
             isInfoInQuery = false;
@@ -435,6 +460,10 @@ public class AdminActivityLogPageData extends PageData {
                 isPersonInQuery = true;
                 personValue = values[0];
                 break;
+            case "course":
+                isCourseInQuery = true;
+                courseValue = values[0];
+                break;
             case "role":
                 isRoleInQuery = true;
                 roleValues = values;
@@ -1,9 +1,11 @@
 package teammates.ui.pagedata;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.datatransfer.CourseDeletionStatus;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -32,6 +34,7 @@ public class InstructorCoursesPageData extends PageData {
     private String courseIdToShow;
     private String courseNameToShow;
     private Map<String, InstructorAttributes> instructorsForCourses;
+    private Map<String, CourseDeletionStatus> courseDeletionStatuses = new HashMap<>();
 
     public InstructorCoursesPageData(AccountAttributes account, String sessionToken) {
         super(account, sessionToken);
@@ -43,6 +46,18 @@ public class InstructorCoursesPageData extends PageData {
         init(activeCoursesParam, archivedCoursesParam, softDeletedCoursesParam, instructorsForCoursesParam, "", "");
     }
 
+    /**
+     * Initializes the page data, where the soft-deleted courses in {@code courseDeletionStatusesParam}
+     * are shown with the progress of their permanent deletion instead of the actions on them.
+     */
+    public void init(List<CourseAttributes> activeCoursesParam, List<CourseAttributes> archivedCoursesParam,
+                     List<CourseAttributes> softDeletedCoursesParam,
+                     Map<String, InstructorAttributes> instructorsForCoursesParam,
+                     Map<String, CourseDeletionStatus> courseDeletionStatusesParam) {
+        this.courseDeletionStatuses = courseDeletionStatusesParam;
+        init(activeCoursesParam, archivedCoursesParam, softDeletedCoursesParam, instructorsForCoursesParam);
+    }
+
     public void init(List<CourseAttributes> activeCoursesParam, List<CourseAttributes> archivedCoursesParam,
                      List<CourseAttributes> softDeletedCoursesParam,
                      Map<String, InstructorAttributes> instructorsForCoursesParam, String courseIdToShowParam,
@@ -192,23 +207,14 @@ public class InstructorCoursesPageData extends PageData {
 
             List<ElementTag> actionsParam = new ArrayList<>();
 
-            String restoreLink = getInstructorCourseRestoreSoftDeletedCourseLink(course.getId());
-            Boolean hasRestorePermission = instructorsForCourses.get(course.getId()).isAllowedForPrivilege(
-                    Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
-            ElementTag restoreButton = createButton("Restore", "btn btn-default btn-xs t_course_restore" + idx, "",
-                    restoreLink, Const.Tooltips.COURSE_RESTORE, !hasRestorePermission);
-
-            String deleteLink = getInstructorCourseDeleteSoftDeletedCourseLink(course.getId());
-            Boolean hasDeletePermission = instructorsForCourses.get(course.getId()).isAllowedForPrivilege(
-                    Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
-            ElementTag deleteButton = createButton("Delete Permanently", "btn btn-default btn-xs course-delete-link "
-                            + "t_course_delete_permanently" + idx, "", deleteLink, Const.Tooltips.COURSE_DELETE,
-                    !hasDeletePermission);
-            deleteButton.setAttribute("data-course-id", course.getId());
-            deleteButton.setAttribute("style", "color: red");
-
-            actionsParam.add(restoreButton);
-            actionsParam.add(deleteButton);
+            CourseDeletionStatus deletionStatus = courseDeletionStatuses.get(course.getId());
+            if (deletionStatus == null) {
+                actionsParam.addAll(createSoftDeletedCourseActions(course, idx));
+            } else {
+                actionsParam.add(createButton("Deleting (" + deletionStatus.getNumberOfEntitiesDeleted()
+                                + " items removed)", "btn btn-default btn-xs t_course_deleting" + idx, "", "",
+                        Const.Tooltips.COURSE_DELETING, true));
+            }
 
             SoftDeletedCoursesTableRow row = new SoftDeletedCoursesTableRow(
                     SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -227,6 +233,30 @@ public class InstructorCoursesPageData extends PageData {
         return softDeletedCourses;
     }
 
+    private List<ElementTag> createSoftDeletedCourseActions(CourseAttributes course, int idx) {
+        List<ElementTag> actionsParam = new ArrayList<>();
+
+        String restoreLink = getInstructorCourseRestoreSoftDeletedCourseLink(course.getId());
+        Boolean hasRestorePermission = instructorsForCourses.get(course.getId()).isAllowedForPrivilege(
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
+        ElementTag restoreButton = createButton("Restore", "btn btn-default btn-xs t_course_restore" + idx, "",
+                restoreLink, Const.Tooltips.COURSE_RESTORE, !hasRestorePermission);
+
+        String deleteLink = getInstructorCourseDeleteSoftDeletedCourseLink(course.getId());
+        Boolean hasDeletePermission = instructorsForCourses.get(course.getId()).isAllowedForPrivilege(
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
+        ElementTag deleteButton = createButton("Delete Permanently", "btn btn-default btn-xs course-delete-link "
+                        + "t_course_delete_permanently" + idx, "", deleteLink, Const.Tooltips.COURSE_DELETE,
+                !hasDeletePermission);
+        deleteButton.setAttribute("data-course-id", course.getId());
+        deleteButton.setAttribute("style", "color: red");
+
+        actionsParam.add(restoreButton);
+        actionsParam.add(deleteButton);
+
+        return actionsParam;
+    }
+
     private ElementTag createButton(String content, String buttonClass, String id, String href, String title,
             boolean isDisabled) {
         ElementTag button = new ElementTag(content);
@@ -2,7 +2,9 @@ package teammates.ui.pagedata;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -18,24 +20,25 @@ import teammates.ui.template.InstructorHomeFeedbackSessionRow;
 
 public class InstructorHomeCourseAjaxPageData extends PageData {
 
-    private CourseTable courseTable;
-    private int index;
+    private Map<Integer, CourseTable> courseTables = new LinkedHashMap<>();
 
     public InstructorHomeCourseAjaxPageData(AccountAttributes account, String sessionToken) {
         super(account, sessionToken);
     }
 
-    public void init(int tableIndex, CourseSummaryBundle courseSummary, InstructorAttributes instructor) {
-        this.index = tableIndex;
-        this.courseTable = createCourseTable(courseSummary.course, instructor, courseSummary.feedbackSessions);
+    /**
+     * Adds the course table of a course to be rendered in the panel with the given index.
+     */
+    public void addCourseTable(int tableIndex, CourseSummaryBundle courseSummary, InstructorAttributes instructor) {
+        courseTables.put(tableIndex,
+                createCourseTable(courseSummary.course, instructor, courseSummary.feedbackSessions));
     }
 
-    public CourseTable getCourseTable() {
-        return courseTable;
-    }
-
-    public int getIndex() {
-        return index;
+    /**
+     * Returns the course tables to render, keyed by the index of their panels on the page.
+     */
+    public Map<Integer, CourseTable> getCourseTables() {
+        return courseTables;
     }
 
     private CourseTable createCourseTable(CourseAttributes course, InstructorAttributes instructor,
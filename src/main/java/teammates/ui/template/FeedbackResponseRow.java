@@ -76,10 +76,12 @@ public class FeedbackResponseRow {
 
     private String getNewResponseText(FeedbackResponseAttributes response, FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle results) {
-        response.giver = response.recipient;
-        response.giverSection = response.recipientSection;
+        // the response may be shared with the bundle's actual responses, so it is copied before modifying
+        FeedbackResponseAttributes selfResponse = new FeedbackResponseAttributes(response);
+        selfResponse.giver = response.recipient;
+        selfResponse.giverSection = response.recipientSection;
 
-        String responseText = results.getResponseAnswerHtml(response, question);
+        String responseText = results.getResponseAnswerHtml(selfResponse, question);
         return "No Response" + responseText.substring(responseText.indexOf("</span>") + "</span>".length());
     }
 
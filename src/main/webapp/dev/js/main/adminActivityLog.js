@@ -88,8 +88,9 @@ function highlightKeywordsInLogMessages() {
     });
 }
 
-function submitFormAjax(searchTimeOffset) {
+function submitFormAjax(searchTimeOffset, searchCursor) {
     $('input[name=searchTimeOffset]').val(searchTimeOffset);
+    $('input[name=searchCursor]').val(searchCursor);
 
     const formObject = $('#ajaxLoaderDataForm');
     const formData = formObject.serialize();
@@ -123,7 +124,8 @@ $(document).ready(() => {
 
     $(document).on('click', '#button_older', () => {
         const nextEndTimeToSearch = $('#button_older').attr('data-next-end-time-to-search');
-        submitFormAjax(nextEndTimeToSearch);
+        const nextSearchCursor = $('#button_older').attr('data-next-search-cursor');
+        submitFormAjax(nextEndTimeToSearch, nextSearchCursor);
     });
 
     $('#btn-toggle-reference').on('click', () => {
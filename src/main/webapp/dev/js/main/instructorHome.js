@@ -72,6 +72,17 @@ function toggleCourseVisibility(e) {
     }
 }
 
+/**
+ * Shows the message for failed loading of course panels in the given panel headings.
+ */
+function showCoursePanelLoadError($contents) {
+    const warningSign = '<span class="glyphicon glyphicon-warning-sign"></span>';
+    let errorMsg = '[ Failed to load. Click here to retry. ]';
+    errorMsg = `<strong style="margin-left: 1em; margin-right: 1em;">${errorMsg}</strong>`;
+    const chevronDown = '<span class="glyphicon glyphicon-chevron-down"></span>';
+    $contents.html(warningSign + errorMsg + chevronDown);
+}
+
 /**
  * Updates the contents of course panel (collapse data, chevron icon)
  */
@@ -86,6 +97,50 @@ function updateCoursePanel(data, $panel, $panelCollapse) {
     $panel.removeClass('ajax_auto');
 }
 
+/**
+ * Loads the contents of the given course panels with a single request and expands them.
+ */
+function loadCoursePanels($panels) {
+    if ($panels.length === 0) {
+        return;
+    }
+    const formData = $panels.parent().find('form').serialize();
+    const $contents = $panels.map(function () {
+        return $(this).find('.pull-right')[0];
+    });
+
+    $.ajax({
+        type: 'POST',
+        url: `/page/instructorHomePage?${formData}`,
+        beforeSend() {
+            $contents.html("<img src='/images/ajax-loader.gif'/>");
+        },
+        error() {
+            showCoursePanelLoadError($contents);
+        },
+        success(data) {
+            const $data = $('<div>').html(data);
+            $panels.each(function () {
+                const $panel = $(this);
+                const $loadedPanel = $data.find(`#${$panel.parent().attr('id')}`);
+                if ($loadedPanel.length === 0) {
+                    showCoursePanelLoadError($panel.find('.pull-right'));
+                    return;
+                }
+                const $panelCollapse = $panel.parent().children('.panel-collapse');
+                updateCoursePanel($loadedPanel, $panel, $panelCollapse);
+
+                $panel.off('click');
+                // changing click event handler to avoid repeated ajax calls
+                $panel.click(toggleCourseVisibility);
+                $panel.trigger('click');
+            });
+
+            linkAjaxForResponseRate();
+        },
+    });
+}
+
 $(document).ready(() => {
     prepareInstructorPages();
     bindDeleteButtons();
@@ -134,46 +189,16 @@ $(document).ready(() => {
     });
 
     // AJAX loading of course panels
-    const $coursePanels = $('.ajax_auto');
-    $.each($coursePanels, function () {
-        $(this).filter(function () {
-            const isNotLoaded = $(this).parent().find('form').length;
-            return isNotLoaded;
-        }).click(function () {
-            const $panel = $(this);
-            const formData = $panel.parent().find('form').serialize();
-            const content = $panel.find('.pull-right')[0];
-            const $panelCollapse = $panel.parent().children('.panel-collapse');
-
-            $.ajax({
-                type: 'POST',
-                url: `/page/instructorHomePage?${formData}`,
-                beforeSend() {
-                    $(content).html("<img src='/images/ajax-loader.gif'/>");
-                },
-                error() {
-                    const warningSign = '<span class="glyphicon glyphicon-warning-sign"></span>';
-                    let errorMsg = '[ Failed to load. Click here to retry. ]';
-                    errorMsg = `<strong style="margin-left: 1em; margin-right: 1em;">${errorMsg}</strong>`;
-                    const chevronDown = '<span class="glyphicon glyphicon-chevron-down"></span>';
-                    $(content).html(warningSign + errorMsg + chevronDown);
-                },
-                success(data) {
-                    updateCoursePanel(data, $panel, $panelCollapse);
-
-                    $panel.off('click');
-                    // changing click event handler to avoid repeated ajax calls
-                    $panel.click(toggleCourseVisibility);
-                    $panel.trigger('click');
-
-                    linkAjaxForResponseRate();
-                },
-            });
-        });
+    const $coursePanels = $('.ajax_auto').filter(function () {
+        const isNotLoaded = $(this).parent().find('form').length;
+        return isNotLoaded;
+    });
+    $coursePanels.click(function () {
+        loadCoursePanels($(this));
     });
 
-    // Automatically load top few course panels
-    $coursePanels.slice(0, COURSE_PANELS_TO_AUTO_LOAD_COUNT).click();
+    // Automatically load top few course panels in one request
+    loadCoursePanels($coursePanels.slice(0, COURSE_PANELS_TO_AUTO_LOAD_COUNT));
 
     linkAjaxForResponseRate();
 
@@ -1,6 +1,9 @@
 <%@ page trimDirectiveWhitespaces="true" %>
 <%@ page pageEncoding="UTF-8" %>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
 <%@ taglib tagdir="/WEB-INF/tags/instructor/home" prefix="home" %>
-<home:coursePanel courseTable="${data.courseTable}" index="${data.index}">
-  <home:courseTable sessionRows="${data.courseTable.rows}" />
-</home:coursePanel>
+<c:forEach items="${data.courseTables}" var="courseTableEntry">
+  <home:coursePanel courseTable="${courseTableEntry.value}" index="${courseTableEntry.key}">
+    <home:courseTable sessionRows="${courseTableEntry.value.rows}" />
+  </home:coursePanel>
+</c:forEach>
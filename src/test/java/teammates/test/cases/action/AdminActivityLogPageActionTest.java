@@ -17,6 +17,7 @@ import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.TimeHelper;
+import teammates.logic.core.ActivityLogsLogic;
 import teammates.test.driver.FileHelper;
 import teammates.test.driver.TestProperties;
 import teammates.test.driver.TimeHelperExtension;
@@ -30,10 +31,10 @@ import teammates.ui.template.AdminActivityLogTableRow;
 /**
  * SUT: {@link AdminActivityLogPageAction}.
  *
- * <p>The test will inject predefined GAE logs using {@link teammates.test.driver.GaeSimulation} and
+ * <p>The test will record predefined activity logs using {@link ActivityLogsLogic} and
  * then test the correct execution of the action.
  *
- * <p>Logs will be injected to GAE with time relative to now. Typically, NOW, YESTERDAY
+ * <p>Logs will be recorded with time relative to now. Typically, NOW, YESTERDAY
  * and two days ago are the time. It is possible that when the test is run at
  * midnight(around 12:00 PM) in UTC, some logs that belong to NOW will become
  * YESTERDAY's logs as each log occupies a period of time. However, this situation
@@ -48,9 +49,9 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     private static final int LOG_MESSAGE_INDEX_TWO_DAYS_AGO = 2;
     private static final int LOG_MESSAGE_INDEX_MANY_LOGS = 3;
 
-    // In the case of many logs, the query will first look at logs within 2 hours before now,
-    // if the number of logs exceeds 50, it will stop the query and return logs from the first 2 hours.
-    // 130 seconds is chosen so that it will be around 50 logs within 2 hours before now.
+    // In the case of many logs, the query will read the logs a page of 50 logs at a time,
+    // and stop once 50 relevant logs are found.
+    // 130 seconds is chosen so that all the 150 logs are within the default search period of 24 hours.
     private static final int LOG_MESSAGE_INTERVAL_MANY_LOGS = 130;
 
     private static final Instant NOW = Instant.now();
@@ -105,7 +106,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @BeforeGroups("typicalActivityLogs")
     public void removeAndRestoreLogMessage() {
         gaeSimulation.loginAsAdmin("admin");
-        gaeSimulation.clearLogs();
+        clearLogs();
 
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_TWO_DAYS_AGO), TWO_DAYS_AGO.toEpochMilli());
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_YESTERDAY), YESTERDAY.toEpochMilli());
@@ -179,8 +180,12 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 formatAdminDate(TWO_DAYS_AGO), formatAdminDate(NOW));
         verifyActionResult(expected, "filterQuery", query);
 
-        // person: name
+        // person: only the exact Google ID or email is matched
         query = "person: Name1 ";
+        expected = new int[][] { {} };
+        verifyActionResult(expected, "filterQuery", query);
+
+        query = "person: EMAIL1@email.com ";
         expected = new int[][] { {0, 1, 3} };
         verifyActionResult(expected, "filterQuery", query);
 
@@ -239,7 +244,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
 
         // another filterQuery with showing all URI
         expected = new int[][] { {0, 1, 3, 7, 8}, {0, 1, 4}, {3} };
-        query = String.format("person:Name1 | from:%s and to:%s",
+        query = String.format("person:email1@email.com | from:%s and to:%s",
                 formatAdminDate(TWO_DAYS_AGO), formatAdminDate(NOW));
         verifyActionResult(expected, "filterQuery", query, "all", "true");
 
@@ -272,16 +277,19 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @Test(groups = "typicalActivityLogs")
     public void statusMessage_validQuery_generatedCorrectly() {
         // test statusMessage for default search
+        // logs not in activity log format and logs of this page are not recorded,
+        // and logs of testing data are left out by the query unless they are to be shown
         AdminActivityLogPageAction action = getAction();
         String statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 5, YESTERDAY);
+        verifyStatusMessage(statusMessage, 7, 5, YESTERDAY);
         verifyLocalTimeInStatusMessage(statusMessage, YESTERDAY, Const.SystemParams.ADMIN_TIME_ZONE);
 
         // test statusMessage with filterQuery
         String query = "person:idOfInstructor1OfCourse1";
         action = getAction("filterQuery", query);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 1, YESTERDAY);
+        // only the logs of the person are fetched
+        verifyStatusMessage(statusMessage, 1, 1, YESTERDAY);
         verifyLocalTimeInStatusMessage(statusMessage, YESTERDAY, ZoneId.of("Africa/Johannesburg"));
 
         // test statusMessage with `to`
@@ -289,7 +297,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", query);
         Instant toDate = TimeHelperExtension.getEndOfTheDayOffsetNowInAdminTimeZone(-2);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 6, 3, toDate);
+        verifyStatusMessage(statusMessage, 4, 3, toDate);
         verifyLocalTimeInStatusMessage(statusMessage, toDate, Const.SystemParams.ADMIN_TIME_ZONE);
 
         // test statusMessage with `from`
@@ -297,7 +305,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", query);
         Instant fromDate = TimeHelperExtension.getBeginOfTheDayOffsetNowInAdminTimeZone(-1);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 17, 8, fromDate);
+        verifyStatusMessage(statusMessage, 11, 8, fromDate);
         verifyLocalTimeInStatusMessage(statusMessage, fromDate, Const.SystemParams.ADMIN_TIME_ZONE);
     }
 
@@ -340,7 +348,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // default continue search
         int[][] expected = new int[][] { {}, {0, 1, 2} };
         String[] params = new String[] {"searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli())};
-        verifyContinueSearch(params, expected, 6, 3, TWO_DAYS_AGO);
+        verifyContinueSearch(params, expected, 4, 3, TWO_DAYS_AGO);
 
         // continue search and no more logs
         expected = new int[][] {};
@@ -353,16 +361,16 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli()),
                 "filterQuery", "info:keyword1", "testdata", "true"
         };
-        verifyContinueSearch(params, expected, 6, 2, TWO_DAYS_AGO);
+        verifyContinueSearch(params, expected, 5, 2, TWO_DAYS_AGO);
 
-        // when `from` is present, will not do continue search
-        expected = new int[][] { {0, 1, 3, 4, 5}, {0, 1, 2} };
+        // when `from` is present, continue search until `from`
+        expected = new int[][] { {}, {0, 1, 2} };
         params = new String[] {
                 "searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli()),
                 "filterQuery", String.format("from:%s", formatAdminDate(YESTERDAY))
         };
         Instant yesterdayBegin = TimeHelperExtension.getBeginOfTheDayOffsetNowInAdminTimeZone(-1);
-        verifyContinueSearch(params, expected, 17, 8, yesterdayBegin);
+        verifyContinueSearch(params, expected, 4, 3, yesterdayBegin);
 
         // `to` present, search with 1 day interval
         expected = new int[][] { {}, {}, {0, 1} };
@@ -372,14 +380,14 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "filterQuery", String.format("to:%s", formatAdminDate(YESTERDAY))
         };
         toDate = TimeHelperExtension.getEndOfTheDayOffsetNowInAdminTimeZone(-3);
-        verifyContinueSearch(params, expected, 4, 2, toDate);
+        verifyContinueSearch(params, expected, 3, 2, toDate);
 
     }
 
     @BeforeGroups("manyActivityLogs")
     public void removeAndRestoreManyLogs() {
         gaeSimulation.loginAsAdmin("admin");
-        gaeSimulation.clearLogs();
+        clearLogs();
 
         insertLogMessageAtTimeWithInterval(logMessages.get(LOG_MESSAGE_INDEX_MANY_LOGS),
                 Instant.now().toEpochMilli(), LOG_MESSAGE_INTERVAL_MANY_LOGS);
@@ -390,38 +398,45 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @Test(groups = "manyActivityLogs", priority = 2)
     public void statusMessageAndContinueSearch_withManyLogs_searchCorrectly() {
         Instant now = Instant.now();
-        // default search will stop at #logs around 50
+        // default search will stop at a page of 50 logs
         AdminActivityLogPageAction action = getAction();
         ShowPageResult result = getShowPageResult(action);
-        Instant earliestDateInUtc = now.minusMillis(54 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(55, 0, 54, result.data, result.getStatusMessage(), earliestDateInUtc);
+        Instant earliestDateInUtc = now.minusMillis(50 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 0, 49, result.data, result.getStatusMessage(), earliestDateInUtc);
+
+        // continue search will get the next page of 50 logs
+        long nextSearch = now.toEpochMilli() - 51 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
+        action = getAction("searchTimeOffset", String.valueOf(nextSearch));
+        result = getShowPageResult(action);
+        earliestDateInUtc = now.minusMillis(100 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 50, 99, result.data, result.getStatusMessage(), earliestDateInUtc);
 
-        // continue search will get next #logs around 50
-        long nextSearch = now.toEpochMilli() - 56 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
+        nextSearch = now.toEpochMilli() - 101 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
         action = getAction("searchTimeOffset", String.valueOf(nextSearch));
         result = getShowPageResult(action);
-        earliestDateInUtc = now.minusMillis(110 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(56, 55, 110, result.data, result.getStatusMessage(), earliestDateInUtc);
+        earliestDateInUtc = now.minusMillis(150 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 100, 149, result.data, result.getStatusMessage(), earliestDateInUtc);
 
-        // continue search will get logs until no logs
-        nextSearch = now.toEpochMilli() - 112 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
+        // continue search after the last log will get no logs
+        nextSearch = now.toEpochMilli() - 151 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
         action = getAction("searchTimeOffset", String.valueOf(nextSearch));
         result = getShowPageResult(action);
         earliestDateInUtc = Instant.ofEpochMilli(nextSearch - 24 * 60 * 60 * 1000);
-        verifyManyLogs(39, 111, 149, result.data, result.getStatusMessage(), earliestDateInUtc);
+        verifyStatusMessage(result.getStatusMessage(), 0, 0, earliestDateInUtc);
 
-        // default search with filter stop at #logs around 50
+        // default search with filter stop at a page of 50 logs
         action = getAction("filterQuery", "request:testdata1");
         result = getShowPageResult(action);
-        earliestDateInUtc = now.minusMillis(54 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(55, 0, 54, result.data, result.getStatusMessage(), earliestDateInUtc);
+        earliestDateInUtc = now.minusMillis(50 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 0, 49, result.data, result.getStatusMessage(), earliestDateInUtc);
 
         // continue search with filter will get logs until no logs
-        nextSearch = now.toEpochMilli() - 56 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
+        nextSearch = now.toEpochMilli() - 51 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
         action = getAction("filterQuery", "request:testdata1", "searchTimeOffset", String.valueOf(nextSearch));
         result = getShowPageResult(action);
         earliestDateInUtc = Instant.ofEpochMilli(nextSearch - 24 * 60 * 60 * 1000);
-        verifyManyLogs(95, 55, 60, result.data, result.getStatusMessage(), earliestDateInUtc);
+        // only the logs of the requested action are fetched
+        verifyManyLogs(11, 50, 60, result.data, result.getStatusMessage(), earliestDateInUtc);
     }
 
     private void verifyContinueSearch(String[] params, int[][] expected, int totalLogs,
@@ -526,22 +541,15 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     }
 
     private void insertLogMessageAtTimeWithInterval(List<String> msgList, long timeMillis, int intervalInSecond) {
-        int levelInfo = 1;
         long logTimeInMillis = timeMillis - msgList.size() * intervalInSecond * 1000;
         for (int i = msgList.size() - 1; i >= 0; i--) {
-            createTestDataRequestInfoAtTime(logTimeInMillis);
-            gaeSimulation.addAppLogLine(String.valueOf(logTimeInMillis), logTimeInMillis * 1000,
-                    levelInfo, msgList.get(i));
+            ActivityLogsLogic.inst().createActivityLog(msgList.get(i), null, logTimeInMillis);
             logTimeInMillis += intervalInSecond * 1000;
         }
     }
 
-    private void createTestDataRequestInfoAtTime(long timeMillis) {
-        String testStr = "TEST";
-        String defaultVersion = "1";
-        gaeSimulation.addLogRequestInfo(testStr, defaultVersion, String.valueOf(timeMillis), testStr,
-                testStr, timeMillis * 1000, timeMillis * 1000, testStr, testStr, testStr, testStr,
-                true, 200, testStr);
+    private void clearLogs() {
+        ActivityLogsLogic.inst().deleteActivityLogsBefore(TimeHelper.getInstantDaysOffsetFromNow(1));
     }
 
     @Override
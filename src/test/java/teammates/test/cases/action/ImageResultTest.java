@@ -0,0 +1,115 @@
+package teammates.test.cases.action;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.testng.annotations.Test;
+
+import com.meterware.httpunit.WebResponse;
+import com.meterware.servletunit.InvocationContext;
+
+import teammates.common.util.Const;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.ui.controller.ImageResult;
+
+/**
+ * SUT: {@link ImageResult}.
+ */
+public class ImageResultTest extends BaseComponentTestCase {
+
+    private static final String BLOB_KEY = "blob-key";
+    private static final String CACHE_CONTROL = "private, max-age=86400";
+
+    @Test
+    public void testSend_withETag_cachingHeadersSet() throws Exception {
+
+        ______TS("no If-None-Match: the image is served with its entity tag");
+
+        WebResponse response = send(new ImageResult("/page", BLOB_KEY, "tag1", null, new ArrayList<>()), null);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("\"tag1\"", response.getHeaderField("ETag"));
+        assertEquals(CACHE_CONTROL, response.getHeaderField("Cache-Control"));
+        assertEquals(BLOB_KEY, response.getHeaderField("X-AppEngine-BlobKey"));
+
+        ______TS("no entity tag: the image is served without caching headers");
+
+        response = send(new ImageResult("/page", BLOB_KEY, null, new ArrayList<>()), "\"tag1\"");
+
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertNull(response.getHeaderField("ETag"));
+        assertNull(response.getHeaderField("Cache-Control"));
+        assertEquals(BLOB_KEY, response.getHeaderField("X-AppEngine-BlobKey"));
+    }
+
+    @Test
+    public void testSend_ifNoneMatch_notModifiedIfAnyTagMatches() throws Exception {
+        ImageResult result = new ImageResult("/page", BLOB_KEY, "tag1", null, new ArrayList<>());
+
+        ______TS("matching entity tag: 304 without the image");
+
+        verifyNotModified(send(result, "\"tag1\""));
+
+        ______TS("list of entity tags, one of which matches");
+
+        verifyNotModified(send(result, "\"tag0\", \"tag1\""));
+        verifyNotModified(send(result, "\"tag0\",\"tag1\",\"tag2\""));
+
+        ______TS("weak entity tag which matches");
+
+        verifyNotModified(send(result, "W/\"tag1\""));
+        verifyNotModified(send(result, "\"tag0\", W/\"tag1\""));
+
+        ______TS("wildcard");
+
+        verifyNotModified(send(result, "*"));
+
+        ______TS("no matching entity tag: the image is served");
+
+        verifyServed(send(result, "\"tag0\""));
+        verifyServed(send(result, "\"tag0\", W/\"tag2\""));
+        verifyServed(send(result, "tag1"));
+        verifyServed(send(result, "\"tag1-old\""));
+    }
+
+    @Test
+    public void testSend_noBlobKey_redirectedToDefaultPicture() throws Exception {
+        WebResponse response = send(new ImageResult("/page", "", "tag1", null, new ArrayList<>()), "\"tag1\"");
+
+        assertEquals(HttpServletResponse.SC_MOVED_TEMPORARILY, response.getResponseCode());
+        assertTrue(response.getHeaderField("Location").endsWith(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH));
+        assertNull(response.getHeaderField("ETag"));
+    }
+
+    private void verifyNotModified(WebResponse response) {
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getResponseCode());
+        assertEquals("\"tag1\"", response.getHeaderField("ETag"));
+        assertEquals(CACHE_CONTROL, response.getHeaderField("Cache-Control"));
+        assertNull(response.getHeaderField("X-AppEngine-BlobKey"));
+    }
+
+    private void verifyServed(WebResponse response) {
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("\"tag1\"", response.getHeaderField("ETag"));
+        assertEquals(BLOB_KEY, response.getHeaderField("X-AppEngine-BlobKey"));
+    }
+
+    /**
+     * Sends {@code result} in response to a request with the If-None-Match header {@code ifNoneMatch},
+     * if it is not null.
+     */
+    private WebResponse send(ImageResult result, String ifNoneMatch) throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        if (ifNoneMatch != null) {
+            headers.put("If-None-Match", ifNoneMatch);
+        }
+        InvocationContext invocation =
+                gaeSimulation.createInvocation(Const.ActionURIs.STUDENT_PROFILE_PICTURE, headers);
+        result.send(invocation.getRequest(), invocation.getResponse());
+        return invocation.getServletResponse();
+    }
+
+}
@@ -1,5 +1,6 @@
 package teammates.test.cases.action;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -100,7 +101,10 @@ public class InstructorCourseDeleteAllSoftDeletedCoursesActionTest extends BaseA
                 getPageResultDestination(Const.ActionURIs.INSTRUCTOR_COURSES_PAGE, false, "idOfInstructor1OfCourse3"),
                 redirectResult.getDestinationWithParams());
         assertFalse(redirectResult.isError);
-        assertEquals("All courses have been permanently deleted.", redirectResult.getStatusMessage());
+        assertEquals("All courses are being permanently deleted.", redirectResult.getStatusMessage());
+        verifySpecifiedTasksAdded(deleteAllAction, Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 2);
+        CoursesLogic.inst().continueCourseDeletion(instructor1OfCourse3.courseId, Instant.now().plusSeconds(60));
+        CoursesLogic.inst().continueCourseDeletion("icdat.owncourse", Instant.now().plusSeconds(60));
         assertFalse(CoursesLogic.inst().isCoursePresent(instructor1OfCourse3.courseId));
         assertFalse(CoursesLogic.inst().isCoursePresent("icdat.owncourse"));
         String expectedLogMessage = "TEAMMATESLOG|||instructorCourseDeleteAllCourses|||"
@@ -1,5 +1,6 @@
 package teammates.test.cases.action;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -76,7 +77,10 @@ public class InstructorCourseDeleteSoftDeletedCourseActionTest extends BaseActio
                 getPageResultDestination(Const.ActionURIs.INSTRUCTOR_COURSES_PAGE, false, "idOfInstructor1OfCourse3"),
                 redirectResult.getDestinationWithParams());
         assertFalse(redirectResult.isError);
-        assertEquals("The course idOfTypicalCourse3 has been permanently deleted.", redirectResult.getStatusMessage());
+        assertEquals("The course idOfTypicalCourse3 is being permanently deleted.", redirectResult.getStatusMessage());
+        verifySpecifiedTasksAdded(deleteAction, Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+        assertTrue(CoursesLogic.inst().isCoursePresent(instructor1OfCourse3.courseId));
+        CoursesLogic.inst().continueCourseDeletion(instructor1OfCourse3.courseId, Instant.now().plusSeconds(60));
         assertFalse(CoursesLogic.inst().isCoursePresent(instructor1OfCourse3.courseId));
         String expectedLogMessage = "TEAMMATESLOG|||instructorCourseDeleteCourse|||instructorCourseDeleteCourse|||"
                 + "true|||Instructor|||Instructor 1 of Course 3|||idOfInstructor1OfCourse3|||"
@@ -84,6 +88,23 @@ public class InstructorCourseDeleteSoftDeletedCourseActionTest extends BaseActio
                 + "/page/instructorCourseDeleteCourse";
         AssertHelper.assertLogMessageEquals(expectedLogMessage, deleteAction.getLogMessage());
 
+        ______TS("Deletion already started, no task is added");
+
+        CoursesLogic.inst().createCourseAndInstructor(instructor1Id, "icdsdcat.deletingcourse", "New course", "UTC");
+        CoursesLogic.inst().moveCourseToRecycleBin("icdsdcat.deletingcourse");
+        CoursesLogic.inst().startCourseDeletion("icdsdcat.deletingcourse", () -> { });
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, "icdsdcat.deletingcourse"
+        };
+
+        deleteAction = getAction(submissionParams);
+        redirectResult = getRedirectResult(deleteAction);
+
+        assertEquals("The course icdsdcat.deletingcourse is being permanently deleted.", redirectResult.getStatusMessage());
+        verifyNoTasksAdded(deleteAction);
+        CoursesLogic.inst().continueCourseDeletion("icdsdcat.deletingcourse", Instant.now().plusSeconds(60));
+        assertFalse(CoursesLogic.inst().isCoursePresent("icdsdcat.deletingcourse"));
+
     }
 
     @Override
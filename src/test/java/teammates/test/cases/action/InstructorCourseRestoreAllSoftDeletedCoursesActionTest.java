@@ -1,5 +1,6 @@
 package teammates.test.cases.action;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -70,6 +71,24 @@ public class InstructorCourseRestoreAllSoftDeletedCoursesActionTest extends Base
         assertEquals(1, courseList.size());
         assertEquals(instructor2OfCourse3.courseId, courseList.get(0).getId());
 
+        ______TS("Permanent deletion of a course already started, the other courses are restored");
+
+        gaeSimulation.loginAsInstructor(instructor1Id);
+        CoursesLogic.inst().moveCourseToRecycleBin(instructor1OfCourse3.courseId);
+        CoursesLogic.inst().createCourseAndInstructor(instructor1Id, "icrasdcat.deletingcourse", "New course", "UTC");
+        CoursesLogic.inst().moveCourseToRecycleBin("icrasdcat.deletingcourse");
+        CoursesLogic.inst().startCourseDeletion("icrasdcat.deletingcourse", () -> { });
+
+        restoreAllAction = getAction();
+        redirectResult = getRedirectResult(restoreAllAction);
+
+        assertFalse(redirectResult.isError);
+        assertEquals("All courses have been restored, except the following courses which are being "
+                + "permanently deleted: icrasdcat.deletingcourse", redirectResult.getStatusMessage());
+        assertFalse(CoursesLogic.inst().getCourse(instructor1OfCourse3.courseId).isCourseDeleted());
+        assertTrue(CoursesLogic.inst().getCourse("icrasdcat.deletingcourse").isCourseDeleted());
+        CoursesLogic.inst().continueCourseDeletion("icrasdcat.deletingcourse", Instant.now().plusSeconds(60));
+
     }
 
     @Override
@@ -1,5 +1,6 @@
 package teammates.test.cases.action;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -82,6 +83,25 @@ public class InstructorCourseRestoreSoftDeletedCourseActionTest extends BaseActi
         assertEquals(1, courseList.size());
         assertEquals(instructor2OfCourse3.courseId, courseList.get(0).getId());
 
+        ______TS("Permanent deletion already started, course is not restored");
+
+        gaeSimulation.loginAsInstructor(instructor1Id);
+        CoursesLogic.inst().createCourseAndInstructor(instructor1Id, "icrsdcat.deletingcourse", "New course", "UTC");
+        CoursesLogic.inst().moveCourseToRecycleBin("icrsdcat.deletingcourse");
+        CoursesLogic.inst().startCourseDeletion("icrsdcat.deletingcourse", () -> { });
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, "icrsdcat.deletingcourse"
+        };
+
+        restoreAction = getAction(submissionParams);
+        redirectResult = getRedirectResult(restoreAction);
+
+        assertTrue(redirectResult.isError);
+        assertEquals("The course icrsdcat.deletingcourse is being permanently deleted, and cannot be restored.",
+                redirectResult.getStatusMessage());
+        assertTrue(CoursesLogic.inst().getCourse("icrsdcat.deletingcourse").isCourseDeleted());
+        CoursesLogic.inst().continueCourseDeletion("icrsdcat.deletingcourse", Instant.now().plusSeconds(60));
+
     }
 
     @Override
@@ -1,12 +1,19 @@
 package teammates.test.cases.action;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.ui.controller.AjaxResult;
@@ -32,7 +39,7 @@ public class InstructorFeedbackEditCopyActionTest extends BaseActionTest {
 
     @Override
     @Test
-    public void testExecuteAndPostProcess() {
+    public void testExecuteAndPostProcess() throws Exception {
         InstructorAttributes instructor = dataBundle.instructors.get("teammates.test.instructor2");
         String instructorId = instructor.googleId;
 
@@ -379,6 +386,101 @@ public class InstructorFeedbackEditCopyActionTest extends BaseActionTest {
         sessionTimeZone = FeedbackSessionsLogic.inst().getFeedbackSession(newFeedbackSessionName,
                 course7.getId()).getTimeZone().getId();
         assertEquals(course7.getTimeZone().getId(), sessionTimeZone);
+
+        ______TS("Failure case: course already has feedback session with same name in Recycle Bin");
+
+        FeedbackSessionsLogic.inst().moveFeedbackSessionToRecycleBin(newFeedbackSessionName, course6.getId());
+        params = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName,
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.COPIED_FEEDBACK_SESSION_NAME, newFeedbackSessionName,
+                Const.ParamsNames.COPIED_COURSES_ID, course6.getId()
+        };
+
+        a = getAction(params);
+        ajaxResult = getAjaxResult(a);
+        editCopyData = (InstructorFeedbackEditCopyData) ajaxResult.data;
+
+        assertEquals("", editCopyData.redirectUrl);
+
+        expectedString = "A feedback session with the name \"Session with valid name\" already exists in "
+                         + "the following course(s): FeedbackEditCopy.CS2103R.";
+        assertEquals(expectedString, editCopyData.errorMessage);
+
+        ______TS("Partially successful case: course being deleted since the copy was started is reported");
+
+        CourseAttributes course2 = dataBundle.courses.get("course2");
+        CourseAttributes course4 = dataBundle.courses.get("course4");
+        CoursesLogic.inst().moveCourseToRecycleBin(course2.getId());
+        CoursesLogic.inst().startCourseDeletion(course2.getId(), () -> { });
+        params = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName,
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.COPIED_FEEDBACK_SESSION_NAME, "Session copied partially",
+                Const.ParamsNames.COPIED_COURSES_ID, course2.getId(),
+                Const.ParamsNames.COPIED_COURSES_ID, course4.getId()
+        };
+
+        a = getAction(params);
+        ajaxResult = getAjaxResult(a);
+        editCopyData = (InstructorFeedbackEditCopyData) ajaxResult.data;
+
+        expectedString = getPageResultDestination(
+                                 Const.ActionURIs.INSTRUCTOR_FEEDBACK_SESSIONS_PAGE, false, instructor.googleId);
+        assertEquals(expectedString, editCopyData.redirectUrl);
+        assertEquals(Const.StatusMessages.FEEDBACK_SESSION_COPIED + "<br>"
+                     + "The feedback session could not be copied to the following course(s): FeedbackEditCopy.CS1101",
+                     ajaxResult.getStatusMessage());
+        verifyNoTasksAdded(a);
+
+        assertNull(FeedbackSessionsLogic.inst().getFeedbackSession("Session copied partially", course2.getId()));
+        assertNotNull(FeedbackSessionsLogic.inst().getFeedbackSession("Session copied partially", course4.getId()));
+        CoursesLogic.inst().continueCourseDeletion(course2.getId(), Instant.now().plusSeconds(60));
+
+        ______TS("Continued case: session with more questions than one batched write can copy");
+
+        FeedbackQuestionAttributes question = FeedbackQuestionsLogic.inst()
+                .getFeedbackQuestionsForSession(feedbackSessionName, course.getId()).get(0);
+        List<FeedbackQuestionAttributes> extraQuestions = new ArrayList<>();
+        for (int i = 2; i <= 251; i++) {
+            extraQuestions.add(FeedbackQuestionAttributes.builder()
+                    .withFeedbackSessionName(feedbackSessionName)
+                    .withCourseId(course.getId())
+                    .withCreatorEmail(question.creatorEmail)
+                    .withQuestionMetaData(question.getQuestionMetaData())
+                    .withQuestionNumber(i)
+                    .withQuestionType(question.questionType)
+                    .withGiverType(question.giverType)
+                    .withRecipientType(question.recipientType)
+                    .withNumOfEntitiesToGiveFeedbackTo(question.numberOfEntitiesToGiveFeedbackTo)
+                    .withShowResponseTo(question.showResponsesTo)
+                    .withShowGiverNameTo(question.showGiverNameTo)
+                    .withShowRecipientNameTo(question.showRecipientNameTo)
+                    .build());
+        }
+        FeedbackQuestionsLogic.inst().createFeedbackQuestionsNoIntegrityCheck(extraQuestions);
+        params = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName,
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.COPIED_FEEDBACK_SESSION_NAME, "Session copied in tasks",
+                Const.ParamsNames.COPIED_COURSES_ID, course6.getId(),
+                Const.ParamsNames.COPIED_COURSES_ID, course7.getId()
+        };
+
+        a = getAction(params);
+        ajaxResult = getAjaxResult(a);
+        editCopyData = (InstructorFeedbackEditCopyData) ajaxResult.data;
+
+        assertEquals(expectedString, editCopyData.redirectUrl);
+        assertEquals(Const.StatusMessages.FEEDBACK_SESSION_COPIED + "<br>"
+                     + "The feedback session is still being copied to the following course(s), "
+                     + "and will appear in them shortly: FeedbackEditCopy.CS2102.",
+                     ajaxResult.getStatusMessage());
+        verifySpecifiedTasksAdded(a, Const.TaskQueue.FEEDBACK_SESSION_COPY_QUEUE_NAME, 1);
+
+        assertEquals(251, FeedbackQuestionsLogic.inst()
+                .getFeedbackQuestionsForSession("Session copied in tasks", course6.getId()).size());
+        assertNull(FeedbackSessionsLogic.inst().getFeedbackSession("Session copied in tasks", course7.getId()));
     }
 
     @Override
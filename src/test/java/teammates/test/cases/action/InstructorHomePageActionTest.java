@@ -1,5 +1,8 @@
 package teammates.test.cases.action;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
@@ -8,6 +11,7 @@ import teammates.logic.core.CoursesLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.ui.controller.InstructorHomePageAction;
 import teammates.ui.controller.ShowPageResult;
+import teammates.ui.pagedata.InstructorHomeCourseAjaxPageData;
 import teammates.ui.pagedata.InstructorHomePageData;
 
 /**
@@ -173,6 +177,37 @@ public class InstructorHomePageActionTest extends BaseActionTest {
         assertEquals(expectedCourse3IdAfterSortByCourseCreationDate, actualCourse3AfterSortByCourseCreationDate);
         assertEquals(Const.SORT_BY_COURSE_CREATION_DATE, data.getSortCriteria());
 
+        ______TS("several course panels loaded in one request, masquerade mode");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_TO_LOAD, "idOfTypicalCourse1",
+                "index", "2",
+                Const.ParamsNames.COURSE_TO_LOAD, "idOfTypicalCourse2",
+                "index", "1"
+        };
+
+        a = getAction(addUserIdToParams(instructorWithMultipleCourses, submissionParams));
+        r = getShowPageResult(a);
+
+        assertEquals(
+                getPageResultDestination(Const.ViewURIs.INSTRUCTOR_HOME_AJAX_COURSE_TABLE, false,
+                        instructorWithMultipleCourses),
+                r.getDestinationWithParams());
+        assertFalse(r.isError);
+
+        InstructorHomeCourseAjaxPageData ajaxData = (InstructorHomeCourseAjaxPageData) r.data;
+        assertEquals(Arrays.asList(2, 1), new ArrayList<>(ajaxData.getCourseTables().keySet()));
+        assertEquals("idOfTypicalCourse1", ajaxData.getCourseTables().get(2).getCourseId());
+        assertEquals("idOfTypicalCourse2", ajaxData.getCourseTables().get(1).getCourseId());
+        assertFalse(ajaxData.getCourseTables().get(2).getRows().isEmpty());
+
+        expectedLogMessage = "TEAMMATESLOG|||instructorHomePage|||instructorHomePage|||true"
+                              + "|||Instructor(M)|||Instructor 3 of Course 1 and 2"
+                              + "|||idOfInstructor3|||instr3@course1n2.tmt"
+                              + "|||instructorHome Course Load:<br>idOfTypicalCourse1, idOfTypicalCourse2"
+                              + "|||/page/instructorHomePage";
+        AssertHelper.assertLogMessageEqualsInMasqueradeMode(expectedLogMessage, a.getLogMessage(), adminUserId);
+
         // delete the new course
         CoursesLogic.inst().deleteCourseCascade(newCourseIdForSorting);
     }
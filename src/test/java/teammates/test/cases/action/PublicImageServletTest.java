@@ -0,0 +1,65 @@
+package teammates.test.cases.action;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.testng.annotations.Test;
+
+import com.meterware.httpunit.WebResponse;
+import com.meterware.servletunit.InvocationContext;
+
+import teammates.common.util.Const;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.ui.controller.PublicImageServlet;
+
+/**
+ * SUT: {@link PublicImageServlet}.
+ */
+public class PublicImageServletTest extends BaseComponentTestCase {
+
+    private static final String BLOB_KEY = "public-blob-key";
+    private static final String CACHE_CONTROL = "public, max-age=31536000";
+
+    @Test
+    public void testDoPost() throws Exception {
+
+        ______TS("no If-None-Match: the image is served, with its blob key as the entity tag");
+
+        WebResponse response = serve(null);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("\"" + BLOB_KEY + "\"", response.getHeaderField("ETag"));
+        assertEquals(CACHE_CONTROL, response.getHeaderField("Cache-Control"));
+        assertEquals(BLOB_KEY, response.getHeaderField("X-AppEngine-BlobKey"));
+
+        ______TS("matching If-None-Match: 304 without the image");
+
+        response = serve("W/\"other-blob-key\", \"" + BLOB_KEY + "\"");
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getResponseCode());
+        assertEquals("\"" + BLOB_KEY + "\"", response.getHeaderField("ETag"));
+        assertEquals(CACHE_CONTROL, response.getHeaderField("Cache-Control"));
+        assertNull(response.getHeaderField("X-AppEngine-BlobKey"));
+
+        ______TS("If-None-Match of another image: the image is served");
+
+        response = serve("\"other-blob-key\"");
+
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals(BLOB_KEY, response.getHeaderField("X-AppEngine-BlobKey"));
+    }
+
+    private WebResponse serve(String ifNoneMatch) throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        if (ifNoneMatch != null) {
+            headers.put("If-None-Match", ifNoneMatch);
+        }
+        InvocationContext invocation = gaeSimulation.createInvocation(Const.ActionURIs.PUBLIC_IMAGE_SERVE, headers,
+                Const.ParamsNames.BLOB_KEY, BLOB_KEY);
+        new PublicImageServlet().doPost(invocation.getRequest(), invocation.getResponse());
+        return invocation.getServletResponse();
+    }
+
+}
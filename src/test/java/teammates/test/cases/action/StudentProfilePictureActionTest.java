@@ -10,10 +10,12 @@ import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.StringHelper;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.test.driver.AssertHelper;
+import teammates.test.driver.FileHelper;
 import teammates.ui.controller.ImageResult;
 import teammates.ui.controller.StudentProfilePictureAction;
 
@@ -118,7 +120,7 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         testActionWithEmailAndCourseForUnregStudent();
     }
 
-    private void testActionWithEmailAndCourseSuccessTypical(AccountAttributes instructor) {
+    private void testActionWithEmailAndCourseSuccessTypical(AccountAttributes instructor) throws Exception {
 
         ______TS("Typical case: using email and course");
 
@@ -133,7 +135,28 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         assertFalse(result.isError);
         assertEquals("", result.getStatusMessage());
         assertEquals("asdf34&hfn3!@", result.blobKey);
+        assertNull(result.eTag);
         verifyLogMessageForActionWithEmailAndCourse(instructor, false, action.getLogMessage());
+
+        ______TS("Typical case: the thumbnail of the picture is served, with an entity tag");
+
+        byte[] thumbnail = FileHelper.readFileAsBytes("src/test/resources/images/profile_pic.png");
+        String thumbnailKey = GoogleCloudStorageHelper.writeThumbnailDataToGcs(student.googleId, thumbnail);
+
+        action = getAction(submissionParams);
+        result = getImageResult(action);
+
+        assertFalse(result.isError);
+        assertEquals(thumbnailKey, result.blobKey);
+        assertNotNull(result.eTag);
+
+        String eTag = result.eTag;
+        GoogleCloudStorageHelper.writeThumbnailDataToGcs(student.googleId, new byte[] {1, 2, 3});
+        result = getImageResult(getAction(submissionParams));
+        assertEquals(thumbnailKey, result.blobKey);
+        assertNotEquals(eTag, result.eTag);
+
+        GoogleCloudStorageHelper.deleteThumbnail(student.googleId);
     }
 
     private void testActionWithEmailAndCourseNoStudent() {
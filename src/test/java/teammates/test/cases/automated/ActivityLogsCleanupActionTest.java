@@ -0,0 +1,44 @@
+package teammates.test.cases.automated;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TimeHelper;
+import teammates.ui.automated.ActivityLogsCleanupAction;
+
+/**
+ * SUT: {@link ActivityLogsCleanupAction}.
+ */
+public class ActivityLogsCleanupActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_ACTIVITY_LOGS_CLEANUP;
+    }
+
+    @Test
+    public void allTests() {
+        ______TS("the deletion of the entries older than the retention period is scheduled");
+
+        long expectedTime = TimeHelper.getInstantDaysOffsetFromNow(-Const.ActivityLog.RETENTION_PERIOD_IN_DAYS)
+                .toEpochMilli();
+
+        ActivityLogsCleanupAction action = getAction();
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.ACTIVITY_LOGS_DELETION_QUEUE_NAME, 1);
+        Map<String, String[]> paramMap = action.getTaskQueuer().getTasksAdded().get(0).getParamMap();
+        long time = Long.parseLong(paramMap.get(ParamsNames.ACTIVITY_LOGS_DELETION_TIME)[0]);
+        assertTrue(Math.abs(time - expectedTime) < 60 * 1000);
+        assertNull(paramMap.get(ParamsNames.ACTIVITY_LOGS_DELETION_CURSOR));
+    }
+
+    @Override
+    protected ActivityLogsCleanupAction getAction(String... params) {
+        return (ActivityLogsCleanupAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
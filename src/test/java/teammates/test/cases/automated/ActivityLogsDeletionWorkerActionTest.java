@@ -0,0 +1,71 @@
+package teammates.test.cases.automated;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TimeHelper;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.ui.automated.ActivityLogsDeletionWorkerAction;
+
+/**
+ * SUT: {@link ActivityLogsDeletionWorkerAction}.
+ */
+public class ActivityLogsDeletionWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final List<String> VERSIONS = Arrays.asList("6-0-0");
+
+    private ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.ACTIVITY_LOGS_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        int retentionPeriod = Const.ActivityLog.RETENTION_PERIOD_IN_DAYS;
+        Instant deletionTime = TimeHelper.getInstantDaysOffsetFromNow(-retentionPeriod);
+        long expiredLogTime = TimeHelper.getInstantDaysOffsetFromNow(-retentionPeriod - 1).toEpochMilli();
+        long keptLogTime = TimeHelper.getInstantDaysOffsetFromNow(-retentionPeriod + 1).toEpochMilli();
+        long now = System.currentTimeMillis();
+        createActivityLog("instructorHomePage", expiredLogTime);
+        createActivityLog("studentHomePage", keptLogTime);
+        createActivityLog("adminHomePage", now);
+
+        ______TS("entries logged before the given time are deleted, and no more deletion is scheduled");
+
+        ActivityLogsDeletionWorkerAction action = getAction(
+                ParamsNames.ACTIVITY_LOGS_DELETION_TIME, String.valueOf(deletionTime.toEpochMilli()));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        List<ActivityLogEntry> entries = activityLogsDb.getActivityLogs(expiredLogTime - 1000, now, null, VERSIONS,
+                null, null, null, null, true, 50).getEntries();
+        assertEquals(2, entries.size());
+        assertEquals("adminHomePage", entries.get(0).getActionName());
+        assertEquals("studentHomePage", entries.get(1).getActionName());
+
+        activityLogsDb.deleteActivityLogsBefore(Instant.now().plusSeconds(2 * 60 * 60));
+    }
+
+    private void createActivityLog(String actionName, long logTime) {
+        ActivityLogEntry entry = new ActivityLogEntry.Builder(actionName, "/page/" + actionName, logTime)
+                .withUserRole("Admin")
+                .withUserEmail("admin@gmail.com")
+                .withLogMessage("message of " + actionName)
+                .build();
+        activityLogsDb.createActivityLog(entry, null, "6-0-0");
+    }
+
+    @Override
+    protected ActivityLogsDeletionWorkerAction getAction(String... params) {
+        return (ActivityLogsDeletionWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,96 @@
+package teammates.test.cases.automated;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.tools.development.testing.LocalTaskQueueTestConfig;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Const;
+import teammates.common.util.ThreadHelper;
+import teammates.logic.core.ActivityLogsLogic;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.ui.automated.ActivityLogsWriteAction;
+
+/**
+ * SUT: {@link ActivityLogsWriteAction}.
+ */
+public class ActivityLogsWriteActionTest extends BaseAutomatedActionTest {
+
+    private static final List<String> VERSIONS = Arrays.asList("1");
+
+    private ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_ACTIVITY_LOGS_WRITE;
+    }
+
+    @Test
+    public void allTests() {
+        long now = System.currentTimeMillis();
+        queueActivityLog("studentHomePage", "CS101", now - 2000);
+        queueActivityLog("instructorHomePage", "CS101", now - 1000);
+        queueActivityLog("adminHomePage", null, now);
+        queueActivityLog("adminActivityLogPage", null, now);
+        waitForQueuedActivityLogs(3);
+
+        ______TS("queued entries are written, except those of viewing the activity log");
+
+        ActivityLogsWriteAction action = getAction();
+        action.execute();
+
+        List<ActivityLogEntry> entries = activityLogsDb.getActivityLogs(now - 10000, now, null, VERSIONS,
+                null, null, null, null, true, 50).getEntries();
+        assertEquals(3, entries.size());
+        assertEquals("adminHomePage", entries.get(0).getActionName());
+        assertEquals("instructorHomePage", entries.get(1).getActionName());
+        assertEquals("studentHomePage", entries.get(2).getActionName());
+        assertEquals(2, activityLogsDb.getActivityLogs(now - 10000, now, null, VERSIONS,
+                null, null, null, "CS101", true, 50).getEntries().size());
+
+        ______TS("written entries are removed from the queue");
+
+        assertEquals(0, getNumberOfQueuedActivityLogs());
+        action = getAction();
+        action.execute();
+
+        assertEquals(3, activityLogsDb.getActivityLogs(now - 10000, now, null, VERSIONS,
+                null, null, null, null, true, 50).getEntries().size());
+
+        activityLogsDb.deleteActivityLogsBefore(Instant.now().plusSeconds(2 * 60 * 60));
+    }
+
+    private void queueActivityLog(String actionName, String courseId, long logTime) {
+        ActivityLogEntry entry = new ActivityLogEntry.Builder(actionName, "/page/" + actionName, logTime)
+                .withUserRole("Admin")
+                .withUserEmail("admin@gmail.com")
+                .withLogMessage("message of " + actionName)
+                .build();
+        ActivityLogsLogic.inst().queueActivityLog(entry.generateLogMessage(), courseId, logTime);
+    }
+
+    /**
+     * Waits for the tasks added asynchronously to the activity log queue to be added.
+     */
+    private void waitForQueuedActivityLogs(int numberOfQueuedActivityLogs) {
+        for (int i = 0; i < 50 && getNumberOfQueuedActivityLogs() < numberOfQueuedActivityLogs; i++) {
+            ThreadHelper.waitBriefly();
+        }
+        assertEquals(numberOfQueuedActivityLogs, getNumberOfQueuedActivityLogs());
+    }
+
+    private int getNumberOfQueuedActivityLogs() {
+        return LocalTaskQueueTestConfig.getLocalTaskQueue().getQueueStateInfo()
+                .get(Const.TaskQueue.ACTIVITY_LOG_QUEUE_NAME).getCountTasks();
+    }
+
+    @Override
+    protected ActivityLogsWriteAction getAction(String... params) {
+        return (ActivityLogsWriteAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
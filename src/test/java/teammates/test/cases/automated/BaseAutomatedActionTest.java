@@ -1,12 +1,19 @@
 package teammates.test.cases.automated;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.ui.automated.AutomatedAction;
 
@@ -46,6 +53,39 @@ public abstract class BaseAutomatedActionTest extends BaseComponentTestCase {
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Gets the emails scheduled to be sent, across all the batches in the send email queue.
+     */
+    protected List<EmailWrapper> getEmailsScheduled(AutomatedAction action) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (!TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName())) {
+                continue;
+            }
+            Map<String, String[]> paramMap = task.getParamMap();
+            String[] receivers = paramMap.get(ParamsNames.EMAIL_RECEIVER);
+            for (int i = 0; i < receivers.length; i++) {
+                EmailWrapper email = new EmailWrapper();
+                email.setRecipient(receivers[i]);
+                email.setSubject(paramMap.get(ParamsNames.EMAIL_SUBJECT)[i]);
+                email.setContent(paramMap.get(ParamsNames.EMAIL_CONTENT)[i]);
+                email.setSenderEmail(paramMap.get(ParamsNames.EMAIL_SENDER)[i]);
+                email.setSenderName(paramMap.get(ParamsNames.EMAIL_SENDERNAME)[i]);
+                email.setReplyTo(paramMap.get(ParamsNames.EMAIL_REPLY_TO_ADDRESS)[i]);
+                Map<String, String> substitutions = JsonUtils.fromJson(
+                        paramMap.get(ParamsNames.EMAIL_SUBSTITUTIONS)[i],
+                        new TypeToken<Map<String, String>>(){}.getType());
+                email.setSubstitutions(substitutions);
+                emails.add(email);
+            }
+        }
+        return emails;
+    }
+
+    protected void verifyNumberOfEmailsScheduled(AutomatedAction action, int emailCount) {
+        assertEquals(emailCount, getEmailsScheduled(action).size());
+    }
+
     protected void verifyNoEmailsSent(AutomatedAction action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
@@ -0,0 +1,61 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.CoursesLogic;
+import teammates.ui.automated.CourseDeletionWorkerAction;
+
+/**
+ * SUT: {@link CourseDeletionWorkerAction}.
+ */
+public class CourseDeletionWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        CourseAttributes course = dataBundle.courses.get("typicalCourse3");
+
+        ______TS("deletion not started: nothing is deleted");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, course.getId()
+        };
+
+        CourseDeletionWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        verifyPresentInDatastore(course);
+
+        ______TS("typical case: the course and all data related to it are deleted");
+
+        coursesLogic.startCourseDeletion(course.getId(), () -> { });
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        verifyAbsentInDatastore(course);
+        verifyAbsentInDatastore(dataBundle.instructors.get("instructor1OfCourse3"));
+        verifyAbsentInDatastore(dataBundle.students.get("student1InCourse3"));
+        verifyAbsentInDatastore(dataBundle.feedbackSessions.get("session1InCourse3"));
+        assertTrue(coursesLogic.getCourseDeletionStatuses(Arrays.asList(course.getId())).isEmpty());
+    }
+
+    @Override
+    protected CourseDeletionWorkerAction getAction(String... params) {
+        return (CourseDeletionWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
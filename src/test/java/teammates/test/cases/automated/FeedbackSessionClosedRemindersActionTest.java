@@ -2,16 +2,13 @@ package teammates.test.cases.automated;
 
 import java.time.Instant;
 import java.time.ZoneId;
-import java.util.List;
-import java.util.Map;
 
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
-import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
-import teammates.common.util.TaskWrapper;
+import teammates.common.util.EmailWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
@@ -76,15 +73,13 @@ public class FeedbackSessionClosedRemindersActionTest extends BaseAutomatedActio
         action.execute();
 
         // 5 students and 5 instructors in course1
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 10);
+        verifyNumberOfEmailsScheduled(action, 10);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
+        for (EmailWrapper email : getEmailsScheduled(action)) {
             assertEquals(String.format(EmailType.FEEDBACK_CLOSED.getSubject(), courseName,
                                        session1.getFeedbackSessionName()),
-                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+                         email.getSubject());
         }
 
         ______TS("1 session closed recently with closed emails sent");
@@ -1,16 +1,13 @@
 package teammates.test.cases.automated;
 
 import java.time.ZoneId;
-import java.util.List;
-import java.util.Map;
 
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
-import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
-import teammates.common.util.TaskWrapper;
+import teammates.common.util.EmailWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
@@ -75,15 +72,13 @@ public class FeedbackSessionClosingRemindersActionTest extends BaseAutomatedActi
         action.execute();
 
         // 5 students and 5 instructors in course1, 2 students have completed the feedback session
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
+        verifyNumberOfEmailsScheduled(action, 8);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
+        for (EmailWrapper email : getEmailsScheduled(action)) {
             assertEquals(String.format(EmailType.FEEDBACK_CLOSING.getSubject(), courseName,
                                        session1.getFeedbackSessionName()),
-                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+                         email.getSubject());
         }
 
         ______TS("1 session closing soon with emails sent");
@@ -0,0 +1,80 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.ui.automated.FeedbackSessionCopyWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionCopyWorkerAction}.
+ */
+public class FeedbackSessionCopyWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_COPY_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+
+        ______TS("typical case: the session is copied to all the courses");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COPIED_FEEDBACK_SESSION_NAME, "Copied Session",
+                ParamsNames.COPIED_COURSES_ID, "idOfTypicalCourse2",
+                ParamsNames.COPIED_COURSES_ID, "idOfTypicalCourse3",
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.INSTRUCTOR_EMAIL, "instructor1@course1.tmt"
+        };
+
+        FeedbackSessionCopyWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        int numberOfQuestions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId()).size();
+        for (String courseId : new String[] { "idOfTypicalCourse2", "idOfTypicalCourse3" }) {
+            assertNotNull(fsLogic.getFeedbackSession("Copied Session", courseId));
+            assertEquals(numberOfQuestions, fqLogic.getFeedbackQuestionsForSession("Copied Session", courseId).size());
+        }
+
+        ______TS("failure case: courses which already have the session are skipped without retrying");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        ______TS("failure case: the session to copy does not exist");
+
+        submissionParams = new String[] {
+                ParamsNames.COPIED_FEEDBACK_SESSION_NAME, "Copied Session",
+                ParamsNames.COPIED_COURSES_ID, "idOfCourseNoEvals",
+                ParamsNames.FEEDBACK_SESSION_NAME, "non-existent session",
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.INSTRUCTOR_EMAIL, "instructor1@course1.tmt"
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertNull(fsLogic.getFeedbackSession("Copied Session", "idOfCourseNoEvals"));
+    }
+
+    @Override
+    protected FeedbackSessionCopyWorkerAction getAction(String... params) {
+        return (FeedbackSessionCopyWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -1,15 +1,11 @@
 package teammates.test.cases.automated;
 
-import java.util.List;
-import java.util.Map;
-
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
-import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
-import teammates.common.util.TaskWrapper;
+import teammates.common.util.EmailWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
@@ -64,20 +60,20 @@ public class FeedbackSessionOpeningRemindersActionTest extends BaseAutomatedActi
         action.execute();
 
         // 5 students and 5 instructors in course1
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 20);
+        verifyNumberOfEmailsScheduled(action, 20);
+        // the emails of each session fit in a single batch
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
+        for (EmailWrapper email : getEmailsScheduled(action)) {
             try {
                 assertEquals(String.format(EmailType.FEEDBACK_OPENING.getSubject(), courseName,
                                            session1.getFeedbackSessionName()),
-                             paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+                             email.getSubject());
             } catch (AssertionError ae) {
                 assertEquals(String.format(EmailType.FEEDBACK_OPENING.getSubject(), courseName,
                                            session2.getFeedbackSessionName()),
-                             paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+                             email.getSubject());
             }
         }
 
@@ -2,7 +2,6 @@ package teammates.test.cases.automated;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -12,7 +11,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
-import teammates.common.util.TaskWrapper;
+import teammates.common.util.EmailWrapper;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
@@ -55,7 +54,7 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
         action.execute();
 
         // 2 students and 4 instructors sent reminder, 1 instructor notified
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 7);
+        verifyNumberOfEmailsScheduled(action, 7);
 
         List<String> studentRecipientList = new ArrayList<>();
         for (StudentAttributes student : studentsLogic.getStudentsForCourse(session1.getCourseId())) {
@@ -75,16 +74,14 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
                 instructor1.getGoogleId()).email);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
+        for (EmailWrapper email : getEmailsScheduled(action)) {
             assertEquals(String.format(EmailType.FEEDBACK_SESSION_REMINDER.getSubject(), courseName,
                                        session1.getFeedbackSessionName()),
-                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+                         email.getSubject());
 
             String header = "The email below has been sent to students of course: [" + session1.getCourseId() + "]";
-            String content = paramMap.get(ParamsNames.EMAIL_CONTENT)[0];
-            String recipient = paramMap.get(ParamsNames.EMAIL_RECEIVER)[0];
+            String content = email.getContent();
+            String recipient = email.getRecipient();
 
             if (content.contains(header)) { // notification to only requesting instructors
                 assertTrue(instructorNotifiedList.contains(recipient));
@@ -107,6 +104,26 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
         assertTrue(String.valueOf(instructorRecipientList.size()), instructorRecipientList.isEmpty());
         assertTrue(instructorNotifiedList.isEmpty());
 
+        ______TS("Instructor who is also a student: reminded if not responded as an instructor");
+
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        assertTrue(session1.getRespondingStudentList().contains(student1.email));
+        assertFalse(session1.getRespondingInstructorList().contains(student1.email));
+        instructorsLogic.createInstructor(
+                InstructorAttributes.builder(null, student1.course, student1.name, student1.email).build());
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        // 2 students and 5 instructors sent reminder, 1 instructor notified
+        verifyNumberOfEmailsScheduled(action, 8);
+        List<String> recipients = new ArrayList<>();
+        for (EmailWrapper email : getEmailsScheduled(action)) {
+            recipients.add(email.getRecipient());
+        }
+        assertTrue(recipients.contains(student1.email));
+
+        instructorsLogic.deleteInstructorCascade(student1.course, student1.email);
     }
 
     @Override
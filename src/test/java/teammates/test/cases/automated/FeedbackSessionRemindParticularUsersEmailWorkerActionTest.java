@@ -1,8 +1,5 @@
 package teammates.test.cases.automated;
 
-import java.util.List;
-import java.util.Map;
-
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -11,7 +8,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
-import teammates.common.util.TaskWrapper;
+import teammates.common.util.EmailWrapper;
 import teammates.logic.core.CoursesLogic;
 import teammates.ui.automated.FeedbackSessionRemindParticularUsersEmailWorkerAction;
 
@@ -49,16 +46,14 @@ public class FeedbackSessionRemindParticularUsersEmailWorkerActionTest extends B
         action.execute();
 
         // send 3 emails as specified in the submission parameters
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifyNumberOfEmailsScheduled(action, 3);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
+        for (EmailWrapper email : getEmailsScheduled(action)) {
             assertEquals(String.format(EmailType.FEEDBACK_SESSION_REMINDER.getSubject(), courseName,
                                        session1.getFeedbackSessionName()),
-                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
-            String recipient = paramMap.get(ParamsNames.EMAIL_RECEIVER)[0];
+                         email.getSubject());
+            String recipient = email.getRecipient();
             assertTrue(recipient.equals(student1.email) || recipient.equals(instructor1.email));
         }
     }
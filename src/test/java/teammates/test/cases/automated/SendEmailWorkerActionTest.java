@@ -0,0 +1,222 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.reflect.TypeToken;
+import com.meterware.servletunit.InvocationContext;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.StringHelper;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.TaskQueuesLogic;
+import teammates.test.driver.MockEmailSender;
+import teammates.test.driver.MockTaskQueuer;
+import teammates.ui.automated.SendEmailWorkerAction;
+
+/**
+ * SUT: {@link SendEmailWorkerAction}, and the batching of the emails it sends.
+ */
+public class SendEmailWorkerActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        String[] submissionParams = new String[] {
+                ParamsNames.EMAIL_SUBJECT, "Subject 1",
+                ParamsNames.EMAIL_SUBJECT, "Subject 2",
+                ParamsNames.EMAIL_SUBJECT, "Subject 3",
+                ParamsNames.EMAIL_CONTENT, "Content 1",
+                ParamsNames.EMAIL_CONTENT, "Content 2",
+                ParamsNames.EMAIL_CONTENT, "Content 3",
+                ParamsNames.EMAIL_SENDER, "sender@test.tmt",
+                ParamsNames.EMAIL_SENDER, "sender@test.tmt",
+                ParamsNames.EMAIL_SENDER, "sender@test.tmt",
+                ParamsNames.EMAIL_SENDERNAME, "Sender",
+                ParamsNames.EMAIL_SENDERNAME, "",
+                ParamsNames.EMAIL_SENDERNAME, "Sender",
+                ParamsNames.EMAIL_RECEIVER, "receiver1@test.tmt",
+                ParamsNames.EMAIL_RECEIVER, "receiver2@test.tmt",
+                ParamsNames.EMAIL_RECEIVER, "receiver3@test.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@test.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@test.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@test.tmt"
+        };
+
+        ______TS("typical case: all the emails of the batch are sent");
+
+        InvocationContext invocation = gaeSimulation.createInvocation(getActionUri(), submissionParams);
+        SendEmailWorkerAction action = getAction(invocation);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 3);
+        verifyNoTasksAdded(action);
+        EmailWrapper email = getEmailsSent(action).get(1);
+        assertEquals("receiver2@test.tmt", email.getRecipient());
+        assertEquals("Subject 2", email.getSubject());
+        assertEquals("Content 2", email.getContent());
+        assertNull(email.getSenderName());
+        assertEquals(200, invocation.getServletResponse().getResponseCode());
+
+        ______TS("failure case: only the emails which failed are scheduled again, one per task");
+
+        invocation = gaeSimulation.createInvocation(getActionUri(), submissionParams);
+        action = getAction(invocation);
+        ((MockEmailSender) action.getEmailSender()).setFailingRecipients("receiver1@test.tmt", "receiver3@test.tmt");
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        assertEquals("receiver2@test.tmt", getEmailsSent(action).get(0).getRecipient());
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        List<EmailWrapper> emailsScheduled = getEmailsScheduled(action);
+        assertEquals("receiver1@test.tmt", emailsScheduled.get(0).getRecipient());
+        assertEquals("Subject 1", emailsScheduled.get(0).getSubject());
+        assertEquals("receiver3@test.tmt", emailsScheduled.get(1).getRecipient());
+        assertEquals("Subject 3", emailsScheduled.get(1).getSubject());
+        assertEquals(200, invocation.getServletResponse().getResponseCode());
+
+        ______TS("failure case: the task is retried if all the emails of the batch failed");
+
+        invocation = gaeSimulation.createInvocation(getActionUri(), submissionParams);
+        action = getAction(invocation);
+        ((MockEmailSender) action.getEmailSender())
+                .setFailingRecipients("receiver1@test.tmt", "receiver2@test.tmt", "receiver3@test.tmt");
+        action.execute();
+
+        verifyNoEmailsSent(action);
+        verifyNoTasksAdded(action);
+        assertEquals(100, invocation.getServletResponse().getResponseCode());
+    }
+
+    @Test
+    public void testExecute_withSubstitutions_substitutedForEachRecipient() {
+        String sharedContent = "Dear " + EmailWrapper.getSubstitutionPlaceholder("userName");
+        String[] submissionParams = new String[] {
+                ParamsNames.EMAIL_SUBJECT, "Subject",
+                ParamsNames.EMAIL_SUBJECT, "Subject",
+                ParamsNames.EMAIL_CONTENT, sharedContent,
+                ParamsNames.EMAIL_CONTENT, sharedContent,
+                ParamsNames.EMAIL_SUBSTITUTIONS, "{\"userName\":\"Alice\"}",
+                ParamsNames.EMAIL_SUBSTITUTIONS, "{\"userName\":\"Bob\"}",
+                ParamsNames.EMAIL_SENDER, "sender@test.tmt",
+                ParamsNames.EMAIL_SENDER, "sender@test.tmt",
+                ParamsNames.EMAIL_RECEIVER, "alice@test.tmt",
+                ParamsNames.EMAIL_RECEIVER, "bob@test.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@test.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "reply@test.tmt"
+        };
+
+        SendEmailWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 2);
+        assertEquals(sharedContent, getEmailsSent(action).get(0).getSharedContent());
+        assertEquals("Dear Alice", getEmailsSent(action).get(0).getContent());
+        assertEquals("Dear Bob", getEmailsSent(action).get(1).getContent());
+    }
+
+    @Test
+    public void testScheduleEmailsForSending() {
+        ______TS("no emails: no task is added");
+
+        MockTaskQueuer taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(new ArrayList<>());
+
+        assertTrue(taskQueuer.getTasksAdded().isEmpty());
+
+        ______TS("small emails: batches are limited by the number of emails");
+
+        taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(createEmails(20, "Content"));
+
+        verifyBatchSizes(taskQueuer, 20);
+
+        taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(createEmails(41, "Content"));
+
+        verifyBatchSizes(taskQueuer, 20, 20, 1);
+
+        ______TS("large emails: batches are limited by the size of the task");
+
+        int maxTaskSize = TaskQueuesLogic.getMaxPushTaskSizeBytes();
+        taskQueuer = new MockTaskQueuer();
+        String largeContent = StringHelper.generateStringOfLength(maxTaskSize * 2 / 5, 'a');
+        taskQueuer.scheduleEmailsForSending(createEmails(5, largeContent));
+
+        verifyBatchSizes(taskQueuer, 2, 2, 1);
+
+        ______TS("large emails: the size of the task is counted after URL-encoding");
+
+        // each character takes 6 bytes once URL-encoded
+        String multiByteContent = StringHelper.generateStringOfLength(maxTaskSize / 10, '\u00e9');
+        taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(createEmails(3, multiByteContent));
+
+        verifyBatchSizes(taskQueuer, 1, 1, 1);
+
+        ______TS("email larger than a task: the email is still scheduled on its own");
+
+        taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(createEmails(2, StringHelper.generateStringOfLength(maxTaskSize, 'a')));
+
+        verifyBatchSizes(taskQueuer, 1, 1);
+
+        ______TS("emails with substitutions: the shared content and the substitutions are carried separately");
+
+        List<EmailWrapper> emails = createEmails(2, "Dear " + EmailWrapper.getSubstitutionPlaceholder("userName"));
+        emails.get(0).addSubstitution("userName", "Alice");
+        emails.get(1).addSubstitution("userName", "Bob");
+        taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(emails);
+
+        verifyBatchSizes(taskQueuer, 2);
+        Map<String, String[]> paramMap = taskQueuer.getTasksAdded().get(0).getParamMap();
+        assertEquals("Dear %recipient.userName%", paramMap.get(ParamsNames.EMAIL_CONTENT)[1]);
+        Map<String, String> substitutions = JsonUtils.fromJson(paramMap.get(ParamsNames.EMAIL_SUBSTITUTIONS)[1],
+                new TypeToken<Map<String, String>>(){}.getType());
+        assertEquals("Bob", substitutions.get("userName"));
+    }
+
+    private List<EmailWrapper> createEmails(int numberOfEmails, String content) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < numberOfEmails; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setRecipient("receiver" + i + "@test.tmt");
+            email.setSenderEmail("sender@test.tmt");
+            email.setReplyTo("reply@test.tmt");
+            email.setSubject("Subject " + i);
+            email.setContent(content);
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    private void verifyBatchSizes(MockTaskQueuer taskQueuer, int... expectedBatchSizes) {
+        List<TaskWrapper> tasksAdded = taskQueuer.getTasksAdded();
+        assertEquals(expectedBatchSizes.length, tasksAdded.size());
+        for (int i = 0; i < expectedBatchSizes.length; i++) {
+            assertEquals(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, tasksAdded.get(i).getQueueName());
+            assertEquals(expectedBatchSizes[i], tasksAdded.get(i).getParamMap().get(ParamsNames.EMAIL_RECEIVER).length);
+        }
+    }
+
+    @Override
+    protected SendEmailWorkerAction getAction(String... params) {
+        return (SendEmailWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+    private SendEmailWorkerAction getAction(InvocationContext invocation) {
+        return (SendEmailWorkerAction) gaeSimulation.getAutomatedActionObject(invocation);
+    }
+
+}
@@ -1,7 +1,9 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -10,6 +12,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -102,6 +105,40 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(emailToNameTableExpected, emailToNameTableActual);
     }
 
+    @Test
+    public void testTeamAndSectionTables() {
+        List<StudentAttributes> students = createStudentList("team 1", "s1@gmail.com",
+                                                             "team 1", "s2@gmail.com",
+                                                             "team 2", "s3@gmail.com",
+                                                             "team 3", "s4@gmail.com");
+        students.get(0).section = "section 1";
+        students.get(1).section = "section 1";
+        students.get(2).section = "section 1";
+        students.get(3).section = "section 2";
+        CourseRoster roster = new CourseRoster(students, null);
+
+        ______TS("team members");
+
+        List<StudentAttributes> teamMembers = roster.getTeamMembers("team 1");
+        assertEquals(2, teamMembers.size());
+        assertTrue(teamMembers.contains(roster.getStudentForEmail("s1@gmail.com")));
+        assertTrue(teamMembers.contains(roster.getStudentForEmail("s2@gmail.com")));
+        assertTrue(roster.getTeamMembers("non-existent team").isEmpty());
+
+        ______TS("section of team");
+
+        assertEquals("section 1", roster.getSectionForTeam("team 2"));
+        assertEquals("section 2", roster.getSectionForTeam("team 3"));
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("non-existent team"));
+
+        ______TS("teams in section");
+
+        assertEquals(new HashSet<>(Arrays.asList("section 1", "section 2")), roster.getSectionNames());
+        assertEquals(new HashSet<>(Arrays.asList("team 1", "team 2")), roster.getTeamsInSection("section 1"));
+        assertEquals(new HashSet<>(Arrays.asList("team 3")), roster.getTeamsInSection("section 2"));
+        assertTrue(roster.getTeamsInSection("non-existent section").isEmpty());
+    }
+
     private List<StudentAttributes> createStudentList(String... studentData) {
         List<StudentAttributes> students = new ArrayList<>();
         for (int i = 0; i < studentData.length; i += 2) {
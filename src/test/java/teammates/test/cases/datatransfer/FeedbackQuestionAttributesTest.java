@@ -9,6 +9,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -365,6 +366,29 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
         assertEquals(fq.getQuestionDetails().getQuestionText(), "Rate 1 other student's product");
     }
 
+    @Test
+    public void testGetQuestionDetails_decodedOnceUntilMetaDataChanges() {
+        FeedbackQuestionAttributes fq = getNewFeedbackQuestionAttributes();
+
+        ______TS("same details object is returned while meta data is unchanged");
+
+        FeedbackQuestionDetails details = fq.getQuestionDetails();
+        assertSame(details, fq.getQuestionDetails());
+
+        ______TS("details are decoded again after setQuestionDetails");
+
+        fq.setQuestionDetails(new FeedbackTextQuestionDetails("Updated question text"));
+        assertNotSame(details, fq.getQuestionDetails());
+        assertEquals("Updated question text", fq.getQuestionDetails().getQuestionText());
+
+        ______TS("details are decoded again after meta data is assigned directly");
+
+        details = fq.getQuestionDetails();
+        fq.questionMetaData = "Question text in old string format";
+        assertNotSame(details, fq.getQuestionDetails());
+        assertEquals("Question text in old string format", fq.getQuestionDetails().getQuestionText());
+    }
+
     @Test
     public void testRemoveIrrelevantVisibilityOptions() {
 
@@ -0,0 +1,177 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.SanitizationHelper;
+import teammates.logic.api.Logic;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.ui.datatransfer.InstructorFeedbackResultsPageViewType;
+
+/**
+ * SUT: the HTML and CSV statistics of
+ * {@link teammates.common.datatransfer.questions.FeedbackNumericalScaleQuestionDetails},
+ * {@link teammates.common.datatransfer.questions.FeedbackRankRecipientsQuestionDetails} and
+ * {@link teammates.common.datatransfer.questions.FeedbackContributionQuestionDetails}
+ * in the instructor's question view.
+ */
+public class FeedbackQuestionResultStatisticsTest extends BaseComponentTestCase {
+
+    private static final String TEAM_1_1 = "Team 1.1</td></div>'\"";
+    private static final String STUDENT_1 = "student1 In Course1</td></div>'\"";
+
+    private final Logic logic = new Logic();
+    private DataBundle dataBundle;
+    private InstructorAttributes instructor;
+
+    @BeforeClass
+    public void classSetup() {
+        dataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(dataBundle);
+        instructor = dataBundle.instructors.get("instructor1OfCourse1");
+    }
+
+    @Test
+    public void testNumericalScaleStatistics() throws Exception {
+        FeedbackSessionResultsBundle bundle = getResults("numscaleSession");
+
+        ______TS("recipients are students");
+
+        FeedbackQuestionAttributes question = getQuestion(bundle, 1);
+
+        verifyStatisticsHtml(bundle, question,
+                Arrays.asList(TEAM_1_1, "student2 In Course1", "2", "2", "2"),
+                Arrays.asList(TEAM_1_1, STUDENT_1, "3.5", "3.5", "3.5"));
+        verifyStatisticsCsv(bundle, question,
+                "Team, Recipient, Average, Minimum, Maximum",
+                "\"Team 1.1</td></div>'\"\"\",\"student2 In Course1\",2,2,2",
+                "\"Team 1.1</td></div>'\"\"\",\"student1 In Course1</td></div>'\"\"\",3.5,3.5,3.5",
+                "");
+
+        ______TS("recipients are instructors");
+
+        question = getQuestion(bundle, 2);
+
+        verifyStatisticsHtml(bundle, question,
+                Arrays.asList("Instructors", "Instructor2 Course1", "1", "1", "1"),
+                Arrays.asList("Instructors", "Instructor1 Course1", "4.5", "4.5", "4.5"));
+        verifyStatisticsCsv(bundle, question,
+                "Team, Recipient, Average, Minimum, Maximum",
+                "\"Instructors\",\"Instructor2 Course1\",1,1,1",
+                "\"Instructors\",\"Instructor1 Course1\",4.5,4.5,4.5",
+                "");
+    }
+
+    @Test
+    public void testRankRecipientsStatistics() throws Exception {
+        FeedbackSessionResultsBundle bundle = getResults("rankSession");
+        FeedbackQuestionAttributes question = getQuestion(bundle, 1);
+
+        ______TS("ranks received, self rank and overall ranks of each recipient");
+
+        verifyStatisticsHtml(bundle, question,
+                Arrays.asList(TEAM_1_1, "student2 In Course1", "1 , 3", "1", "3", "3"),
+                Arrays.asList(TEAM_1_1, "student4 In Course1", "1 , 1 , 2", "1", "1", "1"),
+                Arrays.asList(TEAM_1_1, STUDENT_1, "4", "4", "4", "-"),
+                Arrays.asList(TEAM_1_1, "student3 In Course1", "1 , 2", "1", "2", "2"));
+        verifyStatisticsCsv(bundle, question,
+                "Team, Recipient, Self Rank, Overall Rank, Overall Rank Excluding Self, Ranks Received",
+                "\"Team 1.1</td></div>'\"\"\",\"student2 In Course1\",1,3,3,3,1",
+                "\"Team 1.1</td></div>'\"\"\",\"student4 In Course1\",1,1,1,1,2,1",
+                "\"Team 1.1</td></div>'\"\"\",\"student1 In Course1</td></div>'\"\"\",4,4,-,4",
+                "\"Team 1.1</td></div>'\"\"\",\"student3 In Course1\",1,2,2,2,1",
+                "",
+                "");
+    }
+
+    @Test
+    public void testContributionStatistics() throws Exception {
+        FeedbackSessionResultsBundle bundle = getResults("contribSession");
+        FeedbackQuestionAttributes question = getQuestion(bundle, 1);
+
+        ______TS("claimed and perceived contributions of each student of the visible teams");
+
+        verifyStatisticsHtml(bundle, question,
+                Arrays.asList(TEAM_1_1, STUDENT_1, "E -5%", "N/A", "N/A", "N/A, N/A, N/A"),
+                Arrays.asList(TEAM_1_1, "student2 In Course1", "N/A", "E -25%", "N/A", "N/A, N/A, E -25%"),
+                Arrays.asList(TEAM_1_1, "student3 In Course1", "N/A", "E +3%", "N/A", "E +3%, N/A, N/A"),
+                Arrays.asList(TEAM_1_1, "student4 In Course1", "N/A", "E +22%", "N/A", "E +22%, N/A, N/A"),
+                Arrays.asList("Team 1.2", "student5 In Course1", "N/A", "N/A", "N/A", "N/A"));
+        verifyStatisticsCsv(bundle, question,
+                // CHECKSTYLE.OFF:LineLength csv lines can exceed character limit
+                "\"In the points given below, an equal share is equal to 100 points. e.g. 80 means \"\"Equal share - 20%\"\" and 110 means \"\"Equal share + 10%\"\".\"",
+                "Claimed Contribution (CC) = the contribution claimed by the student.",
+                "Perceived Contribution (PC) = the average value of student's contribution as perceived by the team members.",
+                "Team, Name, Email, CC, PC, Ratings Received",
+                "\"Team 1.1</td></div>'\"\"\",\"student1 In Course1</td></div>'\"\"\",\"student1InCourse1@gmail.tmt\",\"95\",\"N/A\",N/A, N/A, N/A",
+                "\"Team 1.1</td></div>'\"\"\",\"student2 In Course1\",\"student2InCourse1@gmail.tmt\",\"Not Submitted\",\"75\",75, N/A, N/A",
+                "\"Team 1.1</td></div>'\"\"\",\"student3 In Course1\",\"student3InCourse1@gmail.tmt\",\"Not Submitted\",\"103\",103, N/A, N/A",
+                "\"Team 1.1</td></div>'\"\"\",\"student4 In Course1\",\"student4InCourse1@gmail.tmt\",\"Not Submitted\",\"122\",122, N/A, N/A",
+                "\"Team 1.2\",\"student5 In Course1\",\"student5InCourse1@gmail.tmt\",\"Not Submitted\",\"N/A\",N/A",
+                "",
+                // CHECKSTYLE.ON:LineLength
+                "");
+    }
+
+    private FeedbackSessionResultsBundle getResults(String sessionKey) throws EntityDoesNotExistException {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get(sessionKey);
+        return logic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+    }
+
+    private FeedbackQuestionAttributes getQuestion(FeedbackSessionResultsBundle bundle, int questionNumber) {
+        return bundle.questions.values().stream()
+                .filter(question -> question.questionNumber == questionNumber)
+                .findFirst().get();
+    }
+
+    /**
+     * Verifies the cells of the rows of the statistics table, without their markup.
+     */
+    @SafeVarargs
+    private final void verifyStatisticsHtml(FeedbackSessionResultsBundle bundle, FeedbackQuestionAttributes question,
+            List<String>... expectedRows) {
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
+        String html = questionDetails.getQuestionResultStatisticsHtml(
+                bundle.getQuestionResponseMap().get(question), question, instructor.email, bundle,
+                InstructorFeedbackResultsPageViewType.QUESTION.toString());
+
+        assertEquals(Arrays.asList(expectedRows), getTableRows(html));
+    }
+
+    private void verifyStatisticsCsv(FeedbackSessionResultsBundle bundle, FeedbackQuestionAttributes question,
+            String... expectedLines) {
+        List<FeedbackResponseAttributes> responses = bundle.getQuestionResponseMap().get(question);
+        String csv = question.getQuestionDetails().getQuestionResultStatisticsCsv(responses, question, bundle);
+
+        assertEquals(StringUtils.join(expectedLines, System.lineSeparator()), csv);
+    }
+
+    private static List<List<String>> getTableRows(String html) {
+        String tableBody = StringUtils.substringBetween(html, "</thead>", "</table>");
+        List<List<String>> rows = new ArrayList<>();
+        for (String row : StringUtils.substringsBetween(tableBody, "<tr>", "</tr>")) {
+            List<String> cells = new ArrayList<>();
+            for (String cell : StringUtils.substringsBetween(row, "<td", "</td>")) {
+                String content = cell.substring(cell.indexOf('>') + 1).replaceAll("<[^>]*>", "");
+                cells.add(SanitizationHelper.desanitizeFromHtml(content.replaceAll("\\s+", " ").trim()));
+            }
+            rows.add(cells);
+        }
+        return rows;
+    }
+
+}
@@ -5,6 +5,9 @@ import java.time.Instant;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
@@ -44,4 +47,42 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(defaultTimeStamp, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testGetResponseDetails_decodedOnceUntilMetaDataChanges() {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
+        fra.feedbackQuestionType = FeedbackQuestionType.NUMSCALE;
+        fra.setResponseDetails(getNumericalScaleResponseDetails("3"));
+
+        ______TS("same details object is returned while meta data is unchanged");
+
+        FeedbackResponseDetails details = fra.getResponseDetails();
+        assertSame(details, fra.getResponseDetails());
+        assertEquals("3", details.getAnswerString());
+
+        ______TS("details are decoded again after setResponseDetails");
+
+        fra.setResponseDetails(getNumericalScaleResponseDetails("5"));
+        assertNotSame(details, fra.getResponseDetails());
+        assertEquals("5", fra.getResponseDetails().getAnswerString());
+
+        ______TS("details are decoded again after meta data and type are assigned directly");
+
+        details = fra.getResponseDetails();
+        fra.feedbackQuestionType = FeedbackQuestionType.TEXT;
+        fra.responseMetaData = "Text answer";
+        assertNotSame(details, fra.getResponseDetails());
+        assertEquals("Text answer", fra.getResponseDetails().getAnswerString());
+
+        ______TS("missing response has no details");
+
+        fra.responseMetaData = null;
+        assertNull(fra.getResponseDetails());
+    }
+
+    private static FeedbackResponseDetails getNumericalScaleResponseDetails(String answer) {
+        FeedbackNumericalScaleResponseDetails details = new FeedbackNumericalScaleResponseDetails();
+        details.extractResponseDetails(FeedbackQuestionType.NUMSCALE, null, new String[] { answer });
+        return details;
+    }
+
 }
@@ -66,6 +66,53 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
         assertEquals(0, allResponses.size());
     }
 
+    @Test
+    public void testActualResponses_onlyHiddenResponsesCopied() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("session1InCourse1");
+
+        Map<String, String> emailNameTable = new HashMap<>();
+        emailNameTable.put("student1InCourse1@gmail.tmt", "Student 1 in course 1");
+        emailNameTable.put("student2InCourse1@gmail.tmt", "Student in two courses");
+        emailNameTable.put("student3InCourse1@gmail.tmt", "student3 In Course1");
+
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        boolean[] hidden = new boolean[2];
+        boolean[] visible = new boolean[] { true, true };
+        visibilityTable.put("response1ForQ1S1C1", visible);
+        visibilityTable.put("response1ForQ2S1C1", visible);
+        visibilityTable.put("response2ForQ2S1C1", hidden);
+        visibilityTable.put("response3ForQ2S1C1", visible);
+
+        FeedbackResponseAttributes visibleResponse = responseBundle.feedbackResponses.get("response1ForQ2S1C1");
+        FeedbackResponseAttributes hiddenResponse = responseBundle.feedbackResponses.get("response2ForQ2S1C1");
+        String hiddenResponseGiver = hiddenResponse.giver;
+
+        FeedbackSessionResultsBundle bundle =
+                new FeedbackSessionResultsBundle(session, new ArrayList<>(responseBundle.feedbackResponses.values()),
+                        responseBundle.feedbackQuestions, emailNameTable, new HashMap<>(),
+                        new HashMap<>(), null, visibilityTable, null,
+                        new CourseRoster(new ArrayList<>(responseBundle.students.values()),
+                        new ArrayList<>(responseBundle.instructors.values())), null);
+
+        FeedbackQuestionAttributes fqa = responseBundle.feedbackQuestions.get("qn2InSession1InCourse1");
+        List<FeedbackResponseAttributes> actualResponses = bundle.getActualUnsortedResponses(fqa);
+        assertEquals(3, actualResponses.size());
+
+        ______TS("response with visible giver and recipient is not copied");
+        assertTrue(actualResponses.stream().anyMatch(response -> response == visibleResponse));
+
+        ______TS("response with hidden giver and recipient is copied before being anonymised");
+        assertTrue(hiddenResponse.giver.contains("@@"));
+        FeedbackResponseAttributes actualHiddenResponse = actualResponses.stream()
+                .filter(response -> response.getId().equals(hiddenResponse.getId()))
+                .findFirst()
+                .get();
+        assertNotSame(hiddenResponse, actualHiddenResponse);
+        assertEquals(hiddenResponseGiver, actualHiddenResponse.giver);
+    }
+
     @Test
     public void testGetCsvDetailedFeedbackResponseCommentsString() {
         DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
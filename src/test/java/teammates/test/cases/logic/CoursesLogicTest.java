@@ -3,12 +3,14 @@ package teammates.test.cases.logic;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseDeletionStatus;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
@@ -22,6 +24,8 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.AccountsDb;
@@ -56,6 +60,7 @@ public class CoursesLogicTest extends BaseLogicTest {
         testGetCourseDetailsListForStudent();
         testGetCourseSummariesForInstructor();
         testGetCoursesSummaryWithoutStatsForInstructor();
+        testGetCourseSummariesWithFeedbackSessionsForInstructor();
         testGetCourseStudentListAsCsv();
         testHasIndicatedSections();
         testCreateCourse();
@@ -65,6 +70,7 @@ public class CoursesLogicTest extends BaseLogicTest {
         testRestoreAllCoursesFromRecycleBin();
         testDeleteCourse();
         testDeleteAllCourses();
+        testDeleteCourseInPages();
         testUpdateCourse();
     }
 
@@ -600,6 +606,46 @@ public class CoursesLogicTest extends BaseLogicTest {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    private void testGetCourseSummariesWithFeedbackSessionsForInstructor() throws Exception {
+
+        ______TS("Instructor with 2 courses: same summaries as loading each course separately");
+
+        List<InstructorAttributes> instructors = InstructorsLogic.inst().getInstructorsForGoogleId("idOfInstructor3");
+        Map<String, CourseSummaryBundle> courseSummaries =
+                coursesLogic.getCourseSummariesWithFeedbackSessionsForInstructor(instructors);
+        assertEquals(2, courseSummaries.size());
+
+        for (InstructorAttributes instructor : instructors) {
+            CourseSummaryBundle expected = coursesLogic.getCourseSummaryWithFeedbackSessionsForInstructor(instructor);
+            CourseSummaryBundle actual = courseSummaries.get(instructor.courseId);
+            assertEquals(expected.course.getId(), actual.course.getId());
+            assertEquals(expected.feedbackSessions.size(), actual.feedbackSessions.size());
+            for (int i = 0; i < expected.feedbackSessions.size(); i++) {
+                assertEquals(expected.feedbackSessions.get(i).getIdentificationString(),
+                        actual.feedbackSessions.get(i).getIdentificationString());
+            }
+        }
+
+        ______TS("Course in Recycle Bin is omitted");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        coursesLogic.moveCourseToRecycleBin(instructor.courseId);
+        courseSummaries = coursesLogic.getCourseSummariesWithFeedbackSessionsForInstructor(
+                Arrays.asList(instructor));
+        assertTrue(courseSummaries.isEmpty());
+        coursesLogic.restoreCourseFromRecycleBin(instructor.courseId);
+
+        ______TS("No instructors");
+
+        courseSummaries = coursesLogic.getCourseSummariesWithFeedbackSessionsForInstructor(new ArrayList<>());
+        assertTrue(courseSummaries.isEmpty());
+
+        ______TS("Null parameter");
+
+        assertThrows(AssertionError.class,
+                () -> coursesLogic.getCourseSummariesWithFeedbackSessionsForInstructor(null));
+    }
+
     private void testGetCourseStudentListAsCsv() throws Exception {
 
         ______TS("Typical case: course with section");
@@ -928,6 +974,12 @@ public class CoursesLogicTest extends BaseLogicTest {
         // Move the course back to Recycle Bin for further testing
         coursesLogic.moveCourseToRecycleBin(course3OfInstructor.getId());
 
+        ______TS("non-existent course");
+
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> coursesLogic.restoreCourseFromRecycleBin("non-existent-course"));
+        AssertHelper.assertContains("The course does not exist: ", ednee.getMessage());
+
         ______TS("null parameter");
 
         AssertionError ae = assertThrows(AssertionError.class, () -> coursesLogic.restoreCourseFromRecycleBin(null));
@@ -1045,6 +1097,89 @@ public class CoursesLogicTest extends BaseLogicTest {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    private void testDeleteCourseInPages() {
+        CourseAttributes course2OfInstructor = dataBundle.courses.get("typicalCourse2");
+        String courseId = course2OfInstructor.getId();
+
+        ______TS("deletion not started");
+
+        assertTrue(coursesLogic.continueCourseDeletion(courseId, Instant.now()));
+        verifyPresentInDatastore(course2OfInstructor);
+        assertFalse(FeedbackResponseCommentsLogic.inst()
+                .getFeedbackResponseCommentForSession(courseId, "Not answerable feedback session").isEmpty());
+        assertTrue(coursesLogic.getCourseDeletionStatuses(Arrays.asList(courseId)).isEmpty());
+
+        ______TS("typical case: deletion started");
+
+        List<String> scheduledCourseIds = new ArrayList<>();
+        assertTrue(coursesLogic.startCourseDeletion(courseId, () -> scheduledCourseIds.add(courseId)));
+        assertFalse(coursesLogic.startCourseDeletion(courseId, () -> scheduledCourseIds.add(courseId)));
+        // the deletion is scheduled only when it is started
+        assertEquals(Arrays.asList(courseId), scheduledCourseIds);
+
+        CourseDeletionStatus status = coursesLogic.getCourseDeletionStatuses(Arrays.asList(courseId)).get(courseId);
+        assertEquals(CourseDeletionStatus.Stage.FEEDBACK_RESPONSE_COMMENTS, status.getStage());
+        assertEquals(0, status.getNumberOfEntitiesDeleted());
+
+        ______TS("failure: the course cannot be restored once its deletion is started");
+
+        InvalidParametersException ipe = assertThrows(InvalidParametersException.class,
+                () -> coursesLogic.restoreCourseFromRecycleBin(courseId));
+        AssertHelper.assertContains("is being permanently deleted", ipe.getMessage());
+
+        ______TS("typical case: at least one page is deleted, even after the stop time");
+
+        assertFalse(coursesLogic.continueCourseDeletion(courseId, Instant.now().minusSeconds(1)));
+
+        status = coursesLogic.getCourseDeletionStatuses(Arrays.asList(courseId)).get(courseId);
+        assertEquals(CourseDeletionStatus.Stage.FEEDBACK_RESPONSES, status.getStage());
+        assertEquals(1, status.getNumberOfEntitiesDeleted());
+        assertTrue(FeedbackResponseCommentsLogic.inst()
+                .getFeedbackResponseCommentForSession(courseId, "Not answerable feedback session").isEmpty());
+        assertFalse(FeedbackResponsesLogic.inst()
+                .getFeedbackResponsesForSession("Instructor feedback session", courseId).isEmpty());
+        verifyPresentInDatastore(course2OfInstructor);
+
+        ______TS("typical case: each page of a stage starts where the previous page of the stage stopped");
+
+        assertFalse(coursesLogic.continueCourseDeletion(courseId, Instant.now().minusSeconds(1), 1));
+
+        status = coursesLogic.getCourseDeletionStatuses(Arrays.asList(courseId)).get(courseId);
+        assertEquals(CourseDeletionStatus.Stage.FEEDBACK_RESPONSES, status.getStage());
+        assertNotNull(status.getCursor());
+        assertEquals(2, status.getNumberOfEntitiesDeleted());
+
+        assertFalse(coursesLogic.continueCourseDeletion(courseId, Instant.now().minusSeconds(1), 1));
+
+        status = coursesLogic.getCourseDeletionStatuses(Arrays.asList(courseId)).get(courseId);
+        assertEquals(3, status.getNumberOfEntitiesDeleted());
+        assertTrue(FeedbackResponsesLogic.inst()
+                .getFeedbackResponsesForSession("Instructor feedback session", courseId).isEmpty());
+        assertTrue(FeedbackResponsesLogic.inst()
+                .getFeedbackResponsesForSession("Not answerable feedback session", courseId).isEmpty());
+        verifyPresentInDatastore(dataBundle.feedbackQuestions.get("qn1InSession2InCourse2"));
+
+        ______TS("typical case: deletion continued until done");
+
+        assertTrue(coursesLogic.continueCourseDeletion(courseId, Instant.now().plusSeconds(60)));
+
+        verifyAbsentInDatastore(course2OfInstructor);
+        verifyAbsentInDatastore(dataBundle.instructors.get("instructor1OfCourse2"));
+        verifyAbsentInDatastore(dataBundle.students.get("student1InCourse2"));
+        verifyAbsentInDatastore(dataBundle.feedbackSessions.get("session1InCourse2"));
+        verifyAbsentInDatastore(dataBundle.feedbackQuestions.get("qn1InSession2InCourse2"));
+        assertTrue(FeedbackResponsesLogic.inst()
+                .getFeedbackResponsesForSession("Instructor feedback session", courseId).isEmpty());
+        assertTrue(coursesLogic.getCourseDeletionStatuses(Arrays.asList(courseId)).isEmpty());
+
+        ______TS("null parameters");
+
+        assertThrows(AssertionError.class, () -> coursesLogic.startCourseDeletion(null, () -> { }));
+        assertThrows(AssertionError.class, () -> coursesLogic.startCourseDeletion(courseId, null));
+        assertThrows(AssertionError.class, () -> coursesLogic.continueCourseDeletion(courseId, null));
+        assertThrows(AssertionError.class, () -> coursesLogic.getCourseDeletionStatuses(null));
+    }
+
     private void testUpdateCourse() throws Exception {
         CourseAttributes c = CourseAttributes
                 .builder("Computing101-getthis", "Basic Computing Getting", ZoneId.of("UTC"))
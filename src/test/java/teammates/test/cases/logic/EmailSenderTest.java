@@ -1,5 +1,9 @@
 package teammates.test.cases.logic;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -11,17 +15,21 @@ import org.testng.annotations.Test;
 
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
+import com.google.gson.reflect.TypeToken;
 import com.sendgrid.Mail;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
 import teammates.logic.core.SendgridService;
 
 /**
- * SUT: {@link JavamailService},
+ * SUT: {@link EmailSenderService},
+ *      {@link JavamailService},
  *      {@link SendgridService},
  *      {@link MailgunService},
  *      {@link MailjetService}.
@@ -53,6 +61,58 @@ public class EmailSenderTest extends BaseLogicTest {
         return wrapper;
     }
 
+    private EmailWrapper getPersonalizedEmailWrapper(String recipient, String userName) {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        wrapper.setRecipient(recipient);
+        wrapper.setBcc(null);
+        wrapper.setContent("<p>Dear " + EmailWrapper.getSubstitutionPlaceholder("userName") + "</p>");
+        wrapper.addSubstitution("userName", userName);
+        return wrapper;
+    }
+
+    @Test
+    public void testGetContent_withSubstitutions_substitutedForRecipient() {
+        EmailWrapper wrapper = getPersonalizedEmailWrapper("alice@email.com", "Alice");
+
+        assertEquals("<p>Dear %recipient.userName%</p>", wrapper.getSharedContent());
+        assertEquals("<p>Dear Alice</p>", wrapper.getContent());
+    }
+
+    @Test
+    public void testGroupForBatchSending() {
+        EmailWrapper alice = getPersonalizedEmailWrapper("alice@email.com", "Alice");
+        EmailWrapper bob = getPersonalizedEmailWrapper("bob@email.com", "Bob");
+        EmailWrapper carol = getPersonalizedEmailWrapper("carol@email.com", "Carol");
+        EmailWrapper aliceAgain = getPersonalizedEmailWrapper("alice@email.com", "Alice");
+        EmailWrapper otherSubject = getPersonalizedEmailWrapper("dave@email.com", "Dave");
+        otherSubject.setSubject("Other subject");
+        EmailWrapper withBcc = getTypicalEmailWrapper();
+        List<EmailWrapper> wrappers = Arrays.asList(alice, bob, otherSubject, withBcc, carol, aliceAgain);
+
+        ______TS("services without batch sending: one email per request");
+
+        List<List<EmailWrapper>> groups = EmailSenderService.groupForBatchSending(wrappers, 1);
+        assertEquals(wrappers.size(), groups.size());
+
+        ______TS("emails differing only in recipients and substitutions are grouped, up to the maximum");
+
+        groups = EmailSenderService.groupForBatchSending(wrappers, 2);
+        assertEquals(Arrays.asList(alice, bob), groups.get(0));
+        assertEquals(Arrays.asList(otherSubject), groups.get(1));
+        assertEquals(Arrays.asList(withBcc), groups.get(2));
+        assertEquals(Arrays.asList(carol, aliceAgain), groups.get(3));
+        assertEquals(4, groups.size());
+
+        ______TS("a recipient appears at most once in a group");
+
+        groups = EmailSenderService.groupForBatchSending(wrappers, 1000);
+        assertEquals(Arrays.asList(alice, bob, carol), groups.get(0));
+        assertEquals(Arrays.asList(otherSubject), groups.get(1));
+        assertEquals(Arrays.asList(withBcc), groups.get(2));
+        assertEquals(Arrays.asList(aliceAgain), groups.get(3));
+        assertEquals(4, groups.size());
+    }
+
     @Test
     public void testConvertToMimeMessage() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -83,6 +143,44 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.getContent().get(1).getValue());
     }
 
+    @Test
+    public void testConvertToSendgridBatch() {
+        EmailWrapper alice = getPersonalizedEmailWrapper("alice@email.com", "Alice");
+        EmailWrapper bob = getPersonalizedEmailWrapper("bob@email.com", "Bob");
+        Mail email = new SendgridService().parseToBatchEmail(Arrays.asList(alice, bob));
+
+        assertEquals(alice.getSenderEmail(), email.getFrom().getEmail());
+        assertEquals(alice.getReplyTo(), email.getReplyto().getEmail());
+        assertEquals(alice.getSubject(), email.getSubject());
+        assertEquals(2, email.personalization.size());
+        assertEquals(alice.getRecipient(), email.personalization.get(0).getTos().get(0).getEmail());
+        assertEquals("Alice", email.personalization.get(0).getSubstitutions().get("%recipient.userName%"));
+        assertEquals(bob.getRecipient(), email.personalization.get(1).getTos().get(0).getEmail());
+        assertEquals("Bob", email.personalization.get(1).getSubstitutions().get("%recipient.userName%"));
+        assertEquals(alice.getSharedContent(), email.getContent().get(1).getValue());
+    }
+
+    @Test
+    public void testConvertToMailgunBatch() throws Exception {
+        EmailWrapper alice = getPersonalizedEmailWrapper("alice@email.com", "Alice");
+        EmailWrapper bob = getPersonalizedEmailWrapper("bob@email.com", "Bob");
+        try (FormDataMultiPart formData = new MailgunService().parseToBatchEmail(Arrays.asList(alice, bob))) {
+
+            assertEquals(alice.getSenderName() + " <" + alice.getSenderEmail() + ">",
+                    formData.getField("from").getValue());
+            assertEquals(2, formData.getFields("to").size());
+            assertEquals(alice.getRecipient(), formData.getFields("to").get(0).getValue());
+            assertEquals(bob.getRecipient(), formData.getFields("to").get(1).getValue());
+            Map<String, Map<String, String>> recipientVariables =
+                    JsonUtils.fromJson(formData.getField("recipient-variables").getValue(),
+                            new TypeToken<Map<String, Map<String, String>>>(){}.getType());
+            assertEquals("Alice", recipientVariables.get(alice.getRecipient()).get("userName"));
+            assertEquals("Bob", recipientVariables.get(bob.getRecipient()).get("userName"));
+            assertEquals(alice.getSubject(), formData.getField("subject").getValue());
+            assertEquals(alice.getSharedContent(), formData.getField("html").getValue());
+        }
+    }
+
     @Test
     public void testConvertToMailgun() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -8,6 +8,7 @@ import java.util.Map;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -22,6 +23,8 @@ import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 
 /**
  * SUT: {@link FeedbackQuestionsLogic}.
@@ -93,6 +96,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
     @Test
     public void allTests() throws Exception {
         testGetRecipientsForQuestion();
+        testGetRecipientsForQuestions();
         testGetFeedbackQuestionsForInstructor();
         testGetFeedbackQuestionsForStudents();
         testIsQuestionHasResponses();
@@ -134,25 +138,25 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
 
         question = getQuestionFromDatastore("qn2InSession1InCourse1");
         email = dataBundle.students.get("student1InCourse1").email;
-        recipients = fqLogic.getRecipientsForQuestion(question, email);
+        recipients = getRecipientsForQuestion(question, email);
         assertEquals(recipients.size(), 4); // 5 students minus giver himself
 
         email = dataBundle.instructors.get("instructor1OfCourse1").email;
-        recipients = fqLogic.getRecipientsForQuestion(question, email);
+        recipients = getRecipientsForQuestion(question, email);
         assertEquals(recipients.size(), 5); // instructor is not student so he can respond to all 5.
 
         ______TS("response to instructors, total 3");
 
         question = getQuestionFromDatastore("qn2InSession1InCourse2");
         email = dataBundle.instructors.get("instructor1OfCourse2").email;
-        recipients = fqLogic.getRecipientsForQuestion(question, email);
+        recipients = getRecipientsForQuestion(question, email);
         assertEquals(recipients.size(), 2); // 3 - giver = 2
 
         ______TS("empty case: response to team members, but alone");
 
         question = getQuestionFromDatastore("team.members.feedback");
         email = dataBundle.students.get("student5InCourse1").email;
-        recipients = fqLogic.getRecipientsForQuestion(question, email);
+        recipients = getRecipientsForQuestion(question, email);
         assertEquals(recipients.size(), 0);
 
         ______TS("response from team to itself");
@@ -160,7 +164,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         question = getQuestionFromDatastore("graceperiod.session.feedbackFromTeamToSelf");
         email = dataBundle.students.get("student1InCourse1").email;
         String teamName = dataBundle.students.get("student1InCourse1").team;
-        recipients = fqLogic.getRecipientsForQuestion(question, email);
+        recipients = getRecipientsForQuestion(question, email);
         assertEquals(recipients.size(), 1);
         assertTrue(recipients.containsKey(teamName));
         assertEquals(recipients.get(teamName), teamName);
@@ -170,7 +174,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         email = dataBundle.students.get("student1InCourse1").email;
         AccountsLogic.inst().makeAccountInstructor(dataBundle.students.get("student1InCourse1").googleId);
 
-        recipients = fqLogic.getRecipientsForQuestion(question, email);
+        recipients = getRecipientsForQuestion(question, email);
 
         assertEquals(recipients.size(), 1);
 
@@ -179,7 +183,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         email = dataBundle.students.get("student1InCourse1").email;
         AccountsLogic.inst().makeAccountInstructor(dataBundle.students.get("student1InCourse1").googleId);
 
-        recipients = fqLogic.getRecipientsForQuestion(question, email);
+        recipients = getRecipientsForQuestion(question, email);
         assertEquals(recipients.get(Const.GENERAL_QUESTION), Const.GENERAL_QUESTION);
         assertEquals(recipients.size(), 1);
 
@@ -188,12 +192,48 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         email = dataBundle.students.get("student1InCourse1").email;
         AccountsLogic.inst().makeAccountInstructor(dataBundle.students.get("student1InCourse1").googleId);
 
-        recipients = fqLogic.getRecipientsForQuestion(question, email);
+        recipients = getRecipientsForQuestion(question, email);
         assertEquals(recipients.get(email), Const.USER_NAME_FOR_SELF);
         assertEquals(recipients.size(), 1);
 
     }
 
+    private void testGetRecipientsForQuestions() throws Exception {
+        String courseId = "idOfTypicalCourse1";
+        CourseRoster roster = getCourseRoster(courseId);
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        questions.addAll(fqLogic.getFeedbackQuestionsForSession("First feedback session", courseId));
+        questions.addAll(fqLogic.getFeedbackQuestionsForSession("Second feedback session", courseId));
+
+        ______TS("same recipients as getting the recipients of each question");
+
+        String email = dataBundle.students.get("student1InCourse1").email;
+        Map<String, Map<String, String>> recipientsForQuestions =
+                fqLogic.getRecipientsForQuestions(questions, email, roster);
+        assertEquals(questions.size(), recipientsForQuestions.size());
+        for (FeedbackQuestionAttributes question : questions) {
+            assertEquals(getRecipientsForQuestion(question, email),
+                    recipientsForQuestions.get(question.getId()));
+        }
+
+        ______TS("questions with the same recipient type share unmodifiable recipients");
+
+        for (FeedbackQuestionAttributes question : questions) {
+            Map<String, String> recipients = recipientsForQuestions.get(question.getId());
+            assertThrows(UnsupportedOperationException.class, () -> recipients.put("new@email.tmt", "New"));
+            for (FeedbackQuestionAttributes otherQuestion : questions) {
+                if (question.recipientType == otherQuestion.recipientType
+                        && question.recipientType != FeedbackParticipantType.SELF) {
+                    assertSame(recipients, recipientsForQuestions.get(otherQuestion.getId()));
+                }
+            }
+        }
+
+        ______TS("no questions");
+
+        assertTrue(fqLogic.getRecipientsForQuestions(new ArrayList<>(), email, roster).isEmpty());
+    }
+
     private void testUpdateQuestionNumber() throws Exception {
         ______TS("shift question up");
         List<FeedbackQuestionAttributes> expectedList = new ArrayList<>();
@@ -657,9 +697,20 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         ______TS("test question is fully answered by user");
 
         question = getQuestionFromDatastore("qn1InSession1InCourse1");
-        assertTrue(fqLogic.isQuestionFullyAnsweredByUser(question, "student1InCourse1@gmail.tmt"));
+        String email = "student1InCourse1@gmail.tmt";
+        assertTrue(fqLogic.isQuestionFullyAnsweredByUser(question, email, getRecipientsForQuestion(question, email)));
+
+        email = "studentWithNoResponses@gmail.tmt";
+        assertFalse(fqLogic.isQuestionFullyAnsweredByUser(question, email, getRecipientsForQuestion(question, email)));
+    }
+
+    private Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String email) {
+        return fqLogic.getRecipientsForQuestion(question, email, getCourseRoster(question.courseId));
+    }
 
-        assertFalse(fqLogic.isQuestionFullyAnsweredByUser(question, "studentWithNoResponses@gmail.tmt"));
+    private CourseRoster getCourseRoster(String courseId) {
+        return new CourseRoster(StudentsLogic.inst().getStudentsForCourse(courseId),
+                InstructorsLogic.inst().getInstructorsForCourse(courseId));
     }
 
     private void testAddQuestionNoIntegrityCheck() throws InvalidParametersException, EntityDoesNotExistException {
@@ -63,6 +63,10 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         testDeleteFeedbackResponsesForStudent();
         testSpecialCharactersInTeamName();
         testDeleteFeedbackResponsesForCourse();
+
+        removeAndRestoreTypicalDataBundle();
+        testUpdateFeedbackResponses();
+        testDeleteFeedbackResponsesAndCascade();
     }
 
     private void testSpecialCharactersInTeamName() {
@@ -203,6 +207,51 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 ednee.getMessage());
     }
 
+    private void testUpdateFeedbackResponses() throws Exception {
+
+        ______TS("success: responses are updated, or recreated when the recipient changes");
+
+        FeedbackResponseAttributes responseToEdit = getResponseFromDatastore("response1ForQ2S1C1");
+        FeedbackResponseAttributes responseToRedirect = getResponseFromDatastore("response3ForQ2S1C1");
+        responseToEdit.responseMetaData = "Updated in batch";
+        responseToRedirect.recipient = "student5InCourse1@gmail.tmt";
+
+        frLogic.updateFeedbackResponses(Arrays.asList(responseToEdit, responseToRedirect));
+
+        assertEquals("Updated in batch", frLogic.getFeedbackResponse(responseToEdit.getId()).responseMetaData);
+        assertNull(frLogic.getFeedbackResponse(responseToRedirect.getId()));
+        assertNotNull(frLogic.getFeedbackResponse(responseToRedirect.feedbackQuestionId,
+                responseToRedirect.giver, "student5InCourse1@gmail.tmt"));
+
+        ______TS("failure: no such response, nothing is updated");
+
+        responseToEdit.responseMetaData = "Not saved";
+        FeedbackResponseAttributes nonExistentResponse = new FeedbackResponseAttributes(responseToEdit);
+        nonExistentResponse.setId("invalidId");
+
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> frLogic.updateFeedbackResponses(Arrays.asList(responseToEdit, nonExistentResponse)));
+        AssertHelper.assertContains("Trying to update a feedback response that does not exist.", ednee.getMessage());
+        assertEquals("Updated in batch", frLogic.getFeedbackResponse(responseToEdit.getId()).responseMetaData);
+    }
+
+    private void testDeleteFeedbackResponsesAndCascade() {
+
+        ______TS("success: responses and their comments are deleted");
+
+        List<FeedbackResponseAttributes> responsesToDelete = Arrays.asList(
+                getResponseFromDatastore("response1ForQ1S1C1"), getResponseFromDatastore("response2ForQ1S1C1"));
+        assertFalse(getFeedbackResponseCommentsForResponsesFromDatastore(responsesToDelete).isEmpty());
+
+        frLogic.deleteFeedbackResponsesAndCascade(responsesToDelete);
+
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            assertNull(frLogic.getFeedbackResponse(response.getId()));
+        }
+        assertTrue(getFeedbackResponseCommentsForResponsesFromDatastore(responsesToDelete).isEmpty());
+        assertNotNull(getResponseFromDatastore("response2ForQ2S1C1"));
+    }
+
     private void testUpdateFeedbackResponsesForChangingTeam() throws Exception {
 
         ______TS("standard update team case");
@@ -1,13 +1,17 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -16,6 +20,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionCopyResult;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -41,6 +46,8 @@ import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
 
@@ -53,6 +60,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -118,6 +127,41 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                 frcLogic.getFeedbackResponseCommentForSession(fsa.getCourseId(), fsa.getFeedbackSessionName()).isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackSessionDetailsForInstructor_sessionsOfDifferentGiverTypes_shouldCountExpectedPerSession()
+            throws Exception {
+        // leave only the creator with questions to answer in the closed session
+        dataBundle.feedbackQuestions.get("closed.session.feedback").giverType = FeedbackParticipantType.SELF;
+        removeAndRestoreDataBundle(dataBundle);
+
+        String instrGoogleId = dataBundle.instructors.get("instructor1OfCourse1").googleId;
+        Map<String, FeedbackSessionStats> statsMap = new HashMap<>();
+        for (FeedbackSessionDetailsBundle details : fsLogic.getFeedbackSessionDetailsForInstructor(instrGoogleId)) {
+            assertEquals("idOfTypicalCourse1", details.feedbackSession.getCourseId());
+            statsMap.put(details.feedbackSession.getFeedbackSessionName(), details.stats);
+        }
+
+        assertEquals(6, statsMap.size());
+
+        ______TS("questions for students and instructors: 5 students + 5 instructors");
+
+        assertEquals(10, statsMap.get("First feedback session").expectedTotal);
+        assertEquals(10, statsMap.get("Grace Period Session").expectedTotal);
+
+        ______TS("questions for students or teams only: 5 students");
+
+        assertEquals(5, statsMap.get("Second feedback session").expectedTotal);
+        assertEquals(5, statsMap.get("non visible session").expectedTotal);
+
+        ______TS("questions for the creator only");
+
+        assertEquals(1, statsMap.get("Closed Session").expectedTotal);
+
+        ______TS("no questions");
+
+        assertEquals(0, statsMap.get("Empty session").expectedTotal);
+    }
+
     @Test
     public void testAll() throws Exception {
 
@@ -134,10 +178,12 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionQuestionsForInstructor();
         testGetFeedbackSessionResultsForUser();
         testGetFeedbackSessionResultsSummaryAsCsv();
+        testWriteFeedbackSessionResultsSummaryInSectionAsCsv();
         testIsFeedbackSessionViewableToStudents();
 
         testCreateAndDeleteFeedbackSession();
         testCopyFeedbackSession();
+        testCopyFeedbackSessionToCourses();
 
         testUpdateFeedbackSession();
         testPublishUnpublishFeedbackSession();
@@ -146,6 +192,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetStudentsWhoHaveNotFullyCompletedSession();
 
         testMoveFeedbackSessionToRecycleBin();
         testRestoreFeedbackSessionFromRecycleBin();
@@ -516,6 +563,77 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         fsLogic.deleteFeedbackSessionCascade(copiedSession.getFeedbackSessionName(), copiedSession.getCourseId());
     }
 
+    private void testCopyFeedbackSessionToCourses() throws Exception {
+        FeedbackSessionAttributes session1InCourse1 = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor2OfCourse1 = dataBundle.instructors.get("instructor2OfCourse1");
+        CourseAttributes typicalCourse2 = dataBundle.courses.get("typicalCourse2");
+        CourseAttributes typicalCourse3 = dataBundle.courses.get("typicalCourse3");
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session1InCourse1.getFeedbackSessionName(),
+                                                       session1InCourse1.getCourseId());
+
+        ______TS("typical case: copied to several courses, with the question numbers kept");
+
+        FeedbackSessionCopyResult result = fsLogic.copyFeedbackSessionToCourses(
+                "Copied Session", Arrays.asList(typicalCourse2.getId(), typicalCourse3.getId()),
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId(),
+                instructor2OfCourse1.email);
+
+        assertTrue(result.isComplete());
+        assertTrue(result.getFailedCourses().isEmpty());
+        assertEquals(2, result.getCopiedSessions().size());
+        for (CourseAttributes course : Arrays.asList(typicalCourse2, typicalCourse3)) {
+            FeedbackSessionAttributes copiedSession = result.getCopiedSessions().get(course.getId());
+            verifyPresentInDatastore(copiedSession);
+            assertEquals(course.getTimeZone(), copiedSession.getTimeZone());
+            assertEquals(instructor2OfCourse1.email, copiedSession.getCreatorEmail());
+
+            List<FeedbackQuestionAttributes> copiedQuestions =
+                    fqLogic.getFeedbackQuestionsForSession("Copied Session", course.getId());
+            assertEquals(questions.size(), copiedQuestions.size());
+            for (int i = 0; i < questions.size(); i++) {
+                assertEquals(questions.get(i).questionNumber, copiedQuestions.get(i).questionNumber);
+                assertEquals(questions.get(i).getQuestionDetails().getQuestionText(),
+                             copiedQuestions.get(i).getQuestionDetails().getQuestionText());
+            }
+        }
+
+        ______TS("failure case: courses which cannot take the copy do not affect the other courses");
+
+        result = fsLogic.copyFeedbackSessionToCourses(
+                "Copied Session", Arrays.asList(typicalCourse2.getId(), "non-existent-course", "idOfCourseNoEvals"),
+                session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId(),
+                instructor2OfCourse1.email);
+
+        assertEquals(Arrays.asList("idOfCourseNoEvals"), new ArrayList<>(result.getCopiedSessions().keySet()));
+        assertEquals(Arrays.asList(typicalCourse2.getId(), "non-existent-course"),
+                     new ArrayList<>(result.getFailedCourses().keySet()));
+        assertEquals("The course does not exist.", result.getFailedCourses().get("non-existent-course"));
+
+        ______TS("failure case: invalid copies are not written to any course");
+
+        assertThrows(InvalidParametersException.class,
+                () -> fsLogic.copyFeedbackSessionToCourses(
+                        "Invalid Copied Session", Arrays.asList(typicalCourse2.getId(), typicalCourse3.getId()),
+                        session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId(),
+                        "invalid email"));
+        for (CourseAttributes course : Arrays.asList(typicalCourse2, typicalCourse3)) {
+            assertNull(fsLogic.getFeedbackSession("Invalid Copied Session", course.getId()));
+            assertTrue(fqLogic.getFeedbackQuestionsForSession("Invalid Copied Session", course.getId()).isEmpty());
+        }
+
+        ______TS("failure case: the session to copy does not exist");
+
+        assertThrows(EntityDoesNotExistException.class,
+                () -> fsLogic.copyFeedbackSessionToCourses(
+                        "Copied Session", Arrays.asList(typicalCourse2.getId()),
+                        "non-existent session", session1InCourse1.getCourseId(), instructor2OfCourse1.email));
+
+        for (String courseId : Arrays.asList(typicalCourse2.getId(), typicalCourse3.getId(), "idOfCourseNoEvals")) {
+            fsLogic.deleteFeedbackSessionCascade("Copied Session", courseId);
+        }
+    }
+
     private void testGetFeedbackSessionDetailsForInstructor() throws Exception {
 
         // This file contains a session with a standard
@@ -794,6 +912,40 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertTrue(actual.questionResponseBundle.containsKey(expectedQuestion));
         assertTrue(actual.questionResponseBundle.get(expectedQuestion).isEmpty());
 
+        ______TS("instructor who is also a student: gives feedback as a member of the instructors' team");
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        InstructorAttributes instructorAlsoStudent =
+                InstructorAttributes.builder(null, student.course, student.name, student.email).build();
+        instructorsLogic.createInstructor(instructorAlsoStudent);
+        FeedbackQuestionAttributes teamsQuestion = FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName("Second feedback session")
+                .withCourseId(student.course)
+                .withQuestionNumber(3)
+                .withCreatorEmail(student.email)
+                .withNumOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                .withGiverType(FeedbackParticipantType.INSTRUCTORS)
+                .withRecipientType(FeedbackParticipantType.TEAMS)
+                .withQuestionMetaData("question to the teams from instructors")
+                .withQuestionType(FeedbackQuestionType.TEXT)
+                .withShowResponseTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .build();
+        fqLogic.createFeedbackQuestion(teamsQuestion);
+        teamsQuestion = fqLogic.getFeedbackQuestion("Second feedback session", student.course, 3);
+
+        actual = fsLogic.getFeedbackSessionQuestionsForInstructor(
+                "Second feedback session", student.course, student.email);
+
+        // the team of the student is not excluded, as for any other instructor
+        Map<String, String> recipients = actual.recipientList.get(teamsQuestion.getId());
+        assertTrue(recipients.containsKey(student.team));
+        assertEquals(coursesLogic.getTeamsForCourse(student.course).size(), recipients.size());
+
+        fqLogic.deleteFeedbackQuestionCascade(teamsQuestion.getId());
+        instructorsLogic.deleteInstructorCascade(student.course, student.email);
+
         ______TS("failure: invalid session");
 
         EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
@@ -1912,6 +2064,56 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                 ednee.getMessage());
     }
 
+    private void testWriteFeedbackSessionResultsSummaryInSectionAsCsv() throws Exception {
+
+        ______TS("streamed export is identical to the in-memory export");
+
+        DataBundle newDataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        List<FeedbackSessionAttributes> sessions = new ArrayList<>(newDataBundle.feedbackSessions.values());
+        sessions.add(dataBundle.feedbackSessions.get("session1InCourse1"));
+        List<InstructorAttributes> instructors = new ArrayList<>(newDataBundle.instructors.values());
+        instructors.add(dataBundle.instructors.get("instructor1OfCourse1"));
+
+        for (FeedbackSessionAttributes session : sessions) {
+            InstructorAttributes instructor = instructors.stream()
+                    .filter(i -> i.courseId.equals(session.getCourseId()))
+                    .findFirst().get();
+            Set<String> sections = new HashSet<>();
+            sections.add(null);
+            for (StudentAttributes student : studentsLogic.getStudentsForCourse(session.getCourseId())) {
+                sections.add(student.section);
+            }
+            List<String> questionIds = new ArrayList<>();
+            questionIds.add(null);
+            for (FeedbackQuestionAttributes question
+                    : fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId())) {
+                questionIds.add(question.getId());
+            }
+
+            for (String section : sections) {
+                for (String questionId : questionIds) {
+                    String expected = fsLogic.getFeedbackSessionResultsSummaryInSectionAsCsv(
+                            session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                            section, questionId, true, true);
+                    StringWriter writer = new StringWriter();
+                    fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                            session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                            section, questionId, true, true, writer);
+                    assertEquals(expected, writer.toString());
+                }
+            }
+        }
+
+        ______TS("Non-existent Course/Session");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                        "non.existent", "no course", instructor.email, null, null, true, true, new StringWriter()));
+        assertEquals("Trying to view a non-existent feedback session: no course/non.existent",
+                ednee.getMessage());
+    }
+
     private String getStudentAnonEmail(DataBundle dataBundle, String studentKey) {
         return FeedbackSessionResultsBundle.getAnonEmail(FeedbackParticipantType.STUDENTS,
                                                          dataBundle.students.get(studentKey).name);
@@ -2057,6 +2259,30 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetStudentsWhoHaveNotFullyCompletedSession() throws Exception {
+
+        ______TS("same students as checking each student individually");
+
+        for (String sessionKey : new String[] { "session1InCourse1", "session2InCourse1", "session1InCourse2" }) {
+            FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get(sessionKey);
+            Set<String> expected = new HashSet<>();
+            for (StudentAttributes student : studentsLogic.getStudentsForCourse(fs.getCourseId())) {
+                if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(
+                        fs.getFeedbackSessionName(), fs.getCourseId(), student.email)) {
+                    expected.add(student.email);
+                }
+            }
+            assertEquals(expected, fsLogic.getStudentsWhoHaveNotFullyCompletedSession(fs));
+        }
+
+        ______TS("partially done student is included, fully done student is not");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        Set<String> studentEmails = fsLogic.getStudentsWhoHaveNotFullyCompletedSession(fs);
+        assertTrue(studentEmails.contains(dataBundle.students.get("student3InCourse1").email));
+        assertFalse(studentEmails.contains(dataBundle.students.get("student1InCourse1").email));
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.tmt")
                 .withCreatedTime(Instant.now())
@@ -2180,6 +2406,29 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertTrue(fsLogic.getFeedbackSessionsForCourse("idOfTypicalCourse1").isEmpty());
     }
 
+    @Test
+    public void testUpdateRespondentsForSession() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("non-existent session");
+        assertThrows(EntityDoesNotExistException.class,
+                () -> fsLogic.updateRespondentsForSession("non-existent session", session.getCourseId()));
+
+        ______TS("stale respondents are replaced by the actual givers");
+        fsLogic.addStudentRespondent("stale@email.tmt", session.getFeedbackSessionName(), session.getCourseId());
+        fsLogic.deleteStudentFromRespondentList(student.email, session.getFeedbackSessionName(), session.getCourseId());
+
+        fsLogic.updateRespondentsForSession(session.getFeedbackSessionName(), session.getCourseId());
+
+        FeedbackSessionAttributes actualSession =
+                fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
+        assertTrue(actualSession.getRespondingStudentList().contains(student.email));
+        assertFalse(actualSession.getRespondingStudentList().contains("stale@email.tmt"));
+        assertTrue(actualSession.getRespondingInstructorList().contains(instructor.email));
+    }
+
     @Test
     public void testDeleteAllFeedbackSessionsCascade_shouldDoCascadeDeletionCorrectly()
             throws InvalidParametersException, EntityDoesNotExistException {
@@ -3,6 +3,7 @@ package teammates.test.cases.logic;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -1065,10 +1066,13 @@ public class StudentsLogicTest extends BaseLogicTest {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    @SuppressWarnings("unchecked")
     private static StudentEnrollDetails enrollStudent(StudentAttributes student) throws Exception {
-        return (StudentEnrollDetails) invokeMethod(StudentsLogic.class, "enrollStudent",
-                                                   new Class<?>[] { StudentAttributes.class, Boolean.class },
-                                                   StudentsLogic.inst(), new Object[] { student, false });
+        List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(student.course);
+        List<StudentEnrollDetails> enrollmentList = (List<StudentEnrollDetails>) invokeMethod(
+                StudentsLogic.class, "enrollStudents", new Class<?>[] { List.class, List.class, Boolean.class },
+                StudentsLogic.inst(), new Object[] { Collections.singletonList(student), studentsInCourse, false });
+        return enrollmentList.get(0);
     }
 
     @AfterClass
@@ -1,10 +1,13 @@
 package teammates.test.cases.search;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.search.Document;
+
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -13,6 +16,8 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.retry.RetryableTask;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.search.FeedbackResponseCommentSearchDocument;
+import teammates.storage.search.SearchDocument;
 
 /**
  * SUT: {@link FeedbackResponseCommentsDb},
@@ -30,6 +35,38 @@ public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
         commentsDb = new FeedbackResponseCommentsDb();
     }
 
+    @Test
+    public void testMakeDocuments_preloadedData_shouldBuildSameDocumentsAsIndividualReads() {
+        // the comments of the first course are repeated so that its related data is read in bulk,
+        // while that of the second course, with a single comment, is read one comment at a time
+        List<FeedbackResponseCommentAttributes> comments = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            for (FeedbackResponseCommentAttributes comment : dataBundle.feedbackResponseComments.values()) {
+                if ("idOfTypicalCourse1".equals(comment.courseId)) {
+                    comments.add(commentsDb.getFeedbackResponseComment(
+                            comment.courseId, comment.createdAt, comment.commentGiver));
+                }
+            }
+        }
+        FeedbackResponseCommentAttributes commentInCourse2 =
+                dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q1S2C2");
+        comments.add(commentsDb.getFeedbackResponseComment(
+                commentInCourse2.courseId, commentInCourse2.createdAt, commentInCourse2.commentGiver));
+
+        List<SearchDocument> documents = FeedbackResponseCommentSearchDocument.makeDocuments(comments);
+
+        assertEquals(comments.size(), documents.size());
+        for (int i = 0; i < comments.size(); i++) {
+            Document expected = new FeedbackResponseCommentSearchDocument(comments.get(i)).build();
+            Document actual = documents.get(i).build();
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getFieldNames(), actual.getFieldNames());
+            for (String fieldName : expected.getFieldNames()) {
+                assertEquals(expected.getOnlyField(fieldName).getText(), actual.getOnlyField(fieldName).getText());
+            }
+        }
+    }
+
     @Test
     public void allTests() throws Exception {
         FeedbackResponseCommentAttributes frc1I1Q1S1C1 = dataBundle.feedbackResponseComments
@@ -1,7 +1,9 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -39,6 +41,12 @@ public class AccountsDbTest extends BaseComponentTestCase {
         retrieved = accountsDb.getAccount("non.existent");
         assertNull(retrieved);
 
+        ______TS("batched lookup skips non-existent accounts");
+        Map<String, AccountAttributes> accounts = accountsDb.getAccounts(Arrays.asList(a.googleId, "non.existent"));
+        assertEquals(1, accounts.size());
+        assertEquals(a.googleId, accounts.get(a.googleId).googleId);
+        assertTrue(accountsDb.getAccounts(new ArrayList<>()).isEmpty());
+
         ______TS("failure: null parameter");
         AssertionError ae = assertThrows(AssertionError.class, () -> accountsDb.getAccount(null));
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
@@ -0,0 +1,229 @@
+package teammates.test.cases.storage;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.ActivityLogsPage;
+import teammates.common.datatransfer.DeletionPage;
+import teammates.common.util.ActivityLogEntry;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.storage.entity.ActivityLog;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link ActivityLogsDb}.
+ */
+public class ActivityLogsDbTest extends BaseComponentTestCase {
+
+    private static final long HOUR_IN_MILLIS = ActivityLog.TIME_BUCKET_LENGTH_IN_MILLIS;
+    private static final List<String> VERSIONS = Arrays.asList("6-0-0");
+    private static final int LIMIT = 50;
+
+    private ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    @AfterMethod
+    public void deleteActivityLogs() {
+        activityLogsDb.deleteActivityLogsBefore(Instant.now().plusMillis(2 * HOUR_IN_MILLIS));
+    }
+
+    @Test
+    public void testGetActivityLogs() {
+        long now = System.currentTimeMillis();
+        createActivityLog("instructorHomePage", "Instructor", "instr@gmail.com", null,
+                now - 3 * HOUR_IN_MILLIS, "6-0-0");
+        createActivityLog("studentHomePage", "Student", "student@gmail.com", "CS101",
+                now - 2 * HOUR_IN_MILLIS, "6-0-0");
+        createActivityLog("studentHomePage", "Student", "student@gmail.com", "CS101",
+                now - HOUR_IN_MILLIS, "5-0-0");
+        createActivityLog("instructorHomePage", "Instructor", "instr.tmms@gmail.tmt", null, now - 1000, "6-0-0");
+        createActivityLog("adminHomePage", "Admin", "admin@gmail.com", null, now, "6-0-0");
+
+        ______TS("entries across several hours are returned latest first");
+
+        List<ActivityLogEntry> entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, null, null, true, LIMIT).getEntries();
+        assertEquals(4, entries.size());
+        assertEquals("adminHomePage", entries.get(0).getActionName());
+        assertEquals("instr.tmms@gmail.tmt", entries.get(1).getUserEmail());
+        assertEquals("studentHomePage", entries.get(2).getActionName());
+        assertEquals(now - 3 * HOUR_IN_MILLIS, entries.get(3).getLogTime());
+
+        ______TS("entries outside the time period are not returned");
+
+        entries = activityLogsDb.getActivityLogs(now - 2 * HOUR_IN_MILLIS, now - 1000, null, VERSIONS,
+                null, null, null, null, true, LIMIT).getEntries();
+        assertEquals(2, entries.size());
+        assertEquals(now - 1000, entries.get(0).getLogTime());
+        assertEquals(now - 2 * HOUR_IN_MILLIS, entries.get(1).getLogTime());
+
+        ______TS("entries of testing data are not returned unless included");
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, null, null, false, LIMIT).getEntries();
+        assertEquals(3, entries.size());
+        for (ActivityLogEntry entry : entries) {
+            assertFalse(entry.isTestingData());
+        }
+
+        ______TS("entries are filtered by version, action and role");
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, Arrays.asList("5-0-0", "6-0-0"),
+                Arrays.asList("studenthomepage"), null, null, null, true, LIMIT).getEntries();
+        assertEquals(2, entries.size());
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                Arrays.asList("studenthomepage", "instructorhomepage"), Arrays.asList("instructor"),
+                null, null, true, LIMIT).getEntries();
+        assertEquals(2, entries.size());
+        assertEquals("Instructor", entries.get(0).getUserRole());
+        assertEquals("Instructor", entries.get(1).getUserRole());
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, Arrays.asList("unregistered"), null, null, true, LIMIT).getEntries();
+        assertTrue(entries.isEmpty());
+
+        ______TS("entries are filtered by user, ignoring case, and by course");
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, "Instr@gmail.com", null, true, LIMIT).getEntries();
+        assertEquals(1, entries.size());
+        assertEquals("instr@gmail.com", entries.get(0).getUserEmail());
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, "instr", null, true, LIMIT).getEntries();
+        assertTrue(entries.isEmpty());
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, null, "CS101", true, LIMIT).getEntries();
+        assertEquals(1, entries.size());
+        assertEquals(now - 2 * HOUR_IN_MILLIS, entries.get(0).getLogTime());
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, Arrays.asList("5-0-0", "6-0-0"),
+                null, null, "student@gmail.com", "CS101", true, LIMIT).getEntries();
+        assertEquals(2, entries.size());
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, "instr@gmail.com", "CS101", true, LIMIT).getEntries();
+        assertTrue(entries.isEmpty());
+
+        ______TS("at most the given number of the latest entries are returned");
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, null, null, true, 2).getEntries();
+        assertEquals(2, entries.size());
+        assertEquals(now, entries.get(0).getLogTime());
+        assertEquals(now - 1000, entries.get(1).getLogTime());
+
+        ______TS("no versions");
+
+        entries = activityLogsDb.getActivityLogs(now - 4 * HOUR_IN_MILLIS, now, null, Arrays.asList(),
+                null, null, null, null, true, LIMIT).getEntries();
+        assertTrue(entries.isEmpty());
+
+        ______TS("null parameters");
+
+        assertThrows(AssertionError.class, () -> activityLogsDb.getActivityLogs(now - HOUR_IN_MILLIS, now, null, null,
+                null, null, null, null, true, LIMIT).getEntries());
+    }
+
+    @Test
+    public void testGetActivityLogsInPages() {
+        long now = System.currentTimeMillis();
+        createActivityLog("adminHomePage", "Admin", "admin@gmail.com", null, now, "6-0-0");
+        for (int i = 0; i < 4; i++) {
+            createActivityLog("studentHomePage", "Student", "student" + i + "@gmail.com", null, now - 1000, "6-0-0");
+        }
+        createActivityLog("instructorHomePage", "Instructor", "instr@gmail.com", null, now - 2000, "6-0-0");
+
+        ______TS("pages continue after the entries logged at the same time as the end of the previous page");
+
+        Set<String> userEmails = new HashSet<>();
+        ActivityLogsPage page = activityLogsDb.getActivityLogs(now - HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, null, null, true, 2);
+        int numberOfPages = 1;
+        page.getEntries().forEach(entry -> userEmails.add(entry.getUserEmail()));
+        while (!page.isLastPage()) {
+            assertEquals(2, page.getEntries().size());
+            page = activityLogsDb.getActivityLogs(now - HOUR_IN_MILLIS, now, page.getNextCursor(), VERSIONS,
+                    null, null, null, null, true, 2);
+            numberOfPages++;
+            page.getEntries().forEach(entry -> userEmails.add(entry.getUserEmail()));
+        }
+        assertEquals(4, numberOfPages);
+        assertEquals(6, userEmails.size());
+
+        ______TS("entries filtered out are not returned by later pages");
+
+        page = activityLogsDb.getActivityLogs(now - HOUR_IN_MILLIS, now, null, VERSIONS,
+                Arrays.asList("studenthomepage", "instructorhomepage"), null, null, null, true, 3);
+        assertEquals(3, page.getEntries().size());
+        assertEquals("studentHomePage", page.getEntries().get(0).getActionName());
+
+        page = activityLogsDb.getActivityLogs(now - HOUR_IN_MILLIS, now, page.getNextCursor(), VERSIONS,
+                Arrays.asList("studenthomepage", "instructorhomepage"), null, null, null, true, 3);
+        assertTrue(page.isLastPage());
+        assertEquals(2, page.getEntries().size());
+        assertEquals("studentHomePage", page.getEntries().get(0).getActionName());
+        assertEquals("instructorHomePage", page.getEntries().get(1).getActionName());
+    }
+
+    @Test
+    public void testDeleteActivityLogsBefore() {
+        long now = System.currentTimeMillis();
+        createActivityLog("studentHomePage", "Student", "student@gmail.com", null,
+                now - 25 * HOUR_IN_MILLIS, "6-0-0");
+        createActivityLog("studentHomePage", "Student", "student@gmail.com", null, now, "6-0-0");
+
+        ______TS("entries in the hours before the given time are deleted");
+
+        activityLogsDb.deleteActivityLogsBefore(Instant.ofEpochMilli(now - 24 * HOUR_IN_MILLIS));
+
+        List<ActivityLogEntry> entries = activityLogsDb.getActivityLogs(now - 26 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, null, null, true, LIMIT).getEntries();
+        assertEquals(1, entries.size());
+        assertEquals(now, entries.get(0).getLogTime());
+
+        ______TS("entries are deleted in pages which continue from the cursor of the previous page");
+
+        for (int i = 0; i < 3; i++) {
+            createActivityLog("studentHomePage", "Student", "student" + i + "@gmail.com", null,
+                    now - 25 * HOUR_IN_MILLIS, "6-0-0");
+        }
+
+        DeletionPage page = activityLogsDb.deleteActivityLogsPageBefore(
+                Instant.ofEpochMilli(now - 24 * HOUR_IN_MILLIS), null, 2);
+        assertEquals(2, page.getNumberOfEntitiesDeleted());
+        assertFalse(page.isLastPage());
+
+        page = activityLogsDb.deleteActivityLogsPageBefore(
+                Instant.ofEpochMilli(now - 24 * HOUR_IN_MILLIS), page.getNextCursor(), 2);
+        assertEquals(1, page.getNumberOfEntitiesDeleted());
+        assertTrue(page.isLastPage());
+
+        entries = activityLogsDb.getActivityLogs(now - 26 * HOUR_IN_MILLIS, now, null, VERSIONS,
+                null, null, null, null, true, LIMIT).getEntries();
+        assertEquals(1, entries.size());
+
+        ______TS("null parameters");
+
+        assertThrows(AssertionError.class, () -> activityLogsDb.deleteActivityLogsBefore(null));
+        assertThrows(AssertionError.class, () -> activityLogsDb.deleteActivityLogsPageBefore(null, null, 2));
+    }
+
+    private void createActivityLog(String actionName, String userRole, String userEmail, String courseId,
+            long logTime, String version) {
+        ActivityLogEntry entry = new ActivityLogEntry.Builder(actionName, "/page/" + actionName, logTime)
+                .withUserRole(userRole)
+                .withUserEmail(userEmail)
+                .withLogMessage("message of " + actionName)
+                .build();
+        activityLogsDb.createActivityLog(entry, courseId, version);
+    }
+
+}
@@ -1,7 +1,9 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -152,6 +154,16 @@ public class FeedbackQuestionsDbTest extends BaseComponentTestCase {
         actual = fqDb.getFeedbackQuestion("non-existent id");
 
         assertNull(actual);
+
+        ______TS("get by ids in a batch, leaving out non-existent questions");
+
+        String questionId = fqDb.getFeedbackQuestion(expected.feedbackSessionName, expected.courseId,
+                expected.questionNumber).getId();
+        Map<String, FeedbackQuestionAttributes> questions =
+                fqDb.getFeedbackQuestions(Arrays.asList(questionId, "non-existent id"));
+
+        assertEquals(1, questions.size());
+        assertEquals(expected.toString(), questions.get(questionId).toString());
     }
 
     @Test
@@ -68,6 +68,8 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
 
         testDeleteFeedbackResponseCommentsForResponse();
 
+        testDeleteFeedbackResponseCommentsForResponses();
+
     }
 
     private void testEntityCreationAndDeletion() throws Exception {
@@ -341,6 +343,46 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    private void testDeleteFeedbackResponseCommentsForResponses()
+            throws InvalidParametersException, EntityAlreadyExistsException {
+
+        ______TS("typical success case: more responses than allowed in one query");
+
+        List<String> responseIds = new ArrayList<>();
+        for (int i = 0; i < 31; i++) {
+            String responseId = "frcdbt.response" + i;
+            responseIds.add(responseId);
+            createCommentForResponse(responseId);
+        }
+        String responseIdNotDeleted = "frcdbt.responseNotDeleted";
+        createCommentForResponse(responseIdNotDeleted);
+
+        frcDb.deleteFeedbackResponseCommentsForResponses(responseIds);
+        for (String responseId : responseIds) {
+            assertTrue(frcDb.getFeedbackResponseCommentsForResponse(responseId).isEmpty());
+        }
+        assertEquals(1, frcDb.getFeedbackResponseCommentsForResponse(responseIdNotDeleted).size());
+
+        frcDb.deleteFeedbackResponseCommentsForResponse(responseIdNotDeleted);
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frcDb.deleteFeedbackResponseCommentsForResponses(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
+    private void createCommentForResponse(String responseId)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        FeedbackResponseCommentAttributes comment =
+                dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q2S1C1");
+        comment.createdAt = Instant.now();
+        comment.commentText = "comment for " + responseId;
+        comment.setId(null);
+        comment.feedbackResponseId = responseId;
+        frcDb.createEntity(comment);
+    }
+
     private void verifyListsContainSameResponseCommentAttributes(
             List<FeedbackResponseCommentAttributes> expectedFrcas,
             List<FeedbackResponseCommentAttributes> actualFrcas) {
@@ -588,6 +588,28 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 feedbackSessionName, "non-existent courseId", "Section 1").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForSessionInSectionWithinRange() {
+
+        ______TS("range covers all responses: same as without range");
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+
+        List<FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponsesForSessionInSectionWithinRange(feedbackSessionName, courseId, "Section 1", 10);
+
+        assertEquals(5, responses.size());
+        assertEquals(5, responses.stream().map(FeedbackResponseAttributes::getId).distinct().count());
+
+        ______TS("range exceeded: one more distinct response than the range is returned");
+
+        responses = frDb.getFeedbackResponsesForSessionInSectionWithinRange(feedbackSessionName, courseId, "Section 1", 2);
+
+        assertEquals(3, responses.size());
+        assertEquals(3, responses.stream().map(FeedbackResponseAttributes::getId).distinct().count());
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionFromSection() {
 
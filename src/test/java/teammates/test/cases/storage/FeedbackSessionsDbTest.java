@@ -6,6 +6,8 @@ import static teammates.common.util.FieldValidator.TIME_FRAME_ERROR_MESSAGE;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -355,6 +357,42 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         assertFalse(fsDb.getSoftDeletedFeedbackSessionsForCourse("testCourse").isEmpty());
     }
 
+    @Test
+    public void testUpdateRespondents() throws Exception {
+        FeedbackSessionAttributes session = getNewFeedbackSession();
+        fsDb.deleteEntity(session);
+        fsDb.createEntity(session);
+
+        ______TS("null params");
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> fsDb.updateRespondents(session, null, new HashSet<>()));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ______TS("feedback session does not exist");
+        FeedbackSessionAttributes nonexistantFs = getNewFeedbackSession();
+        nonexistantFs.setFeedbackSessionName("non existant fs");
+        nonexistantFs.setCourseId("non.existant.course");
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> fsDb.updateRespondents(nonexistantFs, new HashSet<>(), new HashSet<>()));
+        AssertHelper.assertContains(FeedbackSessionsDb.ERROR_UPDATE_NON_EXISTENT, ednee.getLocalizedMessage());
+
+        ______TS("typical case: respondents are replaced");
+        fsDb.addStudentRespondent("old@email.com", session);
+        Set<String> instructors = new HashSet<>(Arrays.asList("instr1@email.com", "instr2@email.com"));
+        Set<String> students = new HashSet<>(Arrays.asList("stud1@email.com"));
+        fsDb.updateRespondents(session, instructors, students);
+        FeedbackSessionAttributes actualFs =
+                fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        assertEquals(instructors, actualFs.getRespondingInstructorList());
+        assertEquals(students, actualFs.getRespondingStudentList());
+
+        ______TS("respondents are cleared");
+        fsDb.updateRespondents(session, new HashSet<>(), new HashSet<>());
+        actualFs = fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        assertTrue(actualFs.getRespondingInstructorList().isEmpty());
+        assertTrue(actualFs.getRespondingStudentList().isEmpty());
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.com")
                 .withCreatedTime(Instant.now())
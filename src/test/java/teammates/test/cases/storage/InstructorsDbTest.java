@@ -1,7 +1,9 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.testng.annotations.AfterClass;
@@ -228,6 +230,7 @@ public class InstructorsDbTest extends BaseComponentTestCase {
 
         List<InstructorAttributes> retrieved = instructorsDb.getInstructorsForCourse(courseId);
         assertEquals(5, retrieved.size());
+        assertEquals(5, instructorsDb.getNumberOfInstructorsForCourse(courseId));
 
         List<String> idList = new ArrayList<>();
         idList.add("idOfInstructor1OfCourse1");
@@ -241,10 +244,19 @@ public class InstructorsDbTest extends BaseComponentTestCase {
             }
         }
 
+        ______TS("Success: get instructors of several courses at once");
+
+        Map<String, List<InstructorAttributes>> instructorsByCourse =
+                instructorsDb.getInstructorsForCoursesAsync(Arrays.asList("non-exist-course", courseId)).get();
+        assertEquals(Arrays.asList("non-exist-course", courseId), new ArrayList<>(instructorsByCourse.keySet()));
+        assertTrue(instructorsByCourse.get("non-exist-course").isEmpty());
+        assertEquals(5, instructorsByCourse.get(courseId).size());
+
         ______TS("Failure: no instructors for a course");
 
         retrieved = instructorsDb.getInstructorsForCourse("non-exist-course");
         assertEquals(0, retrieved.size());
+        assertEquals(0, instructorsDb.getNumberOfInstructorsForCourse("non-exist-course"));
 
         ______TS("Failure: null parameters");
 
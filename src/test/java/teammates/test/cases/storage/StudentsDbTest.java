@@ -3,8 +3,13 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -12,6 +17,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.CoursesDb;
 import teammates.storage.api.StudentsDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
@@ -22,6 +28,7 @@ import teammates.test.driver.AssertHelper;
 public class StudentsDbTest extends BaseComponentTestCase {
 
     private StudentsDb studentsDb = new StudentsDb();
+    private CoursesDb coursesDb = new CoursesDb();
 
     @Test
     public void testTimestamp() throws InvalidParametersException, EntityDoesNotExistException {
@@ -156,6 +163,49 @@ public class StudentsDbTest extends BaseComponentTestCase {
         studentsDb.deleteStudent(s2.course, s2.email);
     }
 
+    @Test
+    public void testGetNumberOfStudentsForCourse() throws InvalidParametersException, EntityAlreadyExistsException {
+        String courseId = "SDbT.gNOSFC.course";
+
+        ______TS("typical success case: course with students");
+
+        for (int i = 1; i <= 3; i++) {
+            StudentAttributes student = StudentAttributes
+                    .builder(courseId, "student " + i, "student" + i + "@gNOSFC.tmt")
+                    .withComments("")
+                    .withTeam("validTeamName")
+                    .withSection("validSectionName")
+                    .withGoogleId("")
+                    .build();
+            studentsDb.createEntity(student);
+        }
+        assertEquals(3, studentsDb.getNumberOfStudentsForCourse(courseId));
+
+        studentsDb.deleteStudentWithoutDocument(courseId, "student1@gNOSFC.tmt");
+        assertEquals(2, studentsDb.getNumberOfStudentsForCourse(courseId));
+
+        studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+        assertEquals(0, studentsDb.getNumberOfStudentsForCourse(courseId));
+
+        ______TS("course without students");
+
+        CourseAttributes emptyCourse = CourseAttributes
+                .builder("SDbT.gNOSFC.emptyCourse", "Empty Course", ZoneId.of("UTC"))
+                .build();
+        coursesDb.createEntity(emptyCourse);
+        assertEquals(0, studentsDb.getNumberOfStudentsForCourse(emptyCourse.getId()));
+        coursesDb.deleteCourse(emptyCourse.getId());
+
+        ______TS("non-existent course");
+
+        assertEquals(0, studentsDb.getNumberOfStudentsForCourse("non-existent-course"));
+
+        ______TS("null params case");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> studentsDb.getNumberOfStudentsForCourse(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
     @Test
     public void testUpdateStudentWithoutDocument() throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -210,6 +260,45 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testPutStudents() throws InvalidParametersException, EntityDoesNotExistException {
+        StudentAttributes existingStudent = createNewStudent("put-existing@email.com");
+        String registrationKey = studentsDb.getStudentForEmail(existingStudent.course, existingStudent.email).key;
+
+        ______TS("non-existent modified student");
+        StudentAttributes nonExistentStudent = StudentAttributes
+                .builder("valid-course", "non-existent student", "put-non-existent@email.com")
+                .withComments("")
+                .withTeam("valid team name")
+                .withSection("valid section name")
+                .build();
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> studentsDb.putStudents(new ArrayList<>(), Collections.singletonList(nonExistentStudent), false));
+        assertEquals(StudentsDb.ERROR_UPDATE_NON_EXISTENT_STUDENT + "valid-course/put-non-existent@email.com",
+                ednee.getMessage());
+        assertNull(studentsDb.getStudentForEmail(nonExistentStudent.course, nonExistentStudent.email));
+
+        ______TS("typical success case: students created and updated together");
+        StudentAttributes newStudent = StudentAttributes
+                .builder("valid-course", "new student", "put-new@email.com")
+                .withComments("new comments")
+                .withTeam("new team")
+                .withSection("new section")
+                .build();
+        existingStudent.name = "modified student";
+        existingStudent.team = "modified team";
+        existingStudent.comments = "modified comments";
+        studentsDb.putStudents(Collections.singletonList(newStudent), Collections.singletonList(existingStudent), false);
+
+        assertTrue(studentsDb.getStudentForEmail(newStudent.course, newStudent.email).isEnrollInfoSameAs(newStudent));
+        StudentAttributes updatedStudent = studentsDb.getStudentForEmail(existingStudent.course, existingStudent.email);
+        assertTrue(updatedStudent.isEnrollInfoSameAs(existingStudent));
+        assertEquals(registrationKey, updatedStudent.key);
+
+        studentsDb.deleteStudent(newStudent.course, newStudent.email);
+        studentsDb.deleteStudent(existingStudent.course, existingStudent.email);
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     public void testDeleteStudent() throws InvalidParametersException, EntityDoesNotExistException {
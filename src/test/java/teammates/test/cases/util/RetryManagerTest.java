@@ -0,0 +1,141 @@
+package teammates.test.cases.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.LongSupplier;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.retry.MaximumRetriesExceededException;
+import teammates.common.util.retry.RetryManager;
+import teammates.common.util.retry.RetryableTask;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link RetryManager}.
+ */
+public class RetryManagerTest extends BaseTestCase {
+
+    @Test
+    public void testRunUntilSuccessful_successfulTask_notRetried() throws Exception {
+        CountingTask task = new CountingTask(0);
+        StubRemainingTime remainingTime = new StubRemainingTime(60000L);
+
+        new RetryManager(8, remainingTime).runUntilSuccessful(task);
+
+        assertEquals(1, task.numRuns);
+        assertEquals(0, remainingTime.numCalls);
+    }
+
+    @Test
+    public void testRunUntilSuccessful_deadlineTooClose_givesUpWithoutWaiting() {
+        CountingTask task = new CountingTask(Integer.MAX_VALUE);
+        StubRemainingTime remainingTime = new StubRemainingTime(5000L);
+
+        long startTime = System.currentTimeMillis();
+        assertThrows(MaximumRetriesExceededException.class,
+                () -> new RetryManager(8, remainingTime).runUntilSuccessful(task));
+
+        assertEquals(1, task.numRuns);
+        assertEquals(1, remainingTime.numCalls);
+        assertTrue(System.currentTimeMillis() - startTime < 500);
+    }
+
+    @Test
+    public void testRunUntilSuccessful_deadlineApproaching_givesUpBeforeDeadline() {
+        CountingTask task = new CountingTask(Integer.MAX_VALUE);
+        // the first wait of at most 1s leaves more than 5s, the second wait of at least 1s does not
+        StubRemainingTime remainingTime = new StubRemainingTime(6000L, 5999L);
+
+        assertThrows(MaximumRetriesExceededException.class,
+                () -> new RetryManager(8, remainingTime).runUntilSuccessful(task));
+
+        assertEquals(2, task.numRuns);
+        assertEquals(2, remainingTime.numCalls);
+    }
+
+    @Test
+    public void testRunUntilSuccessful_farFromDeadline_backoffCappedByMaxDelay() {
+        CountingTask task = new CountingTask(Integer.MAX_VALUE);
+        StubRemainingTime remainingTime = new StubRemainingTime(Long.MAX_VALUE);
+
+        assertThrows(MaximumRetriesExceededException.class,
+                () -> new RetryManager(2, remainingTime).runUntilSuccessful(task));
+
+        // retried after waits of 1s and 2s, and not after a wait of 4s
+        assertEquals(3, task.numRuns);
+        assertEquals(2, remainingTime.numCalls);
+    }
+
+    @Test
+    public void testRunUntilSuccessful_failsThenSucceeds_resultReturned() throws Exception {
+        CountingTask task = new CountingTask(1);
+        StubRemainingTime remainingTime = new StubRemainingTime(Long.MAX_VALUE);
+
+        new RetryManager(8, remainingTime).runUntilSuccessful(task);
+
+        assertEquals(2, task.numRuns);
+        assertEquals(1, remainingTime.numCalls);
+    }
+
+    @Test
+    public void testRunUntilNoRecognizedException_deadlineTooClose_givesUpWithCause() {
+        RetryableTask task = new RetryableTask("always throws") {
+            @Override
+            public void run() {
+                throw new IllegalStateException("failure");
+            }
+        };
+        StubRemainingTime remainingTime = new StubRemainingTime(5000L);
+
+        MaximumRetriesExceededException e = assertThrows(MaximumRetriesExceededException.class,
+                () -> new RetryManager(8, remainingTime).runUntilNoRecognizedException(
+                        task, IllegalStateException.class));
+
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals(1, remainingTime.numCalls);
+    }
+
+    /**
+     * A task which fails for a given number of runs, then succeeds.
+     */
+    private static class CountingTask extends RetryableTask {
+        int numRuns;
+        private final int numFailures;
+
+        CountingTask(int numFailures) {
+            super("counting task");
+            this.numFailures = numFailures;
+        }
+
+        @Override
+        public void run() {
+            numRuns++;
+        }
+
+        @Override
+        public boolean isSuccessful() {
+            return numRuns > numFailures;
+        }
+    }
+
+    /**
+     * Supplies the given remaining times in turn, repeating the last one once they run out.
+     */
+    private static class StubRemainingTime implements LongSupplier {
+        int numCalls;
+        private final Deque<Long> remainingTimesInMs;
+
+        StubRemainingTime(Long... remainingTimesInMs) {
+            this.remainingTimesInMs = new ArrayDeque<>(Arrays.asList(remainingTimesInMs));
+        }
+
+        @Override
+        public long getAsLong() {
+            numCalls++;
+            return remainingTimesInMs.size() > 1 ? remainingTimesInMs.poll() : remainingTimesInMs.peek();
+        }
+    }
+
+}
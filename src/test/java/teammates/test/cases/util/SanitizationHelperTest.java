@@ -75,6 +75,7 @@ public class SanitizationHelperTest extends BaseTestCase {
         sanitizeHtml_receivesNull_returnsNull();
         sanitizeHtml_receivesCodeInjection_returnsSanitized();
         sanitizeHtml_receivesSanitized_returnsUnchanged();
+        sanitizeHtml_receivesAmpersandsNextToSpecialChars_returnsSanitized();
     }
 
     private void sanitizeHtml_receivesNull_returnsNull() {
@@ -96,6 +97,12 @@ public class SanitizationHelperTest extends BaseTestCase {
         assertEquals(sanitized, SanitizationHelper.sanitizeForHtml(sanitized));
     }
 
+    private void sanitizeHtml_receivesAmpersandsNextToSpecialChars_returnsSanitized() {
+        String unsanitized = "&<&'&#x2f&&amp;";
+        String expected = "&amp;&lt;&amp;&#39;&amp;#x2f&amp;&amp;";
+        assertEquals(expected, SanitizationHelper.sanitizeForHtml(unsanitized));
+    }
+
     @Test
     public void testSanitizeForHtmlList() {
         List<String> unsanitizedHtml = new ArrayList<>(Arrays.asList(
@@ -116,6 +123,7 @@ public class SanitizationHelperTest extends BaseTestCase {
         desanitizeFromHtml_receivesNull_returnsNull();
         desanitizeFromHtml_recievesEmpty_returnsEmpty();
         desanitizeFromHtml_receivesSanitized_returnsDesanitized();
+        desanitizeFromHtml_receivesDoublySanitized_returnsSanitizedOnce();
     }
 
     private void desanitizeFromHtml_receivesNull_returnsNull() {
@@ -133,6 +141,11 @@ public class SanitizationHelperTest extends BaseTestCase {
         assertEquals(text, SanitizationHelper.desanitizeFromHtml(sanitizedText));
     }
 
+    private void desanitizeFromHtml_receivesDoublySanitized_returnsSanitizedOnce() {
+        String doublySanitized = "&amp;lt;p&amp;gt; & &amp &amp;amp;";
+        assertEquals("&lt;p&gt; & &amp &amp;", SanitizationHelper.desanitizeFromHtml(doublySanitized));
+    }
+
     @Test
     public void testDesanitizeFromHtmlSet() {
         Set<String> sanitizedHtml = new HashSet<>(Arrays.asList(
@@ -258,6 +271,15 @@ public class SanitizationHelperTest extends BaseTestCase {
         assertEquals(expected, SanitizationHelper.desanitizeFromNextUrl(sanitizedUrl));
     }
 
+    @Test
+    public void testSanitizeForSearch() {
+        assertNull(SanitizationHelper.sanitizeForSearch(null));
+        assertEquals("alice", SanitizationHelper.sanitizeForSearch("alice"));
+        assertEquals("alice bob   course x y ", SanitizationHelper.sanitizeForSearch("alice.bob & course=x:y'"));
+        assertEquals("&lt;script&gt;x  &lt; script&gt;",
+                SanitizationHelper.sanitizeForSearch("<script>x;/</script>"));
+    }
+
     @Test
     public void testSanitizeForCsv() {
         sanitizeCsv_receivesUnsanitized_returnsSanitized();
@@ -214,6 +214,25 @@ public class StringHelperTest extends BaseTestCase {
         }
     }
 
+    @Test
+    public void testKeyEncryption_afterInvalidCiphertext_shouldStillDecrypt() throws InvalidParametersException {
+        String ciphertext = StringHelper.encrypt("Test decryption");
+        assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt("AAAAAAAAAABBBBBBBBBBCCCCCCCCCC"));
+        assertEquals("Test decryption", StringHelper.decrypt(ciphertext));
+    }
+
+    @Test
+    public void testHexConversion() {
+        byte[] bytes = {0, 15, 16, 127, -128, -1};
+        assertEquals("000F107F80FF", StringHelper.byteArrayToHexString(bytes));
+        assertTrue(Arrays.equals(bytes, StringHelper.hexStringToByteArray("000F107F80FF")));
+        assertTrue(Arrays.equals(bytes, StringHelper.hexStringToByteArray("000f107f80ff")));
+        assertEquals("", StringHelper.byteArrayToHexString(new byte[0]));
+
+        assertThrows(NumberFormatException.class, () -> StringHelper.hexStringToByteArray("0G"));
+        assertThrows(NumberFormatException.class, () -> StringHelper.hexStringToByteArray("-1"));
+    }
+
     @Test
     public void testSplitName() {
 
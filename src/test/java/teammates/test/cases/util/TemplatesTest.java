@@ -0,0 +1,44 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testPopulateTemplate() {
+
+        ______TS("slots are populated, including repeated ones");
+
+        String template = "<p id=\"${id}\">${name}: ${name} ${unknown} ${</p>";
+        assertEquals("<p id=\"q1\">Alice: Alice ${unknown} ${</p>",
+                Templates.populateTemplate(template, "${id}", "q1", "${name}", "Alice"));
+
+        ______TS("values are populated with the slots of the pairs after them only");
+
+        assertEquals("Alice and Alice",
+                Templates.populateTemplate("${id} and ${name}", "${id}", "${name}", "${name}", "Alice"));
+        assertEquals("${id} and ${id}",
+                Templates.populateTemplate("${name} and ${id}", "${id}", "${name}", "${name}", "${id}"));
+
+        ______TS("keys that are not slots are replaced in order");
+
+        assertEquals("new.course and teammates.new.course",
+                Templates.populateTemplate("demo.course and teammates.demo.course",
+                        "teammates.demo.course", "teammates.new.course", "demo.course", "new.course"));
+
+        ______TS("no key-value pairs");
+
+        assertEquals(template, Templates.populateTemplate(template));
+
+        ______TS("odd number of key-value pairs");
+
+        assertThrows(AssertionError.class, () -> Templates.populateTemplate(template, "${id}"));
+    }
+
+}
@@ -171,7 +171,7 @@ public class GaeSimulation {
      * @param parameters Parameters that appear in a HttpServletRequest received by the app.
      */
     public Action getActionObject(String uri, String... parameters) {
-        HttpServletRequest req = createWebRequest(uri, parameters);
+        HttpServletRequest req = createInvocation(uri, parameters).getRequest();
         Action action = new ActionFactory().getAction(req);
         action.setTaskQueuer(new MockTaskQueuer());
         action.setEmailSender(new MockEmailSender());
@@ -184,8 +184,16 @@ public class GaeSimulation {
      * @param parameters Parameters that appear in a HttpServletRequest received by the app.
      */
     public AutomatedAction getAutomatedActionObject(String uri, String... parameters) {
-        HttpServletRequest req = createWebRequest(uri, parameters);
-        AutomatedAction action = new AutomatedActionFactory().getAction(req, null);
+        return getAutomatedActionObject(createInvocation(uri, parameters));
+    }
+
+    /**
+     * Returns an {@link AutomatedAction} object that matches the request of the invocation given,
+     * and which writes to the response of the invocation.
+     */
+    public AutomatedAction getAutomatedActionObject(InvocationContext invocation) {
+        AutomatedAction action =
+                new AutomatedActionFactory().getAction(invocation.getRequest(), invocation.getResponse());
         action.setTaskQueuer(new MockTaskQueuer());
         action.setEmailSender(new MockEmailSender());
         return action;
@@ -205,9 +213,27 @@ public class GaeSimulation {
         }
     }
 
-    private HttpServletRequest createWebRequest(String uri, String... parameters) {
+    /**
+     * Returns an invocation of the app with a request that matches the parameters given.
+     * The response of the invocation can be inspected after it is written to.
+     *
+     * @param parameters Parameters that appear in a HttpServletRequest received by the app.
+     */
+    public InvocationContext createInvocation(String uri, String... parameters) {
+        return createInvocation(uri, new HashMap<>(), parameters);
+    }
+
+    /**
+     * Returns an invocation of the app with a request that matches the headers and parameters given.
+     * The response of the invocation can be inspected after it is written to.
+     *
+     * @param headers Headers, other than those added for origin validation, of the request.
+     * @param parameters Parameters that appear in a HttpServletRequest received by the app.
+     */
+    public InvocationContext createInvocation(String uri, Map<String, String> headers, String... parameters) {
 
         WebRequest request = new PostMethodWebRequest("http://localhost" + uri);
+        headers.forEach(request::setHeaderField);
 
         if (Const.SystemParams.PAGES_REQUIRING_ORIGIN_VALIDATION.contains(uri)) {
             request.setHeaderField("referer", "http://localhost");
@@ -229,8 +255,7 @@ public class GaeSimulation {
         paramMultiMap.forEach((key, values) -> request.setParameter(key, values.toArray(new String[0])));
 
         try {
-            InvocationContext ic = sc.newInvocation(request);
-            return ic.getRequest();
+            return sc.newInvocation(request);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
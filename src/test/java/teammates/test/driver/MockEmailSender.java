@@ -1,7 +1,10 @@
 package teammates.test.driver;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import teammates.common.util.EmailWrapper;
 import teammates.logic.api.EmailSender;
@@ -15,12 +18,33 @@ import teammates.logic.api.EmailSender;
 public class MockEmailSender extends EmailSender {
 
     private List<EmailWrapper> sentEmails = new ArrayList<>();
+    private Set<String> failingRecipients = new HashSet<>();
+
+    /**
+     * Makes the emails to the given recipients fail to be sent by {@link #sendEmails(List)}.
+     */
+    public void setFailingRecipients(String... recipients) {
+        failingRecipients = new HashSet<>(Arrays.asList(recipients));
+    }
 
     @Override
     public void sendEmail(EmailWrapper email) {
         sentEmails.add(email);
     }
 
+    @Override
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> emails) {
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            if (failingRecipients.contains(email.getRecipient())) {
+                failedEmails.add(email);
+            } else {
+                sentEmails.add(email);
+            }
+        }
+        return failedEmails;
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;
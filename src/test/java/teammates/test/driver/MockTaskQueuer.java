@@ -39,6 +39,13 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    protected void addDeferredTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap,
+                                                long countdownTime) {
+        // countdown time not tested, thus fallback to another method
+        addTaskMultisetParam(queueName, workerUrl, paramMap);
+    }
+
     @Override
     public List<TaskWrapper> getTasksAdded() {
         return tasksAdded;